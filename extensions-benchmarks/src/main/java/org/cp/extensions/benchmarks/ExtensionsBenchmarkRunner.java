@@ -0,0 +1,71 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.benchmarks;
+
+import java.io.File;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the Codeprimate Extensions JMH benchmarks and stores the results in JMH's JSON result format,
+ * so that results from different versions, JVMs or machines can be compared with standard JMH tooling.
+ * <p>
+ * Usage: {@code java -jar extensions-benchmarks/target/benchmarks.jar [result-file] [benchmark-regex...]}.
+ * <p>
+ * The {@literal result-file} defaults to {@literal target/jmh-result.json}. When no {@literal benchmark-regex}
+ * is given, all benchmarks in the {@literal org.cp.extensions.benchmarks} package are run.
+ *
+ * @author John Blum
+ * @see org.openjdk.jmh.runner.Runner
+ * @see org.openjdk.jmh.results.format.ResultFormatType#JSON
+ * @since 0.1.0
+ */
+public class ExtensionsBenchmarkRunner {
+
+  protected static final String DEFAULT_BENCHMARK_INCLUDE = "org\\.cp\\.extensions\\.benchmarks\\..*";
+  protected static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+  public static void main(String[] args) throws RunnerException {
+
+    String resultFile = args.length > 0 ? args[0] : DEFAULT_RESULT_FILE;
+
+    File resultDirectory = new File(resultFile).getAbsoluteFile().getParentFile();
+
+    if (resultDirectory != null && !resultDirectory.isDirectory() && !resultDirectory.mkdirs()) {
+      throw new IllegalStateException(String.format("Failed to create directory [%s] for benchmark results",
+        resultDirectory));
+    }
+
+    ChainedOptionsBuilder options = new OptionsBuilder()
+      .resultFormat(ResultFormatType.JSON)
+      .result(resultFile);
+
+    if (args.length > 1) {
+      for (int index = 1; index < args.length; index++) {
+        options.include(args[index]);
+      }
+    }
+    else {
+      options.include(DEFAULT_BENCHMARK_INCLUDE);
+    }
+
+    new Runner(options.build()).run();
+  }
+}
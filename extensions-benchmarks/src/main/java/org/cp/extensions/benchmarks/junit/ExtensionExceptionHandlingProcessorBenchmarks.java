@@ -0,0 +1,95 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.benchmarks.junit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.cp.extensions.junit.jupiter.api.extension.ExtensionExceptionHandler;
+import org.cp.extensions.junit.jupiter.api.extension.ExtensionExceptionHandlingProcessor;
+import org.cp.extensions.junit.jupiter.api.extension.UnhandledExtensionException;
+
+/**
+ * JMH benchmarks measuring the cost of dispatching an {@link Exception} thrown by a JUnit Jupiter
+ * {@link org.junit.jupiter.api.extension.Extension} through a composition of {@link ExtensionExceptionHandler
+ * ExtensionExceptionHandlers} of increasing depth, where only the last {@link ExtensionExceptionHandler}
+ * handles the {@link Exception}.
+ *
+ * @author John Blum
+ * @see org.cp.extensions.junit.jupiter.api.extension.ExtensionExceptionHandler
+ * @see org.cp.extensions.junit.jupiter.api.extension.ExtensionExceptionHandlingProcessor
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @since 0.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("unused")
+public class ExtensionExceptionHandlingProcessorBenchmarks {
+
+  private static final ExtensionExceptionHandler PASS_THROUGH_HANDLER = (context, cause) -> {
+    throw UnhandledExtensionException.wrap(cause).build();
+  };
+
+  private static final ExtensionExceptionHandler HANDLING_HANDLER = (context, cause) -> { };
+
+  @Param({ "1", "4", "16" })
+  private int depth;
+
+  private ExtensionExceptionHandlingProcessor processor;
+
+  private final IllegalStateException failure = new IllegalStateException("TEST");
+
+  @Setup
+  public void setup() {
+
+    List<ExtensionExceptionHandler> handlers = new ArrayList<>(this.depth);
+
+    for (int count = 1; count < this.depth; count++) {
+      handlers.add(PASS_THROUGH_HANDLER);
+    }
+
+    handlers.add(HANDLING_HANDLER);
+
+    this.processor = ExtensionExceptionHandlingProcessor.of(handlers);
+  }
+
+  @Benchmark
+  public void dispatchException() throws Exception {
+    this.processor.process(null, context -> { throw this.failure; });
+  }
+
+  @Benchmark
+  public void noException() throws Exception {
+    this.processor.process(null, context -> { });
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.benchmarks.spring;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.cp.extensions.spring.support.BeanAwareSupport;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.BeanNameAware;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.instrument.classloading.LoadTimeWeaver;
+import org.springframework.instrument.classloading.SimpleLoadTimeWeaver;
+
+/**
+ * JMH benchmarks measuring the {@link BeanAwareSupport} initializers applied to a bean implementing several
+ * Spring {@literal Aware} interfaces, comparing the composite {@link BeanAwareSupport#beanAwareInitializer(
+ * ApplicationContext)} with individually composed initializers.
+ *
+ * @author John Blum
+ * @see org.cp.extensions.spring.support.BeanAwareSupport
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @since 0.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("unused")
+public class BeanAwareSupportBenchmarks {
+
+  private GenericApplicationContext applicationContext;
+
+  private Consumer<Object> beanAwareInitializer;
+  private Consumer<Object> composedInitializer;
+
+  private final AwareBean bean = new AwareBean();
+
+  @Setup
+  public void setup() {
+
+    this.applicationContext = new GenericApplicationContext();
+    this.applicationContext.registerBean("awareBean", AwareBean.class);
+    // resolved by the composite beanAwareInitializer for every bean
+    this.applicationContext.registerBean(LoadTimeWeaver.class, () -> new SimpleLoadTimeWeaver());
+    this.applicationContext.refresh();
+
+    this.beanAwareInitializer = BeanAwareSupport.beanAwareInitializer(this.applicationContext);
+
+    this.composedInitializer = BeanAwareSupport.applicationContextAwareInitializer(this.applicationContext)
+      .andThen(BeanAwareSupport.beanFactoryAwareInitializer(this.applicationContext))
+      .andThen(BeanAwareSupport.beanNameAwareInitializer("awareBean"))
+      .andThen(BeanAwareSupport.environmentAwareInitializer(this.applicationContext.getEnvironment()));
+  }
+
+  @TearDown
+  public void tearDown() {
+    this.applicationContext.close();
+  }
+
+  @Benchmark
+  public AwareBean beanAwareInitializer() {
+
+    this.beanAwareInitializer.accept(this.bean);
+
+    return this.bean;
+  }
+
+  @Benchmark
+  public AwareBean composedInitializers() {
+
+    this.composedInitializer.accept(this.bean);
+
+    return this.bean;
+  }
+
+  @Benchmark
+  public Consumer<Object> createBeanAwareInitializer() {
+    return BeanAwareSupport.beanAwareInitializer(this.applicationContext);
+  }
+
+  public static class AwareBean implements ApplicationContextAware, BeanFactoryAware, BeanNameAware,
+      EnvironmentAware {
+
+    private ApplicationContext applicationContext;
+
+    private BeanFactory beanFactory;
+
+    private Environment environment;
+
+    private String beanName;
+
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) {
+      this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) {
+      this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public void setBeanName(String beanName) {
+      this.beanName = beanName;
+    }
+
+    @Override
+    public void setEnvironment(Environment environment) {
+      this.environment = environment;
+    }
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.benchmarks.spring;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.cp.extensions.spring.beans.factory.config.BeanDependencyGraph;
+import org.cp.extensions.spring.context.annotation.DependencyOf;
+import org.cp.extensions.spring.context.annotation.DependencyOfBeanFactoryPostProcessor;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+/**
+ * JMH benchmarks measuring the time for the {@link DependencyOfBeanFactoryPostProcessor} to post process
+ * a {@link DefaultListableBeanFactory} containing 1k, 10k and 100k bean definitions, where every tenth bean
+ * is annotated with {@link DependencyOf}.
+ *
+ * @author John Blum
+ * @see org.cp.extensions.spring.context.annotation.DependencyOf
+ * @see org.cp.extensions.spring.context.annotation.DependencyOfBeanFactoryPostProcessor
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @since 0.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@SuppressWarnings("unused")
+public class DependencyOfBeanFactoryPostProcessorBenchmarks {
+
+  protected static final String DEPENDENT_BEAN_NAME = "bean0";
+
+  @Param({ "1000", "10000", "100000" })
+  private int beanCount;
+
+  private DefaultListableBeanFactory beanFactory;
+
+  private BeanDefinition dependentBeanDefinition;
+
+  @Setup(Level.Trial)
+  public void createBeanFactory() {
+
+    this.beanFactory = new DefaultListableBeanFactory();
+
+    for (int index = 0; index < this.beanCount; index++) {
+
+      Class<?> beanType = index > 0 && index % 10 == 0 ? DependencyOfBean.class : Bean.class;
+
+      this.beanFactory.registerBeanDefinition("bean" + index, new RootBeanDefinition(beanType));
+    }
+
+    this.dependentBeanDefinition = this.beanFactory.getBeanDefinition(DEPENDENT_BEAN_NAME);
+  }
+
+  // post processing appends to the depends on bean names of the dependent bean and registers the dependency graph;
+  // reset both before each invocation
+  @Setup(Level.Invocation)
+  public void resetDependsOn() {
+    this.dependentBeanDefinition.setDependsOn();
+    this.beanFactory.destroySingleton(BeanDependencyGraph.BEAN_NAME);
+  }
+
+  @Benchmark
+  public String[] postProcessBeanFactory() {
+
+    DependencyOfBeanFactoryPostProcessor.INSTANCE.postProcessBeanFactory(this.beanFactory);
+
+    return this.dependentBeanDefinition.getDependsOn();
+  }
+
+  public static class Bean { }
+
+  @DependencyOf(DEPENDENT_BEAN_NAME)
+  public static class DependencyOfBean { }
+
+}
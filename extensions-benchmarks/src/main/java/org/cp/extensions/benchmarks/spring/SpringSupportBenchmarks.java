@@ -0,0 +1,94 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.benchmarks.spring;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.cp.extensions.spring.support.SpringSupport;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.GenericBeanDefinition;
+
+/**
+ * JMH benchmarks measuring {@link SpringSupport#addDependsOn(BeanDefinition, String...)} for bean definitions
+ * already declaring 0, 10 and 100 dependencies.
+ *
+ * @author John Blum
+ * @see org.cp.extensions.spring.support.SpringSupport
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @since 0.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("unused")
+public class SpringSupportBenchmarks {
+
+  @Param({ "0", "10", "100" })
+  private int existingDependencyCount;
+
+  private String[] existingDependencies;
+
+  @Setup
+  public void setup() {
+
+    this.existingDependencies = new String[this.existingDependencyCount];
+
+    for (int index = 0; index < this.existingDependencyCount; index++) {
+      this.existingDependencies[index] = "bean" + index;
+    }
+  }
+
+  // a new BeanDefinition is created on each invocation since addDependsOn(..) mutates the BeanDefinition
+  private BeanDefinition newBeanDefinition() {
+
+    GenericBeanDefinition beanDefinition = new GenericBeanDefinition();
+
+    beanDefinition.setDependsOn(this.existingDependencies);
+
+    return beanDefinition;
+  }
+
+  @Benchmark
+  public BeanDefinition newBeanDefinitionBaseline() {
+    return newBeanDefinition();
+  }
+
+  @Benchmark
+  public BeanDefinition addOneDependsOn() {
+    return SpringSupport.addDependsOn(newBeanDefinition(), "dependency");
+  }
+
+  @Benchmark
+  public BeanDefinition addThreeDependsOn() {
+    return SpringSupport.addDependsOn(newBeanDefinition(), "dependencyOne", "dependencyTwo", "dependencyThree");
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.junit.jupiter.api.extension;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * The {@link DetectResourceLeaks} annotation detects {@link Thread Threads}, direct memory and open file descriptors
+ * leaked by the annotated test class, such as {@link java.util.concurrent.ExecutorService} {@link Thread Threads}
+ * that were not shutdown or contexts that were not closed.
+ * <p>
+ * Resource usage is measured before and after all tests in the test class. Growth beyond the configured thresholds
+ * is reported as a {@link ResourceLeakException} handled by the configured {@link #policy() ResourceLeakPolicy}.
+ * <p>
+ * When test classes are executed concurrently, resources created by other test classes may be attributed
+ * to the annotated test class. The names of the leaked {@link Thread Threads} are reported to help identify
+ * the offending test class.
+ * <p>
+ * For example:
+ *
+ * <pre>
+ * <code>
+ * {@literal @DetectResourceLeaks(policy = ResourceLeakPolicy.FAIL)}
+ * class MessagingIntegrationTests {
+ *   ...
+ * }
+ * </code>
+ * </pre>
+ *
+ * @author John Blum
+ * @see java.lang.annotation.Documented
+ * @see java.lang.annotation.Inherited
+ * @see java.lang.annotation.Retention
+ * @see java.lang.annotation.Target
+ * @see org.cp.extensions.junit.jupiter.api.extension.ResourceLeakDetectionExtension
+ * @see org.cp.extensions.junit.jupiter.api.extension.ResourceLeakPolicy
+ * @since 0.1.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.TYPE })
+@ExtendWith(ResourceLeakDetectionExtension.class)
+@SuppressWarnings("unused")
+public @interface DetectResourceLeaks {
+
+  /**
+   * Maximum number of live {@link Thread Threads} started, and not terminated, by the test class.
+   *
+   * @return the maximum number of {@link Thread Threads} leaked by the test class.
+   */
+  int maxThreadGrowth() default 0;
+
+  /**
+   * Maximum growth, in bytes, of direct {@link java.nio.ByteBuffer} memory used by the test class.
+   *
+   * @return the maximum growth, in bytes, of direct memory used by the test class.
+   */
+  long maxDirectMemoryGrowth() default 0L;
+
+  /**
+   * Maximum growth of the number of open file descriptors used by the test class.
+   * <p>
+   * Only measured on JVMs running on a Unix operating system.
+   *
+   * @return the maximum growth of the number of open file descriptors used by the test class.
+   */
+  long maxFileDescriptorGrowth() default 0L;
+
+  /**
+   * Time, in milliseconds, to wait for {@link Thread Threads} started by the test class to terminate
+   * before the {@link Thread Threads} are considered leaked.
+   *
+   * @return the time, in milliseconds, to wait for {@link Thread Threads} to terminate.
+   */
+  long threadTerminationTimeout() default 500L;
+
+  /**
+   * {@link java.util.regex.Pattern Regular expressions} matching the {@link Thread#getName() names}
+   * of {@link Thread Threads} never considered leaked.
+   * <p>
+   * Defaults to the {@link java.util.concurrent.ForkJoinPool} worker {@link Thread Threads},
+   * including the {@link Thread Threads} used by JUnit to execute tests in parallel.
+   *
+   * @return an array of regular expressions matching the names of ignored {@link Thread Threads}.
+   */
+  String[] ignoredThreads() default { "ForkJoinPool.*-worker-\\d+" };
+
+  /**
+   * {@link ResourceLeakPolicy} used to handle detected resource leaks.
+   *
+   * @return the {@link ResourceLeakPolicy} used to handle detected resource leaks.
+   * @see org.cp.extensions.junit.jupiter.api.extension.ResourceLeakPolicy
+   */
+  ResourceLeakPolicy policy() default ResourceLeakPolicy.WARN;
+
+}
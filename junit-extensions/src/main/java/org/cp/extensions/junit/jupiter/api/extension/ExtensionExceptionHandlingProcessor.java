@@ -123,8 +123,31 @@ public interface ExtensionExceptionHandlingProcessor {
 
     Assert.notNull(testInstancePostProcessor, "TestInstancePostProcessor is required");
 
+    process(extensionContext, context -> testInstancePostProcessor.postProcessTestInstance(testInstance, context));
+  }
+
+  /**
+   * Invokes the given, required {@link ExtensionOperation}, handling any uncaught {@link Exception Exceptions}
+   * thrown by the {@link Extension} while performing the operation.
+   * <p>
+   * This is useful for {@link Extension} callbacks accepting only an {@link ExtensionContext}, such as
+   * {@link org.junit.jupiter.api.extension.BeforeAllCallback}
+   * or {@link org.junit.jupiter.api.extension.AfterAllCallback}.
+   *
+   * @param extensionContext {@link ExtensionContext} encapsulating the {@literal context}
+   * for {@link Extension Extensions}.
+   * @param operation {@link ExtensionOperation} to perform; must not be {@literal null}.
+   * @throws IllegalArgumentException if the {@link ExtensionOperation} is {@literal null}.
+   * @throws Exception if performing the {@link ExtensionOperation} results in an unhandled/uncaught {@link Exception}.
+   * @see org.junit.jupiter.api.extension.ExtensionContext
+   * @see ExtensionOperation
+   */
+  default void process(ExtensionContext extensionContext, @NotNull ExtensionOperation operation) throws Exception {
+
+    Assert.notNull(operation, "ExtensionOperation is required");
+
     try {
-      testInstancePostProcessor.postProcessTestInstance(testInstance, extensionContext);
+      operation.run(extensionContext);
     }
     catch (Exception cause) {
       getExceptionHandler()
@@ -132,4 +155,24 @@ public interface ExtensionExceptionHandlingProcessor {
         .orElseThrow(() -> cause);
     }
   }
+
+  /**
+   * Interface defining a contract for an operation performed by a JUnit Jupiter {@link Extension}
+   * in a given {@link ExtensionContext}.
+   *
+   * @see org.junit.jupiter.api.extension.ExtensionContext
+   */
+  @FunctionalInterface
+  interface ExtensionOperation {
+
+    /**
+     * Performs this operation in the given {@link ExtensionContext}.
+     *
+     * @param extensionContext {@link ExtensionContext} in which the {@link Extension} executes.
+     * @throws Exception if the operation fails.
+     * @see org.junit.jupiter.api.extension.ExtensionContext
+     */
+    void run(ExtensionContext extensionContext) throws Exception;
+
+  }
 }
@@ -0,0 +1,353 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.junit.jupiter.api.extension;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContextProvider;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.HierarchyTraversalMode;
+import org.opentest4j.AssertionFailedError;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.openjdk.jmh.runner.options.VerboseMode;
+
+import org.cp.elements.lang.StringUtils;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+
+/**
+ * JUnit Jupiter {@link TestTemplateInvocationContextProvider} {@link Extension} used to run JMH benchmarks
+ * in-process as tests of a {@link JmhBenchmarkTest} annotated test method.
+ * <p>
+ * Each {@literal @Benchmark} method discovered in the configured benchmark classes is run as a separate
+ * invocation of the test template. The {@link RunResult} of the benchmark is published as a report entry,
+ * can be injected into the test method, and is optionally compared to a stored baseline.
+ * <p>
+ * Setting the {@link #RECORD_BASELINE_CONFIGURATION_PARAMETER} JUnit configuration parameter to {@literal true}
+ * records the throughput of each benchmark in the baseline file rather than comparing it.
+ *
+ * @author John Blum
+ * @see org.cp.extensions.junit.jupiter.api.extension.JmhBenchmarkTest
+ * @see org.junit.jupiter.api.extension.TestTemplateInvocationContextProvider
+ * @see org.openjdk.jmh.runner.Runner
+ * @see org.openjdk.jmh.results.RunResult
+ * @since 0.1.0
+ */
+public class JmhBenchmarkExtension implements TestTemplateInvocationContextProvider {
+
+  public static final String RECORD_BASELINE_CONFIGURATION_PARAMETER =
+    "codeprimate.extensions.junit.jmh.record-baseline";
+
+  protected static final String REPORT_ENTRY_KEY = "jmh-benchmark";
+
+  private static final ExtensionContext.Namespace NAMESPACE =
+    ExtensionContext.Namespace.create(JmhBenchmarkExtension.class);
+
+  private static final Object BASELINE_LOCK = new Object();
+
+  @Override
+  public boolean supportsTestTemplate(@NotNull ExtensionContext context) {
+    return AnnotationSupport.isAnnotated(context.getTestMethod(), JmhBenchmarkTest.class);
+  }
+
+  @Override
+  public @NotNull Stream<TestTemplateInvocationContext> provideTestTemplateInvocationContexts(
+      @NotNull ExtensionContext context) {
+
+    JmhBenchmarkTest benchmarkTest = AnnotationSupport.findAnnotation(context.getTestMethod(), JmhBenchmarkTest.class)
+      .orElseThrow(() -> new UnhandledExtensionException(String.format("Test method [%s] is not annotated with @%s",
+        context.getDisplayName(), JmhBenchmarkTest.class.getSimpleName())));
+
+    List<Class<?>> benchmarkClasses = benchmarkTest.benchmarks().length > 0
+      ? Arrays.asList(benchmarkTest.benchmarks())
+      : Collections.singletonList(context.getRequiredTestClass());
+
+    List<String> benchmarkNames = benchmarkClasses.stream()
+      .flatMap(benchmarkClass -> AnnotationSupport.findAnnotatedMethods(benchmarkClass, Benchmark.class,
+        HierarchyTraversalMode.TOP_DOWN).stream())
+      .map(JmhBenchmarkExtension::toBenchmarkName)
+      .distinct()
+      .collect(Collectors.toList());
+
+    if (benchmarkNames.isEmpty()) {
+      throw new UnhandledExtensionException(String.format("No @%s methods were found in %s",
+        Benchmark.class.getSimpleName(), benchmarkClasses));
+    }
+
+    return benchmarkNames.stream()
+      .map(benchmarkName -> new BenchmarkInvocationContext(benchmarkTest, benchmarkName));
+  }
+
+  /**
+   * Returns the fully-qualified name of the JMH benchmark declared by the given {@link Method}
+   * as used by JMH to identify the benchmark; for example: {@literal example.Outer.Inner.benchmarkMethod}.
+   *
+   * @param benchmarkMethod {@link Method} annotated with {@literal @Benchmark}.
+   * @return the fully-qualified name of the benchmark.
+   */
+  static @NotNull String toBenchmarkName(@NotNull Method benchmarkMethod) {
+    return String.format("%s.%s", benchmarkMethod.getDeclaringClass().getName().replace('$', '.'),
+      benchmarkMethod.getName());
+  }
+
+  /**
+   * {@link TestTemplateInvocationContext} for a single JMH benchmark.
+   */
+  static class BenchmarkInvocationContext implements TestTemplateInvocationContext {
+
+    private final JmhBenchmarkTest benchmarkTest;
+
+    private final String benchmarkName;
+
+    BenchmarkInvocationContext(@NotNull JmhBenchmarkTest benchmarkTest, @NotNull String benchmarkName) {
+      this.benchmarkTest = benchmarkTest;
+      this.benchmarkName = benchmarkName;
+    }
+
+    @Override
+    public String getDisplayName(int invocationIndex) {
+      return this.benchmarkName;
+    }
+
+    @Override
+    public List<Extension> getAdditionalExtensions() {
+      return Collections.singletonList(new BenchmarkRunner(this.benchmarkTest, this.benchmarkName));
+    }
+  }
+
+  /**
+   * {@link Extension} used to run a single JMH benchmark before the test template is invoked and to resolve
+   * the {@link RunResult} of the benchmark as a test method parameter.
+   */
+  static class BenchmarkRunner implements BeforeEachCallback, ParameterResolver {
+
+    private final JmhBenchmarkTest benchmarkTest;
+
+    private final String benchmarkName;
+
+    BenchmarkRunner(@NotNull JmhBenchmarkTest benchmarkTest, @NotNull String benchmarkName) {
+      this.benchmarkTest = benchmarkTest;
+      this.benchmarkName = benchmarkName;
+    }
+
+    @Override
+    public void beforeEach(@NotNull ExtensionContext context) {
+
+      RunResult result = run();
+
+      context.getStore(NAMESPACE).put(RunResult.class, result);
+      context.publishReportEntry(REPORT_ENTRY_KEY, String.format("%s: %.3f +/- %.3f %s", this.benchmarkName,
+        result.getPrimaryResult().getScore(), result.getPrimaryResult().getScoreError(),
+        result.getPrimaryResult().getScoreUnit()));
+
+      String baselineLocation = this.benchmarkTest.baseline();
+
+      if (StringUtils.hasText(baselineLocation)) {
+        if (isRecordBaseline(context)) {
+          Baseline.record(baselineLocation, this.benchmarkName, result.getPrimaryResult().getScore());
+        }
+        else {
+          Baseline.load(baselineLocation).evaluate(this.benchmarkName, result,
+            this.benchmarkTest.minRelativeThroughput());
+        }
+      }
+    }
+
+    private boolean isRecordBaseline(@NotNull ExtensionContext context) {
+      return context.getConfigurationParameter(RECORD_BASELINE_CONFIGURATION_PARAMETER)
+        .map(Boolean::parseBoolean)
+        .orElse(false);
+    }
+
+    @NotNull RunResult run() {
+
+      Options options = new OptionsBuilder()
+        .include(String.format("^%s$", Pattern.quote(this.benchmarkName)))
+        .forks(this.benchmarkTest.forks())
+        .threads(this.benchmarkTest.threads())
+        .warmupIterations(this.benchmarkTest.warmupIterations())
+        .warmupTime(TimeValue.milliseconds(this.benchmarkTest.warmupTime()))
+        .measurementIterations(this.benchmarkTest.measurementIterations())
+        .measurementTime(TimeValue.milliseconds(this.benchmarkTest.measurementTime()))
+        .mode(Mode.Throughput)
+        .timeUnit(TimeUnit.SECONDS)
+        .shouldFailOnError(true)
+        .verbosity(VerboseMode.SILENT)
+        .build();
+
+      try {
+
+        Collection<RunResult> results = new Runner(options).run();
+
+        return results.stream()
+          .findFirst()
+          .orElseThrow(() -> new UnhandledExtensionException(String.format(
+            "Benchmark [%s] was not found; was the benchmark class processed by the JMH annotation processor?",
+            this.benchmarkName)));
+      }
+      catch (RunnerException cause) {
+        throw UnhandledExtensionException.wrap(cause)
+          .with("Failed to run benchmark [%s]", this.benchmarkName)
+          .build();
+      }
+    }
+
+    @Override
+    public boolean supportsParameter(@NotNull ParameterContext parameterContext,
+        @NotNull ExtensionContext extensionContext) {
+
+      return RunResult.class.equals(parameterContext.getParameter().getType());
+    }
+
+    @Override
+    public @Nullable Object resolveParameter(@NotNull ParameterContext parameterContext,
+        @NotNull ExtensionContext extensionContext) {
+
+      return extensionContext.getStore(NAMESPACE).get(RunResult.class, RunResult.class);
+    }
+  }
+
+  /**
+   * Stored baseline throughput of JMH benchmarks keyed by the fully-qualified benchmark name.
+   */
+  static class Baseline {
+
+    private final Properties scores;
+
+    Baseline(@NotNull Properties scores) {
+      this.scores = scores;
+    }
+
+    static @NotNull Baseline load(@NotNull String location) {
+
+      Properties scores = new Properties();
+
+      try {
+
+        Path path = Paths.get(location);
+
+        if (Files.isRegularFile(path)) {
+          try (InputStream in = Files.newInputStream(path)) {
+            scores.load(in);
+          }
+        }
+        else {
+
+          URL resource = Optional.ofNullable(Thread.currentThread().getContextClassLoader())
+            .orElseGet(JmhBenchmarkExtension.class::getClassLoader)
+            .getResource(location);
+
+          if (resource != null) {
+            try (InputStream in = resource.openStream()) {
+              scores.load(in);
+            }
+          }
+        }
+
+        return new Baseline(scores);
+      }
+      catch (IOException | RuntimeException cause) {
+        throw UnhandledExtensionException.wrap(cause)
+          .with("Failed to load benchmark baseline [%s]", location)
+          .build();
+      }
+    }
+
+    static void record(@NotNull String location, @NotNull String benchmarkName, double score) {
+
+      synchronized (BASELINE_LOCK) {
+
+        Baseline baseline = load(location);
+
+        baseline.scores.setProperty(benchmarkName, String.valueOf(score));
+
+        try {
+
+          Path path = Paths.get(location);
+
+          if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+          }
+
+          try (OutputStream out = Files.newOutputStream(path)) {
+            baseline.scores.store(out, "JMH benchmark baseline throughput (ops/s)");
+          }
+        }
+        catch (IOException cause) {
+          throw UnhandledExtensionException.wrap(cause)
+            .with("Failed to record benchmark baseline [%s]", location)
+            .build();
+        }
+      }
+    }
+
+    Optional<Double> getScore(@NotNull String benchmarkName) {
+
+      return Optional.ofNullable(this.scores.getProperty(benchmarkName))
+        .filter(StringUtils::hasText)
+        .map(String::trim)
+        .map(Double::valueOf);
+    }
+
+    void evaluate(@NotNull String benchmarkName, @NotNull RunResult result, double minRelativeThroughput) {
+
+      if (minRelativeThroughput > 0.0d) {
+        getScore(benchmarkName).ifPresent(baselineScore -> {
+
+          double score = result.getPrimaryResult().getScore();
+          double minimumScore = baselineScore * minRelativeThroughput;
+
+          if (score < minimumScore) {
+            throw new AssertionFailedError(String.format(
+              "Throughput of benchmark [%s] was [%.3f %s]; expected at least [%.3f %s] (%.0f%% of baseline [%.3f])",
+              benchmarkName, score, result.getPrimaryResult().getScoreUnit(), minimumScore,
+              result.getPrimaryResult().getScoreUnit(), minRelativeThroughput * 100.0d, baselineScore));
+          }
+        });
+      }
+    }
+  }
+}
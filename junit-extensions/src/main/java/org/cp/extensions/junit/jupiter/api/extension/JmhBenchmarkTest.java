@@ -0,0 +1,148 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.junit.jupiter.api.extension;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * The {@link JmhBenchmarkTest} annotation declares a JUnit Jupiter {@link TestTemplate} that is invoked once for every
+ * JMH {@literal @Benchmark} method declared in the {@link #benchmarks() benchmark classes}, running the benchmark
+ * in-process with the JMH {@literal Runner} and exposing the benchmark result as a test result.
+ * <p>
+ * The annotated test method may declare a parameter of type {@literal org.openjdk.jmh.results.RunResult}
+ * to further assert on the results of the benchmark.
+ * <p>
+ * Optionally, the throughput of each benchmark can be compared to a {@link #baseline() stored baseline}
+ * failing the test when the throughput drops below the {@link #minRelativeThroughput() minimum relative throughput}.
+ * <p>
+ * JMH requires the benchmark classes to be processed by the {@literal jmh-generator-annprocess} annotation processor.
+ * <p>
+ * For example:
+ *
+ * <pre>
+ * <code>
+ * class HotPathBenchmarks {
+ *
+ *   {@literal @Benchmark}
+ *   public Object hotPath() {
+ *     ...
+ *   }
+ *
+ *   {@literal @JmhBenchmarkTest(baseline = "benchmarks/baseline.properties", minRelativeThroughput = 0.9d)}
+ *   void benchmark(RunResult result) {
+ *     ...
+ *   }
+ * }
+ * </code>
+ * </pre>
+ *
+ * @author John Blum
+ * @see java.lang.annotation.Documented
+ * @see java.lang.annotation.Retention
+ * @see java.lang.annotation.Target
+ * @see org.cp.extensions.junit.jupiter.api.extension.JmhBenchmarkExtension
+ * @see org.junit.jupiter.api.TestTemplate
+ * @see <a href="https://github.com/openjdk/jmh">JMH</a>
+ * @since 0.1.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.METHOD })
+@TestTemplate
+@ExtendWith(JmhBenchmarkExtension.class)
+@SuppressWarnings("unused")
+public @interface JmhBenchmarkTest {
+
+  /**
+   * {@link Class Classes} declaring the {@literal @Benchmark} methods to run.
+   * <p>
+   * Defaults to the test class declaring the annotated test method.
+   *
+   * @return an array of {@link Class benchmark classes}.
+   */
+  Class<?>[] benchmarks() default {};
+
+  /**
+   * Number of forked JVMs used to run each benchmark; {@literal 0} runs the benchmark in-process.
+   *
+   * @return the number of forks.
+   */
+  int forks() default 0;
+
+  /**
+   * Number of worker {@link Thread Threads} used to run each benchmark.
+   *
+   * @return the number of worker {@link Thread Threads}.
+   */
+  int threads() default 1;
+
+  /**
+   * Number of warmup iterations.
+   *
+   * @return the number of warmup iterations.
+   */
+  int warmupIterations() default 1;
+
+  /**
+   * Duration of each warmup iteration in milliseconds.
+   *
+   * @return the duration of each warmup iteration in milliseconds.
+   */
+  long warmupTime() default 500L;
+
+  /**
+   * Number of measurement iterations.
+   *
+   * @return the number of measurement iterations.
+   */
+  int measurementIterations() default 3;
+
+  /**
+   * Duration of each measurement iteration in milliseconds.
+   *
+   * @return the duration of each measurement iteration in milliseconds.
+   */
+  long measurementTime() default 500L;
+
+  /**
+   * Location of the {@link java.util.Properties} file storing the baseline throughput of each benchmark
+   * keyed by the fully-qualified benchmark name.
+   * <p>
+   * The location is resolved first as a file system path and then, when no such file exists,
+   * as a class path resource.
+   *
+   * @return the location of the stored baseline; empty if no baseline comparison is performed.
+   */
+  String baseline() default "";
+
+  /**
+   * Minimum throughput of a benchmark relative to its {@link #baseline() stored baseline}; for example,
+   * {@literal 0.9} fails the test when the throughput drops more than 10% below the baseline.
+   * <p>
+   * A value less than or equal to {@literal 0} disables the comparison.
+   *
+   * @return the minimum relative throughput.
+   */
+  double minRelativeThroughput() default 0.0d;
+
+}
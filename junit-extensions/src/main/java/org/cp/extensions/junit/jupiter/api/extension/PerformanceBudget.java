@@ -0,0 +1,120 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.junit.jupiter.api.extension;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * The {@link PerformanceBudget} annotation declares allocation and latency budgets for a test method, or all test
+ * methods in a test class, which are enforced by the {@link PerformanceBudgetExtension}.
+ * <p>
+ * The test method body is executed {@link #warmupIterations()} times before being measured
+ * for {@link #iterations()} repetitions. A budget with a negative value is not enforced.
+ * <p>
+ * Only the test method body is repeated. {@literal @BeforeEach} and {@literal @AfterEach} methods run once
+ * around all iterations, and other {@link org.junit.jupiter.api.extension.InvocationInterceptor InvocationInterceptors}
+ * registered after the {@link PerformanceBudgetExtension} do not intercept the repeated executions. A test method
+ * that depends on per-invocation setup or interception must reset that state itself.
+ * <p>
+ * For example:
+ *
+ * <pre>
+ * <code>
+ * {@literal @Test}
+ * {@literal @PerformanceBudget(iterations = 100, maxP99Time = 5, maxAllocatedBytes = 1024)}
+ * void hotPathIsFastAndLean() {
+ *   ...
+ * }
+ * </code>
+ * </pre>
+ *
+ * @author John Blum
+ * @see java.lang.annotation.Documented
+ * @see java.lang.annotation.Inherited
+ * @see java.lang.annotation.Retention
+ * @see java.lang.annotation.Target
+ * @see org.cp.extensions.junit.jupiter.api.extension.PerformanceBudgetExtension
+ * @see org.junit.jupiter.api.extension.ExtendWith
+ * @since 0.1.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.TYPE, ElementType.METHOD })
+@ExtendWith(PerformanceBudgetExtension.class)
+@SuppressWarnings("unused")
+public @interface PerformanceBudget {
+
+  long UNBOUNDED = -1L;
+
+  /**
+   * Number of times the test method body is executed, without being measured, before measurement begins.
+   *
+   * @return the number of warmup iterations.
+   */
+  int warmupIterations() default 5;
+
+  /**
+   * Number of times the test method body is executed and measured.
+   *
+   * @return the number of measured iterations; must be greater than {@literal 0}.
+   */
+  int iterations() default 20;
+
+  /**
+   * Maximum number of bytes a single, measured execution of the test method body is allowed to allocate
+   * on the test {@link Thread}.
+   *
+   * @return the maximum number of bytes allocated per execution.
+   * @see com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)
+   */
+  long maxAllocatedBytes() default UNBOUNDED;
+
+  /**
+   * Maximum wall time a single, measured execution of the test method body is allowed to take,
+   * expressed in {@link #timeUnit()}.
+   *
+   * @return the maximum wall time per execution.
+   * @see #timeUnit()
+   */
+  long maxTime() default UNBOUNDED;
+
+  /**
+   * Maximum 99th percentile wall time over all measured executions of the test method body,
+   * expressed in {@link #timeUnit()}.
+   *
+   * @return the maximum 99th percentile wall time.
+   * @see #timeUnit()
+   */
+  long maxP99Time() default UNBOUNDED;
+
+  /**
+   * {@link TimeUnit} in which the {@link #maxTime()} and {@link #maxP99Time()} budgets are expressed.
+   *
+   * @return the {@link TimeUnit} of the time budgets.
+   * @see java.util.concurrent.TimeUnit
+   */
+  TimeUnit timeUnit() default TimeUnit.MILLISECONDS;
+
+}
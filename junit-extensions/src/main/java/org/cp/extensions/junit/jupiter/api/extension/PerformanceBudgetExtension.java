@@ -0,0 +1,290 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.junit.jupiter.api.extension;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.ReflectionSupport;
+import org.opentest4j.AssertionFailedError;
+
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+
+/**
+ * JUnit Jupiter {@link InvocationInterceptor} {@link Extension} used to enforce the allocation and latency budgets
+ * declared with the {@link PerformanceBudget} annotation on a test method or test class.
+ * <p>
+ * The test method body is executed reflectively, first for the configured number of warmup iterations,
+ * and then for the configured number of measured iterations, recording the wall time and, when budgeted,
+ * the bytes allocated by the test {@link Thread} for each measured iteration. If any budget is exceeded,
+ * the test fails with an {@link AssertionFailedError} containing a report of all measurements.
+ * <p>
+ * Since an {@link InvocationInterceptor.Invocation} can only proceed once, the iterations invoke the test method
+ * directly with {@link ReflectionSupport} and then {@link InvocationInterceptor.Invocation#skip() skip}
+ * the intercepted {@link InvocationInterceptor.Invocation}. Therefore, {@literal @BeforeEach}
+ * and {@literal @AfterEach} methods run only once around all iterations, and {@link InvocationInterceptor
+ * InvocationInterceptors} registered after this {@link Extension} are not invoked at all.
+ * <p>
+ * Failures in the {@link Extension} itself, such as an invalid {@link PerformanceBudget} configuration
+ * or a JVM that cannot measure {@link Thread} allocations, are reported with
+ * an {@link UnhandledExtensionException}.
+ *
+ * @author John Blum
+ * @see org.cp.extensions.junit.jupiter.api.extension.PerformanceBudget
+ * @see org.cp.extensions.junit.jupiter.api.extension.UnhandledExtensionException
+ * @see org.junit.jupiter.api.extension.InvocationInterceptor
+ * @see java.lang.management.ThreadMXBean
+ * @since 0.1.0
+ */
+public class PerformanceBudgetExtension implements InvocationInterceptor {
+
+  protected static final String REPORT_ENTRY_KEY = "performance-budget";
+
+  /**
+   * Intercepts the test method {@link Invocation} and enforces the {@link PerformanceBudget}
+   * declared on the test method or test class.
+   *
+   * @param invocation {@link Invocation} of the test method; must not be {@literal null}.
+   * @param invocationContext {@link ReflectiveInvocationContext} for the test method {@link Invocation}.
+   * @param extensionContext {@link ExtensionContext} in which the test method executes.
+   * @throws Throwable if the test method fails or a {@link PerformanceBudget} is exceeded.
+   * @see org.junit.jupiter.api.extension.ReflectiveInvocationContext
+   * @see org.junit.jupiter.api.extension.ExtensionContext
+   */
+  @Override
+  public void interceptTestMethod(@NotNull Invocation<Void> invocation,
+      @NotNull ReflectiveInvocationContext<Method> invocationContext,
+      @NotNull ExtensionContext extensionContext) throws Throwable {
+
+    Optional<PerformanceBudget> performanceBudget = findPerformanceBudget(extensionContext);
+
+    if (performanceBudget.isPresent()) {
+      measure(performanceBudget.get(), invocationContext, extensionContext);
+      invocation.skip();
+    }
+    else {
+      invocation.proceed();
+    }
+  }
+
+  private Optional<PerformanceBudget> findPerformanceBudget(@NotNull ExtensionContext extensionContext) {
+
+    Optional<PerformanceBudget> performanceBudget =
+      AnnotationSupport.findAnnotation(extensionContext.getElement(), PerformanceBudget.class);
+
+    return performanceBudget.isPresent() ? performanceBudget
+      : AnnotationSupport.findAnnotation(extensionContext.getTestClass(), PerformanceBudget.class);
+  }
+
+  private void measure(@NotNull PerformanceBudget performanceBudget,
+      @NotNull ReflectiveInvocationContext<Method> invocationContext,
+      @NotNull ExtensionContext extensionContext) {
+
+    validate(performanceBudget);
+
+    com.sun.management.ThreadMXBean threadMxBean = resolveThreadMxBean(performanceBudget);
+
+    Method testMethod = invocationContext.getExecutable();
+    Object testInstance = invocationContext.getTarget().orElse(null);
+    Object[] arguments = invocationContext.getArguments().toArray();
+
+    for (int count = 0; count < performanceBudget.warmupIterations(); count++) {
+      ReflectionSupport.invokeMethod(testMethod, testInstance, arguments);
+    }
+
+    int iterations = performanceBudget.iterations();
+
+    long threadId = Thread.currentThread().getId();
+    long[] allocatedBytes = new long[iterations];
+    long[] times = new long[iterations];
+
+    for (int index = 0; index < iterations; index++) {
+
+      long allocatedBytesBefore = allocatedBytes(threadMxBean, threadId);
+      long startTime = System.nanoTime();
+
+      ReflectionSupport.invokeMethod(testMethod, testInstance, arguments);
+
+      times[index] = System.nanoTime() - startTime;
+      allocatedBytes[index] = allocatedBytes(threadMxBean, threadId) - allocatedBytesBefore;
+    }
+
+    Measurements measurements = new Measurements(times, threadMxBean != null ? allocatedBytes : null);
+
+    extensionContext.publishReportEntry(REPORT_ENTRY_KEY, measurements.toString());
+
+    List<String> violations = measurements.evaluate(performanceBudget);
+
+    if (!violations.isEmpty()) {
+      throw new AssertionFailedError(String.format("Performance budget for test method [%s] was exceeded:%n  %s%n%s",
+        extensionContext.getDisplayName(), String.join(String.format("%n  "), violations), measurements));
+    }
+  }
+
+  private void validate(@NotNull PerformanceBudget performanceBudget) {
+
+    if (performanceBudget.iterations() < 1) {
+      throw new UnhandledExtensionException(String.format("Iterations [%d] must be greater than 0",
+        performanceBudget.iterations()));
+    }
+
+    if (performanceBudget.warmupIterations() < 0) {
+      throw new UnhandledExtensionException(String.format("Warmup iterations [%d] must be greater than or equal to 0",
+        performanceBudget.warmupIterations()));
+    }
+  }
+
+  private @Nullable com.sun.management.ThreadMXBean resolveThreadMxBean(@NotNull PerformanceBudget performanceBudget) {
+
+    if (performanceBudget.maxAllocatedBytes() < 0) {
+      return null;
+    }
+
+    try {
+
+      ThreadMXBean threadMxBean = ManagementFactory.getThreadMXBean();
+
+      if (threadMxBean instanceof com.sun.management.ThreadMXBean) {
+
+        com.sun.management.ThreadMXBean allocationMeasuringThreadMxBean =
+          (com.sun.management.ThreadMXBean) threadMxBean;
+
+        if (allocationMeasuringThreadMxBean.isThreadAllocatedMemorySupported()) {
+          if (!allocationMeasuringThreadMxBean.isThreadAllocatedMemoryEnabled()) {
+            allocationMeasuringThreadMxBean.setThreadAllocatedMemoryEnabled(true);
+          }
+
+          return allocationMeasuringThreadMxBean;
+        }
+      }
+    }
+    catch (LinkageError | RuntimeException cause) {
+      throw UnhandledExtensionException.wrap(cause)
+        .with("Failed to enable Thread allocated memory measurement")
+        .build();
+    }
+
+    throw new UnhandledExtensionException("Thread allocated memory measurement is not supported by this JVM");
+  }
+
+  private long allocatedBytes(@Nullable com.sun.management.ThreadMXBean threadMxBean, long threadId) {
+    return threadMxBean != null ? threadMxBean.getThreadAllocatedBytes(threadId) : 0L;
+  }
+
+  /**
+   * Summary statistics of the measured iterations of a test method.
+   */
+  static class Measurements {
+
+    private final long[] allocatedBytes;
+    private final long[] times;
+
+    Measurements(@NotNull long[] times, @Nullable long[] allocatedBytes) {
+
+      this.times = times.clone();
+      this.allocatedBytes = allocatedBytes != null ? allocatedBytes.clone() : null;
+
+      Arrays.sort(this.times);
+
+      if (this.allocatedBytes != null) {
+        Arrays.sort(this.allocatedBytes);
+      }
+    }
+
+    long maxAllocatedBytes() {
+      return this.allocatedBytes != null ? this.allocatedBytes[this.allocatedBytes.length - 1] : 0L;
+    }
+
+    long maxTime() {
+      return this.times[this.times.length - 1];
+    }
+
+    long medianTime() {
+      return percentile(this.times, 0.5d);
+    }
+
+    long minTime() {
+      return this.times[0];
+    }
+
+    long p99Time() {
+      return percentile(this.times, 0.99d);
+    }
+
+    private static long percentile(long[] sortedValues, double percentile) {
+
+      int index = (int) Math.ceil(percentile * sortedValues.length) - 1;
+
+      return sortedValues[Math.max(0, Math.min(index, sortedValues.length - 1))];
+    }
+
+    @NotNull List<String> evaluate(@NotNull PerformanceBudget performanceBudget) {
+
+      List<String> violations = new ArrayList<>(3);
+
+      TimeUnit timeUnit = performanceBudget.timeUnit();
+
+      long maxTimeBudget = performanceBudget.maxTime();
+      long maxP99TimeBudget = performanceBudget.maxP99Time();
+      long maxAllocatedBytesBudget = performanceBudget.maxAllocatedBytes();
+
+      if (maxTimeBudget >= 0 && maxTime() > timeUnit.toNanos(maxTimeBudget)) {
+        violations.add(String.format("max time [%s] exceeded budget [%d %s]",
+          formatNanos(maxTime()), maxTimeBudget, timeUnit));
+      }
+
+      if (maxP99TimeBudget >= 0 && p99Time() > timeUnit.toNanos(maxP99TimeBudget)) {
+        violations.add(String.format("p99 time [%s] exceeded budget [%d %s]",
+          formatNanos(p99Time()), maxP99TimeBudget, timeUnit));
+      }
+
+      if (maxAllocatedBytesBudget >= 0 && maxAllocatedBytes() > maxAllocatedBytesBudget) {
+        violations.add(String.format("max allocated bytes [%d] exceeded budget [%d]",
+          maxAllocatedBytes(), maxAllocatedBytesBudget));
+      }
+
+      return violations;
+    }
+
+    private static String formatNanos(long nanos) {
+      return String.format("%.3f ms", nanos / 1_000_000.0d);
+    }
+
+    @Override
+    public String toString() {
+
+      String report = String.format("iterations [%d], time min [%s] median [%s] p99 [%s] max [%s]",
+        this.times.length, formatNanos(minTime()), formatNanos(medianTime()), formatNanos(p99Time()),
+        formatNanos(maxTime()));
+
+      return this.allocatedBytes != null
+        ? String.format("%s, allocated bytes max [%d]", report, maxAllocatedBytes())
+        : report;
+    }
+  }
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.junit.jupiter.api.extension;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+
+/**
+ * JUnit Jupiter {@link Extension} detecting {@link Thread Threads}, direct memory and open file descriptors
+ * leaked by test classes annotated with {@link DetectResourceLeaks}.
+ * <p>
+ * A {@link ResourceSnapshot snapshot} of the resources used by the JVM is taken before all tests in the test class
+ * and compared to a snapshot taken after all tests in the test class. Growth beyond the thresholds configured with
+ * {@link DetectResourceLeaks} is reported as a {@link ResourceLeakException} and handled by the configured
+ * {@link DetectResourceLeaks#policy() ResourceLeakPolicy}.
+ * <p>
+ * Register this {@link Extension} programmatically with {@link org.junit.jupiter.api.extension.RegisterExtension}
+ * and an {@link ExtensionExceptionHandlingProcessor} to handle detected resource leaks with a custom
+ * {@link ExtensionExceptionHandler} instead.
+ *
+ * @author John Blum
+ * @see java.lang.management.BufferPoolMXBean
+ * @see org.cp.extensions.junit.jupiter.api.extension.DetectResourceLeaks
+ * @see org.cp.extensions.junit.jupiter.api.extension.ExtensionExceptionHandlingProcessor
+ * @see org.cp.extensions.junit.jupiter.api.extension.ResourceLeakException
+ * @see org.cp.extensions.junit.jupiter.api.extension.ResourceLeakPolicy
+ * @see org.junit.jupiter.api.extension.AfterAllCallback
+ * @see org.junit.jupiter.api.extension.BeforeAllCallback
+ * @since 0.1.0
+ */
+public class ResourceLeakDetectionExtension implements BeforeAllCallback, AfterAllCallback {
+
+  private static final ExtensionContext.Namespace NAMESPACE =
+    ExtensionContext.Namespace.create(ResourceLeakDetectionExtension.class);
+
+  private final ExtensionExceptionHandlingProcessor exceptionHandlingProcessor;
+
+  /**
+   * Constructs a new {@link ResourceLeakDetectionExtension} handling detected resource leaks with
+   * the {@link DetectResourceLeaks#policy() ResourceLeakPolicy} declared by the test class.
+   */
+  public ResourceLeakDetectionExtension() {
+    this.exceptionHandlingProcessor = null;
+  }
+
+  /**
+   * Constructs a new {@link ResourceLeakDetectionExtension} initialized with the given, required
+   * {@link ExtensionExceptionHandlingProcessor} used to handle detected resource leaks.
+   *
+   * @param exceptionHandlingProcessor {@link ExtensionExceptionHandlingProcessor} used to handle
+   * detected resource leaks; must not be {@literal null}.
+   * @throws IllegalArgumentException if the {@link ExtensionExceptionHandlingProcessor} is {@literal null}.
+   * @see org.cp.extensions.junit.jupiter.api.extension.ExtensionExceptionHandlingProcessor
+   */
+  public ResourceLeakDetectionExtension(@NotNull ExtensionExceptionHandlingProcessor exceptionHandlingProcessor) {
+
+    Assert.notNull(exceptionHandlingProcessor, "ExtensionExceptionHandlingProcessor is required");
+
+    this.exceptionHandlingProcessor = exceptionHandlingProcessor;
+  }
+
+  /**
+   * Gets the {@link ExtensionExceptionHandlingProcessor} used to handle resource leaks detected
+   * for the test class annotated with the given {@link DetectResourceLeaks} annotation.
+   *
+   * @param detectResourceLeaks {@link DetectResourceLeaks} annotation declared by the test class.
+   * @return the {@link ExtensionExceptionHandlingProcessor} used to handle detected resource leaks.
+   * @see org.cp.extensions.junit.jupiter.api.extension.ExtensionExceptionHandlingProcessor
+   */
+  protected @NotNull ExtensionExceptionHandlingProcessor getExceptionHandlingProcessor(
+      @NotNull DetectResourceLeaks detectResourceLeaks) {
+
+    return this.exceptionHandlingProcessor != null ? this.exceptionHandlingProcessor
+      : ExtensionExceptionHandlingProcessor.of(detectResourceLeaks.policy());
+  }
+
+  @Override
+  public void beforeAll(@NotNull ExtensionContext context) {
+
+    if (findDetectResourceLeaks(context) != null) {
+      context.getStore(NAMESPACE).put(context.getUniqueId(), ResourceSnapshot.take());
+    }
+  }
+
+  @Override
+  public void afterAll(@NotNull ExtensionContext context) throws Exception {
+
+    DetectResourceLeaks detectResourceLeaks = findDetectResourceLeaks(context);
+
+    ResourceSnapshot before = context.getStore(NAMESPACE).remove(context.getUniqueId(), ResourceSnapshot.class);
+
+    if (detectResourceLeaks != null && before != null) {
+
+      awaitThreadTermination(before, detectResourceLeaks);
+
+      List<String> leaks = before.compareTo(ResourceSnapshot.take(), detectResourceLeaks);
+
+      if (!leaks.isEmpty()) {
+
+        ResourceLeakException resourceLeak = new ResourceLeakException(context.getRequiredTestClass(),
+          String.format("Test class [%s] leaked resources: %s", context.getRequiredTestClass().getName(),
+            String.join("; ", leaks)));
+
+        getExceptionHandlingProcessor(detectResourceLeaks).process(context, it -> {
+          throw resourceLeak;
+        });
+      }
+    }
+  }
+
+  private @Nullable DetectResourceLeaks findDetectResourceLeaks(@NotNull ExtensionContext context) {
+    return AnnotationSupport.findAnnotation(context.getTestClass(), DetectResourceLeaks.class).orElse(null);
+  }
+
+  private void awaitThreadTermination(@NotNull ResourceSnapshot before,
+      @NotNull DetectResourceLeaks detectResourceLeaks) throws InterruptedException {
+
+    long timeout = Math.max(detectResourceLeaks.threadTerminationTimeout(), 0L);
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+
+    for (Thread thread : before.newThreads(ResourceSnapshot.liveThreads(), detectResourceLeaks)) {
+
+      long remainingMilliseconds = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+
+      if (remainingMilliseconds <= 0L) {
+        break;
+      }
+
+      if (thread != Thread.currentThread()) {
+        thread.join(remainingMilliseconds);
+      }
+    }
+  }
+
+  /**
+   * Snapshot of the {@link Thread Threads}, direct memory and open file descriptors used by the JVM.
+   * <p>
+   * Only the IDs and names of the {@link Thread Threads} are recorded so that the snapshot, which is stored
+   * for the duration of the test class, does not keep terminated {@link Thread Threads} reachable.
+   */
+  static class ResourceSnapshot {
+
+    static final long UNSUPPORTED = -1L;
+
+    static @NotNull ResourceSnapshot take() {
+
+      Map<Long, String> threadNames = liveThreads().stream()
+        .collect(Collectors.toMap(Thread::getId, Thread::getName, (name, duplicateName) -> name, HashMap::new));
+
+      return new ResourceSnapshot(threadNames, directMemoryUsed(), openFileDescriptorCount());
+    }
+
+    static @NotNull List<Thread> liveThreads() {
+
+      ThreadGroup rootThreadGroup = Thread.currentThread().getThreadGroup();
+
+      while (rootThreadGroup.getParent() != null) {
+        rootThreadGroup = rootThreadGroup.getParent();
+      }
+
+      Thread[] threads = new Thread[rootThreadGroup.activeCount() + 16];
+
+      int count = rootThreadGroup.enumerate(threads, true);
+
+      while (count == threads.length) {
+        threads = new Thread[threads.length * 2];
+        count = rootThreadGroup.enumerate(threads, true);
+      }
+
+      return Arrays.stream(threads, 0, count)
+        .filter(Thread::isAlive)
+        .collect(Collectors.toList());
+    }
+
+    static long directMemoryUsed() {
+
+      return ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+        .filter(bufferPool -> "direct".equals(bufferPool.getName()))
+        .mapToLong(BufferPoolMXBean::getMemoryUsed)
+        .findFirst()
+        .orElse(UNSUPPORTED);
+    }
+
+    static long openFileDescriptorCount() {
+
+      OperatingSystemMXBean operatingSystemMxBean = ManagementFactory.getOperatingSystemMXBean();
+
+      return operatingSystemMxBean instanceof com.sun.management.UnixOperatingSystemMXBean
+        ? ((com.sun.management.UnixOperatingSystemMXBean) operatingSystemMxBean).getOpenFileDescriptorCount()
+        : UNSUPPORTED;
+    }
+
+    private final long directMemoryUsed;
+    private final long openFileDescriptorCount;
+
+    private final Map<Long, String> threadNames;
+
+    ResourceSnapshot(@NotNull Map<Long, String> threadNames, long directMemoryUsed, long openFileDescriptorCount) {
+
+      this.threadNames = threadNames;
+      this.directMemoryUsed = directMemoryUsed;
+      this.openFileDescriptorCount = openFileDescriptorCount;
+    }
+
+    /**
+     * Compares this snapshot, taken before all tests in a test class, to the given snapshot, taken after all tests
+     * in the test class, returning a description of each resource that grew beyond the configured threshold.
+     *
+     * @param after {@link ResourceSnapshot} taken after all tests in the test class.
+     * @param detectResourceLeaks {@link DetectResourceLeaks} annotation configuring the thresholds.
+     * @return a {@link List} describing each leaked resource; empty if no resources were leaked.
+     */
+    @NotNull List<String> compareTo(@NotNull ResourceSnapshot after, @NotNull DetectResourceLeaks detectResourceLeaks) {
+
+      List<String> leaks = new ArrayList<>();
+
+      List<Pattern> ignoredThreads = ignoredThreads(detectResourceLeaks);
+
+      List<String> leakedThreadNames = after.threadNames.entrySet().stream()
+        .filter(threadName -> !this.threadNames.containsKey(threadName.getKey()))
+        .map(Map.Entry::getValue)
+        .filter(threadName -> !isIgnored(threadName, ignoredThreads))
+        .sorted()
+        .collect(Collectors.toList());
+
+      if (leakedThreadNames.size() > detectResourceLeaks.maxThreadGrowth()) {
+        leaks.add(String.format("threads [+%d] %s", leakedThreadNames.size(), leakedThreadNames));
+      }
+
+      long directMemoryGrowth = growth(this.directMemoryUsed, after.directMemoryUsed);
+
+      if (directMemoryGrowth > detectResourceLeaks.maxDirectMemoryGrowth()) {
+        leaks.add(String.format("direct memory [+%d bytes]", directMemoryGrowth));
+      }
+
+      long fileDescriptorGrowth = growth(this.openFileDescriptorCount, after.openFileDescriptorCount);
+
+      if (fileDescriptorGrowth > detectResourceLeaks.maxFileDescriptorGrowth()) {
+        leaks.add(String.format("file descriptors [+%d]", fileDescriptorGrowth));
+      }
+
+      return Collections.unmodifiableList(leaks);
+    }
+
+    /**
+     * Filters the given {@link List} of {@link Thread Threads} for {@link Thread Threads} that were not alive
+     * when this snapshot was taken, excluding {@link DetectResourceLeaks#ignoredThreads() ignored Threads}.
+     *
+     * @param threads {@link List} of {@link Thread Threads} to filter.
+     * @param detectResourceLeaks {@link DetectResourceLeaks} annotation declaring the ignored {@link Thread Threads}.
+     * @return a {@link List} of new {@link Thread Threads}.
+     */
+    @NotNull List<Thread> newThreads(@NotNull List<Thread> threads, @NotNull DetectResourceLeaks detectResourceLeaks) {
+
+      List<Pattern> ignoredThreads = ignoredThreads(detectResourceLeaks);
+
+      return threads.stream()
+        .filter(thread -> !this.threadNames.containsKey(thread.getId()))
+        .filter(thread -> !isIgnored(thread.getName(), ignoredThreads))
+        .collect(Collectors.toList());
+    }
+
+    private @NotNull List<Pattern> ignoredThreads(@NotNull DetectResourceLeaks detectResourceLeaks) {
+
+      return Arrays.stream(detectResourceLeaks.ignoredThreads())
+        .map(Pattern::compile)
+        .collect(Collectors.toList());
+    }
+
+    private boolean isIgnored(@NotNull String threadName, @NotNull List<Pattern> ignoredThreads) {
+      return ignoredThreads.stream().anyMatch(pattern -> pattern.matcher(threadName).matches());
+    }
+
+    private long growth(long before, long after) {
+      return before == UNSUPPORTED || after == UNSUPPORTED ? 0L : after - before;
+    }
+  }
+}
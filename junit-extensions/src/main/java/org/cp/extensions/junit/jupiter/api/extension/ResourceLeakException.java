@@ -0,0 +1,53 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.junit.jupiter.api.extension;
+
+/**
+ * {@link RuntimeException} thrown when a test class leaks {@link Thread Threads}, direct memory
+ * or open file descriptors.
+ *
+ * @author John Blum
+ * @see java.lang.RuntimeException
+ * @see org.cp.extensions.junit.jupiter.api.extension.DetectResourceLeaks
+ * @see org.cp.extensions.junit.jupiter.api.extension.ResourceLeakDetectionExtension
+ * @since 0.1.0
+ */
+@SuppressWarnings("unused")
+public class ResourceLeakException extends RuntimeException {
+
+  private final Class<?> testClass;
+
+  /**
+   * Constructs a new {@link ResourceLeakException} initialized with the given {@link Class test class}
+   * and {@link String message} describing the leaked resources.
+   *
+   * @param testClass {@link Class test class} that leaked resources.
+   * @param message {@link String} describing the leaked resources.
+   */
+  public ResourceLeakException(Class<?> testClass, String message) {
+    super(message);
+    this.testClass = testClass;
+  }
+
+  /**
+   * Gets the {@link Class test class} that leaked resources.
+   *
+   * @return the {@link Class test class} that leaked resources.
+   */
+  public Class<?> getTestClass() {
+    return this.testClass;
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.junit.jupiter.api.extension;
+
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import org.cp.elements.lang.annotation.NotNull;
+
+/**
+ * {@link ExtensionExceptionHandler} policies used to handle a {@link ResourceLeakException} detected by
+ * the {@link ResourceLeakDetectionExtension}.
+ * <p>
+ * Each policy only handles a {@link ResourceLeakException}; any other {@link Throwable} is passed to
+ * the next {@link ExtensionExceptionHandler} in the composition.
+ *
+ * @author John Blum
+ * @see org.cp.extensions.junit.jupiter.api.extension.ExtensionExceptionHandler
+ * @see org.cp.extensions.junit.jupiter.api.extension.ResourceLeakDetectionExtension
+ * @see org.cp.extensions.junit.jupiter.api.extension.ResourceLeakException
+ * @since 0.1.0
+ */
+public enum ResourceLeakPolicy implements ExtensionExceptionHandler {
+
+  /**
+   * Fails the test class by rethrowing the {@link ResourceLeakException}.
+   */
+  FAIL {
+
+    @Override
+    protected void handle(@NotNull ExtensionContext context, @NotNull ResourceLeakException cause) {
+      throw cause;
+    }
+  },
+
+  /**
+   * Ignores the {@link ResourceLeakException}.
+   */
+  IGNORE {
+
+    @Override
+    protected void handle(@NotNull ExtensionContext context, @NotNull ResourceLeakException cause) { }
+
+  },
+
+  /**
+   * Logs a warning and publishes a report entry describing the {@link ResourceLeakException}.
+   */
+  WARN {
+
+    @Override
+    protected void handle(@NotNull ExtensionContext context, @NotNull ResourceLeakException cause) {
+      LOGGER.warning(cause.getMessage());
+      context.publishReportEntry(REPORT_ENTRY_KEY, cause.getMessage());
+    }
+  };
+
+  static final String REPORT_ENTRY_KEY = "resource-leaks";
+
+  private static final Logger LOGGER = Logger.getLogger(ResourceLeakDetectionExtension.class.getName());
+
+  @Override
+  public void handle(ExtensionContext context, Throwable cause) {
+
+    if (cause instanceof ResourceLeakException) {
+      handle(context, (ResourceLeakException) cause);
+    }
+    else {
+      throw UnhandledExtensionException.wrap(cause).build();
+    }
+  }
+
+  /**
+   * Handles the given {@link ResourceLeakException} according to this policy.
+   *
+   * @param context {@link ExtensionContext} of the test class that leaked resources.
+   * @param cause {@link ResourceLeakException} describing the leaked resources.
+   */
+  protected abstract void handle(@NotNull ExtensionContext context, @NotNull ResourceLeakException cause);
+
+}
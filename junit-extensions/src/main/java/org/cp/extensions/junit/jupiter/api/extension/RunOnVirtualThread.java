@@ -0,0 +1,87 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.junit.jupiter.api.extension;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * The {@link RunOnVirtualThread} annotation runs the annotated test method, or all test methods
+ * in the annotated test class, on a virtual {@link Thread} when the JVM (Java 21 or later) supports
+ * virtual {@link Thread Threads}, and on a new platform {@link Thread} otherwise.
+ * <p>
+ * While the test runs, the JUnit Jupiter {@link java.util.concurrent.ForkJoinPool} worker {@link Thread}
+ * executing the test waits as a {@link java.util.concurrent.ForkJoinPool.ManagedBlocker}, allowing the
+ * {@link java.util.concurrent.ForkJoinPool} to compensate with another worker {@link Thread}. This way,
+ * I/O-bound tests blocking for long periods of time do not starve CPU-bound tests when executing tests
+ * in parallel.
+ * <p>
+ * Optionally, the number of tests concurrently using an expensive {@link #resource() resource},
+ * such as a database, can be limited to a number of {@link #permits() permits}.
+ * <p>
+ * For example:
+ *
+ * <pre>
+ * <code>
+ * {@literal @RunOnVirtualThread(resource = "database", permits = 4)}
+ * class RepositoryIntegrationTests {
+ *   ...
+ * }
+ * </code>
+ * </pre>
+ *
+ * @author John Blum
+ * @see java.lang.annotation.Documented
+ * @see java.lang.annotation.Inherited
+ * @see java.lang.annotation.Retention
+ * @see java.lang.annotation.Target
+ * @see org.cp.extensions.junit.jupiter.api.extension.VirtualThreadExtension
+ * @since 0.1.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.METHOD, ElementType.TYPE })
+@ExtendWith(VirtualThreadExtension.class)
+@SuppressWarnings("unused")
+public @interface RunOnVirtualThread {
+
+  /**
+   * {@link String Name} of an expensive resource used by the tests, shared with all other tests declaring
+   * the same {@link #resource()}.
+   * <p>
+   * Defaults to no resource, in which case the number of concurrently running tests is not limited.
+   *
+   * @return the {@link String name} of the resource used by the tests.
+   */
+  String resource() default "";
+
+  /**
+   * Maximum number of tests concurrently using the {@link #resource()}.
+   * <p>
+   * All tests declaring the same {@link #resource()} must declare the same number of permits.
+   *
+   * @return the maximum number of tests concurrently using the {@link #resource()}.
+   */
+  int permits() default 1;
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.junit.jupiter.api.extension;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * The {@link SharedResource} annotation declares an expensive resource used by the annotated test class,
+ * which is shared with all other test classes declaring a {@link SharedResource} with the same {@link #name()}.
+ * <p>
+ * The shared resource is created by the {@link #factory() SharedResourceFactory} when the first test class
+ * using the resource starts, and is closed when the last test class using the resource finishes, even when
+ * the test classes are executed concurrently.
+ * <p>
+ * For example:
+ *
+ * <pre>
+ * <code>
+ * {@literal @SharedResource(name = "broker", factory = EmbeddedBrokerFactory.class)}
+ * class MessagingIntegrationTests {
+ *
+ *   {@literal @Test}
+ *   void sendsMessage(EmbeddedBroker broker) {
+ *     ...
+ *   }
+ * }
+ * </code>
+ * </pre>
+ *
+ * @author John Blum
+ * @see java.lang.annotation.Documented
+ * @see java.lang.annotation.Inherited
+ * @see java.lang.annotation.Repeatable
+ * @see java.lang.annotation.Retention
+ * @see java.lang.annotation.Target
+ * @see org.cp.extensions.junit.jupiter.api.extension.SharedResourceExtension
+ * @see org.cp.extensions.junit.jupiter.api.extension.SharedResourceFactory
+ * @since 0.1.0
+ */
+@Documented
+@Inherited
+@Repeatable(SharedResource.SharedResources.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.TYPE })
+@ExtendWith(SharedResourceExtension.class)
+@SuppressWarnings("unused")
+public @interface SharedResource {
+
+  /**
+   * {@link String Name} uniquely identifying the shared resource across all test classes.
+   *
+   * @return the {@link String name} of the shared resource.
+   */
+  String name();
+
+  /**
+   * {@link SharedResourceFactory} used to create and close the shared resource.
+   *
+   * @return the {@link Class type} of {@link SharedResourceFactory} used to create and close the shared resource.
+   * @see org.cp.extensions.junit.jupiter.api.extension.SharedResourceFactory
+   */
+  Class<? extends SharedResourceFactory<?>> factory();
+
+  /**
+   * Determines whether the shared resource is kept open after the last test class using the resource finishes,
+   * until the end of the test run.
+   * <p>
+   * Useful when the test classes sharing the resource are not executed concurrently.
+   *
+   * @return a boolean value indicating whether the shared resource is kept open until the end of the test run.
+   */
+  boolean keepAlive() default false;
+
+  /**
+   * Container annotation for repeated {@link SharedResource} declarations.
+   */
+  @Documented
+  @Inherited
+  @Retention(RetentionPolicy.RUNTIME)
+  @Target({ ElementType.ANNOTATION_TYPE, ElementType.TYPE })
+  @ExtendWith(SharedResourceExtension.class)
+  @interface SharedResources {
+
+    SharedResource[] value();
+
+  }
+}
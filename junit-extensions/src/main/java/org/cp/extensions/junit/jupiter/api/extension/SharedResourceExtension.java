@@ -0,0 +1,216 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.junit.jupiter.api.extension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.ReflectionSupport;
+
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.NotNull;
+
+/**
+ * JUnit Jupiter {@link Extension} used to share expensive resources declared with the {@link SharedResource}
+ * annotation across test classes, including test classes executed concurrently.
+ * <p>
+ * Shared resources are kept in a {@link SharedResourcePool} stored in the {@link ExtensionContext#getRoot() root}
+ * {@link ExtensionContext.Store}, acquired before all tests in a test class and released after all tests
+ * in the test class. Shared resources can be injected into test methods, lifecycle methods and constructors
+ * by {@link Class type}.
+ * <p>
+ * Failures to create or close a shared resource are handled by the configured
+ * {@link ExtensionExceptionHandlingProcessor}. Register this {@link Extension} programmatically
+ * with {@link org.junit.jupiter.api.extension.RegisterExtension} to customize exception handling.
+ *
+ * @author John Blum
+ * @see org.cp.extensions.junit.jupiter.api.extension.ExtensionExceptionHandlingProcessor
+ * @see org.cp.extensions.junit.jupiter.api.extension.SharedResource
+ * @see org.cp.extensions.junit.jupiter.api.extension.SharedResourceFactory
+ * @see org.cp.extensions.junit.jupiter.api.extension.SharedResourcePool
+ * @see org.junit.jupiter.api.extension.AfterAllCallback
+ * @see org.junit.jupiter.api.extension.BeforeAllCallback
+ * @see org.junit.jupiter.api.extension.ParameterResolver
+ * @since 0.1.0
+ */
+public class SharedResourceExtension implements BeforeAllCallback, AfterAllCallback, ParameterResolver {
+
+  private static final ExtensionContext.Namespace NAMESPACE =
+    ExtensionContext.Namespace.create(SharedResourceExtension.class);
+
+  /**
+   * Gets the {@link SharedResourcePool} stored in the {@link ExtensionContext#getRoot() root}
+   * {@link ExtensionContext.Store}, creating the {@link SharedResourcePool} if necessary.
+   *
+   * @param context {@link ExtensionContext} of the executing test; must not be {@literal null}.
+   * @return the {@link SharedResourcePool} shared by all test classes.
+   * @see org.cp.extensions.junit.jupiter.api.extension.SharedResourcePool
+   */
+  public static @NotNull SharedResourcePool getSharedResourcePool(@NotNull ExtensionContext context) {
+
+    return context.getRoot().getStore(NAMESPACE)
+      .getOrComputeIfAbsent(SharedResourcePool.class, key -> new SharedResourcePool(), SharedResourcePool.class);
+  }
+
+  private final ExtensionExceptionHandlingProcessor exceptionHandlingProcessor;
+
+  /**
+   * Constructs a new {@link SharedResourceExtension} rethrowing any failure to create or close a shared resource
+   * as an {@link UnhandledExtensionException}.
+   */
+  public SharedResourceExtension() {
+    this(ExtensionExceptionHandlingProcessor.of());
+  }
+
+  /**
+   * Constructs a new {@link SharedResourceExtension} initialized with the given, required
+   * {@link ExtensionExceptionHandlingProcessor} used to handle failures to create or close a shared resource.
+   *
+   * @param exceptionHandlingProcessor {@link ExtensionExceptionHandlingProcessor} used to handle failures
+   * to create or close a shared resource; must not be {@literal null}.
+   * @throws IllegalArgumentException if the {@link ExtensionExceptionHandlingProcessor} is {@literal null}.
+   * @see org.cp.extensions.junit.jupiter.api.extension.ExtensionExceptionHandlingProcessor
+   */
+  public SharedResourceExtension(@NotNull ExtensionExceptionHandlingProcessor exceptionHandlingProcessor) {
+
+    Assert.notNull(exceptionHandlingProcessor, "ExtensionExceptionHandlingProcessor is required");
+
+    this.exceptionHandlingProcessor = exceptionHandlingProcessor;
+  }
+
+  /**
+   * Gets the configured {@link ExtensionExceptionHandlingProcessor} used to handle failures to create
+   * or close a shared resource.
+   *
+   * @return the configured {@link ExtensionExceptionHandlingProcessor}.
+   * @see org.cp.extensions.junit.jupiter.api.extension.ExtensionExceptionHandlingProcessor
+   */
+  protected @NotNull ExtensionExceptionHandlingProcessor getExceptionHandlingProcessor() {
+    return this.exceptionHandlingProcessor;
+  }
+
+  /**
+   * Acquires the shared resources declared on the test class with the {@link SharedResource} annotation.
+   *
+   * @param context {@link ExtensionContext} of the test class.
+   * @throws Exception if a shared resource cannot be created and the failure is not handled.
+   * @see #afterAll(ExtensionContext)
+   */
+  @Override
+  public void beforeAll(@NotNull ExtensionContext context) throws Exception {
+
+    List<String> acquiredResourceNames = new ArrayList<>();
+
+    for (SharedResource sharedResource : findSharedResources(context)) {
+      getExceptionHandlingProcessor().process(context, it -> {
+
+        SharedResourceFactory<?> factory = ReflectionSupport.newInstance(sharedResource.factory());
+
+        getSharedResourcePool(it).acquire(sharedResource.name(), factory, sharedResource.keepAlive());
+        acquiredResourceNames.add(sharedResource.name());
+      });
+    }
+
+    if (!acquiredResourceNames.isEmpty()) {
+      context.getStore(NAMESPACE).put(context.getUniqueId(), acquiredResourceNames);
+    }
+  }
+
+  /**
+   * Releases the shared resources acquired for the test class, closing any shared resource
+   * no longer used by another test class.
+   *
+   * @param context {@link ExtensionContext} of the test class.
+   * @throws Exception if a shared resource cannot be closed and the failure is not handled.
+   * @see #beforeAll(ExtensionContext)
+   */
+  @Override
+  public void afterAll(@NotNull ExtensionContext context) throws Exception {
+
+    List<String> acquiredResourceNames = getAcquiredResourceNames(context);
+
+    for (String name : acquiredResourceNames) {
+      getExceptionHandlingProcessor().process(context, it -> getSharedResourcePool(it).release(name));
+    }
+  }
+
+  @Override
+  public boolean supportsParameter(@NotNull ParameterContext parameterContext,
+      @NotNull ExtensionContext extensionContext) {
+
+    return !findResources(parameterContext, extensionContext).isEmpty();
+  }
+
+  @Override
+  public Object resolveParameter(@NotNull ParameterContext parameterContext,
+      @NotNull ExtensionContext extensionContext) {
+
+    List<Object> resources = findResources(parameterContext, extensionContext);
+
+    if (resources.size() != 1) {
+      throw new ParameterResolutionException(String.format("Expected a single shared resource of type [%s]; found %d",
+        parameterContext.getParameter().getType().getName(), resources.size()));
+    }
+
+    return resources.get(0);
+  }
+
+  private List<SharedResource> findSharedResources(@NotNull ExtensionContext context) {
+    return AnnotationSupport.findRepeatableAnnotations(context.getTestClass(), SharedResource.class);
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<String> getAcquiredResourceNames(@NotNull ExtensionContext context) {
+
+    List<String> acquiredResourceNames =
+      context.getStore(NAMESPACE).get(context.getUniqueId(), List.class);
+
+    return acquiredResourceNames != null ? acquiredResourceNames : Collections.emptyList();
+  }
+
+  private List<Object> findResources(@NotNull ParameterContext parameterContext,
+      @NotNull ExtensionContext extensionContext) {
+
+    Class<?> parameterType = parameterContext.getParameter().getType();
+
+    SharedResourcePool sharedResourcePool = getSharedResourcePool(extensionContext);
+
+    List<String> acquiredResourceNames = new ArrayList<>();
+
+    for (ExtensionContext context = extensionContext; context != null; context = context.getParent().orElse(null)) {
+      acquiredResourceNames.addAll(getAcquiredResourceNames(context));
+    }
+
+    return acquiredResourceNames.stream()
+      .map(sharedResourcePool::get)
+      .filter(Optional::isPresent)
+      .map(Optional::get)
+      .filter(parameterType::isInstance)
+      .distinct()
+      .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.junit.jupiter.api.extension;
+
+import org.cp.elements.lang.annotation.NotNull;
+
+/**
+ * Interface defining a contract to create and close an expensive resource, such as an embedded message broker
+ * or an in-memory database, shared by many test classes using the {@link SharedResourceExtension}.
+ * <p>
+ * Implementations must declare a public, no-arg constructor.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the shared resource.
+ * @see java.lang.FunctionalInterface
+ * @see org.cp.extensions.junit.jupiter.api.extension.SharedResource
+ * @see org.cp.extensions.junit.jupiter.api.extension.SharedResourceExtension
+ * @since 0.1.0
+ */
+@FunctionalInterface
+public interface SharedResourceFactory<T> {
+
+  /**
+   * Creates the shared resource.
+   *
+   * @return the new shared resource.
+   * @throws Exception if the shared resource cannot be created.
+   */
+  @NotNull T create() throws Exception;
+
+  /**
+   * Closes the shared resource once it is no longer used by any test class.
+   * <p>
+   * By default, closes the shared resource if it is {@link AutoCloseable}.
+   *
+   * @param resource shared resource to close.
+   * @throws Exception if the shared resource cannot be closed.
+   * @see java.lang.AutoCloseable
+   */
+  default void close(@NotNull T resource) throws Exception {
+
+    if (resource instanceof AutoCloseable) {
+      ((AutoCloseable) resource).close();
+    }
+  }
+}
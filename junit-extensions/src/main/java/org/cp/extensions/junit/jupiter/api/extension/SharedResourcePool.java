@@ -0,0 +1,204 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.junit.jupiter.api.extension;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+
+/**
+ * Pool of reference counted, expensive resources shared across test classes, stored in
+ * the {@link ExtensionContext#getRoot() root} {@link ExtensionContext.Store}.
+ * <p>
+ * A shared resource is created when first {@link #acquire(String, SharedResourceFactory, boolean) acquired}
+ * and closed when {@link #release(String) released} by the last test class using the resource,
+ * or when the {@link ExtensionContext.Store} is closed at the end of the test run.
+ * <p>
+ * Different shared resources are created and closed concurrently; only acquisitions and releases
+ * of the same shared resource are serialized.
+ *
+ * @author John Blum
+ * @see org.cp.extensions.junit.jupiter.api.extension.SharedResourceExtension
+ * @see org.cp.extensions.junit.jupiter.api.extension.SharedResourceFactory
+ * @see org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource
+ * @since 0.1.0
+ */
+public class SharedResourcePool implements ExtensionContext.Store.CloseableResource {
+
+  private final Map<String, Entry<?>> entries = new ConcurrentHashMap<>();
+
+  /**
+   * Acquires the shared resource with the given {@link String name}, creating the shared resource
+   * with the given {@link SharedResourceFactory} if the resource is not currently open.
+   *
+   * @param <T> {@link Class type} of the shared resource.
+   * @param name {@link String} containing the {@literal name} of the shared resource; must not be {@literal null}.
+   * @param factory {@link SharedResourceFactory} used to create the shared resource; must not be {@literal null}.
+   * @param keepAlive boolean value indicating whether the shared resource is kept open after the last test class
+   * using the resource releases the resource.
+   * @return the shared resource.
+   * @throws IllegalArgumentException if the {@link String name} or {@link SharedResourceFactory} is {@literal null},
+   * or the shared resource was already declared with a different {@link Class type} of {@link SharedResourceFactory}.
+   * @throws Exception if the shared resource cannot be created.
+   * @see org.cp.extensions.junit.jupiter.api.extension.SharedResourceFactory
+   */
+  @SuppressWarnings("unchecked")
+  public @NotNull <T> T acquire(@NotNull String name, @NotNull SharedResourceFactory<T> factory, boolean keepAlive)
+      throws Exception {
+
+    Assert.hasText(name, "Name [%s] of the shared resource is required", name);
+    Assert.notNull(factory, "SharedResourceFactory is required");
+
+    Entry<T> entry = (Entry<T>) this.entries.computeIfAbsent(name, key -> new Entry<>(factory, keepAlive));
+
+    Assert.isTrue(entry.factory.getClass().equals(factory.getClass()),
+      "Shared resource [%s] is created by [%s]; but was declared with [%s]",
+      name, entry.factory.getClass().getName(), factory.getClass().getName());
+
+    synchronized (entry) {
+
+      if (entry.resource == null) {
+        entry.resource = factory.create();
+      }
+
+      entry.referenceCount++;
+
+      return entry.resource;
+    }
+  }
+
+  /**
+   * Releases the shared resource with the given {@link String name}, closing the shared resource
+   * if no other test class is using the resource.
+   *
+   * @param name {@link String} containing the {@literal name} of the shared resource.
+   * @throws Exception if the shared resource cannot be closed.
+   */
+  public void release(@Nullable String name) throws Exception {
+
+    Entry<?> entry = name != null ? this.entries.get(name) : null;
+
+    if (entry != null) {
+      synchronized (entry) {
+        if (entry.referenceCount > 0 && --entry.referenceCount == 0 && !entry.keepAlive) {
+          entry.close();
+        }
+      }
+    }
+  }
+
+  /**
+   * Gets the shared resource with the given {@link String name} if the shared resource is currently open.
+   *
+   * @param name {@link String} containing the {@literal name} of the shared resource.
+   * @return an {@link Optional} shared resource.
+   * @see java.util.Optional
+   */
+  public Optional<Object> get(@Nullable String name) {
+
+    return Optional.ofNullable(name)
+      .map(this.entries::get)
+      .map(entry -> {
+        synchronized (entry) {
+          return entry.resource;
+        }
+      });
+  }
+
+  /**
+   * Gets the number of test classes currently using the shared resource with the given {@link String name}.
+   *
+   * @param name {@link String} containing the {@literal name} of the shared resource.
+   * @return the number of test classes currently using the shared resource.
+   */
+  public int getReferenceCount(@Nullable String name) {
+
+    Entry<?> entry = name != null ? this.entries.get(name) : null;
+
+    if (entry != null) {
+      synchronized (entry) {
+        return entry.referenceCount;
+      }
+    }
+
+    return 0;
+  }
+
+  /**
+   * Closes all shared resources that are still open at the end of the test run.
+   *
+   * @throws Exception if a shared resource cannot be closed; additional failures are suppressed.
+   */
+  @Override
+  public void close() throws Exception {
+
+    Exception failure = null;
+
+    for (Entry<?> entry : this.entries.values()) {
+      synchronized (entry) {
+        try {
+          entry.referenceCount = 0;
+          entry.close();
+        }
+        catch (Exception cause) {
+          if (failure == null) {
+            failure = cause;
+          }
+          else {
+            failure.addSuppressed(cause);
+          }
+        }
+      }
+    }
+
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  private static class Entry<T> {
+
+    private final boolean keepAlive;
+
+    private int referenceCount;
+
+    private T resource;
+
+    private final SharedResourceFactory<T> factory;
+
+    private Entry(@NotNull SharedResourceFactory<T> factory, boolean keepAlive) {
+      this.factory = factory;
+      this.keepAlive = keepAlive;
+    }
+
+    private void close() throws Exception {
+
+      T resource = this.resource;
+
+      this.resource = null;
+
+      if (resource != null) {
+        this.factory.close(resource);
+      }
+    }
+  }
+}
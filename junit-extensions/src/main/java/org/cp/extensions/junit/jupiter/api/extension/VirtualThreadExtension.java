@@ -0,0 +1,276 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.junit.jupiter.api.extension;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+
+/**
+ * JUnit Jupiter {@link InvocationInterceptor} {@link Extension} running test methods annotated with
+ * {@link RunOnVirtualThread} on a virtual {@link Thread}.
+ * <p>
+ * Virtual {@link Thread Threads} are created reflectively, keeping this {@link Extension} compatible with
+ * the Java 8 baseline. On a JVM that does not support virtual {@link Thread Threads}, the test method
+ * runs on a new, daemon platform {@link Thread} instead.
+ * <p>
+ * The JUnit Jupiter worker {@link Thread} waits for the test to finish as
+ * a {@link ForkJoinPool.ManagedBlocker}, allowing the {@link ForkJoinPool} used for parallel test execution
+ * to compensate for the blocked worker {@link Thread}. Any {@link Semaphore permits} required by the test
+ * to use a {@link RunOnVirtualThread#resource() resource} are acquired on the virtual {@link Thread}.
+ * <p>
+ * An invalid {@link RunOnVirtualThread} configuration results in an {@link UnhandledExtensionException}.
+ *
+ * @author John Blum
+ * @see java.lang.Thread
+ * @see java.util.concurrent.ForkJoinPool.ManagedBlocker
+ * @see java.util.concurrent.Semaphore
+ * @see org.cp.extensions.junit.jupiter.api.extension.RunOnVirtualThread
+ * @see org.junit.jupiter.api.extension.InvocationInterceptor
+ * @since 0.1.0
+ */
+public class VirtualThreadExtension implements InvocationInterceptor {
+
+  private static final ExtensionContext.Namespace NAMESPACE =
+    ExtensionContext.Namespace.create(VirtualThreadExtension.class);
+
+  private static final String THREAD_NAME_PREFIX = "junit-test-";
+
+  private static final AtomicLong THREAD_ID = new AtomicLong();
+
+  private static final ThreadFactory VIRTUAL_THREAD_FACTORY = resolveVirtualThreadFactory();
+
+  private static @Nullable ThreadFactory resolveVirtualThreadFactory() {
+
+    try {
+
+      Class<?> threadBuilderType = Class.forName("java.lang.Thread$Builder");
+
+      Object threadBuilder = Thread.class.getMethod("ofVirtual").invoke(null);
+
+      threadBuilder = threadBuilderType.getMethod("name", String.class, long.class)
+        .invoke(threadBuilder, THREAD_NAME_PREFIX + "virtual-", 0L);
+
+      return (ThreadFactory) threadBuilderType.getMethod("factory").invoke(threadBuilder);
+    }
+    catch (Throwable ignore) {
+      // Virtual Threads are not supported (Java 19 or earlier) or not enabled (Java 19 & 20 preview)
+      return null;
+    }
+  }
+
+  /**
+   * Determines whether the JVM supports virtual {@link Thread Threads}.
+   *
+   * @return a boolean value indicating whether the JVM supports virtual {@link Thread Threads}.
+   */
+  public static boolean isVirtualThreadSupported() {
+    return VIRTUAL_THREAD_FACTORY != null;
+  }
+
+  @Override
+  public void interceptTestMethod(@NotNull Invocation<Void> invocation,
+      @NotNull ReflectiveInvocationContext<Method> invocationContext,
+      @NotNull ExtensionContext extensionContext) throws Throwable {
+
+    runOnVirtualThread(invocation, extensionContext);
+  }
+
+  @Override
+  public void interceptTestTemplateMethod(@NotNull Invocation<Void> invocation,
+      @NotNull ReflectiveInvocationContext<Method> invocationContext,
+      @NotNull ExtensionContext extensionContext) throws Throwable {
+
+    runOnVirtualThread(invocation, extensionContext);
+  }
+
+  /**
+   * Runs the given {@link Invocation} on a virtual {@link Thread}, blocking the calling {@link Thread}
+   * as a {@link ForkJoinPool.ManagedBlocker} until the {@link Invocation} completes.
+   *
+   * @param invocation {@link Invocation} of the test method.
+   * @param extensionContext {@link ExtensionContext} of the test method.
+   * @throws Throwable if the test method fails.
+   * @see java.util.concurrent.ForkJoinPool#managedBlock(ForkJoinPool.ManagedBlocker)
+   */
+  protected void runOnVirtualThread(@NotNull Invocation<Void> invocation, @NotNull ExtensionContext extensionContext)
+      throws Throwable {
+
+    Semaphore permits = findRunOnVirtualThread(extensionContext)
+      .map(runOnVirtualThread -> resolvePermits(extensionContext, runOnVirtualThread))
+      .orElse(null);
+
+    TestTask testTask = new TestTask(invocation, permits);
+
+    Thread thread = newThread(testTask);
+
+    thread.start();
+
+    try {
+      ForkJoinPool.managedBlock(testTask);
+    }
+    catch (InterruptedException cause) {
+      thread.interrupt();
+      throw cause;
+    }
+
+    testTask.rethrowFailure();
+  }
+
+  private Optional<RunOnVirtualThread> findRunOnVirtualThread(@NotNull ExtensionContext extensionContext) {
+
+    Optional<RunOnVirtualThread> runOnVirtualThread =
+      AnnotationSupport.findAnnotation(extensionContext.getElement(), RunOnVirtualThread.class);
+
+    return runOnVirtualThread.isPresent() ? runOnVirtualThread
+      : AnnotationSupport.findAnnotation(extensionContext.getTestClass(), RunOnVirtualThread.class);
+  }
+
+  private @Nullable Semaphore resolvePermits(@NotNull ExtensionContext extensionContext,
+      @NotNull RunOnVirtualThread runOnVirtualThread) {
+
+    String resource = runOnVirtualThread.resource().trim();
+    int permits = runOnVirtualThread.permits();
+
+    if (resource.isEmpty()) {
+      return null;
+    }
+
+    if (permits < 1) {
+      throw new UnhandledExtensionException(String.format("Permits [%d] for resource [%s] must be greater than 0",
+        permits, resource));
+    }
+
+    ResourcePermits resourcePermits = extensionContext.getRoot().getStore(NAMESPACE)
+      .getOrComputeIfAbsent(ResourcePermits.key(resource), key -> new ResourcePermits(permits),
+        ResourcePermits.class);
+
+    if (resourcePermits.permits != permits) {
+      throw new UnhandledExtensionException(String.format(
+        "Resource [%s] is limited to [%d] permits; but was declared with [%d] permits in [%s]",
+        resource, resourcePermits.permits, permits, toDeclaringElement(extensionContext)));
+    }
+
+    return resourcePermits.semaphore;
+  }
+
+  private AnnotatedElement toDeclaringElement(@NotNull ExtensionContext extensionContext) {
+    return extensionContext.getElement().orElseGet(extensionContext::getRequiredTestClass);
+  }
+
+  private Thread newThread(@NotNull Runnable runnable) {
+
+    if (isVirtualThreadSupported()) {
+      return VIRTUAL_THREAD_FACTORY.newThread(runnable);
+    }
+
+    Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + THREAD_ID.incrementAndGet());
+
+    thread.setDaemon(true);
+
+    return thread;
+  }
+
+  static class ResourcePermits {
+
+    static String key(String resource) {
+      return ResourcePermits.class.getName().concat(".").concat(resource);
+    }
+
+    private final int permits;
+
+    private final Semaphore semaphore;
+
+    ResourcePermits(int permits) {
+      this.permits = permits;
+      this.semaphore = new Semaphore(permits, true);
+    }
+  }
+
+  static class TestTask implements ForkJoinPool.ManagedBlocker, Runnable {
+
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    private final Invocation<Void> invocation;
+
+    private final Semaphore permits;
+
+    private volatile Throwable failure;
+
+    TestTask(@NotNull Invocation<Void> invocation, @Nullable Semaphore permits) {
+      this.invocation = invocation;
+      this.permits = permits;
+    }
+
+    @Override
+    public void run() {
+
+      try {
+        if (this.permits != null) {
+          this.permits.acquire();
+        }
+        try {
+          this.invocation.proceed();
+        }
+        finally {
+          if (this.permits != null) {
+            this.permits.release();
+          }
+        }
+      }
+      catch (Throwable cause) {
+        this.failure = cause;
+      }
+      finally {
+        this.latch.countDown();
+      }
+    }
+
+    @Override
+    public boolean block() throws InterruptedException {
+      this.latch.await();
+      return true;
+    }
+
+    @Override
+    public boolean isReleasable() {
+      return this.latch.getCount() == 0;
+    }
+
+    void rethrowFailure() throws Throwable {
+
+      Throwable failure = this.failure;
+
+      if (failure != null) {
+        throw failure;
+      }
+    }
+  }
+}
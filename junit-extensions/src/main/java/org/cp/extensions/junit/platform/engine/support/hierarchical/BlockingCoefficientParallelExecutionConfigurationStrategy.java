@@ -0,0 +1,178 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.junit.platform.engine.support.hierarchical;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfigurationStrategy;
+
+import org.cp.elements.lang.annotation.NotNull;
+
+/**
+ * JUnit Platform {@link ParallelExecutionConfigurationStrategy} sizing the {@link ForkJoinPool} used to execute
+ * tests in parallel by the ratio of time tests spend blocked (for example, waiting on I/O) to the time tests
+ * spend computing, rather than by the number of available processors alone.
+ * <p>
+ * The {@literal parallelism} is computed as {@literal processors * (1 + blocking coefficient)}, and can be
+ * configured with the following JUnit Platform configuration parameters:
+ * <ul>
+ *   <li>{@value #BLOCKING_COEFFICIENT_CONFIGURATION_PARAMETER} - ratio of blocked time to compute time
+ *   ({@literal 0} for CPU-bound tests); defaults to {@value #DEFAULT_BLOCKING_COEFFICIENT}.</li>
+ *   <li>{@value #MAX_POOL_SIZE_CONFIGURATION_PARAMETER} - maximum number of {@link Thread Threads}, including
+ *   {@link Thread Threads} compensating for blocked workers; defaults to {@value #DEFAULT_MAX_POOL_SIZE}
+ *   plus the {@literal parallelism}.</li>
+ *   <li>{@value #SATURATE_CONFIGURATION_PARAMETER} - whether the {@link ForkJoinPool} is allowed to saturate
+ *   when a worker blocks and the max pool size is reached; defaults to {@value #DEFAULT_SATURATE}.</li>
+ * </ul>
+ * <p>
+ * Enable this strategy with:
+ *
+ * <pre>
+ * <code>
+ * junit.jupiter.execution.parallel.config.strategy=custom
+ * junit.jupiter.execution.parallel.config.custom.class=\
+ *   org.cp.extensions.junit.platform.engine.support.hierarchical.BlockingCoefficientParallelExecutionConfigurationStrategy
+ * </code>
+ * </pre>
+ *
+ * Combine this strategy with {@link org.cp.extensions.junit.jupiter.api.extension.RunOnVirtualThread} to run
+ * blocking tests on virtual {@link Thread Threads}.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.ForkJoinPool
+ * @see org.junit.platform.engine.support.hierarchical.ParallelExecutionConfigurationStrategy
+ * @see org.cp.extensions.junit.jupiter.api.extension.RunOnVirtualThread
+ * @since 0.1.0
+ */
+public class BlockingCoefficientParallelExecutionConfigurationStrategy
+    implements ParallelExecutionConfigurationStrategy {
+
+  public static final String BLOCKING_COEFFICIENT_CONFIGURATION_PARAMETER =
+    "codeprimate.extensions.junit.parallel.blocking-coefficient";
+
+  public static final String MAX_POOL_SIZE_CONFIGURATION_PARAMETER =
+    "codeprimate.extensions.junit.parallel.max-pool-size";
+
+  public static final String SATURATE_CONFIGURATION_PARAMETER =
+    "codeprimate.extensions.junit.parallel.saturate";
+
+  protected static final boolean DEFAULT_SATURATE = true;
+
+  protected static final double DEFAULT_BLOCKING_COEFFICIENT = 4.0d;
+
+  protected static final int DEFAULT_MAX_POOL_SIZE = 256;
+
+  protected static final int KEEP_ALIVE_SECONDS = 30;
+
+  @Override
+  public @NotNull ParallelExecutionConfiguration createConfiguration(
+      @NotNull ConfigurationParameters configurationParameters) {
+
+    double blockingCoefficient = configurationParameters.get(BLOCKING_COEFFICIENT_CONFIGURATION_PARAMETER)
+      .map(Double::parseDouble)
+      .orElse(DEFAULT_BLOCKING_COEFFICIENT);
+
+    if (blockingCoefficient < 0.0d) {
+      throw new IllegalArgumentException(String.format("Blocking coefficient [%s] must be greater than or equal to 0",
+        blockingCoefficient));
+    }
+
+    int parallelism = Math.max(1, (int) Math.round(getAvailableProcessors() * (1.0d + blockingCoefficient)));
+
+    int maxPoolSize = configurationParameters.get(MAX_POOL_SIZE_CONFIGURATION_PARAMETER)
+      .map(Integer::parseInt)
+      .orElse(DEFAULT_MAX_POOL_SIZE + parallelism);
+
+    if (maxPoolSize < parallelism) {
+      throw new IllegalArgumentException(String.format("Max pool size [%d] must be greater than or equal to"
+        + " parallelism [%d]", maxPoolSize, parallelism));
+    }
+
+    boolean saturate = configurationParameters.get(SATURATE_CONFIGURATION_PARAMETER)
+      .map(Boolean::parseBoolean)
+      .orElse(DEFAULT_SATURATE);
+
+    return new BlockingCoefficientParallelExecutionConfiguration(parallelism, maxPoolSize, saturate);
+  }
+
+  /**
+   * Gets the number of processors available to the JVM.
+   *
+   * @return the number of processors available to the JVM.
+   * @see java.lang.Runtime#availableProcessors()
+   */
+  protected int getAvailableProcessors() {
+    return Runtime.getRuntime().availableProcessors();
+  }
+
+  static class BlockingCoefficientParallelExecutionConfiguration implements ParallelExecutionConfiguration {
+
+    private final boolean saturate;
+
+    private final int maxPoolSize;
+    private final int parallelism;
+
+    BlockingCoefficientParallelExecutionConfiguration(int parallelism, int maxPoolSize, boolean saturate) {
+      this.parallelism = parallelism;
+      this.maxPoolSize = maxPoolSize;
+      this.saturate = saturate;
+    }
+
+    @Override
+    public int getParallelism() {
+      return this.parallelism;
+    }
+
+    @Override
+    public int getMinimumRunnable() {
+      return this.parallelism;
+    }
+
+    @Override
+    public int getMaxPoolSize() {
+      return this.maxPoolSize;
+    }
+
+    @Override
+    public int getCorePoolSize() {
+      return this.parallelism;
+    }
+
+    @Override
+    public int getKeepAliveSeconds() {
+      return KEEP_ALIVE_SECONDS;
+    }
+
+    /**
+     * The {@link ForkJoinPool} consults this {@link Predicate} when a worker blocks, for example, while waiting on
+     * a test running on a virtual {@link Thread}, and no compensating {@link Thread} can be started because
+     * the max pool size is reached.
+     * <p>
+     * By default, the {@link ForkJoinPool} is always allowed to saturate, so the worker simply blocks and
+     * parallelism drops temporarily, rather than rejecting the blocking call with
+     * a {@link java.util.concurrent.RejectedExecutionException}, which would fail the test for reasons
+     * unrelated to the test itself. Disable saturation to detect a max pool size set too low.
+     */
+    @Override
+    public Predicate<? super ForkJoinPool> getSaturatePredicate() {
+      boolean saturate = this.saturate;
+      return pool -> saturate;
+    }
+  }
+}
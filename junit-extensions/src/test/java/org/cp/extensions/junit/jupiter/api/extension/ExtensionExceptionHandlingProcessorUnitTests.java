@@ -320,4 +320,65 @@ public class ExtensionExceptionHandlingProcessorUnitTests {
       .withMessage("TestInstancePostProcessor is required")
       .withNoCause();
   }
+
+  @Test
+  public void processesExtensionOperation() throws Exception {
+
+    ExtensionContext mockExtensionContext = mock(ExtensionContext.class);
+
+    ExtensionExceptionHandlingProcessor.ExtensionOperation mockOperation =
+      mock(ExtensionExceptionHandlingProcessor.ExtensionOperation.class);
+
+    ExtensionExceptionHandlingProcessor.of().process(mockExtensionContext, mockOperation);
+
+    verify(mockOperation, times(1)).run(eq(mockExtensionContext));
+    verifyNoMoreInteractions(mockOperation);
+    verifyNoInteractions(mockExtensionContext);
+  }
+
+  @Test
+  public void processingExtensionOperationHandlesException() throws Exception {
+
+    ExtensionContext mockExtensionContext = mock(ExtensionContext.class);
+
+    ExtensionExceptionHandler mockExceptionHandler = mock(ExtensionExceptionHandler.class);
+
+    RuntimeException cause = new IllegalStateException("TEST");
+
+    doCallRealMethod().when(mockExceptionHandler).compose(any(ExtensionExceptionHandler.class));
+
+    ExtensionExceptionHandlingProcessor.of(mockExceptionHandler).process(mockExtensionContext, context -> {
+      throw cause;
+    });
+
+    verify(mockExceptionHandler, times(1)).handle(eq(mockExtensionContext), eq(cause));
+    verifyNoInteractions(mockExtensionContext);
+  }
+
+  @Test
+  public void processingExtensionOperationWithNoExceptionHandlersThrowsException() {
+
+    ExtensionContext mockExtensionContext = mock(ExtensionContext.class);
+
+    ThrowableAssertions.assertThatThrowableOfType(UnhandledExtensionException.class)
+      .isThrownBy(ThrowableOperation.fromVoidReturning(args ->
+        ExtensionExceptionHandlingProcessor.of().process(mockExtensionContext, context -> {
+          throw new IllegalStateException("TEST");
+        })))
+      .causedBy(IllegalStateException.class)
+      .havingMessage("TEST")
+      .withNoCause();
+
+    verifyNoInteractions(mockExtensionContext);
+  }
+
+  @Test
+  public void processNullExtensionOperation() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> ExtensionExceptionHandlingProcessor.of()
+        .process(mock(ExtensionContext.class), (ExtensionExceptionHandlingProcessor.ExtensionOperation) null))
+      .withMessage("ExtensionOperation is required")
+      .withNoCause();
+  }
 }
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.junit.jupiter.api.extension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
+import org.junit.jupiter.api.io.TempDir;
+import org.opentest4j.AssertionFailedError;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.results.RunResult;
+
+/**
+ * Unit Tests for {@link JmhBenchmarkExtension}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.mockito.Mockito
+ * @see org.cp.extensions.junit.jupiter.api.extension.JmhBenchmarkExtension
+ * @see org.cp.extensions.junit.jupiter.api.extension.JmhBenchmarkTest
+ * @since 0.1.0
+ */
+public class JmhBenchmarkExtensionUnitTests {
+
+  private static final String BENCHMARK_NAME =
+    "org.cp.extensions.junit.jupiter.api.extension.JmhBenchmarkExtensionUnitTests.TestBenchmarks.sum";
+
+  private final JmhBenchmarkExtension extension = new JmhBenchmarkExtension();
+
+  private ExtensionContext mockExtensionContext(Method testMethod) {
+
+    ExtensionContext mockExtensionContext = mock(ExtensionContext.class);
+
+    doReturn(Optional.of(testMethod)).when(mockExtensionContext).getTestMethod();
+    doReturn(testMethod.getDeclaringClass()).when(mockExtensionContext).getRequiredTestClass();
+    doReturn(testMethod.getName()).when(mockExtensionContext).getDisplayName();
+
+    return mockExtensionContext;
+  }
+
+  @Test
+  public void toBenchmarkNameIsCorrect() throws Exception {
+
+    assertThat(JmhBenchmarkExtension.toBenchmarkName(TestBenchmarks.class.getMethod("sum")))
+      .isEqualTo(BENCHMARK_NAME);
+  }
+
+  @Test
+  public void supportsJmhBenchmarkTestAnnotatedTestMethod() throws Exception {
+
+    assertThat(this.extension.supportsTestTemplate(
+      mockExtensionContext(TestBenchmarks.class.getDeclaredMethod("benchmarks", RunResult.class)))).isTrue();
+
+    assertThat(this.extension.supportsTestTemplate(
+      mockExtensionContext(JmhBenchmarkExtensionUnitTests.class.getMethod("toBenchmarkNameIsCorrect")))).isFalse();
+  }
+
+  @Test
+  public void providesInvocationContextForEachBenchmarkMethod() throws Exception {
+
+    ExtensionContext mockExtensionContext =
+      mockExtensionContext(TestBenchmarks.class.getDeclaredMethod("benchmarks", RunResult.class));
+
+    List<TestTemplateInvocationContext> invocationContexts =
+      this.extension.provideTestTemplateInvocationContexts(mockExtensionContext).collect(Collectors.toList());
+
+    assertThat(invocationContexts).hasSize(2);
+    assertThat(invocationContexts.stream().map(context -> context.getDisplayName(1)))
+      .containsExactlyInAnyOrder(BENCHMARK_NAME, BENCHMARK_NAME.replace("sum", "noop"));
+    assertThat(invocationContexts.get(0).getAdditionalExtensions()).hasSize(1);
+  }
+
+  @Test
+  public void noBenchmarkMethodsThrowsUnhandledExtensionException() throws Exception {
+
+    ExtensionContext mockExtensionContext =
+      mockExtensionContext(NoBenchmarks.class.getDeclaredMethod("benchmarks"));
+
+    assertThatExceptionOfType(UnhandledExtensionException.class)
+      .isThrownBy(() -> this.extension.provideTestTemplateInvocationContexts(mockExtensionContext))
+      .withMessage("No @Benchmark methods were found in [%s]", NoBenchmarks.class)
+      .withNoCause();
+  }
+
+  @Test
+  public void recordsAndLoadsBaseline(@TempDir Path directory) {
+
+    String location = directory.resolve("baseline.properties").toString();
+
+    JmhBenchmarkExtension.Baseline.record(location, BENCHMARK_NAME, 1000.0d);
+
+    JmhBenchmarkExtension.Baseline baseline = JmhBenchmarkExtension.Baseline.load(location);
+
+    assertThat(baseline.getScore(BENCHMARK_NAME)).hasValue(1000.0d);
+    assertThat(baseline.getScore("example.Benchmarks.missing")).isNotPresent();
+  }
+
+  @Test
+  public void loadsMissingBaselineAsEmpty(@TempDir Path directory) {
+
+    JmhBenchmarkExtension.Baseline baseline =
+      JmhBenchmarkExtension.Baseline.load(directory.resolve("missing.properties").toString());
+
+    assertThat(baseline.getScore(BENCHMARK_NAME)).isNotPresent();
+  }
+
+  @Test
+  public void throughputBelowBaselineFails() throws Exception {
+
+    Properties scores = new Properties();
+
+    scores.setProperty(BENCHMARK_NAME, "1.0E12");
+
+    JmhBenchmarkTest benchmarkTest = TestBenchmarks.class.getDeclaredMethod("benchmarks", RunResult.class)
+      .getAnnotation(JmhBenchmarkTest.class);
+
+    RunResult result = new JmhBenchmarkExtension.BenchmarkRunner(benchmarkTest, BENCHMARK_NAME).run();
+
+    JmhBenchmarkExtension.Baseline baseline = new JmhBenchmarkExtension.Baseline(scores);
+
+    assertThatExceptionOfType(AssertionFailedError.class)
+      .isThrownBy(() -> baseline.evaluate(BENCHMARK_NAME, result, 0.9d))
+      .withMessageStartingWith("Throughput of benchmark [%s] was [", BENCHMARK_NAME)
+      .withMessageContaining("(90% of baseline [1000000000000.000])");
+
+    baseline.evaluate(BENCHMARK_NAME, result, 0.0d);
+    baseline.evaluate(BENCHMARK_NAME.replace("sum", "noop"), result, 0.9d);
+  }
+
+  @SuppressWarnings("unused")
+  @State(Scope.Thread)
+  public static class TestBenchmarks {
+
+    private int value = 1;
+
+    @Benchmark
+    public int sum() {
+      return this.value + this.value;
+    }
+
+    @Benchmark
+    public void noop() { }
+
+    @JmhBenchmarkTest(warmupIterations = 0, measurementIterations = 1, measurementTime = 50L)
+    void benchmarks(RunResult result) {
+      assertThat(result.getPrimaryResult().getScore()).isPositive();
+    }
+  }
+
+  @SuppressWarnings("unused")
+  static class NoBenchmarks {
+
+    @JmhBenchmarkTest
+    void benchmarks() { }
+
+  }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.junit.jupiter.api.extension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor.Invocation;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * Unit Tests for {@link PerformanceBudgetExtension}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.mockito.Mockito
+ * @see org.cp.extensions.junit.jupiter.api.extension.PerformanceBudget
+ * @see org.cp.extensions.junit.jupiter.api.extension.PerformanceBudgetExtension
+ * @since 0.1.0
+ */
+public class PerformanceBudgetExtensionUnitTests {
+
+  private final PerformanceBudgetExtension extension = new PerformanceBudgetExtension();
+
+  @SuppressWarnings("unchecked")
+  private ReflectiveInvocationContext<Method> mockInvocationContext(Object target, Method method) {
+
+    ReflectiveInvocationContext<Method> mockInvocationContext = mock(ReflectiveInvocationContext.class);
+
+    doReturn(method).when(mockInvocationContext).getExecutable();
+    doReturn(Optional.of(target)).when(mockInvocationContext).getTarget();
+    doReturn(Collections.emptyList()).when(mockInvocationContext).getArguments();
+
+    return mockInvocationContext;
+  }
+
+  private ExtensionContext mockExtensionContext(Method method) {
+
+    ExtensionContext mockExtensionContext = mock(ExtensionContext.class);
+
+    doReturn(Optional.of(method)).when(mockExtensionContext).getElement();
+    doReturn(Optional.of(method.getDeclaringClass())).when(mockExtensionContext).getTestClass();
+    doReturn(method.getName()).when(mockExtensionContext).getDisplayName();
+
+    return mockExtensionContext;
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void measuresTestMethodWithinBudget() throws Throwable {
+
+    TestCase testCase = new TestCase();
+
+    Method method = TestCase.class.getDeclaredMethod("withinBudget");
+
+    Invocation<Void> mockInvocation = mock(Invocation.class);
+    ExtensionContext mockExtensionContext = mockExtensionContext(method);
+
+    this.extension.interceptTestMethod(mockInvocation, mockInvocationContext(testCase, method), mockExtensionContext);
+
+    assertThat(testCase.count.get()).isEqualTo(12);
+
+    verify(mockInvocation, times(1)).skip();
+    verify(mockInvocation, never()).proceed();
+    verify(mockExtensionContext, times(1))
+      .publishReportEntry(eq(PerformanceBudgetExtension.REPORT_ENTRY_KEY), anyString());
+    verifyNoMoreInteractions(mockInvocation);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testMethodExceedingTimeBudgetFails() throws Exception {
+
+    Method method = TestCase.class.getDeclaredMethod("exceedsTimeBudget");
+
+    Invocation<Void> mockInvocation = mock(Invocation.class);
+
+    assertThatExceptionOfType(AssertionFailedError.class)
+      .isThrownBy(() -> this.extension.interceptTestMethod(mockInvocation,
+        mockInvocationContext(new TestCase(), method), mockExtensionContext(method)))
+      .withMessageStartingWith("Performance budget for test method [exceedsTimeBudget] was exceeded:")
+      .withMessageContaining("p99 time [")
+      .withMessageContaining("exceeded budget [1 MILLISECONDS]")
+      .withNoCause();
+
+    verify(mockInvocation, never()).skip();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testMethodExceedingAllocationBudgetFails() throws Exception {
+
+    Method method = TestCase.class.getDeclaredMethod("exceedsAllocationBudget");
+
+    Invocation<Void> mockInvocation = mock(Invocation.class);
+
+    assertThatExceptionOfType(AssertionFailedError.class)
+      .isThrownBy(() -> this.extension.interceptTestMethod(mockInvocation,
+        mockInvocationContext(new TestCase(), method), mockExtensionContext(method)))
+      .withMessageContaining("max allocated bytes [")
+      .withMessageContaining("exceeded budget [1024]")
+      .withNoCause();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void invalidPerformanceBudgetThrowsUnhandledExtensionException() throws Exception {
+
+    Method method = TestCase.class.getDeclaredMethod("invalidBudget");
+
+    Invocation<Void> mockInvocation = mock(Invocation.class);
+
+    assertThatExceptionOfType(UnhandledExtensionException.class)
+      .isThrownBy(() -> this.extension.interceptTestMethod(mockInvocation,
+        mockInvocationContext(new TestCase(), method), mockExtensionContext(method)))
+      .withMessage("Iterations [0] must be greater than 0")
+      .withNoCause();
+
+    verifyNoMoreInteractions(mockInvocation);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testMethodWithoutPerformanceBudgetProceeds() throws Throwable {
+
+    Method method = UnbudgetedTestCase.class.getDeclaredMethod("unbudgeted");
+
+    Invocation<Void> mockInvocation = mock(Invocation.class);
+
+    this.extension.interceptTestMethod(mockInvocation, mockInvocationContext(new UnbudgetedTestCase(), method),
+      mockExtensionContext(method));
+
+    verify(mockInvocation, times(1)).proceed();
+    verifyNoMoreInteractions(mockInvocation);
+  }
+
+  @Test
+  public void measurementsComputePercentiles() {
+
+    long[] times = new long[100];
+
+    for (int index = 0; index < times.length; index++) {
+      times[index] = (100 - index) * 1_000_000L;
+    }
+
+    PerformanceBudgetExtension.Measurements measurements = new PerformanceBudgetExtension.Measurements(times, null);
+
+    assertThat(measurements.minTime()).isEqualTo(1_000_000L);
+    assertThat(measurements.medianTime()).isEqualTo(50_000_000L);
+    assertThat(measurements.p99Time()).isEqualTo(99_000_000L);
+    assertThat(measurements.maxTime()).isEqualTo(100_000_000L);
+    assertThat(measurements.maxAllocatedBytes()).isZero();
+  }
+
+  @SuppressWarnings("unused")
+  static class TestCase {
+
+    private final AtomicInteger count = new AtomicInteger(0);
+
+    private volatile Object sink;
+
+    @PerformanceBudget(warmupIterations = 2, iterations = 10, maxTime = 10, timeUnit = TimeUnit.SECONDS)
+    void withinBudget() {
+      this.count.incrementAndGet();
+    }
+
+    @PerformanceBudget(warmupIterations = 0, iterations = 3, maxP99Time = 1)
+    void exceedsTimeBudget() throws InterruptedException {
+      Thread.sleep(5L);
+    }
+
+    @PerformanceBudget(warmupIterations = 1, iterations = 3, maxAllocatedBytes = 1024)
+    void exceedsAllocationBudget() {
+      this.sink = new byte[64 * 1024];
+    }
+
+    @PerformanceBudget(iterations = 0)
+    void invalidBudget() { }
+
+  }
+
+  @SuppressWarnings("unused")
+  static class UnbudgetedTestCase {
+
+    void unbudgeted() { }
+
+  }
+}
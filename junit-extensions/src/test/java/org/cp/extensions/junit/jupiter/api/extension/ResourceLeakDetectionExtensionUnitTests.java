@@ -0,0 +1,227 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.junit.jupiter.api.extension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Unit Tests for {@link ResourceLeakDetectionExtension}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.mockito.Mockito
+ * @see org.cp.extensions.junit.jupiter.api.extension.DetectResourceLeaks
+ * @see org.cp.extensions.junit.jupiter.api.extension.ResourceLeakDetectionExtension
+ * @since 0.1.0
+ */
+public class ResourceLeakDetectionExtensionUnitTests {
+
+  private final ResourceLeakDetectionExtension extension = new ResourceLeakDetectionExtension();
+
+  private ExtensionContext mockExtensionContext(Class<?> testClass) {
+
+    ExtensionContext mockExtensionContext = mock(ExtensionContext.class);
+
+    ExtensionContext.Store store = new SharedResourceExtensionUnitTests.TestStore();
+
+    doReturn("[class:" + testClass.getSimpleName() + "]").when(mockExtensionContext).getUniqueId();
+    doReturn(Optional.of(testClass)).when(mockExtensionContext).getTestClass();
+    doReturn(testClass).when(mockExtensionContext).getRequiredTestClass();
+    doReturn(store).when(mockExtensionContext).getStore(any());
+
+    return mockExtensionContext;
+  }
+
+  private Thread startThread(String name, CountDownLatch latch) {
+
+    Thread thread = new Thread(() -> {
+      try {
+        latch.await();
+      }
+      catch (InterruptedException ignore) {
+        Thread.currentThread().interrupt();
+      }
+    }, name);
+
+    thread.setDaemon(true);
+    thread.start();
+
+    return thread;
+  }
+
+  @Test
+  public void constructWithNullExtensionExceptionHandlingProcessor() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> new ResourceLeakDetectionExtension(null))
+      .withMessage("ExtensionExceptionHandlingProcessor is required")
+      .withNoCause();
+  }
+
+  @Test
+  public void noResourceLeaksDetected() throws Exception {
+
+    ExtensionContext context = mockExtensionContext(FailingTestClass.class);
+
+    this.extension.beforeAll(context);
+    this.extension.afterAll(context);
+
+    verify(context, never()).publishReportEntry(any(), any());
+  }
+
+  @Test
+  public void leakedThreadFailsTestClass() throws Exception {
+
+    ExtensionContext context = mockExtensionContext(FailingTestClass.class);
+
+    CountDownLatch latch = new CountDownLatch(1);
+
+    try {
+
+      this.extension.beforeAll(context);
+
+      startThread("leaky-thread", latch);
+
+      assertThatExceptionOfType(ResourceLeakException.class)
+        .isThrownBy(() -> this.extension.afterAll(context))
+        .withMessage("Test class [%s] leaked resources: threads [+1] [leaky-thread]",
+          FailingTestClass.class.getName())
+        .satisfies(it -> assertThat(it.getTestClass()).isEqualTo(FailingTestClass.class));
+    }
+    finally {
+      latch.countDown();
+    }
+  }
+
+  @Test
+  public void threadTerminatingWithinTimeoutIsNotLeaked() throws Exception {
+
+    ExtensionContext context = mockExtensionContext(FailingTestClass.class);
+
+    CountDownLatch latch = new CountDownLatch(1);
+
+    this.extension.beforeAll(context);
+
+    Thread thread = startThread("terminating-thread", latch);
+
+    latch.countDown();
+
+    this.extension.afterAll(context);
+
+    assertThat(thread.isAlive()).isFalse();
+  }
+
+  @Test
+  public void ignoredThreadIsNotLeaked() throws Exception {
+
+    ExtensionContext context = mockExtensionContext(IgnoringTestClass.class);
+
+    CountDownLatch latch = new CountDownLatch(1);
+
+    try {
+      this.extension.beforeAll(context);
+      startThread("ignored-thread", latch);
+      this.extension.afterAll(context);
+    }
+    finally {
+      latch.countDown();
+    }
+  }
+
+  @Test
+  public void leakedDirectMemoryWarns() throws Exception {
+
+    ExtensionContext context = mockExtensionContext(WarningTestClass.class);
+
+    this.extension.beforeAll(context);
+
+    ByteBuffer buffer = ByteBuffer.allocateDirect(1024 * 1024);
+
+    this.extension.afterAll(context);
+
+    assertThat(buffer.capacity()).isEqualTo(1024 * 1024);
+
+    verify(context, times(1)).publishReportEntry(eq(ResourceLeakPolicy.REPORT_ENTRY_KEY),
+      startsWith(String.format("Test class [%s] leaked resources: direct memory [+",
+        WarningTestClass.class.getName())));
+  }
+
+  @Test
+  public void resourceLeaksAreHandledByConfiguredExtensionExceptionHandlingProcessor() throws Exception {
+
+    ExtensionExceptionHandler mockExceptionHandler = mock(ExtensionExceptionHandler.class);
+
+    ResourceLeakDetectionExtension extension =
+      new ResourceLeakDetectionExtension(() -> Optional.of(mockExceptionHandler));
+
+    ExtensionContext context = mockExtensionContext(FailingTestClass.class);
+
+    CountDownLatch latch = new CountDownLatch(1);
+
+    try {
+      extension.beforeAll(context);
+      startThread("handled-thread", latch);
+      extension.afterAll(context);
+    }
+    finally {
+      latch.countDown();
+    }
+
+    verify(mockExceptionHandler, times(1)).handle(eq(context), any(ResourceLeakException.class));
+  }
+
+  @Test
+  public void testClassNotAnnotatedIsIgnored() throws Exception {
+
+    ExtensionContext context = mockExtensionContext(Object.class);
+
+    this.extension.beforeAll(context);
+
+    assertThat(context.getStore(ExtensionContext.Namespace.GLOBAL).get(context.getUniqueId())).isNull();
+
+    this.extension.afterAll(context);
+  }
+
+  @DetectResourceLeaks(policy = ResourceLeakPolicy.FAIL, threadTerminationTimeout = 100L,
+    maxDirectMemoryGrowth = Long.MAX_VALUE, maxFileDescriptorGrowth = Long.MAX_VALUE)
+  static class FailingTestClass { }
+
+  @DetectResourceLeaks(policy = ResourceLeakPolicy.FAIL, threadTerminationTimeout = 10L,
+    maxDirectMemoryGrowth = Long.MAX_VALUE, maxFileDescriptorGrowth = Long.MAX_VALUE,
+    ignoredThreads = "ignored-.*")
+  static class IgnoringTestClass { }
+
+  @DetectResourceLeaks(maxThreadGrowth = Integer.MAX_VALUE, maxFileDescriptorGrowth = Long.MAX_VALUE)
+  static class WarningTestClass { }
+
+}
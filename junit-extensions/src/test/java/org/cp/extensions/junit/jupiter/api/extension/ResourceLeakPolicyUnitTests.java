@@ -0,0 +1,83 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.junit.jupiter.api.extension;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Unit Tests for {@link ResourceLeakPolicy}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.mockito.Mockito
+ * @see org.cp.extensions.junit.jupiter.api.extension.ResourceLeakPolicy
+ * @since 0.1.0
+ */
+public class ResourceLeakPolicyUnitTests {
+
+  private final ExtensionContext mockExtensionContext = mock(ExtensionContext.class);
+
+  private final ResourceLeakException resourceLeak = new ResourceLeakException(Object.class, "TEST");
+
+  @Test
+  public void failRethrowsResourceLeakException() {
+
+    assertThatExceptionOfType(ResourceLeakException.class)
+      .isThrownBy(() -> ResourceLeakPolicy.FAIL.handle(this.mockExtensionContext, (Throwable) this.resourceLeak))
+      .isSameAs(this.resourceLeak);
+
+    verifyNoInteractions(this.mockExtensionContext);
+  }
+
+  @Test
+  public void ignoreHandlesResourceLeakException() {
+
+    ResourceLeakPolicy.IGNORE.handle(this.mockExtensionContext, (Throwable) this.resourceLeak);
+
+    verifyNoInteractions(this.mockExtensionContext);
+  }
+
+  @Test
+  public void warnPublishesReportEntry() {
+
+    ResourceLeakPolicy.WARN.handle(this.mockExtensionContext, (Throwable) this.resourceLeak);
+
+    verify(this.mockExtensionContext, times(1))
+      .publishReportEntry(eq(ResourceLeakPolicy.REPORT_ENTRY_KEY), eq("TEST"));
+  }
+
+  @Test
+  public void otherExceptionsAreNotHandled() {
+
+    IllegalStateException cause = new IllegalStateException("TEST");
+
+    for (ResourceLeakPolicy policy : ResourceLeakPolicy.values()) {
+      assertThatExceptionOfType(UnhandledExtensionException.class)
+        .isThrownBy(() -> policy.handle(this.mockExtensionContext, cause))
+        .withCause(cause);
+    }
+
+    verifyNoInteractions(this.mockExtensionContext);
+  }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.junit.jupiter.api.extension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+
+/**
+ * Unit Tests for {@link SharedResourceExtension}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.mockito.Mockito
+ * @see org.cp.extensions.junit.jupiter.api.extension.SharedResource
+ * @see org.cp.extensions.junit.jupiter.api.extension.SharedResourceExtension
+ * @since 0.1.0
+ */
+public class SharedResourceExtensionUnitTests {
+
+  private final ExtensionContext rootContext = mockExtensionContext("[engine:junit-jupiter]", null, null);
+
+  private final SharedResourceExtension extension = new SharedResourceExtension();
+
+  private ExtensionContext mockExtensionContext(String uniqueId, Class<?> testClass, ExtensionContext parent) {
+
+    ExtensionContext mockExtensionContext = mock(ExtensionContext.class, uniqueId);
+
+    ExtensionContext.Store store = new TestStore();
+
+    doReturn(uniqueId).when(mockExtensionContext).getUniqueId();
+    doReturn(Optional.ofNullable(testClass)).when(mockExtensionContext).getTestClass();
+    doReturn(Optional.ofNullable(parent)).when(mockExtensionContext).getParent();
+    doReturn(parent != null ? parent.getRoot() : mockExtensionContext).when(mockExtensionContext).getRoot();
+    doReturn(store).when(mockExtensionContext).getStore(any());
+
+    return mockExtensionContext;
+  }
+
+  private ParameterContext mockParameterContext(Class<?> parameterType) throws Exception {
+
+    ParameterContext mockParameterContext = mock(ParameterContext.class);
+
+    doReturn(TestParameters.class.getDeclaredMethod("parameter", parameterType).getParameters()[0])
+      .when(mockParameterContext).getParameter();
+
+    return mockParameterContext;
+  }
+
+  @Test
+  public void constructWithNullExtensionExceptionHandlingProcessor() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> new SharedResourceExtension(null))
+      .withMessage("ExtensionExceptionHandlingProcessor is required")
+      .withNoCause();
+  }
+
+  @Test
+  public void sharesResourceAcrossTestClasses() throws Exception {
+
+    ExtensionContext classOneContext = mockExtensionContext("[class:One]", TestClassOne.class, this.rootContext);
+    ExtensionContext classTwoContext = mockExtensionContext("[class:Two]", TestClassTwo.class, this.rootContext);
+
+    this.extension.beforeAll(classOneContext);
+    this.extension.beforeAll(classTwoContext);
+
+    SharedResourcePool pool = SharedResourceExtension.getSharedResourcePool(classOneContext);
+
+    assertThat(pool).isSameAs(SharedResourceExtension.getSharedResourcePool(classTwoContext));
+    assertThat(pool.getReferenceCount("resource")).isEqualTo(2);
+    assertThat(pool.getReferenceCount("other")).isOne();
+
+    SharedResourcePoolUnitTests.TestResource resource =
+      (SharedResourcePoolUnitTests.TestResource) pool.get("resource").orElse(null);
+
+    assertThat(resource).isNotNull();
+
+    this.extension.afterAll(classOneContext);
+
+    assertThat(resource.isClosed()).isFalse();
+    assertThat(pool.getReferenceCount("resource")).isOne();
+    assertThat(pool.getReferenceCount("other")).isZero();
+
+    this.extension.afterAll(classTwoContext);
+
+    assertThat(resource.isClosed()).isTrue();
+    assertThat(pool.getReferenceCount("resource")).isZero();
+  }
+
+  @Test
+  public void afterAllReleasesOnlyResourcesAcquiredByTestClass() throws Exception {
+
+    ExtensionContext classContext = mockExtensionContext("[class:One]", TestClassOne.class, this.rootContext);
+    ExtensionContext nestedClassContext = mockExtensionContext("[class:One]/[nested-class:Nested]",
+      TestClassOne.NestedTestClass.class, classContext);
+
+    this.extension.beforeAll(classContext);
+    this.extension.beforeAll(nestedClassContext);
+    this.extension.afterAll(nestedClassContext);
+
+    SharedResourcePool pool = SharedResourceExtension.getSharedResourcePool(classContext);
+
+    assertThat(pool.getReferenceCount("resource")).isOne();
+    assertThat(pool.getReferenceCount("other")).isOne();
+    assertThat(pool.getReferenceCount("nested")).isZero();
+  }
+
+  @Test
+  public void resolvesSharedResourceParameterByType() throws Exception {
+
+    ExtensionContext classContext = mockExtensionContext("[class:One]", TestClassOne.class, this.rootContext);
+    ExtensionContext methodContext = mockExtensionContext("[class:One]/[method:test()]", null, classContext);
+
+    this.extension.beforeAll(classContext);
+
+    ParameterContext resourceParameterContext = mockParameterContext(SharedResourcePoolUnitTests.TestResource.class);
+    ParameterContext stringParameterContext = mockParameterContext(String.class);
+
+    assertThat(this.extension.supportsParameter(resourceParameterContext, methodContext)).isTrue();
+    assertThat(this.extension.supportsParameter(stringParameterContext, methodContext)).isFalse();
+    assertThat(this.extension.resolveParameter(resourceParameterContext, methodContext))
+      .isSameAs(SharedResourceExtension.getSharedResourcePool(methodContext).get("resource").orElse(null));
+  }
+
+  @Test
+  public void resolvingAmbiguousSharedResourceParameterThrowsParameterResolutionException() throws Exception {
+
+    ExtensionContext classContext = mockExtensionContext("[class:One]", TestClassOne.class, this.rootContext);
+
+    this.extension.beforeAll(classContext);
+
+    assertThatExceptionOfType(ParameterResolutionException.class)
+      .isThrownBy(() -> this.extension.resolveParameter(mockParameterContext(AutoCloseable.class), classContext))
+      .withMessage("Expected a single shared resource of type [%s]; found 2", AutoCloseable.class.getName())
+      .withNoCause();
+  }
+
+  @Test
+  public void beforeAllHandlesFailureToCreateSharedResource() throws Exception {
+
+    ExtensionExceptionHandler mockExceptionHandler = mock(ExtensionExceptionHandler.class);
+
+    SharedResourceExtension extension =
+      new SharedResourceExtension(() -> Optional.of(mockExceptionHandler));
+
+    ExtensionContext classContext = mockExtensionContext("[class:Failing]", FailingTestClass.class, this.rootContext);
+
+    extension.beforeAll(classContext);
+    extension.afterAll(classContext);
+
+    verify(mockExceptionHandler, times(1)).handle(eq(classContext), any(IllegalStateException.class));
+
+    assertThat(SharedResourceExtension.getSharedResourcePool(classContext).getReferenceCount("failing")).isZero();
+  }
+
+  @Test
+  public void beforeAllRethrowsUnhandledFailureToCreateSharedResource() {
+
+    ExtensionContext classContext = mockExtensionContext("[class:Failing]", FailingTestClass.class, this.rootContext);
+
+    assertThatExceptionOfType(UnhandledExtensionException.class)
+      .isThrownBy(() -> this.extension.beforeAll(classContext))
+      .withCauseInstanceOf(IllegalStateException.class);
+  }
+
+  @SharedResource(name = "resource", factory = SharedResourcePoolUnitTests.TestResourceFactory.class)
+  @SharedResource(name = "other", factory = OtherResourceFactory.class)
+  static class TestClassOne {
+
+    @SharedResource(name = "nested", factory = OtherResourceFactory.class)
+    class NestedTestClass { }
+
+  }
+
+  @SharedResource(name = "resource", factory = SharedResourcePoolUnitTests.TestResourceFactory.class)
+  static class TestClassTwo { }
+
+  @SharedResource(name = "failing", factory = FailingResourceFactory.class)
+  static class FailingTestClass { }
+
+  @SuppressWarnings("unused")
+  static class TestParameters {
+
+    void parameter(SharedResourcePoolUnitTests.TestResource resource) { }
+
+    void parameter(AutoCloseable resource) { }
+
+    void parameter(String value) { }
+
+  }
+
+  public static class OtherResourceFactory implements SharedResourceFactory<AutoCloseable> {
+
+    @Override
+    public AutoCloseable create() {
+      return () -> { };
+    }
+  }
+
+  public static class FailingResourceFactory implements SharedResourceFactory<Object> {
+
+    @Override
+    public Object create() {
+      throw new IllegalStateException("TEST");
+    }
+  }
+
+  static class TestStore implements ExtensionContext.Store {
+
+    private final Map<Object, Object> values = new ConcurrentHashMap<>();
+
+    @Override
+    public Object get(Object key) {
+      return this.values.get(key);
+    }
+
+    @Override
+    public <V> V get(Object key, Class<V> requiredType) {
+      return requiredType.cast(get(key));
+    }
+
+    @Override
+    public <K, V> Object getOrComputeIfAbsent(K key, Function<K, V> defaultCreator) {
+      return this.values.computeIfAbsent(key, it -> defaultCreator.apply(key));
+    }
+
+    @Override
+    public <K, V> V getOrComputeIfAbsent(K key, Function<K, V> defaultCreator, Class<V> requiredType) {
+      return requiredType.cast(getOrComputeIfAbsent(key, defaultCreator));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+      this.values.put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+      return this.values.remove(key);
+    }
+
+    @Override
+    public <V> V remove(Object key, Class<V> requiredType) {
+      return requiredType.cast(remove(key));
+    }
+  }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.junit.jupiter.api.extension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit Tests for {@link SharedResourcePool}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.BeforeEach
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.extensions.junit.jupiter.api.extension.SharedResourcePool
+ * @since 0.1.0
+ */
+public class SharedResourcePoolUnitTests {
+
+  private final SharedResourcePool pool = new SharedResourcePool();
+
+  @BeforeEach
+  public void resetCreateCount() {
+    TestResourceFactory.CREATE_COUNT.set(0);
+  }
+
+  @Test
+  public void acquireCreatesResourceOnce() throws Exception {
+
+    TestResourceFactory factory = new TestResourceFactory();
+
+    TestResource resourceOne = this.pool.acquire("test", factory, false);
+    TestResource resourceTwo = this.pool.acquire("test", new TestResourceFactory(), false);
+
+    assertThat(resourceOne).isNotNull();
+    assertThat(resourceTwo).isSameAs(resourceOne);
+    assertThat(this.pool.get("test")).hasValue(resourceOne);
+    assertThat(this.pool.getReferenceCount("test")).isEqualTo(2);
+    assertThat(TestResourceFactory.CREATE_COUNT.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void releaseClosesResourceAfterLastRelease() throws Exception {
+
+    TestResource resource = this.pool.acquire("test", new TestResourceFactory(), false);
+
+    this.pool.acquire("test", new TestResourceFactory(), false);
+    this.pool.release("test");
+
+    assertThat(resource.isClosed()).isFalse();
+    assertThat(this.pool.getReferenceCount("test")).isOne();
+
+    this.pool.release("test");
+
+    assertThat(resource.isClosed()).isTrue();
+    assertThat(this.pool.getReferenceCount("test")).isZero();
+    assertThat(this.pool.get("test")).isNotPresent();
+
+    TestResource newResource = this.pool.acquire("test", new TestResourceFactory(), false);
+
+    assertThat(newResource).isNotSameAs(resource);
+    assertThat(newResource.isClosed()).isFalse();
+  }
+
+  @Test
+  public void releaseKeepsAliveResourceOpenUntilPoolIsClosed() throws Exception {
+
+    TestResource resource = this.pool.acquire("test", new TestResourceFactory(), true);
+
+    this.pool.release("test");
+
+    assertThat(resource.isClosed()).isFalse();
+    assertThat(this.pool.get("test")).hasValue(resource);
+    assertThat(this.pool.getReferenceCount("test")).isZero();
+
+    this.pool.close();
+
+    assertThat(resource.isClosed()).isTrue();
+    assertThat(this.pool.get("test")).isNotPresent();
+  }
+
+  @Test
+  public void releaseUnknownOrNullResourceIsSafe() throws Exception {
+
+    this.pool.release("unknown");
+    this.pool.release(null);
+
+    assertThat(this.pool.get(null)).isNotPresent();
+    assertThat(this.pool.getReferenceCount(null)).isZero();
+  }
+
+  @Test
+  public void acquireWithDifferentFactoryThrowsIllegalArgumentException() throws Exception {
+
+    this.pool.acquire("test", new TestResourceFactory(), false);
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> this.pool.acquire("test", () -> new TestResource(), false))
+      .withMessageStartingWith("Shared resource [test] is created by [%s]", TestResourceFactory.class.getName())
+      .withNoCause();
+
+    assertThat(this.pool.getReferenceCount("test")).isOne();
+  }
+
+  @Test
+  public void acquireWithNoNameThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> this.pool.acquire("  ", new TestResourceFactory(), false))
+      .withMessage("Name [  ] of the shared resource is required")
+      .withNoCause();
+  }
+
+  @Test
+  public void acquireWithNullFactoryThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> this.pool.acquire("test", null, false))
+      .withMessage("SharedResourceFactory is required")
+      .withNoCause();
+  }
+
+  @Test
+  public void acquireWhenFactoryFailsDoesNotReferenceResource() {
+
+    SharedResourceFactory<Object> factory = () -> { throw new IllegalStateException("TEST"); };
+
+    assertThatExceptionOfType(IllegalStateException.class)
+      .isThrownBy(() -> this.pool.acquire("test", factory, false))
+      .withMessage("TEST")
+      .withNoCause();
+
+    assertThat(this.pool.get("test")).isNotPresent();
+    assertThat(this.pool.getReferenceCount("test")).isZero();
+  }
+
+  @Test
+  public void closeClosesAllOpenResourcesSuppressingAdditionalFailures() throws Exception {
+
+    List<String> closed = new ArrayList<>();
+
+    SharedResourceFactory<String> failingFactory = new SharedResourceFactory<String>() {
+
+      @Override
+      public String create() {
+        return "resource";
+      }
+
+      @Override
+      public void close(String resource) {
+        closed.add(resource);
+        throw new IllegalStateException("TEST");
+      }
+    };
+
+    TestResource resource = this.pool.acquire("one", new TestResourceFactory(), false);
+
+    this.pool.acquire("two", failingFactory, false);
+
+    assertThatExceptionOfType(IllegalStateException.class)
+      .isThrownBy(this.pool::close)
+      .withMessage("TEST");
+
+    assertThat(resource.isClosed()).isTrue();
+    assertThat(closed).containsExactly("resource");
+    assertThat(this.pool.getReferenceCount("one")).isZero();
+    assertThat(this.pool.getReferenceCount("two")).isZero();
+  }
+
+  static class TestResource implements AutoCloseable {
+
+    private volatile boolean closed;
+
+    boolean isClosed() {
+      return this.closed;
+    }
+
+    @Override
+    public void close() {
+      this.closed = true;
+    }
+  }
+
+  static class TestResourceFactory implements SharedResourceFactory<TestResource> {
+
+    static final AtomicInteger CREATE_COUNT = new AtomicInteger();
+
+    @Override
+    public TestResource create() {
+      CREATE_COUNT.incrementAndGet();
+      return new TestResource();
+    }
+  }
+}
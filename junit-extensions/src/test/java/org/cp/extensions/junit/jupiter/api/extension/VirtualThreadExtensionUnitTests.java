@@ -0,0 +1,190 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.junit.jupiter.api.extension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor.Invocation;
+
+/**
+ * Unit Tests for {@link VirtualThreadExtension}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.mockito.Mockito
+ * @see org.cp.extensions.junit.jupiter.api.extension.RunOnVirtualThread
+ * @see org.cp.extensions.junit.jupiter.api.extension.VirtualThreadExtension
+ * @since 0.1.0
+ */
+public class VirtualThreadExtensionUnitTests {
+
+  private final ExtensionContext rootContext = mockExtensionContext(null, null);
+
+  private final VirtualThreadExtension extension = new VirtualThreadExtension();
+
+  private ExtensionContext mockExtensionContext(AnnotatedElement element, ExtensionContext root) {
+
+    ExtensionContext mockExtensionContext = mock(ExtensionContext.class);
+
+    ExtensionContext.Store store = new SharedResourceExtensionUnitTests.TestStore();
+
+    doReturn(Optional.ofNullable(element)).when(mockExtensionContext).getElement();
+    doReturn(Optional.of(TestMethods.class)).when(mockExtensionContext).getTestClass();
+    doReturn(TestMethods.class).when(mockExtensionContext).getRequiredTestClass();
+    doReturn(root != null ? root : mockExtensionContext).when(mockExtensionContext).getRoot();
+    doReturn(store).when(mockExtensionContext).getStore(any());
+
+    return mockExtensionContext;
+  }
+
+  private ExtensionContext mockExtensionContext(String methodName) throws Exception {
+    return mockExtensionContext(TestMethods.class.getDeclaredMethod(methodName), this.rootContext);
+  }
+
+  @Test
+  public void runsTestMethodOnSeparateThread() throws Throwable {
+
+    AtomicReference<Thread> testThread = new AtomicReference<>();
+
+    Invocation<Void> invocation = () -> {
+      testThread.set(Thread.currentThread());
+      return null;
+    };
+
+    this.extension.interceptTestMethod(invocation, null, mockExtensionContext("unlimited"));
+
+    assertThat(testThread.get()).isNotNull().isNotSameAs(Thread.currentThread());
+    assertThat(testThread.get().getName()).startsWith("junit-test-");
+    assertThat(testThread.get().isDaemon()).isTrue();
+  }
+
+  @Test
+  public void rethrowsTestMethodFailure() {
+
+    AssertionError failure = new AssertionError("TEST");
+
+    Invocation<Void> invocation = () -> {
+      throw failure;
+    };
+
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> this.extension.interceptTestTemplateMethod(invocation, null,
+        mockExtensionContext("unlimited")))
+      .isSameAs(failure);
+  }
+
+  @Test
+  public void limitsConcurrentTestsUsingResource() throws Exception {
+
+    AtomicInteger concurrentTests = new AtomicInteger();
+    AtomicInteger maxConcurrentTests = new AtomicInteger();
+
+    Invocation<Void> invocation = () -> {
+      maxConcurrentTests.accumulateAndGet(concurrentTests.incrementAndGet(), Math::max);
+      Thread.sleep(20L);
+      concurrentTests.decrementAndGet();
+      return null;
+    };
+
+    ExecutorService executorService = Executors.newFixedThreadPool(6);
+
+    try {
+
+      List<Future<Void>> futures = new ArrayList<>();
+
+      for (int count = 0; count < 12; count++) {
+        futures.add(executorService.submit(() -> {
+          try {
+            this.extension.interceptTestMethod(invocation, null, mockExtensionContext("limited"));
+            return null;
+          }
+          catch (Throwable cause) {
+            throw new Exception(cause);
+          }
+        }));
+      }
+
+      for (Future<Void> future : futures) {
+        future.get(10L, TimeUnit.SECONDS);
+      }
+    }
+    finally {
+      executorService.shutdownNow();
+    }
+
+    assertThat(maxConcurrentTests.get()).isBetween(1, 2);
+  }
+
+  @Test
+  public void resourceDeclaredWithDifferentPermitsThrowsUnhandledExtensionException() throws Throwable {
+
+    Invocation<Void> invocation = () -> null;
+
+    this.extension.interceptTestMethod(invocation, null, mockExtensionContext("limited"));
+
+    Method method = TestMethods.class.getDeclaredMethod("conflicting");
+
+    assertThatExceptionOfType(UnhandledExtensionException.class)
+      .isThrownBy(() -> this.extension.interceptTestMethod(invocation, null, mockExtensionContext("conflicting")))
+      .withMessage("Resource [database] is limited to [2] permits; but was declared with [4] permits in [%s]",
+        method)
+      .withNoCause();
+  }
+
+  @Test
+  public void invalidPermitsThrowsUnhandledExtensionException() {
+
+    assertThatExceptionOfType(UnhandledExtensionException.class)
+      .isThrownBy(() -> this.extension.interceptTestMethod(() -> null, null, mockExtensionContext("invalid")))
+      .withMessage("Permits [0] for resource [database] must be greater than 0")
+      .withNoCause();
+  }
+
+  @SuppressWarnings("unused")
+  static class TestMethods {
+
+    @RunOnVirtualThread
+    void unlimited() { }
+
+    @RunOnVirtualThread(resource = "database", permits = 2)
+    void limited() { }
+
+    @RunOnVirtualThread(resource = "database", permits = 4)
+    void conflicting() { }
+
+    @RunOnVirtualThread(resource = "database", permits = 0)
+    void invalid() { }
+
+  }
+}
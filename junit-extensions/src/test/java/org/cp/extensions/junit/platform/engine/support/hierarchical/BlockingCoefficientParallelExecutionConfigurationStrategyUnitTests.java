@@ -0,0 +1,128 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.junit.platform.engine.support.hierarchical;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration;
+
+/**
+ * Unit Tests for {@link BlockingCoefficientParallelExecutionConfigurationStrategy}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.mockito.Mockito
+ * @see org.cp.extensions.junit.platform.engine.support.hierarchical.BlockingCoefficientParallelExecutionConfigurationStrategy
+ * @since 0.1.0
+ */
+public class BlockingCoefficientParallelExecutionConfigurationStrategyUnitTests {
+
+  private final BlockingCoefficientParallelExecutionConfigurationStrategy strategy =
+    new BlockingCoefficientParallelExecutionConfigurationStrategy() {
+
+      @Override
+      protected int getAvailableProcessors() {
+        return 4;
+      }
+    };
+
+  private ConfigurationParameters mockConfigurationParameters(String blockingCoefficient, String maxPoolSize) {
+    return mockConfigurationParameters(blockingCoefficient, maxPoolSize, null);
+  }
+
+  private ConfigurationParameters mockConfigurationParameters(String blockingCoefficient, String maxPoolSize,
+      String saturate) {
+
+    ConfigurationParameters mockConfigurationParameters = mock(ConfigurationParameters.class);
+
+    doReturn(Optional.empty()).when(mockConfigurationParameters).get(anyString());
+    doReturn(Optional.ofNullable(blockingCoefficient)).when(mockConfigurationParameters)
+      .get(BlockingCoefficientParallelExecutionConfigurationStrategy.BLOCKING_COEFFICIENT_CONFIGURATION_PARAMETER);
+    doReturn(Optional.ofNullable(maxPoolSize)).when(mockConfigurationParameters)
+      .get(BlockingCoefficientParallelExecutionConfigurationStrategy.MAX_POOL_SIZE_CONFIGURATION_PARAMETER);
+    doReturn(Optional.ofNullable(saturate)).when(mockConfigurationParameters)
+      .get(BlockingCoefficientParallelExecutionConfigurationStrategy.SATURATE_CONFIGURATION_PARAMETER);
+
+    return mockConfigurationParameters;
+  }
+
+  @Test
+  public void createsDefaultConfiguration() {
+
+    ParallelExecutionConfiguration configuration =
+      this.strategy.createConfiguration(mockConfigurationParameters(null, null));
+
+    assertThat(configuration.getParallelism()).isEqualTo(20);
+    assertThat(configuration.getMinimumRunnable()).isEqualTo(20);
+    assertThat(configuration.getCorePoolSize()).isEqualTo(20);
+    assertThat(configuration.getMaxPoolSize()).isEqualTo(276);
+    assertThat(configuration.getKeepAliveSeconds()).isEqualTo(30);
+    assertThat(configuration.getSaturatePredicate().test(ForkJoinPool.commonPool())).isTrue();
+  }
+
+  @Test
+  public void createsConfiguredConfiguration() {
+
+    ParallelExecutionConfiguration configuration =
+      this.strategy.createConfiguration(mockConfigurationParameters("0.5", "16"));
+
+    assertThat(configuration.getParallelism()).isEqualTo(6);
+    assertThat(configuration.getMaxPoolSize()).isEqualTo(16);
+  }
+
+  @Test
+  public void createsConfigurationRejectingSaturation() {
+
+    ParallelExecutionConfiguration configuration =
+      this.strategy.createConfiguration(mockConfigurationParameters(null, null, "false"));
+
+    assertThat(configuration.getSaturatePredicate().test(ForkJoinPool.commonPool())).isFalse();
+  }
+
+  @Test
+  public void cpuBoundConfigurationUsesAvailableProcessors() {
+
+    assertThat(this.strategy.createConfiguration(mockConfigurationParameters("0", null)).getParallelism())
+      .isEqualTo(4);
+  }
+
+  @Test
+  public void negativeBlockingCoefficientThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> this.strategy.createConfiguration(mockConfigurationParameters("-1", null)))
+      .withMessage("Blocking coefficient [-1.0] must be greater than or equal to 0")
+      .withNoCause();
+  }
+
+  @Test
+  public void maxPoolSizeLessThanParallelismThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> this.strategy.createConfiguration(mockConfigurationParameters("1", "4")))
+      .withMessage("Max pool size [4] must be greater than or equal to parallelism [8]")
+      .withNoCause();
+  }
+}
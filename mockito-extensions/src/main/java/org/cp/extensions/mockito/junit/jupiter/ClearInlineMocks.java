@@ -0,0 +1,107 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.mockito.junit.jupiter;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * The {@link ClearInlineMocks} annotation clears mocks created with the Mockito {@literal inline} mock maker
+ * after each test or after all tests in the annotated test class, so that the mocks can be garbage collected.
+ * <p>
+ * The Mockito {@literal inline} mock maker keeps every mock registered until
+ * {@link org.mockito.MockitoFramework#clearInlineMocks()} is called, so the heap grows across large test suites
+ * executed in the same JVM. Cleared mocks are no longer usable; therefore, use {@link Scope#CLASS} when mocks
+ * are shared across tests, such as mocks stored in {@literal static} fields or created in
+ * {@link org.junit.jupiter.api.BeforeAll} methods.
+ * <p>
+ * Clearing inline mocks affects every inline mock in the JVM, not only the mocks of the annotated test class.
+ * Therefore, inline mocks are not cleared when JUnit Jupiter parallel execution is enabled with
+ * {@literal junit.jupiter.execution.parallel.enabled}, since doing so would break the mocks of tests
+ * running concurrently.
+ * <p>
+ * For example:
+ *
+ * <pre>
+ * <code>
+ * {@literal @ClearInlineMocks(scope = ClearInlineMocks.Scope.TEST, report = true)}
+ * class OrderServiceUnitTests {
+ *   ...
+ * }
+ * </code>
+ * </pre>
+ *
+ * @author John Blum
+ * @see java.lang.annotation.Documented
+ * @see java.lang.annotation.Inherited
+ * @see java.lang.annotation.Retention
+ * @see java.lang.annotation.Target
+ * @see org.cp.extensions.mockito.junit.jupiter.ClearInlineMocksExtension
+ * @since 0.1.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.TYPE })
+@ExtendWith(ClearInlineMocksExtension.class)
+@SuppressWarnings("unused")
+public @interface ClearInlineMocks {
+
+  /**
+   * {@link Scope} after which inline mocks are cleared.
+   *
+   * @return the {@link Scope} after which inline mocks are cleared.
+   * @see Scope
+   */
+  Scope scope() default Scope.CLASS;
+
+  /**
+   * Determines whether all Mockito caches, including the cache of generated mock types, are also cleared.
+   * <p>
+   * Defaults to {@literal false} since generated mock types must be regenerated the next time a mock
+   * of the same type is created.
+   *
+   * @return a boolean value indicating whether all Mockito caches are cleared.
+   * @see org.mockito.Mockito#clearAllCaches()
+   */
+  boolean clearCaches() default false;
+
+  /**
+   * Determines whether the heap used before and after clearing inline mocks is published as a report entry.
+   * <p>
+   * Reporting requests a garbage collection before each of the two heap measurements, before and after clearing
+   * inline mocks, in order to measure the reclaimed memory.
+   *
+   * @return a boolean value indicating whether heap usage is reported.
+   */
+  boolean report() default false;
+
+  /**
+   * Enumeration of the scopes after which inline mocks are cleared.
+   */
+  enum Scope {
+
+    CLASS,
+    TEST
+
+  }
+}
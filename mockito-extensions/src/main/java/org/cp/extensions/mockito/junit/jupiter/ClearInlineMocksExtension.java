@@ -0,0 +1,137 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.mockito.junit.jupiter;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+
+import org.mockito.Mockito;
+
+/**
+ * JUnit Jupiter {@link Extension} clearing mocks created with the Mockito {@literal inline} mock maker
+ * for test classes annotated with {@link ClearInlineMocks}.
+ * <p>
+ * Inline mocks are cleared after each test for {@link ClearInlineMocks.Scope#TEST}, and after all tests
+ * in the test class for both {@link ClearInlineMocks.Scope scopes}, which also clears mocks created
+ * in {@link org.junit.jupiter.api.BeforeAll} methods.
+ * <p>
+ * When {@link ClearInlineMocks#report() reporting} is enabled, the heap used before and after clearing
+ * inline mocks, each measured after a garbage collection, is published as an
+ * {@link ExtensionContext#publishReportEntry(String, String) report entry} with the key {@literal inline-mocks}.
+ * <p>
+ * Since {@link org.mockito.MockitoFramework#clearInlineMocks()} clears every inline mock in the JVM, including
+ * mocks of tests running concurrently, inline mocks are not cleared when JUnit Jupiter parallel execution
+ * is enabled; a report entry explaining why is published instead.
+ *
+ * @author John Blum
+ * @see org.cp.extensions.mockito.junit.jupiter.ClearInlineMocks
+ * @see org.junit.jupiter.api.extension.AfterAllCallback
+ * @see org.junit.jupiter.api.extension.AfterEachCallback
+ * @see org.mockito.MockitoFramework#clearInlineMocks()
+ * @since 0.1.0
+ */
+public class ClearInlineMocksExtension implements AfterEachCallback, AfterAllCallback {
+
+  protected static final String PARALLEL_EXECUTION_ENABLED_PROPERTY = "junit.jupiter.execution.parallel.enabled";
+  protected static final String REPORT_ENTRY_KEY = "inline-mocks";
+
+  @Override
+  public void afterEach(@NotNull ExtensionContext context) {
+
+    ClearInlineMocks clearInlineMocks = findClearInlineMocks(context);
+
+    if (clearInlineMocks != null && ClearInlineMocks.Scope.TEST.equals(clearInlineMocks.scope())) {
+      clear(context, clearInlineMocks);
+    }
+  }
+
+  @Override
+  public void afterAll(@NotNull ExtensionContext context) {
+
+    ClearInlineMocks clearInlineMocks = findClearInlineMocks(context);
+
+    if (clearInlineMocks != null) {
+      clear(context, clearInlineMocks);
+    }
+  }
+
+  private @Nullable ClearInlineMocks findClearInlineMocks(@NotNull ExtensionContext context) {
+    return AnnotationSupport.findAnnotation(context.getTestClass(), ClearInlineMocks.class).orElse(null);
+  }
+
+  private boolean isParallelExecutionEnabled(@NotNull ExtensionContext context) {
+
+    return context.getConfigurationParameter(PARALLEL_EXECUTION_ENABLED_PROPERTY)
+      .map(Boolean::parseBoolean)
+      .orElse(false);
+  }
+
+  private void clear(@NotNull ExtensionContext context, @NotNull ClearInlineMocks clearInlineMocks) {
+
+    if (isParallelExecutionEnabled(context)) {
+      context.publishReportEntry(REPORT_ENTRY_KEY, String.format(
+        "Inline mocks not cleared after [%s] since clearing would also clear the mocks of tests running in parallel;"
+          + " disable [%s] to clear inline mocks", context.getDisplayName(), PARALLEL_EXECUTION_ENABLED_PROPERTY));
+      return;
+    }
+
+    MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    long heapUsedBefore = clearInlineMocks.report() ? heapUsedAfterGc(memory) : 0L;
+
+    clearInlineMocks(clearInlineMocks.clearCaches());
+
+    if (clearInlineMocks.report()) {
+
+      long heapUsedAfter = heapUsedAfterGc(memory);
+
+      context.publishReportEntry(REPORT_ENTRY_KEY, String.format(
+        "Cleared inline mocks after [%s]; heap used [%d -> %d bytes]; reclaimed [%d bytes]",
+          context.getDisplayName(), heapUsedBefore, heapUsedAfter, Math.max(heapUsedBefore - heapUsedAfter, 0L)));
+    }
+  }
+
+  // collects garbage before each measurement so that only memory retained by the inline mocks is reported reclaimed
+  private long heapUsedAfterGc(@NotNull MemoryMXBean memory) {
+    memory.gc();
+    return memory.getHeapMemoryUsage().getUsed();
+  }
+
+  /**
+   * Clears all inline mocks, and optionally all Mockito caches.
+   *
+   * @param clearCaches boolean value indicating whether all Mockito caches are cleared.
+   * @see org.mockito.MockitoFramework#clearInlineMocks()
+   * @see org.mockito.Mockito#clearAllCaches()
+   */
+  protected void clearInlineMocks(boolean clearCaches) {
+
+    Mockito.framework().clearInlineMocks();
+
+    if (clearCaches) {
+      Mockito.clearAllCaches();
+    }
+  }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.mockito.support;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+import org.cp.elements.text.FormatUtils;
+
+/**
+ * {@link Future} test double completed by the test, used to test timeout handling and back-pressure
+ * in concurrent code.
+ * <p>
+ * Unlike a {@link JavaMockObjects#mockFuture(Object) mock Future}, {@link #get()} really blocks until the test
+ * {@link #complete(Object) completes}, {@link #completeExceptionally(Throwable) fails} or {@link #cancel(boolean)
+ * cancels} this {@link Future}, and {@link #get(long, TimeUnit)} throws a {@link TimeoutException} when the timeout
+ * elapses first. Waiting {@link Thread Threads} are parked with {@link LockSupport} rather than sleeping, so they
+ * resume as soon as this {@link Future} completes.
+ * <p>
+ * The test can determine how many {@link Thread Threads} are waiting on this {@link Future}
+ * with {@link #getNumberOfWaitingThreads()} before completing it.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of {@link Object result} returned by this {@link Future}.
+ * @see java.util.concurrent.Future
+ * @see java.util.concurrent.locks.LockSupport
+ * @see org.cp.extensions.mockito.support.JavaMockObjects
+ * @since 0.1.0
+ */
+public class ControllableFuture<T> implements Future<T> {
+
+  static final int NEW = StubFuture.NEW;
+  static final int COMPLETING = StubFuture.COMPLETING;
+  static final int DONE = StubFuture.DONE;
+  static final int FAILED = StubFuture.FAILED;
+  static final int CANCELLED = StubFuture.CANCELLED;
+
+  @SuppressWarnings("rawtypes")
+  private static final AtomicIntegerFieldUpdater<ControllableFuture> STATE =
+    AtomicIntegerFieldUpdater.newUpdater(ControllableFuture.class, "state");
+
+  private final AtomicInteger waitingThreads = new AtomicInteger(0);
+
+  private volatile int state = NEW;
+
+  // outcome; published by the volatile write to state
+  private Throwable failure;
+
+  private T value;
+
+  private final WaitQueue waiters = new WaitQueue();
+
+  /**
+   * Completes this {@link Future} with the given {@link Object value}, releasing all waiting {@link Thread Threads}.
+   *
+   * @param value {@link Object value} returned by this {@link Future}.
+   * @return a boolean value indicating whether this call completed this {@link Future}.
+   */
+  public boolean complete(@Nullable T value) {
+
+    if (STATE.compareAndSet(this, NEW, COMPLETING)) {
+      this.value = value;
+      finish(DONE);
+      return true;
+    }
+
+    return false;
+  }
+
+  /**
+   * Completes this {@link Future} exceptionally with the given, required {@link Throwable cause},
+   * releasing all waiting {@link Thread Threads}.
+   *
+   * @param cause {@link Throwable} wrapped in the {@link ExecutionException} thrown by this {@link Future};
+   * must not be {@literal null}.
+   * @return a boolean value indicating whether this call completed this {@link Future}.
+   * @throws IllegalArgumentException if the {@link Throwable cause} is {@literal null}.
+   */
+  public boolean completeExceptionally(@NotNull Throwable cause) {
+
+    Assert.notNull(cause, "Throwable used to complete the Future exceptionally is required");
+
+    if (STATE.compareAndSet(this, NEW, COMPLETING)) {
+      this.failure = cause;
+      finish(FAILED);
+      return true;
+    }
+
+    return false;
+  }
+
+  @Override
+  public boolean cancel(boolean mayInterruptIfRunning) {
+
+    if (STATE.compareAndSet(this, NEW, CANCELLED)) {
+      releaseWaitingThreads();
+      return true;
+    }
+
+    return false;
+  }
+
+  private void finish(int completedState) {
+    this.state = completedState;
+    releaseWaitingThreads();
+  }
+
+  private void releaseWaitingThreads() {
+    this.waiters.releaseAll();
+  }
+
+  @Override
+  public boolean isCancelled() {
+    return this.state == CANCELLED;
+  }
+
+  @Override
+  public boolean isDone() {
+    return this.state != NEW;
+  }
+
+  /**
+   * Gets the number of {@link Thread Threads} currently blocked waiting for this {@link Future} to complete.
+   *
+   * @return the number of {@link Thread Threads} currently blocked waiting for this {@link Future} to complete.
+   */
+  public int getNumberOfWaitingThreads() {
+    return this.waitingThreads.get();
+  }
+
+  @NotNull WaitQueue getWaitQueue() {
+    return this.waiters;
+  }
+
+  @Override
+  public T get() throws InterruptedException, ExecutionException {
+
+    await(false, 0L);
+
+    return report();
+  }
+
+  @Override
+  public T get(long timeout, @NotNull TimeUnit unit) throws InterruptedException, ExecutionException,
+      TimeoutException {
+
+    Assert.notNull(unit, "TimeUnit is required");
+
+    if (!await(true, unit.toNanos(timeout))) {
+      throw new TimeoutException(String.format("Task [%s] timed out after [%d %s]", this, timeout, unit));
+    }
+
+    return report();
+  }
+
+  private boolean await(boolean timed, long nanosTimeout) throws InterruptedException {
+
+    Assert.notInterrupted();
+
+    if (this.state > COMPLETING) {
+      return true;
+    }
+
+    long deadline = timed ? System.nanoTime() + nanosTimeout : 0L;
+
+    WaitQueue.Node waiter = this.waiters.push();
+
+    this.waitingThreads.incrementAndGet();
+
+    try {
+      while (this.state <= COMPLETING) {
+
+        if (timed) {
+
+          long remainingNanos = deadline - System.nanoTime();
+
+          if (remainingNanos <= 0L) {
+            return this.state > COMPLETING;
+          }
+
+          LockSupport.parkNanos(this, remainingNanos);
+        }
+        else {
+          LockSupport.park(this);
+        }
+
+        if (Thread.currentThread().isInterrupted()) {
+          Assert.notInterrupted();
+        }
+      }
+
+      return true;
+    }
+    finally {
+      // unlinks the waiter when the timeout elapsed or the Thread was interrupted
+      this.waiters.remove(waiter);
+      this.waitingThreads.decrementAndGet();
+    }
+  }
+
+  private T report() throws ExecutionException {
+
+    int state = this.state;
+
+    if (state == CANCELLED) {
+      throw new CancellationException(String.format("Task [%s] was cancelled", this));
+    }
+    else if (state == FAILED) {
+      throw new ExecutionException(FormatUtils.format("Execution of task [%s] failed", this), this.failure);
+    }
+
+    return this.value;
+  }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.mockito.support;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.cp.elements.function.FunctionUtils;
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.NotNull;
+
+/**
+ * Immutable specification of the fractions of {@link Future Futures} created in bulk by {@link JavaMockObjects}
+ * that fail, are cancelled, or are delayed.
+ * <p>
+ * The outcome of each {@link Future} is drawn from a seeded, pseudo-random sequence, so the same {@link FutureMix}
+ * applied to the same number of values always produces the same outcomes. {@link Future Futures} not selected
+ * to fail, be cancelled or be delayed return their value immediately.
+ * <p>
+ * Failed {@link Future Futures} throw an {@link java.util.concurrent.ExecutionException} caused by
+ * a single {@link RuntimeException} shared by all {@link Future Futures} created in bulk, and cancelled
+ * {@link Future Futures} share a single {@link Supplier}, so that only delayed and successful
+ * {@link Future Futures} require per-{@link Future} state beyond the {@link StubFuture} itself.
+ * <p>
+ * Delayed {@link Future Futures} {@link StubFuture#isMemoizing() memoize} their value, so only the first call
+ * to {@link Future#get()} waits for the full delay, measured from that call, while concurrent callers wait
+ * for the same completion and later calls return immediately.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.Future
+ * @see org.cp.extensions.mockito.support.JavaMockObjects
+ * @see org.cp.extensions.mockito.support.StubFuture
+ * @since 0.1.0
+ */
+public final class FutureMix {
+
+  private static final long DEFAULT_SEED = 0x5DEECE66DL;
+
+  private static final FutureMix NONE = new FutureMix(0.0d, 0.0d, 0.0d, Duration.ZERO, DEFAULT_SEED);
+
+  /**
+   * Factory method used to get a {@link FutureMix} where all {@link Future Futures} return their value immediately.
+   *
+   * @return a {@link FutureMix} with no failed, cancelled or delayed {@link Future Futures}.
+   */
+  public static @NotNull FutureMix none() {
+    return NONE;
+  }
+
+  private final double cancellationFraction;
+  private final double delayFraction;
+  private final double failureFraction;
+
+  private final Duration delay;
+
+  private final long seed;
+
+  private FutureMix(double failureFraction, double cancellationFraction, double delayFraction,
+      @NotNull Duration delay, long seed) {
+
+    assertFraction(failureFraction, "failures");
+    assertFraction(cancellationFraction, "cancellations");
+    assertFraction(delayFraction, "delays");
+    Assert.isTrue(failureFraction + cancellationFraction + delayFraction <= 1.0d,
+      "Sum of the fractions of failures [%s], cancellations [%s] and delays [%s] must not be greater than 1.0",
+      failureFraction, cancellationFraction, delayFraction);
+    Assert.notNull(delay, "Duration of the delay is required");
+    Assert.isTrue(!delay.isNegative(), "Duration of the delay [%s] must not be negative", delay);
+
+    this.failureFraction = failureFraction;
+    this.cancellationFraction = cancellationFraction;
+    this.delayFraction = delayFraction;
+    this.delay = delay;
+    this.seed = seed;
+  }
+
+  private static void assertFraction(double fraction, String outcome) {
+    Assert.isTrue(fraction >= 0.0d && fraction <= 1.0d,
+      "Fraction of %s [%s] must be between 0.0 and 1.0", outcome, fraction);
+  }
+
+  /**
+   * Gets the fraction of {@link Future Futures} that are cancelled.
+   *
+   * @return the fraction of {@link Future Futures} that are cancelled.
+   */
+  public double getCancellationFraction() {
+    return this.cancellationFraction;
+  }
+
+  /**
+   * Gets the {@link Duration} by which delayed {@link Future Futures} delay returning their value.
+   *
+   * @return the {@link Duration} by which delayed {@link Future Futures} delay returning their value.
+   * @see java.time.Duration
+   */
+  public @NotNull Duration getDelay() {
+    return this.delay;
+  }
+
+  /**
+   * Gets the fraction of {@link Future Futures} that are delayed.
+   *
+   * @return the fraction of {@link Future Futures} that are delayed.
+   */
+  public double getDelayFraction() {
+    return this.delayFraction;
+  }
+
+  /**
+   * Gets the fraction of {@link Future Futures} that fail.
+   *
+   * @return the fraction of {@link Future Futures} that fail.
+   */
+  public double getFailureFraction() {
+    return this.failureFraction;
+  }
+
+  /**
+   * Gets the seed of the pseudo-random sequence from which the outcome of each {@link Future} is drawn.
+   *
+   * @return the seed of the pseudo-random sequence.
+   */
+  public long getSeed() {
+    return this.seed;
+  }
+
+  /**
+   * Returns a copy of this {@link FutureMix} with the given fraction of cancelled {@link Future Futures}.
+   *
+   * @param fraction fraction, between {@literal 0.0} and {@literal 1.0}, of {@link Future Futures} that are cancelled.
+   * @return a new {@link FutureMix}.
+   * @throws IllegalArgumentException if the fraction is not valid.
+   */
+  public @NotNull FutureMix withCancellations(double fraction) {
+    return new FutureMix(getFailureFraction(), fraction, getDelayFraction(), getDelay(), getSeed());
+  }
+
+  /**
+   * Returns a copy of this {@link FutureMix} with the given fraction of {@link Future Futures}
+   * delaying their value by the given {@link Duration}.
+   *
+   * @param fraction fraction, between {@literal 0.0} and {@literal 1.0}, of {@link Future Futures} that are delayed.
+   * @param delay {@link Duration} by which delayed {@link Future Futures} delay returning their value;
+   * must not be {@literal null} or negative.
+   * @return a new {@link FutureMix}.
+   * @throws IllegalArgumentException if the fraction or {@link Duration} is not valid.
+   */
+  public @NotNull FutureMix withDelays(double fraction, @NotNull Duration delay) {
+    return new FutureMix(getFailureFraction(), getCancellationFraction(), fraction, delay, getSeed());
+  }
+
+  /**
+   * Returns a copy of this {@link FutureMix} with the given fraction of failed {@link Future Futures}.
+   *
+   * @param fraction fraction, between {@literal 0.0} and {@literal 1.0}, of {@link Future Futures} that fail.
+   * @return a new {@link FutureMix}.
+   * @throws IllegalArgumentException if the fraction is not valid.
+   */
+  public @NotNull FutureMix withFailures(double fraction) {
+    return new FutureMix(fraction, getCancellationFraction(), getDelayFraction(), getDelay(), getSeed());
+  }
+
+  /**
+   * Returns a copy of this {@link FutureMix} drawing outcomes from a pseudo-random sequence with the given seed.
+   *
+   * @param seed seed of the pseudo-random sequence from which the outcome of each {@link Future} is drawn.
+   * @return a new {@link FutureMix}.
+   */
+  public @NotNull FutureMix withSeed(long seed) {
+    return new FutureMix(getFailureFraction(), getCancellationFraction(), getDelayFraction(), getDelay(), seed);
+  }
+
+  /**
+   * Returns a new, stateful {@link Function} creating a {@link Future} for each value in sequence,
+   * with outcomes drawn according to this {@link FutureMix}.
+   * <p>
+   * The returned {@link Function} is not Thread-safe.
+   *
+   * @param <T> {@link Class type} of the values returned by the {@link Future Futures}.
+   * @return a new {@link Function} creating a {@link Future} for each value.
+   */
+  @NotNull <T> Function<T, Future<T>> newFutureFactory() {
+
+    if (this == NONE) {
+      return value -> new StubFuture<>(FunctionUtils.asSupplier(value));
+    }
+
+    SplittableRandom random = new SplittableRandom(getSeed());
+
+    RuntimeException failure = new RuntimeException("Simulated failure");
+
+    Supplier<T> failedResult = () -> { throw failure; };
+    Supplier<T> cancelledResult = () -> null;
+
+    double failureThreshold = getFailureFraction();
+    double cancellationThreshold = failureThreshold + getCancellationFraction();
+    double delayThreshold = cancellationThreshold + getDelayFraction();
+
+    long delayNanos = getDelay().toNanos();
+
+    return value -> {
+
+      double outcome = random.nextDouble();
+
+      if (outcome < failureThreshold) {
+        return new StubFuture<>(failedResult);
+      }
+      else if (outcome < cancellationThreshold) {
+        StubFuture<T> future = new StubFuture<>(cancelledResult);
+        future.cancel(true);
+        return future;
+      }
+      else if (outcome < delayThreshold) {
+        return new StubFuture<>(() -> {
+          park(delayNanos);
+          return value;
+        }, true);
+      }
+
+      return new StubFuture<>(FunctionUtils.asSupplier(value));
+    };
+  }
+
+  // parkNanos(..) may return early, spuriously or when interrupted, so park until the deadline computed once
+  private static void park(long nanos) {
+
+    long deadline = System.nanoTime() + nanos;
+
+    for (long remaining = nanos; remaining > 0L && !Thread.currentThread().isInterrupted();
+        remaining = deadline - System.nanoTime()) {
+
+      LockSupport.parkNanos(remaining);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return String.format("FutureMix[failures=%s, cancellations=%s, delays=%s, delay=%s, seed=%d]",
+      getFailureFraction(), getCancellationFraction(), getDelayFraction(), getDelay(), getSeed());
+  }
+}
@@ -15,20 +15,23 @@
  */
 package org.cp.extensions.mockito.support;
 
-import static org.mockito.ArgumentMatchers.anyBoolean;
-import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.isA;
-import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.withSettings;
 
-import java.util.concurrent.CancellationException;
-import java.util.concurrent.ExecutionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.cp.elements.function.FunctionUtils;
 import org.cp.elements.lang.Assert;
@@ -37,7 +40,6 @@ import org.cp.elements.lang.annotation.Nullable;
 import org.cp.elements.text.FormatUtils;
 
 import org.mockito.quality.Strictness;
-import org.mockito.stubbing.Answer;
 
 /**
  * Abstract base class used to construct common {@link Object Mock Objects} in Java with Mockito.
@@ -75,64 +77,47 @@ public abstract class JavaMockObjects {
    * @see java.util.concurrent.Future
    * @see java.util.function.Supplier
    */
-  @SuppressWarnings("unchecked")
   public static @NotNull <T> Future<T> mockFuture(@NotNull Supplier<T> result) {
+    return newMockFuture(result, false);
+  }
+
+  /**
+   * Creates a new mock {@link Future} returning the {@link Object result} from the given, required {@link Supplier}
+   * as the asynchronous, computed value, invoking the {@link Supplier} exactly once.
+   * <p>
+   * The first call to {@link Future#get()} computes the result while concurrent callers wait for the result.
+   * All subsequent calls return the cached value, or throw the cached {@link java.util.concurrent.ExecutionException}.
+   *
+   * @param <T> {@link Class type} of {@link Object result} returned by the mock {@link Future}.
+   * @param result {@link Supplier} used to supply the {@link Object value} returned by the mock {@link Future}
+   * as the asynchronous, computed result; must not be {@literal null}.
+   * @return a new, memoizing mock {@link Future}.
+   * @throws IllegalArgumentException if the given {@link Supplier} is {@literal null}.
+   * @throws MockObjectException if a mock {@link Future} cannot be created.
+   * @see java.util.concurrent.Future
+   * @see java.util.function.Supplier
+   * @see #mockFuture(Supplier)
+   */
+  public static @NotNull <T> Future<T> memoizedMockFuture(@NotNull Supplier<T> result) {
+    return newMockFuture(result, true);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static @NotNull <T> Future<T> newMockFuture(@NotNull Supplier<T> result, boolean memoize) {
 
     Assert.notNull(result,
       "Supplier used to supply the value returned by the mock Future as the result is required");
 
     try {
 
-      Object lock = new Object();
-
-      Future<T> mockFuture = mock(Future.class, withSettings().strictness(Strictness.LENIENT));
-
-      AtomicBoolean cancelled = new AtomicBoolean(false);
-      AtomicBoolean done = new AtomicBoolean(false);
-
-      // A Future can be cancelled only if not completed, it has not already been cancelled, and no exception was thrown
-      // while computing the result.
-      Answer<Boolean> cancelAnswer = invocation -> {
-
-        synchronized (lock) {
-          if (!done.get() && cancelled.compareAndSet(false, true)) {
-            done.set(true);
-            return true;
-          }
-
-          return false;
-        }
-      };
-
-      // NOTE: This get() Answer is used for both Future.get() and Future.get(timeout, :TimeUnit) operations,
-      // and since the result is already known ahead-of-time, the timeout is ignored,
-      // and no TimeoutException will be thrown.
-      Answer<T> getAnswer = invocation -> {
-
-        synchronized (lock) {
-          done.set(true);
-        }
+      // Mockito caches the generated mock Future type; binding a single default Answer to the lock-free StubFuture
+      // managing the state of the mock Future, in place of stubbing each Future operation, leaves only
+      // the mock instantiation as a per-call cost.
+      MockFutureAnswer<T> answer = new MockFutureAnswer<>();
 
-        Assert.notInterrupted();
+      Future<T> mockFuture = mock(Future.class, withSettings().strictness(Strictness.LENIENT).defaultAnswer(answer));
 
-        if (cancelled.get()) {
-          throw new CancellationException(String.format("Task [%s] was cancelled", mockFuture));
-        }
-
-        try {
-          return result.get();
-        }
-        catch (Throwable cause) {
-          String message = FormatUtils.format("Execution of task [%s] failed", mockFuture);
-          throw new ExecutionException(message, cause);
-        }
-      };
-
-      doAnswer(invocation -> cancelled.get()).when(mockFuture).isCancelled();
-      doAnswer(invocation -> done.get()).when(mockFuture).isDone();
-      doAnswer(cancelAnswer).when(mockFuture).cancel(anyBoolean());
-      doAnswer(getAnswer).when(mockFuture).get();
-      doAnswer(getAnswer).when(mockFuture).get(anyLong(), isA(TimeUnit.class));
+      answer.bind(new StubFuture<>(result, mockFuture, memoize));
 
       return mockFuture;
     }
@@ -184,4 +169,439 @@ public abstract class JavaMockObjects {
 
     return FunctionUtils.nullSafeFunction(futureCustomizationFunction).apply(mockFuture(result));
   }
+
+  /**
+   * Creates a new, lightweight {@link StubFuture} returning the given {@link Object result}
+   * as the asynchronous, computed value.
+   *
+   * @param <T> {@link Class type} of {@link Object result} returned by the {@link Future}.
+   * @param result {@link Object value} returned by the {@link Future} as the asynchronous, computed result.
+   * @return a new {@link StubFuture}.
+   * @see org.cp.extensions.mockito.support.StubFuture
+   * @see #stubFuture(Supplier)
+   */
+  public static @NotNull <T> Future<T> stubFuture(@Nullable T result) {
+    return stubFuture(FunctionUtils.asSupplier(result));
+  }
+
+  /**
+   * Creates a new, lightweight {@link StubFuture} returning the {@link Object result} from the given, required
+   * {@link Supplier} as the asynchronous, computed value.
+   * <p>
+   * Unlike {@link #mockFuture(Supplier)}, the {@link Future} is not a Mockito mock and cannot be verified
+   * or stubbed. Use {@link #spyFuture(Supplier)} when verification is required.
+   *
+   * @param <T> {@link Class type} of {@link Object result} returned by the {@link Future}.
+   * @param result {@link Supplier} used to supply the {@link Object value} returned by the {@link Future}
+   * as the asynchronous, computed result; must not be {@literal null}.
+   * @return a new {@link StubFuture}.
+   * @throws IllegalArgumentException if the given {@link Supplier} is {@literal null}.
+   * @see org.cp.extensions.mockito.support.StubFuture
+   * @see java.util.function.Supplier
+   */
+  public static @NotNull <T> Future<T> stubFuture(@NotNull Supplier<T> result) {
+    return new StubFuture<>(result);
+  }
+
+  /**
+   * Creates a new, lightweight {@link StubFuture} returning the {@link Object result} from the given, required
+   * {@link Supplier} as the asynchronous, computed value, invoking the {@link Supplier} exactly once.
+   *
+   * @param <T> {@link Class type} of {@link Object result} returned by the {@link Future}.
+   * @param result {@link Supplier} used to supply the {@link Object value} returned by the {@link Future}
+   * as the asynchronous, computed result; must not be {@literal null}.
+   * @return a new, memoizing {@link StubFuture}.
+   * @throws IllegalArgumentException if the given {@link Supplier} is {@literal null}.
+   * @see org.cp.extensions.mockito.support.StubFuture#StubFuture(Supplier, boolean)
+   * @see #memoizedMockFuture(Supplier)
+   */
+  public static @NotNull <T> Future<T> memoizedStubFuture(@NotNull Supplier<T> result) {
+    return new StubFuture<>(result, true);
+  }
+
+  /**
+   * Creates a new Mockito spy wrapping a {@link StubFuture} returning the given {@link Object result}
+   * as the asynchronous, computed value.
+   *
+   * @param <T> {@link Class type} of {@link Object result} returned by the {@link Future}.
+   * @param result {@link Object value} returned by the {@link Future} as the asynchronous, computed result.
+   * @return a new Mockito spy wrapping a {@link StubFuture}.
+   * @throws MockObjectException if a spy {@link Future} cannot be created.
+   * @see #spyFuture(Supplier)
+   */
+  public static @NotNull <T> Future<T> spyFuture(@Nullable T result) {
+    return spyFuture(FunctionUtils.asSupplier(result));
+  }
+
+  /**
+   * Creates a new Mockito spy wrapping a {@link StubFuture} returning the {@link Object result} from the given,
+   * required {@link Supplier} as the asynchronous, computed value.
+   * <p>
+   * The spy {@link Future} can be verified, and stubbed, like a {@link #mockFuture(Supplier) mock Future}.
+   *
+   * @param <T> {@link Class type} of {@link Object result} returned by the {@link Future}.
+   * @param result {@link Supplier} used to supply the {@link Object value} returned by the {@link Future}
+   * as the asynchronous, computed result; must not be {@literal null}.
+   * @return a new Mockito spy wrapping a {@link StubFuture}.
+   * @throws IllegalArgumentException if the given {@link Supplier} is {@literal null}.
+   * @throws MockObjectException if a spy {@link Future} cannot be created.
+   * @see org.cp.extensions.mockito.support.StubFuture
+   * @see org.mockito.Mockito#spy(Object)
+   */
+  public static @NotNull <T> Future<T> spyFuture(@NotNull Supplier<T> result) {
+
+    StubFuture<T> stubFuture = new StubFuture<>(result);
+
+    try {
+      return spy(stubFuture);
+    }
+    catch (Exception cause) {
+      throw new MockObjectException(FormatUtils.format("Failed to create spy Future with value [%s]",
+        result), cause);
+    }
+  }
+
+  /**
+   * Creates a {@link List} of lightweight {@link StubFuture StubFutures}, one for each value in the given array,
+   * returning the value as the asynchronous, computed result.
+   *
+   * @param <T> {@link Class type} of {@link Object result} returned by the {@link Future Futures}.
+   * @param values array of {@link Object values} returned by the {@link Future Futures}.
+   * @return a {@link List} of {@link Future Futures} in the order of the given values.
+   * @see #stubFutures(FutureMix, Object[])
+   */
+  @SafeVarargs
+  public static @NotNull <T> List<Future<T>> stubFutures(T... values) {
+    return stubFutures(FutureMix.none(), values);
+  }
+
+  /**
+   * Creates a {@link List} of lightweight {@link StubFuture StubFutures}, one for each value in the given array,
+   * with outcomes drawn according to the given, required {@link FutureMix}.
+   *
+   * @param <T> {@link Class type} of {@link Object result} returned by the {@link Future Futures}.
+   * @param mix {@link FutureMix} specifying the fractions of failed, cancelled and delayed {@link Future Futures};
+   * must not be {@literal null}.
+   * @param values array of {@link Object values} returned by the {@link Future Futures}.
+   * @return a {@link List} of {@link Future Futures} in the order of the given values.
+   * @throws IllegalArgumentException if the {@link FutureMix} is {@literal null}.
+   * @see org.cp.extensions.mockito.support.FutureMix
+   */
+  @SafeVarargs
+  @SuppressWarnings("unchecked")
+  public static @NotNull <T> List<Future<T>> stubFutures(@NotNull FutureMix mix, T... values) {
+
+    T[] resolvedValues = values != null ? values : (T[]) new Object[0];
+
+    return stubFutures(resolvedValues.length, index -> resolvedValues[index], mix);
+  }
+
+  /**
+   * Creates a {@link List} of the given number of lightweight {@link StubFuture StubFutures}, returning the value
+   * computed by the given {@link IntFunction} from the index of each {@link Future}.
+   *
+   * @param <T> {@link Class type} of {@link Object result} returned by the {@link Future Futures}.
+   * @param count number of {@link Future Futures} to create; must not be negative.
+   * @param values {@link IntFunction} computing the value returned by each {@link Future} from its index;
+   * must not be {@literal null}.
+   * @return a {@link List} of {@link Future Futures} in index order.
+   * @throws IllegalArgumentException if the count is negative or the {@link IntFunction} is {@literal null}.
+   * @see #stubFutures(int, IntFunction, FutureMix)
+   */
+  public static @NotNull <T> List<Future<T>> stubFutures(int count, @NotNull IntFunction<T> values) {
+    return stubFutures(count, values, FutureMix.none());
+  }
+
+  /**
+   * Creates a {@link List} of the given number of lightweight {@link StubFuture StubFutures}, returning the value
+   * computed by the given {@link IntFunction} from the index of each {@link Future}, with outcomes drawn according
+   * to the given, required {@link FutureMix}.
+   *
+   * @param <T> {@link Class type} of {@link Object result} returned by the {@link Future Futures}.
+   * @param count number of {@link Future Futures} to create; must not be negative.
+   * @param values {@link IntFunction} computing the value returned by each {@link Future} from its index;
+   * must not be {@literal null}.
+   * @param mix {@link FutureMix} specifying the fractions of failed, cancelled and delayed {@link Future Futures};
+   * must not be {@literal null}.
+   * @return a {@link List} of {@link Future Futures} in index order.
+   * @throws IllegalArgumentException if the count is negative, or the {@link IntFunction}
+   * or {@link FutureMix} is {@literal null}.
+   * @see org.cp.extensions.mockito.support.FutureMix
+   */
+  public static @NotNull <T> List<Future<T>> stubFutures(int count, @NotNull IntFunction<T> values,
+      @NotNull FutureMix mix) {
+
+    Assert.isTrue(count >= 0, "Number of Futures [%d] must not be negative", count);
+    Assert.notNull(values, "IntFunction used to compute the value returned by each Future is required");
+    Assert.notNull(mix, "FutureMix is required");
+
+    Function<T, Future<T>> futureFactory = mix.newFutureFactory();
+
+    List<Future<T>> futures = new ArrayList<>(count);
+
+    for (int index = 0; index < count; index++) {
+      futures.add(futureFactory.apply(values.apply(index)));
+    }
+
+    return futures;
+  }
+
+  /**
+   * Creates a {@link List} of lightweight {@link StubFuture StubFutures}, one for each value in the given,
+   * required {@link Stream}, returning the value as the asynchronous, computed result.
+   *
+   * @param <T> {@link Class type} of {@link Object result} returned by the {@link Future Futures}.
+   * @param values {@link Stream} of {@link Object values} returned by the {@link Future Futures};
+   * must not be {@literal null}.
+   * @return a {@link List} of {@link Future Futures} in encounter order of the {@link Stream}.
+   * @throws IllegalArgumentException if the {@link Stream} is {@literal null}.
+   * @see #stubFutures(Stream, FutureMix)
+   */
+  public static @NotNull <T> List<Future<T>> stubFutures(@NotNull Stream<T> values) {
+    return stubFutures(values, FutureMix.none());
+  }
+
+  /**
+   * Creates a {@link List} of lightweight {@link StubFuture StubFutures}, one for each value in the given,
+   * required {@link Stream}, with outcomes drawn according to the given, required {@link FutureMix}.
+   * <p>
+   * The {@link Stream} is consumed sequentially so that outcomes are reproducible.
+   *
+   * @param <T> {@link Class type} of {@link Object result} returned by the {@link Future Futures}.
+   * @param values {@link Stream} of {@link Object values} returned by the {@link Future Futures};
+   * must not be {@literal null}.
+   * @param mix {@link FutureMix} specifying the fractions of failed, cancelled and delayed {@link Future Futures};
+   * must not be {@literal null}.
+   * @return a {@link List} of {@link Future Futures} in encounter order of the {@link Stream}.
+   * @throws IllegalArgumentException if the {@link Stream} or {@link FutureMix} is {@literal null}.
+   * @see org.cp.extensions.mockito.support.FutureMix
+   */
+  public static @NotNull <T> List<Future<T>> stubFutures(@NotNull Stream<T> values, @NotNull FutureMix mix) {
+
+    Assert.notNull(values, "Stream of values returned by the Futures is required");
+    Assert.notNull(mix, "FutureMix is required");
+
+    return values.sequential().map(mix.<T>newFutureFactory()).collect(Collectors.toList());
+  }
+
+  /**
+   * Creates a new {@link CompletableFuture} already completed with the given {@link Object result}.
+   *
+   * @param <T> {@link Class type} of {@link Object result} returned by the {@link CompletableFuture}.
+   * @param result {@link Object value} used to complete the {@link CompletableFuture}.
+   * @return a new, completed {@link CompletableFuture}.
+   * @see java.util.concurrent.CompletableFuture#completedFuture(Object)
+   */
+  public static @NotNull <T> CompletableFuture<T> completedFuture(@Nullable T result) {
+    return CompletableFuture.completedFuture(result);
+  }
+
+  /**
+   * Creates a new {@link CompletableFuture} already completed exceptionally with the given, required
+   * {@link Throwable cause}.
+   *
+   * @param <T> {@link Class type} of {@link Object result} returned by the {@link CompletableFuture}.
+   * @param cause {@link Throwable} used to complete the {@link CompletableFuture} exceptionally;
+   * must not be {@literal null}.
+   * @return a new, failed {@link CompletableFuture}.
+   * @throws IllegalArgumentException if the {@link Throwable cause} is {@literal null}.
+   * @see java.util.concurrent.CompletableFuture#completeExceptionally(Throwable)
+   */
+  public static @NotNull <T> CompletableFuture<T> failedFuture(@NotNull Throwable cause) {
+
+    Assert.notNull(cause, "Throwable used to complete the Future exceptionally is required");
+
+    CompletableFuture<T> future = new CompletableFuture<>();
+
+    future.completeExceptionally(cause);
+
+    return future;
+  }
+
+  /**
+   * Creates a new {@link CompletableFuture} that has already been cancelled.
+   *
+   * @param <T> {@link Class type} of {@link Object result} returned by the {@link CompletableFuture}.
+   * @return a new, cancelled {@link CompletableFuture}.
+   * @see java.util.concurrent.CompletableFuture#cancel(boolean)
+   */
+  public static @NotNull <T> CompletableFuture<T> cancelledFuture() {
+
+    CompletableFuture<T> future = new CompletableFuture<>();
+
+    future.cancel(false);
+
+    return future;
+  }
+
+  /**
+   * Creates a new, pending {@link CompletableFuture} completed on demand by the test with
+   * {@link CompletableFuture#complete(Object)}, {@link CompletableFuture#completeExceptionally(Throwable)}
+   * or {@link CompletableFuture#cancel(boolean)}.
+   *
+   * @param <T> {@link Class type} of {@link Object result} returned by the {@link CompletableFuture}.
+   * @return a new, pending {@link CompletableFuture}.
+   * @see java.util.concurrent.CompletableFuture
+   */
+  public static @NotNull <T> CompletableFuture<T> pendingFuture() {
+    return new CompletableFuture<>();
+  }
+
+  /**
+   * Creates a new {@link CompletableFuture} completed with the {@link Object result} from the given, required
+   * {@link Supplier} when the given, required {@link Executor} runs the completion.
+   * <p>
+   * The test controls when the {@link CompletableFuture} completes by controlling the {@link Executor},
+   * for example, by queueing the completion and running it on demand. A direct {@link Executor}
+   * ({@literal Runnable::run}) completes the {@link CompletableFuture} immediately.
+   *
+   * @param <T> {@link Class type} of {@link Object result} returned by the {@link CompletableFuture}.
+   * @param result {@link Supplier} used to supply the {@link Object value} used to complete
+   * the {@link CompletableFuture}; must not be {@literal null}.
+   * @param executor {@link Executor} used to run the completion; must not be {@literal null}.
+   * @return a new, delayed {@link CompletableFuture}.
+   * @throws IllegalArgumentException if the {@link Supplier} or {@link Executor} is {@literal null}.
+   * @see java.util.concurrent.CompletableFuture#supplyAsync(Supplier, Executor)
+   */
+  public static @NotNull <T> CompletableFuture<T> delayedFuture(@NotNull Supplier<T> result,
+      @NotNull Executor executor) {
+
+    Assert.notNull(result, "Supplier used to supply the value used to complete the Future is required");
+    Assert.notNull(executor, "Executor used to complete the Future is required");
+
+    return CompletableFuture.supplyAsync(result, executor);
+  }
+
+  /**
+   * Creates a new {@link CompletableFuture} completed with the {@link Object result} from the given, required
+   * {@link Supplier} after the given delay, as scheduled by the given, required {@link ScheduledExecutorService}.
+   * <p>
+   * Cancelling the {@link CompletableFuture} before the delay elapses cancels the scheduled completion.
+   *
+   * @param <T> {@link Class type} of {@link Object result} returned by the {@link CompletableFuture}.
+   * @param result {@link Supplier} used to supply the {@link Object value} used to complete
+   * the {@link CompletableFuture}; must not be {@literal null}.
+   * @param delay {@link Long} value specifying the delay before the {@link CompletableFuture} completes.
+   * @param unit {@link TimeUnit} of the delay; must not be {@literal null}.
+   * @param scheduler {@link ScheduledExecutorService} used to schedule the completion; must not be {@literal null}.
+   * @return a new, delayed {@link CompletableFuture}.
+   * @throws IllegalArgumentException if the {@link Supplier}, {@link TimeUnit}
+   * or {@link ScheduledExecutorService} is {@literal null}.
+   * @see java.util.concurrent.ScheduledExecutorService#schedule(Runnable, long, TimeUnit)
+   * @see java.util.concurrent.CompletableFuture
+   */
+  public static @NotNull <T> CompletableFuture<T> delayedFuture(@NotNull Supplier<T> result, long delay,
+      @NotNull TimeUnit unit, @NotNull ScheduledExecutorService scheduler) {
+
+    Assert.notNull(result, "Supplier used to supply the value used to complete the Future is required");
+    Assert.notNull(unit, "TimeUnit is required");
+    Assert.notNull(scheduler, "ScheduledExecutorService used to complete the Future is required");
+
+    CompletableFuture<T> future = new CompletableFuture<>();
+
+    Future<?> scheduledCompletion = scheduler.schedule(() -> {
+      try {
+        future.complete(result.get());
+      }
+      catch (Throwable cause) {
+        future.completeExceptionally(cause);
+      }
+    }, delay, unit);
+
+    future.whenComplete((value, cause) -> {
+      if (future.isCancelled()) {
+        scheduledCompletion.cancel(false);
+      }
+    });
+
+    return future;
+  }
+
+  /**
+   * Creates a new {@link CompletionStage} already completed with the given {@link Object result}.
+   *
+   * @param <T> {@link Class type} of {@link Object result} of the {@link CompletionStage}.
+   * @param result {@link Object value} used to complete the {@link CompletionStage}.
+   * @return a new, completed {@link CompletionStage}.
+   * @see #completedFuture(Object)
+   */
+  public static @NotNull <T> CompletionStage<T> completedStage(@Nullable T result) {
+    return completedFuture(result);
+  }
+
+  /**
+   * Creates a new {@link CompletionStage} already completed exceptionally with the given, required
+   * {@link Throwable cause}.
+   *
+   * @param <T> {@link Class type} of {@link Object result} of the {@link CompletionStage}.
+   * @param cause {@link Throwable} used to complete the {@link CompletionStage} exceptionally;
+   * must not be {@literal null}.
+   * @return a new, failed {@link CompletionStage}.
+   * @throws IllegalArgumentException if the {@link Throwable cause} is {@literal null}.
+   * @see #failedFuture(Throwable)
+   */
+  public static @NotNull <T> CompletionStage<T> failedStage(@NotNull Throwable cause) {
+    return failedFuture(cause);
+  }
+
+  /**
+   * Creates a new {@link ControllableFuture} that blocks callers of {@link Future#get()} until the test completes
+   * the {@link Future}, and throws a {@link java.util.concurrent.TimeoutException} from
+   * {@link Future#get(long, TimeUnit)} when the timeout elapses first.
+   *
+   * @param <T> {@link Class type} of {@link Object result} returned by the {@link Future}.
+   * @return a new {@link ControllableFuture}.
+   * @see org.cp.extensions.mockito.support.ControllableFuture
+   */
+  public static @NotNull <T> ControllableFuture<T> controllableFuture() {
+    return new ControllableFuture<>();
+  }
+
+  /**
+   * Creates a new {@link VirtualTimeScheduledExecutorService} driven by a new {@link VirtualClock}.
+   * <p>
+   * Use with {@link #delayedFuture(Supplier, long, TimeUnit, ScheduledExecutorService)} to create futures
+   * that complete when the test advances virtual time.
+   *
+   * @return a new {@link VirtualTimeScheduledExecutorService}.
+   * @see org.cp.extensions.mockito.support.VirtualTimeScheduledExecutorService
+   * @see org.cp.extensions.mockito.support.VirtualClock
+   */
+  public static @NotNull VirtualTimeScheduledExecutorService virtualTimeScheduler() {
+    return new VirtualTimeScheduledExecutorService();
+  }
+
+  /**
+   * Creates a new {@link StubExecutorService} running submitted tasks immediately on the submitting {@link Thread}.
+   *
+   * @return a new {@link StubExecutorService} in {@link StubExecutorService.Mode#INLINE} mode.
+   * @see org.cp.extensions.mockito.support.StubExecutorService#inline()
+   */
+  public static @NotNull StubExecutorService inlineExecutorService() {
+    return StubExecutorService.inline();
+  }
+
+  /**
+   * Creates a new {@link StubExecutorService} queuing submitted tasks until the test runs them
+   * with {@link StubExecutorService#step()} or {@link StubExecutorService#drain()}.
+   *
+   * @return a new {@link StubExecutorService} in {@link StubExecutorService.Mode#MANUAL} mode.
+   * @see org.cp.extensions.mockito.support.StubExecutorService#manual()
+   */
+  public static @NotNull StubExecutorService manualExecutorService() {
+    return StubExecutorService.manual();
+  }
+
+  /**
+   * Creates a new {@link StubExecutorService} running submitted tasks concurrently on at most the given number
+   * of {@link Thread Threads}.
+   *
+   * @param maxConcurrency maximum number of tasks run concurrently; must be greater than {@literal 0}.
+   * @return a new {@link StubExecutorService} in {@link StubExecutorService.Mode#BOUNDED} mode.
+   * @throws IllegalArgumentException if the maximum concurrency is less than {@literal 1}.
+   * @see org.cp.extensions.mockito.support.StubExecutorService#bounded(int)
+   */
+  public static @NotNull StubExecutorService boundedExecutorService(int maxConcurrency) {
+    return StubExecutorService.bounded(maxConcurrency);
+  }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.mockito.support;
+
+import java.util.concurrent.Future;
+
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.NotNull;
+
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+/**
+ * Mockito default {@link Answer} for a mock {@link Future} delegating the {@link Future} operations
+ * to a bound {@link StubFuture}.
+ * <p>
+ * Using a single default {@link Answer} in place of stubbing each {@link Future} operation reduces
+ * the cost of creating a mock {@link Future} to instantiating the mock. Explicit stubbings applied to
+ * the mock {@link Future} after creation take precedence over this {@link Answer}. All other invocations,
+ * such as {@link Object#toString()}, are answered with {@link Mockito#RETURNS_DEFAULTS}.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of {@link Object result} returned by the mock {@link Future}.
+ * @see java.util.concurrent.Future
+ * @see org.cp.extensions.mockito.support.StubFuture
+ * @see org.mockito.stubbing.Answer
+ * @since 0.1.0
+ */
+class MockFutureAnswer<T> implements Answer<Object> {
+
+  private StubFuture<T> stubFuture;
+
+  /**
+   * Binds the {@link StubFuture} managing the state of the mock {@link Future}.
+   * <p>
+   * The {@link StubFuture} is bound after the mock {@link Future} is created so that the mock {@link Future}
+   * can be identified as the task in {@link Exception} messages.
+   *
+   * @param stubFuture {@link StubFuture} managing the state of the mock {@link Future}; must not be {@literal null}.
+   * @return this {@link MockFutureAnswer}.
+   * @throws IllegalArgumentException if the {@link StubFuture} is {@literal null}.
+   */
+  @NotNull MockFutureAnswer<T> bind(@NotNull StubFuture<T> stubFuture) {
+
+    Assert.notNull(stubFuture, "StubFuture is required");
+
+    this.stubFuture = stubFuture;
+
+    return this;
+  }
+
+  @Override
+  public Object answer(@NotNull InvocationOnMock invocation) throws Throwable {
+
+    StubFuture<T> stubFuture = this.stubFuture;
+
+    if (stubFuture != null && Future.class.equals(invocation.getMethod().getDeclaringClass())) {
+      switch (invocation.getMethod().getName()) {
+        case "cancel":
+          return stubFuture.cancel(invocation.getArgument(0));
+        // used for both Future.get() and Future.get(timeout, :TimeUnit) operations
+        case "get":
+          return stubFuture.get();
+        case "isCancelled":
+          return stubFuture.isCancelled();
+        case "isDone":
+          return stubFuture.isDone();
+      }
+    }
+
+    return Mockito.RETURNS_DEFAULTS.answer(invocation);
+  }
+}
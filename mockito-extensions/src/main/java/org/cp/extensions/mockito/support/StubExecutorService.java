@@ -0,0 +1,306 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.mockito.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.NotNull;
+
+/**
+ * Hand-written {@link ExecutorService} test double running submitted tasks according to a configured {@link Mode}.
+ * <p>
+ * In {@link Mode#INLINE} mode, tasks run immediately on the submitting {@link Thread}, so the returned
+ * {@link java.util.concurrent.Future} is already done. In {@link Mode#MANUAL} mode, tasks are queued until
+ * the test runs them, one at a time with {@link #step()}, or all at once with {@link #drain()}.
+ * In {@link Mode#BOUNDED} mode, tasks run concurrently on at most a fixed number of daemon {@link Thread Threads}.
+ * <p>
+ * Returned {@link java.util.concurrent.Future Futures} are the {@link java.util.concurrent.FutureTask FutureTasks}
+ * created by {@link AbstractExecutorService}, not {@link StubFuture StubFutures} or mock
+ * {@link java.util.concurrent.Future Futures}, and follow the standard {@link java.util.concurrent.Future} contract:
+ * a {@literal cancelled} task is never run, {@link java.util.concurrent.Future#get()} blocks until the task completes,
+ * throws a {@link java.util.concurrent.CancellationException} for a {@literal cancelled} task and
+ * an {@link java.util.concurrent.ExecutionException} wrapping the failure of a task that threw an exception.
+ * In {@link Mode#MANUAL} mode, the test must {@link #step()} or {@link #drain()} queued tasks before calling
+ * {@link java.util.concurrent.Future#get()} on the same {@link Thread}.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.AbstractExecutorService
+ * @see java.util.concurrent.ExecutorService
+ * @see java.util.concurrent.FutureTask
+ * @since 0.1.0
+ */
+public class StubExecutorService extends AbstractExecutorService {
+
+  /**
+   * Factory method used to construct a new {@link StubExecutorService} running tasks immediately
+   * on the submitting {@link Thread}.
+   *
+   * @return a new {@link StubExecutorService} in {@link Mode#INLINE} mode.
+   */
+  public static @NotNull StubExecutorService inline() {
+    return new StubExecutorService(Mode.INLINE, 0);
+  }
+
+  /**
+   * Factory method used to construct a new {@link StubExecutorService} queuing tasks until the test runs them
+   * with {@link #step()} or {@link #drain()}.
+   *
+   * @return a new {@link StubExecutorService} in {@link Mode#MANUAL} mode.
+   */
+  public static @NotNull StubExecutorService manual() {
+    return new StubExecutorService(Mode.MANUAL, 0);
+  }
+
+  /**
+   * Factory method used to construct a new {@link StubExecutorService} running tasks concurrently
+   * on at most the given number of {@link Thread Threads}.
+   *
+   * @param maxConcurrency maximum number of tasks run concurrently; must be greater than {@literal 0}.
+   * @return a new {@link StubExecutorService} in {@link Mode#BOUNDED} mode.
+   * @throws IllegalArgumentException if the maximum concurrency is less than {@literal 1}.
+   */
+  public static @NotNull StubExecutorService bounded(int maxConcurrency) {
+
+    Assert.isTrue(maxConcurrency > 0, "Maximum concurrency [%d] must be greater than 0", maxConcurrency);
+
+    return new StubExecutorService(Mode.BOUNDED, maxConcurrency);
+  }
+
+  private final AtomicInteger activeCount = new AtomicInteger(0);
+  private final AtomicInteger peakConcurrency = new AtomicInteger(0);
+
+  private final AtomicLong completedTaskCount = new AtomicLong(0L);
+
+  private final ExecutorService boundedExecutor;
+
+  private final Mode mode;
+
+  private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+
+  private volatile boolean shutdown;
+
+  private StubExecutorService(@NotNull Mode mode, int maxConcurrency) {
+
+    this.mode = mode;
+    this.boundedExecutor = Mode.BOUNDED.equals(mode) ? newBoundedExecutor(maxConcurrency) : null;
+  }
+
+  private static @NotNull ExecutorService newBoundedExecutor(int maxConcurrency) {
+
+    AtomicInteger threadCount = new AtomicInteger(0);
+
+    return Executors.newFixedThreadPool(maxConcurrency, runnable -> {
+      Thread thread = new Thread(runnable, "stub-executor-thread-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Gets the {@link Mode} in which this {@link StubExecutorService} runs tasks.
+   *
+   * @return the {@link Mode} in which this {@link StubExecutorService} runs tasks.
+   * @see Mode
+   */
+  public @NotNull Mode getMode() {
+    return this.mode;
+  }
+
+  /**
+   * Gets the number of tasks currently running.
+   *
+   * @return the number of tasks currently running.
+   */
+  public int getActiveCount() {
+    return this.activeCount.get();
+  }
+
+  /**
+   * Gets the number of tasks that have finished running, successfully or not.
+   *
+   * @return the number of tasks that have finished running.
+   */
+  public long getCompletedTaskCount() {
+    return this.completedTaskCount.get();
+  }
+
+  /**
+   * Gets the greatest number of tasks observed running at the same time.
+   *
+   * @return the greatest number of tasks observed running at the same time.
+   */
+  public int getPeakConcurrency() {
+    return this.peakConcurrency.get();
+  }
+
+  /**
+   * Gets the number of tasks queued in {@link Mode#MANUAL} mode and waiting to be run by the test.
+   *
+   * @return the number of queued tasks.
+   */
+  public int getQueueSize() {
+    return this.queue.size();
+  }
+
+  @Override
+  public void execute(@NotNull Runnable command) {
+
+    Assert.notNull(command, "Runnable is required");
+
+    if (isShutdown()) {
+      throw new RejectedExecutionException(String.format("ExecutorService [%s] was shutdown", this));
+    }
+
+    switch (getMode()) {
+      case INLINE:
+        run(command);
+        break;
+      case MANUAL:
+        this.queue.add(command);
+        break;
+      default:
+        this.boundedExecutor.execute(() -> run(command));
+    }
+  }
+
+  private void run(@NotNull Runnable command) {
+
+    this.peakConcurrency.accumulateAndGet(this.activeCount.incrementAndGet(), Math::max);
+
+    try {
+      command.run();
+    }
+    finally {
+      this.activeCount.decrementAndGet();
+      this.completedTaskCount.incrementAndGet();
+    }
+  }
+
+  /**
+   * Runs the next queued task, in {@link Mode#MANUAL} mode, on the calling {@link Thread}.
+   *
+   * @return a boolean value indicating whether a task was run.
+   * @see #drain()
+   */
+  public boolean step() {
+
+    Runnable command = this.queue.poll();
+
+    if (command != null) {
+      run(command);
+      return true;
+    }
+
+    return false;
+  }
+
+  /**
+   * Runs all queued tasks, in {@link Mode#MANUAL} mode, on the calling {@link Thread}, including tasks submitted
+   * by the tasks that ran, until the queue is empty.
+   *
+   * @return the number of tasks that ran.
+   * @see #step()
+   */
+  public int drain() {
+
+    int count = 0;
+
+    while (step()) {
+      count++;
+    }
+
+    return count;
+  }
+
+  @Override
+  public void shutdown() {
+
+    this.shutdown = true;
+
+    if (this.boundedExecutor != null) {
+      this.boundedExecutor.shutdown();
+    }
+  }
+
+  @Override
+  public @NotNull List<Runnable> shutdownNow() {
+
+    shutdown();
+
+    List<Runnable> pendingTasks = new ArrayList<>();
+
+    for (Runnable command = this.queue.poll(); command != null; command = this.queue.poll()) {
+      pendingTasks.add(command);
+    }
+
+    if (this.boundedExecutor != null) {
+      pendingTasks.addAll(this.boundedExecutor.shutdownNow());
+    }
+
+    return Collections.unmodifiableList(pendingTasks);
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return this.shutdown;
+  }
+
+  @Override
+  public boolean isTerminated() {
+
+    return isShutdown()
+      && this.queue.isEmpty()
+      && getActiveCount() == 0
+      && (this.boundedExecutor == null || this.boundedExecutor.isTerminated());
+  }
+
+  // Only tasks run by the bounded executor complete on their own; otherwise, waiting does not change the outcome.
+  @Override
+  public boolean awaitTermination(long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+
+    return this.boundedExecutor != null
+      ? isShutdown() && this.boundedExecutor.awaitTermination(timeout, unit)
+      : isTerminated();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s[mode=%s]", getClass().getSimpleName(), getMode());
+  }
+
+  /**
+   * Enumeration of the modes in which a {@link StubExecutorService} runs tasks.
+   */
+  public enum Mode {
+
+    BOUNDED,
+    INLINE,
+    MANUAL
+
+  }
+}
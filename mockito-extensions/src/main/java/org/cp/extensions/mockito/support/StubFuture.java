@@ -0,0 +1,272 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.mockito.support;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+import org.cp.elements.text.FormatUtils;
+
+/**
+ * Lightweight, hand-written {@link Future} test double returning the {@link Object result}
+ * from a given {@link Supplier} as the asynchronous, computed value.
+ * <p>
+ * A {@link StubFuture} has the same {@link #cancel(boolean)}, {@link #get()}, {@link #isCancelled()}
+ * and {@link #isDone()} semantics as a {@link JavaMockObjects#mockFuture(Supplier) mock Future},
+ * without the cost of generating and stubbing a Mockito mock for every {@link Future}.
+ * <p>
+ * Since the result is known ahead-of-time, the timeout passed to {@link #get(long, TimeUnit)} is ignored,
+ * and no {@link java.util.concurrent.TimeoutException} is thrown.
+ * <p>
+ * The state of a {@link StubFuture} is kept in a single, atomic state word updated with compare-and-set
+ * transitions, so any number of {@link Thread Threads} can call {@link #cancel(boolean)}, {@link #get()},
+ * {@link #isCancelled()} and {@link #isDone()} concurrently without blocking, and always observe
+ * a consistent state.
+ * <p>
+ * By default, the {@link Supplier} is invoked on every call to {@link #get()}. A {@literal memoizing}
+ * {@link StubFuture} invokes the {@link Supplier} exactly once, on the first call to {@link #get()},
+ * while concurrent callers wait for the result, and then returns the cached value, or throws the cached
+ * {@link ExecutionException}, on all subsequent calls.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of {@link Object result} returned by this {@link Future}.
+ * @see java.util.concurrent.Future
+ * @see java.util.function.Supplier
+ * @see org.cp.extensions.mockito.support.JavaMockObjects
+ * @since 0.1.0
+ */
+public class StubFuture<T> implements Future<T> {
+
+  // States of a StubFuture; transitions are: NEW -> CANCELLED, NEW -> COMPLETING -> DONE | FAILED,
+  // and DONE <-> FAILED when the result is re-computed by a StubFuture that does not memoize the result.
+  static final int NEW = 0;
+  static final int COMPLETING = 1;
+  static final int DONE = 2;
+  static final int FAILED = 3;
+  static final int CANCELLED = 4;
+
+  @SuppressWarnings("rawtypes")
+  private static final AtomicIntegerFieldUpdater<StubFuture> STATE =
+    AtomicIntegerFieldUpdater.newUpdater(StubFuture.class, "state");
+
+  private volatile int state = NEW;
+
+  private final boolean memoize;
+
+  // memoized outcome; published by the volatile write to state
+  private ExecutionException failure;
+
+  private T value;
+
+  private final Object task;
+
+  private final Supplier<T> result;
+
+  private final WaitQueue waiters = new WaitQueue();
+
+  /**
+   * Constructs a new {@link StubFuture} returning the {@link Object result} from the given, required
+   * {@link Supplier} as the asynchronous, computed value.
+   *
+   * @param result {@link Supplier} used to supply the {@link Object value} returned by this {@link Future}
+   * as the asynchronous, computed result; must not be {@literal null}.
+   * @throws IllegalArgumentException if the given {@link Supplier} is {@literal null}.
+   * @see java.util.function.Supplier
+   */
+  public StubFuture(@NotNull Supplier<T> result) {
+    this(result, false);
+  }
+
+  /**
+   * Constructs a new {@link StubFuture} returning the {@link Object result} from the given, required
+   * {@link Supplier} as the asynchronous, computed value, optionally memoizing the result.
+   *
+   * @param result {@link Supplier} used to supply the {@link Object value} returned by this {@link Future}
+   * as the asynchronous, computed result; must not be {@literal null}.
+   * @param memoize boolean value indicating whether the {@link Supplier} is invoked exactly once
+   * and the result cached for all subsequent calls to {@link #get()}.
+   * @throws IllegalArgumentException if the given {@link Supplier} is {@literal null}.
+   * @see java.util.function.Supplier
+   */
+  public StubFuture(@NotNull Supplier<T> result, boolean memoize) {
+    this(result, null, memoize);
+  }
+
+  /**
+   * Constructs a new {@link StubFuture} returning the {@link Object result} from the given, required
+   * {@link Supplier} as the asynchronous, computed value, identified as the given {@link Object task}
+   * in {@link Exception} messages.
+   *
+   * @param result {@link Supplier} used to supply the {@link Object value} returned by this {@link Future}
+   * as the asynchronous, computed result; must not be {@literal null}.
+   * @param task {@link Object} identifying the task in {@link Exception} messages;
+   * defaults to this {@link StubFuture}.
+   * @param memoize boolean value indicating whether the {@link Supplier} is invoked exactly once
+   * and the result cached for all subsequent calls to {@link #get()}.
+   * @throws IllegalArgumentException if the given {@link Supplier} is {@literal null}.
+   * @see java.util.function.Supplier
+   */
+  StubFuture(@NotNull Supplier<T> result, @Nullable Object task, boolean memoize) {
+
+    Assert.notNull(result, "Supplier used to supply the value returned by the Future as the result is required");
+
+    this.result = result;
+    this.task = task;
+    this.memoize = memoize;
+  }
+
+  /**
+   * Determines whether this {@link StubFuture} memoizes the result.
+   *
+   * @return a boolean value indicating whether this {@link StubFuture} memoizes the result.
+   */
+  public boolean isMemoizing() {
+    return this.memoize;
+  }
+
+  private @NotNull Object getTask() {
+    return this.task != null ? this.task : this;
+  }
+
+  // A Future can be cancelled only if not completed, it has not already been cancelled, and no exception was thrown
+  // while computing the result.
+  @Override
+  public boolean cancel(boolean mayInterruptIfRunning) {
+    return STATE.compareAndSet(this, NEW, CANCELLED);
+  }
+
+  @Override
+  public boolean isCancelled() {
+    return this.state == CANCELLED;
+  }
+
+  @Override
+  public boolean isDone() {
+    return this.state != NEW;
+  }
+
+  @Override
+  public T get() throws InterruptedException, ExecutionException {
+    return isMemoizing() ? getMemoized() : compute();
+  }
+
+  private T compute() throws InterruptedException, ExecutionException {
+
+    boolean completing = STATE.compareAndSet(this, NEW, COMPLETING);
+
+    if (Thread.currentThread().isInterrupted()) {
+      complete(completing, DONE);
+      Assert.notInterrupted();
+    }
+
+    if (this.state == CANCELLED) {
+      throw new CancellationException(String.format("Task [%s] was cancelled", getTask()));
+    }
+
+    try {
+      T value = this.result.get();
+      complete(completing, DONE);
+      return value;
+    }
+    catch (Throwable cause) {
+      complete(completing, FAILED);
+      String message = FormatUtils.format("Execution of task [%s] failed", getTask());
+      throw new ExecutionException(message, cause);
+    }
+  }
+
+  @Override
+  public T get(long timeout, @NotNull TimeUnit unit) throws InterruptedException, ExecutionException {
+    return get();
+  }
+
+  // Single-flight: the first caller computes the result while concurrent callers park until the result is available.
+  private T getMemoized() throws InterruptedException, ExecutionException {
+
+    Assert.notInterrupted();
+
+    for (int state = this.state; ; state = this.state) {
+      if (state == NEW) {
+        if (STATE.compareAndSet(this, NEW, COMPLETING)) {
+          memoize();
+        }
+      }
+      else if (state == COMPLETING) {
+        awaitMemoizedResult();
+      }
+      else if (state == CANCELLED) {
+        throw new CancellationException(String.format("Task [%s] was cancelled", getTask()));
+      }
+      else if (state == FAILED) {
+        throw this.failure;
+      }
+      else {
+        return this.value;
+      }
+    }
+  }
+
+  private void memoize() {
+
+    try {
+      this.value = this.result.get();
+      this.state = DONE;
+    }
+    catch (Throwable cause) {
+      this.failure = new ExecutionException(FormatUtils.format("Execution of task [%s] failed", getTask()), cause);
+      this.state = FAILED;
+    }
+    finally {
+      this.waiters.releaseAll();
+    }
+  }
+
+  private void awaitMemoizedResult() throws InterruptedException {
+
+    WaitQueue.Node waiter = this.waiters.push();
+
+    try {
+      while (this.state == COMPLETING) {
+        LockSupport.park(this);
+        if (Thread.currentThread().isInterrupted()) {
+          Assert.notInterrupted();
+        }
+      }
+    }
+    finally {
+      this.waiters.remove(waiter);
+    }
+  }
+
+  private void complete(boolean completing, int completedState) {
+
+    if (completing) {
+      this.state = completedState;
+    }
+    else {
+      // the result is re-computed on every call to get(); record the outcome of the most recent computation
+      STATE.compareAndSet(this, completedState == DONE ? FAILED : DONE, completedState);
+    }
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.mockito.support;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.NotNull;
+
+/**
+ * {@link Clock} test double measuring virtual time, which only advances when the test
+ * {@link #advance(Duration) advances} the {@link Clock}.
+ * <p>
+ * Code under test using this {@link Clock}, or a {@link VirtualTimeScheduledExecutorService} driven by
+ * this {@link Clock}, observes time passing instantly, so that timeout, retry and backoff scenarios
+ * spanning minutes of virtual time run in microseconds.
+ * <p>
+ * {@link VirtualClock VirtualClocks} derived with {@link #withZone(ZoneId)} share the same virtual time.
+ *
+ * @author John Blum
+ * @see java.time.Clock
+ * @see org.cp.extensions.mockito.support.VirtualTimeScheduledExecutorService
+ * @since 0.1.0
+ */
+public class VirtualClock extends Clock {
+
+  private final AtomicLong nanoTime;
+
+  private final Instant origin;
+
+  private final ZoneId zone;
+
+  /**
+   * Constructs a new {@link VirtualClock} starting at the {@link Instant#EPOCH} in {@link ZoneOffset#UTC}.
+   */
+  public VirtualClock() {
+    this(Instant.EPOCH, ZoneOffset.UTC);
+  }
+
+  /**
+   * Constructs a new {@link VirtualClock} starting at the given, required {@link Instant}
+   * in the given, required {@link ZoneId time zone}.
+   *
+   * @param origin {@link Instant} at which the virtual time starts; must not be {@literal null}.
+   * @param zone {@link ZoneId time zone} of this {@link Clock}; must not be {@literal null}.
+   * @throws IllegalArgumentException if the {@link Instant} or {@link ZoneId} is {@literal null}.
+   */
+  public VirtualClock(@NotNull Instant origin, @NotNull ZoneId zone) {
+    this(origin, zone, new AtomicLong(0L));
+  }
+
+  private VirtualClock(@NotNull Instant origin, @NotNull ZoneId zone, @NotNull AtomicLong nanoTime) {
+
+    Assert.notNull(origin, "Instant at which the virtual time starts is required");
+    Assert.notNull(zone, "ZoneId is required");
+
+    this.origin = origin;
+    this.zone = zone;
+    this.nanoTime = nanoTime;
+  }
+
+  @Override
+  public ZoneId getZone() {
+    return this.zone;
+  }
+
+  @Override
+  public @NotNull VirtualClock withZone(@NotNull ZoneId zone) {
+    return new VirtualClock(this.origin, zone, this.nanoTime);
+  }
+
+  @Override
+  public Instant instant() {
+    return this.origin.plusNanos(nanoTime());
+  }
+
+  /**
+   * Gets the virtual time, in nanoseconds, elapsed since this {@link VirtualClock} started.
+   * <p>
+   * The virtual counterpart of {@link System#nanoTime()}.
+   *
+   * @return the virtual time, in nanoseconds, elapsed since this {@link VirtualClock} started.
+   */
+  public long nanoTime() {
+    return this.nanoTime.get();
+  }
+
+  /**
+   * Advances this {@link VirtualClock} by the given, required {@link Duration}.
+   *
+   * @param duration {@link Duration} by which to advance the virtual time; must not be {@literal null}
+   * or negative.
+   * @return the new virtual time in nanoseconds.
+   * @throws IllegalArgumentException if the {@link Duration} is {@literal null} or negative.
+   * @see #advance(long, TimeUnit)
+   */
+  public long advance(@NotNull Duration duration) {
+
+    Assert.notNull(duration, "Duration is required");
+
+    return advance(duration.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Advances this {@link VirtualClock} by the given amount of time.
+   *
+   * @param time amount of time by which to advance the virtual time; must not be negative.
+   * @param unit {@link TimeUnit} of the amount of time; must not be {@literal null}.
+   * @return the new virtual time in nanoseconds.
+   * @throws IllegalArgumentException if the amount of time is negative or the {@link TimeUnit} is {@literal null}.
+   */
+  public long advance(long time, @NotNull TimeUnit unit) {
+
+    Assert.isTrue(time >= 0L, "Time [%d] to advance the virtual clock must not be negative", time);
+    Assert.notNull(unit, "TimeUnit is required");
+
+    return this.nanoTime.addAndGet(unit.toNanos(time));
+  }
+
+  /**
+   * Advances this {@link VirtualClock} to the given virtual time, unless the virtual time has already passed.
+   *
+   * @param nanoTime virtual time, in nanoseconds, to advance to.
+   * @return the new virtual time in nanoseconds.
+   */
+  long advanceTo(long nanoTime) {
+    return this.nanoTime.accumulateAndGet(nanoTime, Math::max);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("VirtualClock[%s,%s]", instant(), getZone());
+  }
+}
@@ -0,0 +1,340 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.mockito.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.NotNull;
+
+/**
+ * {@link ScheduledExecutorService} test double running tasks in virtual time measured by a {@link VirtualClock}.
+ * <p>
+ * Tasks never run on their own. Instead, the test {@link #advance(Duration) advances} virtual time, and all tasks
+ * scheduled to run before or at the new virtual time run on the calling {@link Thread}, in order of their scheduled
+ * time, with the {@link VirtualClock} set to the scheduled time of each task as it runs. Tasks
+ * {@link #execute(Runnable) executed} or scheduled without a delay run on the next call to {@link #runDueTasks()}
+ * or {@link #advance(Duration)}.
+ * <p>
+ * Combined with {@link JavaMockObjects#delayedFuture(java.util.function.Supplier, long, TimeUnit,
+ * ScheduledExecutorService)}, futures complete at a virtual time {@literal T} as soon as the test advances
+ * the virtual time to {@literal T}, without sleeping.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.ScheduledExecutorService
+ * @see org.cp.extensions.mockito.support.VirtualClock
+ * @since 0.1.0
+ */
+public class VirtualTimeScheduledExecutorService extends AbstractExecutorService implements ScheduledExecutorService {
+
+  private final AtomicLong sequence = new AtomicLong(0L);
+
+  private final PriorityQueue<VirtualTimeTask<?>> tasks = new PriorityQueue<>();
+
+  private final VirtualClock clock;
+
+  private volatile boolean shutdown;
+
+  /**
+   * Constructs a new {@link VirtualTimeScheduledExecutorService} driven by a new {@link VirtualClock}.
+   */
+  public VirtualTimeScheduledExecutorService() {
+    this(new VirtualClock());
+  }
+
+  /**
+   * Constructs a new {@link VirtualTimeScheduledExecutorService} driven by the given, required {@link VirtualClock}.
+   *
+   * @param clock {@link VirtualClock} measuring virtual time; must not be {@literal null}.
+   * @throws IllegalArgumentException if the {@link VirtualClock} is {@literal null}.
+   * @see org.cp.extensions.mockito.support.VirtualClock
+   */
+  public VirtualTimeScheduledExecutorService(@NotNull VirtualClock clock) {
+
+    Assert.notNull(clock, "VirtualClock is required");
+
+    this.clock = clock;
+  }
+
+  /**
+   * Gets the {@link VirtualClock} measuring virtual time for this {@link ScheduledExecutorService}.
+   *
+   * @return the {@link VirtualClock} measuring virtual time for this {@link ScheduledExecutorService}.
+   * @see org.cp.extensions.mockito.support.VirtualClock
+   */
+  public @NotNull VirtualClock getClock() {
+    return this.clock;
+  }
+
+  /**
+   * Advances virtual time by the given, required {@link Duration}, running all tasks scheduled to run
+   * before or at the new virtual time.
+   *
+   * @param duration {@link Duration} by which to advance virtual time; must not be {@literal null} or negative.
+   * @return the number of tasks that ran.
+   * @throws IllegalArgumentException if the {@link Duration} is {@literal null} or negative.
+   * @see #advance(long, TimeUnit)
+   */
+  public int advance(@NotNull Duration duration) {
+
+    Assert.notNull(duration, "Duration is required");
+
+    return advance(duration.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Advances virtual time by the given amount of time, running all tasks scheduled to run
+   * before or at the new virtual time.
+   *
+   * @param time amount of time by which to advance virtual time; must not be negative.
+   * @param unit {@link TimeUnit} of the amount of time; must not be {@literal null}.
+   * @return the number of tasks that ran.
+   * @throws IllegalArgumentException if the amount of time is negative or the {@link TimeUnit} is {@literal null}.
+   */
+  public int advance(long time, @NotNull TimeUnit unit) {
+
+    Assert.isTrue(time >= 0L, "Time [%d] to advance the virtual clock must not be negative", time);
+    Assert.notNull(unit, "TimeUnit is required");
+
+    long deadline = getClock().nanoTime() + unit.toNanos(time);
+
+    int count = runTasksDueBy(deadline);
+
+    getClock().advanceTo(deadline);
+
+    return count;
+  }
+
+  /**
+   * Runs all tasks scheduled to run before or at the current virtual time, without advancing virtual time.
+   *
+   * @return the number of tasks that ran.
+   */
+  public int runDueTasks() {
+    return runTasksDueBy(getClock().nanoTime());
+  }
+
+  private int runTasksDueBy(long deadline) {
+
+    int count = 0;
+
+    for (VirtualTimeTask<?> task = pollTaskDueBy(deadline); task != null; task = pollTaskDueBy(deadline)) {
+      getClock().advanceTo(task.time);
+      task.run();
+      count++;
+    }
+
+    return count;
+  }
+
+  private synchronized VirtualTimeTask<?> pollTaskDueBy(long deadline) {
+
+    VirtualTimeTask<?> task = this.tasks.peek();
+
+    return task != null && task.time <= deadline ? this.tasks.poll() : null;
+  }
+
+  /**
+   * Gets the number of tasks waiting to run, including cancelled tasks not yet removed.
+   *
+   * @return the number of tasks waiting to run.
+   */
+  public synchronized int getNumberOfScheduledTasks() {
+    return this.tasks.size();
+  }
+
+  private <V> VirtualTimeTask<V> enqueue(@NotNull VirtualTimeTask<V> task) {
+
+    if (isShutdown()) {
+      throw new RejectedExecutionException(String.format("ScheduledExecutorService [%s] was shutdown", this));
+    }
+
+    synchronized (this) {
+      this.tasks.add(task);
+    }
+
+    return task;
+  }
+
+  private long triggerTime(long delay, @NotNull TimeUnit unit) {
+
+    Assert.notNull(unit, "TimeUnit is required");
+
+    return getClock().nanoTime() + Math.max(unit.toNanos(delay), 0L);
+  }
+
+  @Override
+  public void execute(@NotNull Runnable command) {
+    schedule(command, 0L, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public @NotNull ScheduledFuture<?> schedule(@NotNull Runnable command, long delay, @NotNull TimeUnit unit) {
+
+    Assert.notNull(command, "Runnable is required");
+
+    return enqueue(new VirtualTimeTask<>(Executors.callable(command, null), triggerTime(delay, unit), 0L));
+  }
+
+  @Override
+  public @NotNull <V> ScheduledFuture<V> schedule(@NotNull Callable<V> callable, long delay, @NotNull TimeUnit unit) {
+
+    Assert.notNull(callable, "Callable is required");
+
+    return enqueue(new VirtualTimeTask<>(callable, triggerTime(delay, unit), 0L));
+  }
+
+  @Override
+  public @NotNull ScheduledFuture<?> scheduleAtFixedRate(@NotNull Runnable command, long initialDelay, long period,
+      @NotNull TimeUnit unit) {
+
+    Assert.notNull(command, "Runnable is required");
+    Assert.isTrue(period > 0L, "Period [%d] must be greater than 0", period);
+
+    return enqueue(new VirtualTimeTask<>(Executors.callable(command, null), triggerTime(initialDelay, unit),
+      unit.toNanos(period)));
+  }
+
+  @Override
+  public @NotNull ScheduledFuture<?> scheduleWithFixedDelay(@NotNull Runnable command, long initialDelay, long delay,
+      @NotNull TimeUnit unit) {
+
+    Assert.notNull(command, "Runnable is required");
+    Assert.isTrue(delay > 0L, "Delay [%d] must be greater than 0", delay);
+
+    return enqueue(new VirtualTimeTask<>(Executors.callable(command, null), triggerTime(initialDelay, unit),
+      -unit.toNanos(delay)));
+  }
+
+  @Override
+  public void shutdown() {
+    this.shutdown = true;
+  }
+
+  @Override
+  public synchronized @NotNull List<Runnable> shutdownNow() {
+
+    shutdown();
+
+    List<Runnable> pendingTasks = new ArrayList<>(this.tasks);
+
+    this.tasks.clear();
+
+    return Collections.unmodifiableList(pendingTasks);
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return this.shutdown;
+  }
+
+  @Override
+  public synchronized boolean isTerminated() {
+    return isShutdown() && this.tasks.isEmpty();
+  }
+
+  // Tasks only run when the test advances virtual time; therefore, waiting does not change the outcome.
+  @Override
+  public boolean awaitTermination(long timeout, @NotNull TimeUnit unit) {
+    return isTerminated();
+  }
+
+  class VirtualTimeTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+
+    // period > 0 is a fixed rate; period < 0 is a fixed delay; period == 0 is a one-shot task
+    private final long period;
+
+    private final long sequenceNumber;
+
+    private long time;
+
+    VirtualTimeTask(@NotNull Callable<V> callable, long time, long period) {
+      super(callable);
+      this.time = time;
+      this.period = period;
+      this.sequenceNumber = sequence.getAndIncrement();
+    }
+
+    @Override
+    public boolean isPeriodic() {
+      return this.period != 0L;
+    }
+
+    @Override
+    public long getDelay(@NotNull TimeUnit unit) {
+      return unit.convert(this.time - getClock().nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(@NotNull Delayed delayed) {
+
+      if (delayed == this) {
+        return 0;
+      }
+      else if (delayed instanceof VirtualTimeTask) {
+
+        VirtualTimeTask<?> that = (VirtualTimeTask<?>) delayed;
+
+        int result = Long.compare(this.time, that.time);
+
+        return result != 0 ? result : Long.compare(this.sequenceNumber, that.sequenceNumber);
+      }
+
+      return Long.compare(getDelay(TimeUnit.NANOSECONDS), delayed.getDelay(TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public void run() {
+
+      if (!isPeriodic()) {
+        super.run();
+      }
+      else if (super.runAndReset() && !isShutdown()) {
+        this.time = this.period > 0L ? this.time + this.period : getClock().nanoTime() - this.period;
+        enqueue(this);
+      }
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+
+      boolean cancelled = super.cancel(mayInterruptIfRunning);
+
+      if (cancelled) {
+        synchronized (VirtualTimeScheduledExecutorService.this) {
+          VirtualTimeScheduledExecutorService.this.tasks.remove(this);
+        }
+      }
+
+      return cancelled;
+    }
+  }
+}
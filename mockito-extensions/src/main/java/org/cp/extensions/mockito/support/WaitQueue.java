@@ -0,0 +1,146 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.mockito.support;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+
+/**
+ * Lock-free stack of {@link Thread Threads} parked waiting for a {@link java.util.concurrent.Future} to complete,
+ * shared by the {@link StubFuture} and {@link ControllableFuture} test doubles.
+ * <p>
+ * As with {@link java.util.concurrent.FutureTask}, a {@link Thread} that stops waiting, because the timeout elapsed
+ * or the {@link Thread} was interrupted, {@link #remove(Node) removes} its {@link Node}, so repeatedly polling
+ * a {@link java.util.concurrent.Future} with a timeout does not grow the stack.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.locks.LockSupport
+ * @see org.cp.extensions.mockito.support.ControllableFuture
+ * @see org.cp.extensions.mockito.support.StubFuture
+ * @since 0.1.0
+ */
+final class WaitQueue {
+
+  private static final AtomicReferenceFieldUpdater<WaitQueue, Node> HEAD =
+    AtomicReferenceFieldUpdater.newUpdater(WaitQueue.class, Node.class, "head");
+
+  private volatile Node head;
+
+  /**
+   * Pushes a {@link Node} for the current {@link Thread} onto this stack.
+   *
+   * @return the {@link Node} of the current {@link Thread}, which must be {@link #remove(Node) removed}
+   * when the {@link Thread} stops waiting.
+   */
+  @NotNull Node push() {
+
+    Node node = new Node(Thread.currentThread());
+
+    do {
+      node.next = this.head;
+    }
+    while (!HEAD.compareAndSet(this, node.next, node));
+
+    return node;
+  }
+
+  /**
+   * Removes the given {@link Node} from this stack, along with any other {@link Node} already removed,
+   * as {@literal FutureTask#removeWaiter(..)} does.
+   *
+   * @param node {@link Node} to remove; may be {@literal null}.
+   */
+  void remove(@Nullable Node node) {
+
+    if (node != null) {
+
+      node.thread = null;
+
+      retry:
+      for (;;) {
+
+        for (Node predecessor = null, current = this.head, successor; current != null; current = successor) {
+
+          successor = current.next;
+
+          if (current.thread != null) {
+            predecessor = current;
+          }
+          else if (predecessor != null) {
+
+            predecessor.next = successor;
+
+            // the predecessor was removed concurrently
+            if (predecessor.thread == null) {
+              continue retry;
+            }
+          }
+          else if (!HEAD.compareAndSet(this, current, successor)) {
+            continue retry;
+          }
+        }
+
+        break;
+      }
+    }
+  }
+
+  /**
+   * Unparks and removes all waiting {@link Thread Threads}.
+   */
+  void releaseAll() {
+
+    for (Node node = HEAD.getAndSet(this, null); node != null; node = node.next) {
+
+      Thread thread = node.thread;
+
+      if (thread != null) {
+        node.thread = null;
+        LockSupport.unpark(thread);
+      }
+    }
+  }
+
+  /**
+   * Returns the number of {@link Node Nodes} on this stack.
+   *
+   * @return the number of {@link Node Nodes} on this stack.
+   */
+  int size() {
+
+    int size = 0;
+
+    for (Node node = this.head; node != null; node = node.next) {
+      size++;
+    }
+
+    return size;
+  }
+
+  static final class Node {
+
+    private volatile Node next;
+
+    private volatile Thread thread;
+
+    Node(@NotNull Thread thread) {
+      this.thread = thread;
+    }
+  }
+}
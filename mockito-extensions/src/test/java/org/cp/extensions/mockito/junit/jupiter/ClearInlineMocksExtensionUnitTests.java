@@ -0,0 +1,143 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.mockito.junit.jupiter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.matches;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.ArrayList;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import org.mockito.MockMakers;
+
+/**
+ * Unit Tests for {@link ClearInlineMocksExtension}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.extensions.mockito.junit.jupiter.ClearInlineMocks
+ * @see org.cp.extensions.mockito.junit.jupiter.ClearInlineMocksExtension
+ * @since 0.1.0
+ */
+public class ClearInlineMocksExtensionUnitTests {
+
+  private final ClearInlineMocksExtension extension = new ClearInlineMocksExtension();
+
+  private ExtensionContext mockExtensionContext(Class<?> testClass) {
+
+    ExtensionContext mockExtensionContext = mock(ExtensionContext.class, withSettings().mockMaker(MockMakers.SUBCLASS));
+
+    doReturn(Optional.of(testClass)).when(mockExtensionContext).getTestClass();
+    doReturn("test").when(mockExtensionContext).getDisplayName();
+
+    return mockExtensionContext;
+  }
+
+  private Object newInlineMock() {
+
+    Object mock = mock(ArrayList.class, withSettings().mockMaker(MockMakers.INLINE));
+
+    assertThat(mockingDetails(mock).isMock()).isTrue();
+
+    return mock;
+  }
+
+  @Test
+  public void clearsInlineMocksAfterEachTestForTestScope() {
+
+    Object mock = newInlineMock();
+
+    this.extension.afterEach(mockExtensionContext(TestScopedTests.class));
+
+    assertThat(mockingDetails(mock).isMock()).isFalse();
+  }
+
+  @Test
+  public void doesNotClearInlineMocksAfterEachTestForClassScope() {
+
+    Object mock = newInlineMock();
+
+    ExtensionContext mockExtensionContext = mockExtensionContext(ClassScopedTests.class);
+
+    this.extension.afterEach(mockExtensionContext);
+
+    assertThat(mockingDetails(mock).isMock()).isTrue();
+
+    this.extension.afterAll(mockExtensionContext);
+
+    assertThat(mockingDetails(mock).isMock()).isFalse();
+    verify(mockExtensionContext, never()).publishReportEntry(anyString(), anyString());
+  }
+
+  @Test
+  public void doesNotClearInlineMocksForUnannotatedTestClass() {
+
+    Object mock = newInlineMock();
+
+    this.extension.afterEach(mockExtensionContext(ClearInlineMocksExtensionUnitTests.class));
+    this.extension.afterAll(mockExtensionContext(ClearInlineMocksExtensionUnitTests.class));
+
+    assertThat(mockingDetails(mock).isMock()).isTrue();
+  }
+
+  @Test
+  public void publishesHeapUsageReport() {
+
+    ExtensionContext mockExtensionContext = mockExtensionContext(TestScopedTests.class);
+
+    this.extension.afterEach(mockExtensionContext);
+
+    verify(mockExtensionContext).publishReportEntry(eq(ClearInlineMocksExtension.REPORT_ENTRY_KEY),
+      matches("Cleared inline mocks after \\[test]; heap used \\[\\d+ -> \\d+ bytes]; reclaimed \\[\\d+ bytes]"));
+  }
+
+  @Test
+  public void doesNotClearInlineMocksWhenParallelExecutionIsEnabled() {
+
+    Object mock = newInlineMock();
+
+    ExtensionContext mockExtensionContext = mockExtensionContext(TestScopedTests.class);
+
+    doReturn(Optional.of("true")).when(mockExtensionContext)
+      .getConfigurationParameter(eq(ClearInlineMocksExtension.PARALLEL_EXECUTION_ENABLED_PROPERTY));
+
+    this.extension.afterEach(mockExtensionContext);
+    this.extension.afterAll(mockExtensionContext);
+
+    assertThat(mockingDetails(mock).isMock()).isTrue();
+    verify(mockExtensionContext, times(2)).publishReportEntry(eq(ClearInlineMocksExtension.REPORT_ENTRY_KEY),
+      matches("Inline mocks not cleared after \\[test] since clearing would also clear the mocks of tests running.*"));
+  }
+
+  @ClearInlineMocks(scope = ClearInlineMocks.Scope.TEST, report = true)
+  static class TestScopedTests { }
+
+  @ClearInlineMocks
+  static class ClassScopedTests { }
+
+}
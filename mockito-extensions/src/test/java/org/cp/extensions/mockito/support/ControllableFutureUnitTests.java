@@ -0,0 +1,222 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.mockito.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit Tests for {@link ControllableFuture}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.extensions.mockito.support.ControllableFuture
+ * @since 0.1.0
+ */
+public class ControllableFutureUnitTests {
+
+  private final ExecutorService executorService = Executors.newCachedThreadPool();
+
+  @AfterEach
+  public void shutdownExecutorService() {
+    this.executorService.shutdownNow();
+  }
+
+  private void awaitWaitingThreads(ControllableFuture<?> future, int count) throws InterruptedException {
+
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10L);
+
+    while (future.getNumberOfWaitingThreads() < count) {
+      assertThat(System.nanoTime()).isLessThan(deadline);
+      Thread.sleep(1L);
+    }
+  }
+
+  @Test
+  public void getBlocksUntilCompleted() throws Exception {
+
+    ControllableFuture<String> future = new ControllableFuture<>();
+
+    Future<String> resultOne = this.executorService.submit(() -> future.get());
+    Future<String> resultTwo = this.executorService.submit(() -> future.get(1L, TimeUnit.MINUTES));
+
+    awaitWaitingThreads(future, 2);
+
+    assertThat(future).isNotDone();
+    assertThat(resultOne).isNotDone();
+    assertThat(resultTwo).isNotDone();
+    assertThat(future.complete("test")).isTrue();
+    assertThat(resultOne.get(10L, TimeUnit.SECONDS)).isEqualTo("test");
+    assertThat(resultTwo.get(10L, TimeUnit.SECONDS)).isEqualTo("test");
+    assertThat(future).isDone();
+    assertThat(future).isNotCancelled();
+    assertThat(future.getNumberOfWaitingThreads()).isZero();
+  }
+
+  @Test
+  public void getWithTimeoutThrowsTimeoutException() {
+
+    ControllableFuture<String> future = new ControllableFuture<>();
+
+    assertThatExceptionOfType(TimeoutException.class)
+      .isThrownBy(() -> future.get(10L, TimeUnit.MILLISECONDS))
+      .withMessage("Task [%s] timed out after [10 MILLISECONDS]", future)
+      .withNoCause();
+
+    assertThat(future).isNotDone();
+    assertThat(future.getNumberOfWaitingThreads()).isZero();
+  }
+
+  @Test
+  public void getReturnsValueWhenAlreadyCompleted() throws Exception {
+
+    ControllableFuture<String> future = JavaMockObjects.controllableFuture();
+
+    assertThat(future.complete("test")).isTrue();
+    assertThat(future.complete("mock")).isFalse();
+    assertThat(future.cancel(true)).isFalse();
+    assertThat(future.get()).isEqualTo("test");
+    assertThat(future.get(0L, TimeUnit.NANOSECONDS)).isEqualTo("test");
+  }
+
+  @Test
+  public void completeExceptionallyThrowsExecutionException() throws Exception {
+
+    ControllableFuture<String> future = new ControllableFuture<>();
+
+    Future<String> result = this.executorService.submit(() -> future.get());
+
+    awaitWaitingThreads(future, 1);
+
+    IllegalStateException cause = new IllegalStateException("TEST");
+
+    assertThat(future.completeExceptionally(cause)).isTrue();
+    assertThat(future.complete("test")).isFalse();
+
+    assertThatExceptionOfType(ExecutionException.class)
+      .isThrownBy(() -> result.get(10L, TimeUnit.SECONDS))
+      .havingCause()
+      .isInstanceOf(ExecutionException.class)
+      .withMessage("Execution of task [%s] failed", future)
+      .withCause(cause);
+  }
+
+  @Test
+  public void completeExceptionallyWithNullCause() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> new ControllableFuture<>().completeExceptionally(null))
+      .withMessage("Throwable used to complete the Future exceptionally is required")
+      .withNoCause();
+  }
+
+  @Test
+  public void cancelReleasesWaitingThreads() throws Exception {
+
+    ControllableFuture<String> future = new ControllableFuture<>();
+
+    Future<String> result = this.executorService.submit(() -> future.get());
+
+    awaitWaitingThreads(future, 1);
+
+    assertThat(future.cancel(true)).isTrue();
+    assertThat(future.cancel(true)).isFalse();
+    assertThat(future).isCancelled();
+    assertThat(future).isDone();
+
+    assertThatExceptionOfType(ExecutionException.class)
+      .isThrownBy(() -> result.get(10L, TimeUnit.SECONDS))
+      .withCauseInstanceOf(CancellationException.class);
+  }
+
+  @Test
+  public void getWithTimeoutRemovesWaiterWhenTimeoutElapses() throws Exception {
+
+    ControllableFuture<String> future = new ControllableFuture<>();
+
+    for (int poll = 0; poll < 100; poll++) {
+      assertThatExceptionOfType(TimeoutException.class)
+        .isThrownBy(() -> future.get(0L, TimeUnit.NANOSECONDS));
+      assertThatExceptionOfType(TimeoutException.class)
+        .isThrownBy(() -> future.get(1L, TimeUnit.MILLISECONDS));
+    }
+
+    assertThat(future.getWaitQueue().size()).isZero();
+    assertThat(future.getNumberOfWaitingThreads()).isZero();
+    assertThat(future.complete("test")).isTrue();
+    assertThat(future.get(0L, TimeUnit.NANOSECONDS)).isEqualTo("test");
+  }
+
+  @Test
+  public void interruptingWaitingThreadRemovesWaiter() throws Exception {
+
+    ControllableFuture<String> future = new ControllableFuture<>();
+
+    Future<String> waitingResult = this.executorService.submit(() -> future.get());
+    Future<String> interruptedResult = this.executorService.submit(() -> future.get());
+
+    awaitWaitingThreads(future, 2);
+
+    interruptedResult.cancel(true);
+
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10L);
+
+    while (future.getNumberOfWaitingThreads() > 1) {
+      assertThat(System.nanoTime()).isLessThan(deadline);
+      Thread.sleep(1L);
+    }
+
+    assertThat(future.getWaitQueue().size()).isOne();
+
+    future.complete("test");
+
+    assertThat(waitingResult.get(10L, TimeUnit.SECONDS)).isEqualTo("test");
+    assertThat(future.getWaitQueue().size()).isZero();
+  }
+
+  @Test
+  public void interruptingWaitingThreadThrowsInterruptedException() throws Exception {
+
+    ControllableFuture<String> future = new ControllableFuture<>();
+
+    Future<String> result = this.executorService.submit(() -> future.get());
+
+    awaitWaitingThreads(future, 1);
+
+    result.cancel(true);
+
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10L);
+
+    while (future.getNumberOfWaitingThreads() > 0) {
+      assertThat(System.nanoTime()).isLessThan(deadline);
+      Thread.sleep(1L);
+    }
+
+    assertThat(future).isNotDone();
+  }
+}
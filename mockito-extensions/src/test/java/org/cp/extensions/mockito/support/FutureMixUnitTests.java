@@ -0,0 +1,140 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.mockito.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit Tests for {@link FutureMix}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.extensions.mockito.support.FutureMix
+ * @since 0.1.0
+ */
+public class FutureMixUnitTests {
+
+  private List<Boolean> cancellations(FutureMix mix, int count) {
+
+    Function<Integer, Future<Integer>> futureFactory = mix.newFutureFactory();
+
+    List<Boolean> cancellations = new ArrayList<>(count);
+
+    for (int index = 0; index < count; index++) {
+      cancellations.add(futureFactory.apply(index).isCancelled());
+    }
+
+    return cancellations;
+  }
+
+  @Test
+  public void noneHasNoFailuresCancellationsOrDelays() {
+
+    FutureMix mix = FutureMix.none();
+
+    assertThat(mix.getFailureFraction()).isZero();
+    assertThat(mix.getCancellationFraction()).isZero();
+    assertThat(mix.getDelayFraction()).isZero();
+    assertThat(mix.getDelay()).isEqualTo(Duration.ZERO);
+    assertThat(cancellations(mix, 100)).containsOnly(false);
+  }
+
+  @Test
+  public void withMethodsReturnNewFutureMix() {
+
+    FutureMix none = FutureMix.none();
+
+    FutureMix mix = none.withFailures(0.1d)
+      .withCancellations(0.2d)
+      .withDelays(0.3d, Duration.ofMillis(5L))
+      .withSeed(42L);
+
+    assertThat(mix).isNotSameAs(none);
+    assertThat(none.getFailureFraction()).isZero();
+    assertThat(mix.getFailureFraction()).isEqualTo(0.1d);
+    assertThat(mix.getCancellationFraction()).isEqualTo(0.2d);
+    assertThat(mix.getDelayFraction()).isEqualTo(0.3d);
+    assertThat(mix.getDelay()).isEqualTo(Duration.ofMillis(5L));
+    assertThat(mix.getSeed()).isEqualTo(42L);
+    assertThat(mix.toString())
+      .isEqualTo("FutureMix[failures=0.1, cancellations=0.2, delays=0.3, delay=PT0.005S, seed=42]");
+  }
+
+  @Test
+  public void outcomesAreReproducibleForTheSameSeed() {
+
+    FutureMix mix = FutureMix.none().withCancellations(0.5d);
+
+    assertThat(cancellations(mix, 1000)).isEqualTo(cancellations(mix, 1000));
+    assertThat(cancellations(mix.withSeed(1L), 1000)).isNotEqualTo(cancellations(mix, 1000));
+  }
+
+  @Test
+  public void allCancelled() {
+    assertThat(cancellations(FutureMix.none().withCancellations(1.0d), 100)).containsOnly(true);
+  }
+
+  @Test
+  public void invalidFractionThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> FutureMix.none().withFailures(1.5d))
+      .withMessage("Fraction of failures [1.5] must be between 0.0 and 1.0")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> FutureMix.none().withFailures(0.6d).withCancellations(0.6d))
+      .withMessage("Sum of the fractions of failures [0.6], cancellations [0.6] and delays [0.0]"
+        + " must not be greater than 1.0")
+      .withNoCause();
+  }
+
+  @Test
+  public void negativeDelayThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> FutureMix.none().withDelays(0.5d, Duration.ofSeconds(-1L)))
+      .withMessage("Duration of the delay [PT-1S] must not be negative")
+      .withNoCause();
+  }
+
+  @Test
+  public void delayedFuturesWaitForTheDelayOnlyOnce() throws Exception {
+
+    Duration delay = Duration.ofMillis(50L);
+
+    Future<Integer> future = FutureMix.none().withDelays(1.0d, delay).<Integer>newFutureFactory().apply(1);
+
+    assertThat(future).isInstanceOf(StubFuture.class);
+    assertThat(((StubFuture<Integer>) future).isMemoizing()).isTrue();
+
+    long startTime = System.nanoTime();
+
+    assertThat(future.get()).isEqualTo(1);
+    assertThat(Duration.ofNanos(System.nanoTime() - startTime)).isGreaterThanOrEqualTo(delay);
+    assertThat(future.isDone()).isTrue();
+    assertThat(future.get()).isEqualTo(1);
+  }
+}
@@ -18,14 +18,34 @@ package org.cp.extensions.mockito.support;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
-
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 
@@ -176,6 +196,341 @@ public class JavaMockObjectsUnitTests {
     assertThat(mockFuture).isDone();
   }
 
+  @Test
+  public void mockFutureIsAnsweredByDefaultAnswerWithoutStubbings() throws Exception {
+
+    Future<String> mockFuture = JavaMockObjects.mockFuture("test");
+
+    assertThat(mockingDetails(mockFuture).getMockCreationSettings().getDefaultAnswer())
+      .isInstanceOf(MockFutureAnswer.class);
+    assertThat(mockingDetails(mockFuture).getStubbings()).isEmpty();
+    assertThat(mockFuture.get(1L, TimeUnit.SECONDS)).isEqualTo("test");
+    assertThat(mockFuture.toString()).startsWith("Mock for Future");
+
+    verify(mockFuture, times(1)).get(eq(1L), eq(TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void memoizedMockFutureComputesResultOnce() throws Exception {
+
+    AtomicInteger counter = new AtomicInteger();
+
+    Future<Integer> mockFuture = JavaMockObjects.memoizedMockFuture(counter::incrementAndGet);
+
+    assertThat(mockingDetails(mockFuture).isMock()).isTrue();
+    assertThat(mockFuture.get()).isOne();
+    assertThat(mockFuture.get(1L, TimeUnit.SECONDS)).isOne();
+    assertThat(mockFuture).isDone();
+    assertThat(counter.get()).isOne();
+
+    verify(mockFuture, times(1)).get();
+  }
+
+  @Test
+  public void memoizedStubFutureComputesResultOnce() throws Exception {
+
+    AtomicInteger counter = new AtomicInteger();
+
+    Future<Integer> stubFuture = JavaMockObjects.memoizedStubFuture(counter::incrementAndGet);
+
+    assertThat(stubFuture.get()).isOne();
+    assertThat(stubFuture.get()).isOne();
+    assertThat(counter.get()).isOne();
+  }
+
+  @Test
+  public void stubFutureGetReturnsValue() throws Exception {
+
+    Future<Object> stubFuture = JavaMockObjects.stubFuture("test");
+
+    assertThat(stubFuture).isInstanceOf(StubFuture.class);
+    assertThat(mockingDetails(stubFuture).isMock()).isFalse();
+    assertThat(stubFuture).isNotDone();
+    assertThat(stubFuture.get()).isEqualTo("test");
+    assertThat(stubFuture).isDone();
+    assertThat(stubFuture.cancel(true)).isFalse();
+    assertThat(stubFuture).isNotCancelled();
+  }
+
+  @Test
+  public void stubFutureWithNullSupplier() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> JavaMockObjects.stubFuture((Supplier<Object>) null))
+      .withMessage("Supplier used to supply the value returned by the Future as the result is required")
+      .withNoCause();
+  }
+
+  @Test
+  public void spyFutureCanBeVerified() throws Exception {
+
+    Future<Object> spyFuture = JavaMockObjects.spyFuture("test");
+
+    assertThat(mockingDetails(spyFuture).isSpy()).isTrue();
+    assertThat(spyFuture.get()).isEqualTo("test");
+    assertThat(spyFuture.cancel(true)).isFalse();
+    assertThat(spyFuture).isDone();
+    assertThat(spyFuture).isNotCancelled();
+
+    verify(spyFuture, times(1)).get();
+    verify(spyFuture, times(1)).cancel(true);
+  }
+
+  @Test
+  public void spyFutureCanBeStubbed() throws Exception {
+
+    Future<Object> spyFuture = JavaMockObjects.spyFuture(() -> "test");
+
+    doReturn("mock").when(spyFuture).get();
+
+    assertThat(spyFuture.get()).isEqualTo("mock");
+    assertThat(spyFuture.get(1L, TimeUnit.SECONDS)).isEqualTo("mock");
+    assertThat(spyFuture).isNotDone();
+    assertThat(spyFuture.cancel(true)).isTrue();
+    assertThat(spyFuture).isCancelled();
+  }
+
+  @Test
+  public void stubFuturesFromArrayReturnValuesInOrder() throws Exception {
+
+    List<Future<String>> futures = JavaMockObjects.stubFutures("one", "two", "three");
+
+    assertThat(futures).hasSize(3);
+
+    for (Future<String> future : futures) {
+      assertThat(future).isInstanceOf(StubFuture.class);
+    }
+
+    assertThat(futures.get(0).get()).isEqualTo("one");
+    assertThat(futures.get(1).get()).isEqualTo("two");
+    assertThat(futures.get(2).get()).isEqualTo("three");
+  }
+
+  @Test
+  public void stubFuturesFromIntFunctionAndStreamAreEquivalent() throws Exception {
+
+    FutureMix mix = FutureMix.none().withFailures(0.25d).withCancellations(0.25d);
+
+    List<Future<Integer>> futuresFromFunction = JavaMockObjects.stubFutures(100, index -> index, mix);
+    List<Future<Integer>> futuresFromStream = JavaMockObjects.stubFutures(IntStream.range(0, 100).boxed(), mix);
+
+    assertThat(futuresFromFunction).hasSize(100);
+    assertThat(futuresFromStream).hasSize(100);
+
+    for (int index = 0; index < 100; index++) {
+      assertThat(futuresFromStream.get(index).isCancelled())
+        .isEqualTo(futuresFromFunction.get(index).isCancelled());
+    }
+  }
+
+  @Test
+  public void stubFuturesWithFutureMixProducesMixOfOutcomes() {
+
+    FutureMix mix = FutureMix.none()
+      .withFailures(0.1d)
+      .withCancellations(0.2d)
+      .withDelays(0.3d, Duration.ofNanos(1L));
+
+    List<Future<Integer>> futures = JavaMockObjects.stubFutures(10_000, index -> index, mix);
+
+    int cancelled = 0;
+    int failed = 0;
+    int succeeded = 0;
+
+    for (Future<Integer> future : futures) {
+      if (future.isCancelled()) {
+        cancelled++;
+      }
+      else {
+        try {
+          future.get();
+          succeeded++;
+        }
+        catch (ExecutionException expected) {
+          assertThat(expected).hasCauseInstanceOf(RuntimeException.class);
+          assertThat(expected.getCause()).hasMessage("Simulated failure");
+          failed++;
+        }
+        catch (Exception cause) {
+          throw new AssertionError(cause);
+        }
+      }
+    }
+
+    assertThat(failed).isBetween(800, 1200);
+    assertThat(cancelled).isBetween(1800, 2200);
+    assertThat(succeeded).isEqualTo(10_000 - failed - cancelled);
+  }
+
+  @Test
+  public void stubFuturesFromEmptySources() {
+
+    assertThat(JavaMockObjects.stubFutures()).isEmpty();
+    assertThat(JavaMockObjects.stubFutures(0, index -> index)).isEmpty();
+    assertThat(JavaMockObjects.stubFutures(Stream.empty())).isEmpty();
+  }
+
+  @Test
+  public void stubFuturesWithNegativeCount() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> JavaMockObjects.stubFutures(-1, index -> index))
+      .withMessage("Number of Futures [-1] must not be negative")
+      .withNoCause();
+  }
+
+  @Test
+  public void completedFutureReturnsValue() {
+
+    CompletableFuture<String> future = JavaMockObjects.completedFuture("test");
+
+    assertThat(future).isCompletedWithValue("test");
+    assertThat(future.thenApply(String::toUpperCase)).isCompletedWithValue("TEST");
+  }
+
+  @Test
+  public void failedFutureThrowsCause() {
+
+    RuntimeException cause = new RuntimeException("TEST");
+
+    CompletableFuture<String> future = JavaMockObjects.failedFuture(cause);
+
+    assertThat(future).isCompletedExceptionally();
+    assertThat(future).isNotCancelled();
+
+    assertThatExceptionOfType(ExecutionException.class)
+      .isThrownBy(future::get)
+      .withCause(cause);
+
+    assertThat(future.exceptionally(Throwable::getMessage)).isCompletedWithValue("TEST");
+  }
+
+  @Test
+  public void failedFutureWithNullCause() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> JavaMockObjects.failedFuture(null))
+      .withMessage("Throwable used to complete the Future exceptionally is required")
+      .withNoCause();
+  }
+
+  @Test
+  public void cancelledFutureIsCancelled() {
+
+    CompletableFuture<String> future = JavaMockObjects.cancelledFuture();
+
+    assertThat(future).isCancelled();
+    assertThat(future).isDone();
+    assertThatExceptionOfType(CancellationException.class).isThrownBy(future::join);
+  }
+
+  @Test
+  public void pendingFutureCompletesOnDemand() {
+
+    CompletableFuture<String> future = JavaMockObjects.pendingFuture();
+
+    CompletableFuture<String> pipeline = future.thenApply(String::toUpperCase);
+
+    assertThat(future).isNotDone();
+    assertThat(pipeline).isNotDone();
+    assertThat(future.complete("test")).isTrue();
+    assertThat(pipeline).isCompletedWithValue("TEST");
+  }
+
+  @Test
+  public void delayedFutureCompletesWhenExecutorRunsCompletion() {
+
+    Queue<Runnable> tasks = new ArrayDeque<>();
+
+    CompletableFuture<String> future = JavaMockObjects.delayedFuture(() -> "test", tasks::add);
+
+    assertThat(future).isNotDone();
+    assertThat(tasks).hasSize(1);
+
+    tasks.remove().run();
+
+    assertThat(future).isCompletedWithValue("test");
+  }
+
+  @Test
+  public void delayedFutureWithNullExecutor() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> JavaMockObjects.delayedFuture(() -> "test", null))
+      .withMessage("Executor used to complete the Future is required")
+      .withNoCause();
+  }
+
+  @Test
+  public void delayedFutureCompletesWhenScheduledCompletionRuns() {
+
+    AtomicReference<Runnable> scheduledCompletion = new AtomicReference<>();
+
+    ScheduledExecutorService mockScheduler = mock(ScheduledExecutorService.class);
+
+    doAnswer(invocation -> {
+      scheduledCompletion.set(invocation.getArgument(0));
+      return mock(ScheduledFuture.class);
+    }).when(mockScheduler).schedule(any(Runnable.class), eq(5L), eq(TimeUnit.SECONDS));
+
+    CompletableFuture<String> future =
+      JavaMockObjects.delayedFuture(() -> "test", 5L, TimeUnit.SECONDS, mockScheduler);
+
+    assertThat(future).isNotDone();
+
+    scheduledCompletion.get().run();
+
+    assertThat(future).isCompletedWithValue("test");
+  }
+
+  @Test
+  public void delayedFutureCompletesExceptionallyWhenSupplierFails() {
+
+    AtomicReference<Runnable> scheduledCompletion = new AtomicReference<>();
+
+    ScheduledExecutorService mockScheduler = mock(ScheduledExecutorService.class);
+
+    doAnswer(invocation -> {
+      scheduledCompletion.set(invocation.getArgument(0));
+      return mock(ScheduledFuture.class);
+    }).when(mockScheduler).schedule(any(Runnable.class), eq(1L), eq(TimeUnit.MILLISECONDS));
+
+    CompletableFuture<String> future = JavaMockObjects.delayedFuture(() -> {
+      throw new IllegalStateException("TEST");
+    }, 1L, TimeUnit.MILLISECONDS, mockScheduler);
+
+    scheduledCompletion.get().run();
+
+    assertThatExceptionOfType(CompletionException.class)
+      .isThrownBy(future::join)
+      .withCauseInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  public void cancellingDelayedFutureCancelsScheduledCompletion() {
+
+    ScheduledExecutorService mockScheduler = mock(ScheduledExecutorService.class);
+
+    ScheduledFuture<?> mockScheduledFuture = mock(ScheduledFuture.class);
+
+    doReturn(mockScheduledFuture).when(mockScheduler).schedule(any(Runnable.class), eq(1L), eq(TimeUnit.MINUTES));
+
+    CompletableFuture<String> future =
+      JavaMockObjects.delayedFuture(() -> "test", 1L, TimeUnit.MINUTES, mockScheduler);
+
+    assertThat(future.cancel(true)).isTrue();
+
+    verify(mockScheduledFuture, times(1)).cancel(eq(false));
+  }
+
+  @Test
+  public void completedAndFailedStages() {
+
+    assertThat(JavaMockObjects.completedStage("test").toCompletableFuture()).isCompletedWithValue("test");
+    assertThat(JavaMockObjects.failedStage(new RuntimeException("TEST")).toCompletableFuture())
+      .isCompletedExceptionally();
+  }
+
   @SuppressWarnings("unused")
   public static class InterruptedThreadCallingFutureGetTestCase extends MultithreadedTestCase {
 
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.mockito.support;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import org.cp.elements.lang.Assert;
+import org.cp.elements.text.FormatUtils;
+
+import org.mockito.MockMakers;
+import org.mockito.MockSettings;
+import org.mockito.quality.Strictness;
+import org.mockito.stubbing.Answer;
+
+/**
+ * JMH benchmarks comparing the throughput of creating a mock {@link Future} by stubbing each {@link Future} operation
+ * against binding a single default {@link MockFutureAnswer}, using both the {@literal inline}
+ * and {@literal subclass} Mockito mock makers.
+ * <p>
+ * The stubbed mock {@link Future} is a copy of the original {@code JavaMockObjects.mockFuture(Supplier)}
+ * implementation, with a lock, two {@link AtomicBoolean AtomicBooleans} and a stubbing per {@link Future} operation,
+ * so that the benchmarks measure the cost of the original implementation rather than of a {@link StubFuture}.
+ * The benchmarks also measure creating a single {@link StubFuture} and {@link StubFuture StubFutures} in bulk,
+ * which do not depend on the Mockito mock maker.
+ * <p>
+ * Run with {@code java -cp <test-classpath> org.cp.extensions.mockito.support.MockFutureCreationBenchmarks}.
+ *
+ * @author John Blum
+ * @see org.cp.extensions.mockito.support.JavaMockObjects#mockFuture(Supplier)
+ * @see org.cp.extensions.mockito.support.MockFutureAnswer
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @since 0.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings({ "unchecked", "unused" })
+public class MockFutureCreationBenchmarks {
+
+  public static void main(String[] args) throws Exception {
+    new Runner(new OptionsBuilder().include(MockFutureCreationBenchmarks.class.getSimpleName()).build()).run();
+  }
+
+  @Param({ MockMakers.INLINE, MockMakers.SUBCLASS })
+  private String mockMaker;
+
+  private final Supplier<String> result = () -> "test";
+
+  // mock Future type generation is cached by Mockito after the first mock is created
+  @Setup
+  public void warmMockMaker() {
+    stubbedMockFuture();
+    defaultAnswerMockFuture();
+  }
+
+  private MockSettings newMockSettings() {
+    return withSettings().mockMaker(this.mockMaker).strictness(Strictness.LENIENT);
+  }
+
+  @Benchmark
+  public Future<String> stubbedMockFuture() {
+
+    Supplier<String> result = this.result;
+
+    try {
+
+      Object lock = new Object();
+
+      Future<String> mockFuture = mock(Future.class, newMockSettings());
+
+      AtomicBoolean cancelled = new AtomicBoolean(false);
+      AtomicBoolean done = new AtomicBoolean(false);
+
+      Answer<Boolean> cancelAnswer = invocation -> {
+
+        synchronized (lock) {
+          if (!done.get() && cancelled.compareAndSet(false, true)) {
+            done.set(true);
+            return true;
+          }
+
+          return false;
+        }
+      };
+
+      Answer<String> getAnswer = invocation -> {
+
+        synchronized (lock) {
+          done.set(true);
+        }
+
+        Assert.notInterrupted();
+
+        if (cancelled.get()) {
+          throw new CancellationException(String.format("Task [%s] was cancelled", mockFuture));
+        }
+
+        try {
+          return result.get();
+        }
+        catch (Throwable cause) {
+          String message = FormatUtils.format("Execution of task [%s] failed", mockFuture);
+          throw new ExecutionException(message, cause);
+        }
+      };
+
+      doAnswer(invocation -> cancelled.get()).when(mockFuture).isCancelled();
+      doAnswer(invocation -> done.get()).when(mockFuture).isDone();
+      doAnswer(cancelAnswer).when(mockFuture).cancel(anyBoolean());
+      doAnswer(getAnswer).when(mockFuture).get();
+      doAnswer(getAnswer).when(mockFuture).get(anyLong(), isA(TimeUnit.class));
+
+      return mockFuture;
+    }
+    catch (Exception cause) {
+      throw new MockObjectException(FormatUtils.format("Failed to create mock Future with value [%s]",
+        result), cause);
+    }
+  }
+
+  @Benchmark
+  public Future<String> defaultAnswerMockFuture() {
+
+    MockFutureAnswer<String> answer = new MockFutureAnswer<>();
+
+    Future<String> mockFuture = mock(Future.class, newMockSettings().defaultAnswer(answer));
+
+    answer.bind(new StubFuture<>(this.result, mockFuture, false));
+
+    return mockFuture;
+  }
+
+  @Benchmark
+  public Future<String> stubFuture() {
+    return new StubFuture<>(this.result);
+  }
+
+  @Benchmark
+  public List<Future<Integer>> stubFutures() {
+    return JavaMockObjects.stubFutures(1000, Integer::valueOf);
+  }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.mockito.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit Tests for {@link StubExecutorService}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.extensions.mockito.support.StubExecutorService
+ * @since 0.1.0
+ */
+public class StubExecutorServiceUnitTests {
+
+  @Test
+  public void inlineModeRunsTasksOnSubmittingThread() throws Exception {
+
+    StubExecutorService executorService = JavaMockObjects.inlineExecutorService();
+
+    Future<String> future = executorService.submit(() -> Thread.currentThread().getName());
+
+    assertThat(executorService.getMode()).isEqualTo(StubExecutorService.Mode.INLINE);
+    assertThat(future.isDone()).isTrue();
+    assertThat(future.get()).isEqualTo(Thread.currentThread().getName());
+    assertThat(executorService.getCompletedTaskCount()).isOne();
+    assertThat(executorService.getQueueSize()).isZero();
+  }
+
+  @Test
+  public void failedTaskThrowsExecutionException() {
+
+    RuntimeException cause = new IllegalStateException("TEST");
+
+    Future<Object> future = StubExecutorService.inline().submit(() -> { throw cause; });
+
+    assertThat(future.isDone()).isTrue();
+
+    assertThatExceptionOfType(ExecutionException.class)
+      .isThrownBy(future::get)
+      .withCause(cause);
+  }
+
+  @Test
+  public void manualModeRunsTasksWhenStepped() throws Exception {
+
+    StubExecutorService executorService = JavaMockObjects.manualExecutorService();
+
+    List<String> events = new ArrayList<>();
+
+    Future<?> one = executorService.submit(() -> events.add("one"));
+    Future<?> two = executorService.submit(() -> events.add("two"));
+
+    assertThat(events).isEmpty();
+    assertThat(executorService.getQueueSize()).isEqualTo(2);
+    assertThat(one.isDone()).isFalse();
+    assertThat(executorService.step()).isTrue();
+    assertThat(events).containsExactly("one");
+    assertThat(one.isDone()).isTrue();
+    assertThat(two.isDone()).isFalse();
+    assertThat(executorService.step()).isTrue();
+    assertThat(executorService.step()).isFalse();
+    assertThat(events).containsExactly("one", "two");
+  }
+
+  @Test
+  public void drainRunsTasksSubmittedByRunningTasks() {
+
+    StubExecutorService executorService = StubExecutorService.manual();
+
+    List<Integer> events = new ArrayList<>();
+
+    executorService.execute(() -> {
+      events.add(1);
+      executorService.execute(() -> events.add(2));
+    });
+
+    assertThat(executorService.drain()).isEqualTo(2);
+    assertThat(events).containsExactly(1, 2);
+    assertThat(executorService.getCompletedTaskCount()).isEqualTo(2L);
+  }
+
+  @Test
+  public void cancelledTaskIsNotRun() {
+
+    StubExecutorService executorService = StubExecutorService.manual();
+
+    List<String> events = new ArrayList<>();
+
+    Future<?> future = executorService.submit(() -> events.add("X"));
+
+    assertThat(future.cancel(true)).isTrue();
+
+    executorService.drain();
+
+    assertThat(events).isEmpty();
+
+    assertThatExceptionOfType(CancellationException.class)
+      .isThrownBy(future::get);
+  }
+
+  @Test
+  public void boundedModeLimitsConcurrency() throws Exception {
+
+    StubExecutorService executorService = JavaMockObjects.boundedExecutorService(2);
+
+    CountDownLatch latch = new CountDownLatch(1);
+
+    List<Future<?>> futures = new ArrayList<>();
+
+    for (int count = 0; count < 6; count++) {
+      futures.add(executorService.submit(() -> {
+        latch.await(5L, TimeUnit.SECONDS);
+        return null;
+      }));
+    }
+
+    latch.countDown();
+
+    for (Future<?> future : futures) {
+      future.get(5L, TimeUnit.SECONDS);
+    }
+
+    executorService.shutdown();
+
+    assertThat(executorService.awaitTermination(5L, TimeUnit.SECONDS)).isTrue();
+    assertThat(executorService.isTerminated()).isTrue();
+    assertThat(executorService.getPeakConcurrency()).isBetween(1, 2);
+    assertThat(executorService.getCompletedTaskCount()).isEqualTo(6L);
+  }
+
+  @Test
+  public void boundedModeWithInvalidMaxConcurrencyThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> StubExecutorService.bounded(0))
+      .withMessage("Maximum concurrency [0] must be greater than 0")
+      .withNoCause();
+  }
+
+  @Test
+  public void shutdownRejectsNewTasksAndStillDrainsQueuedTasks() {
+
+    StubExecutorService executorService = StubExecutorService.manual();
+
+    executorService.execute(() -> { });
+    executorService.shutdown();
+
+    assertThatExceptionOfType(RejectedExecutionException.class)
+      .isThrownBy(() -> executorService.execute(() -> { }))
+      .withMessage("ExecutorService [StubExecutorService[mode=MANUAL]] was shutdown")
+      .withNoCause();
+
+    assertThat(executorService.isTerminated()).isFalse();
+    assertThat(executorService.drain()).isOne();
+    assertThat(executorService.isTerminated()).isTrue();
+  }
+
+  @Test
+  public void shutdownNowReturnsQueuedTasks() {
+
+    StubExecutorService executorService = StubExecutorService.manual();
+
+    executorService.execute(() -> { });
+    executorService.execute(() -> { });
+
+    assertThat(executorService.shutdownNow()).hasSize(2);
+    assertThat(executorService.isTerminated()).isTrue();
+  }
+}
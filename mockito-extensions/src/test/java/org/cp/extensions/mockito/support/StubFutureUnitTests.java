@@ -0,0 +1,416 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.mockito.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.elements.lang.ThrowableAssertions;
+
+import edu.umd.cs.mtc.MultithreadedTestCase;
+import edu.umd.cs.mtc.TestFramework;
+
+/**
+ * Unit Tests for {@link StubFuture}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.extensions.mockito.support.StubFuture
+ * @since 0.1.0
+ */
+public class StubFutureUnitTests {
+
+  private static final int STRESS_ROUNDS = 2000;
+
+  @Test
+  public void getReturnsValue() throws Exception {
+
+    Future<Object> future = new StubFuture<>(() -> "test");
+
+    assertThat(future).isNotCancelled();
+    assertThat(future).isNotDone();
+    assertThat(future.get()).isEqualTo("test");
+    assertThat(future.cancel(true)).isFalse();
+    assertThat(future).isNotCancelled();
+    assertThat(future).isDone();
+    assertThat(future.get(10L, TimeUnit.MILLISECONDS)).isEqualTo("test");
+    assertThat(future).isNotCancelled();
+    assertThat(future).isDone();
+  }
+
+  @Test
+  public void getEvaluatesSupplierOnEachCall() throws Exception {
+
+    AtomicInteger counter = new AtomicInteger();
+
+    Future<Integer> future = new StubFuture<>(counter::incrementAndGet);
+
+    assertThat(future.get()).isOne();
+    assertThat(future.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void cancelledSuccessfully() {
+
+    Future<Object> future = new StubFuture<>(() -> "test");
+
+    assertThat(future.cancel(true)).isTrue();
+    assertThat(future).isCancelled();
+    assertThat(future).isDone();
+    assertThat(future.cancel(false)).isFalse();
+    assertThat(future).isCancelled();
+    assertThat(future).isDone();
+  }
+
+  @Test
+  public void cannotBeExecutedWhenCancelled() {
+
+    Future<Object> future = new StubFuture<>(() -> "test");
+
+    assertThat(future.cancel(false)).isTrue();
+
+    assertThatExceptionOfType(CancellationException.class)
+      .isThrownBy(future::get)
+      .withMessage("Task [%s] was cancelled", future)
+      .withNoCause();
+  }
+
+  @Test
+  public void failureThrowsExecutionException() {
+
+    Supplier<Object> value = () -> { throw new RuntimeException("error"); };
+
+    Future<Object> future = new StubFuture<>(value);
+
+    ThrowableAssertions.assertThatThrowableOfType(ExecutionException.class)
+      .isThrownBy(args -> future.get())
+      .havingMessage("Execution of task [%s] failed", future)
+      .causedBy(RuntimeException.class)
+      .havingMessage("error")
+      .withNoCause();
+
+    assertThat(future).isDone();
+    assertThat(future).isNotCancelled();
+    assertThat(future.cancel(true)).isFalse();
+    assertThat(future).isNotCancelled();
+  }
+
+  @Test
+  public void interruptedThreadCallingGet() throws Throwable {
+    TestFramework.runOnce(new InterruptedThreadCallingStubFutureGetTestCase());
+  }
+
+  @Test
+  public void identifiesTaskInExceptionMessages() {
+
+    Object task = "MockTask";
+
+    Future<Object> future = new StubFuture<>(() -> { throw new RuntimeException("error"); }, task, false);
+
+    assertThatExceptionOfType(ExecutionException.class)
+      .isThrownBy(future::get)
+      .withMessage("Execution of task [MockTask] failed");
+
+    Future<Object> cancelledFuture = new StubFuture<>(() -> "test", task, false);
+
+    assertThat(cancelledFuture.cancel(true)).isTrue();
+
+    assertThatExceptionOfType(CancellationException.class)
+      .isThrownBy(cancelledFuture::get)
+      .withMessage("Task [MockTask] was cancelled");
+  }
+
+  @Test
+  public void getRecomputesResultAfterFailure() throws Exception {
+
+    AtomicInteger counter = new AtomicInteger();
+
+    StubFuture<Integer> future = new StubFuture<>(() -> {
+      if (counter.incrementAndGet() % 2 == 0) {
+        throw new IllegalStateException("TEST");
+      }
+      return counter.get();
+    });
+
+    assertThat(future.get()).isOne();
+
+    assertThatExceptionOfType(ExecutionException.class)
+      .isThrownBy(future::get)
+      .withCauseInstanceOf(IllegalStateException.class);
+
+    assertThat(future).isDone();
+    assertThat(future.cancel(true)).isFalse();
+    assertThat(future).isNotCancelled();
+    assertThat(future.get()).isEqualTo(3);
+  }
+
+  @Test
+  public void concurrentCancellationSucceedsOnlyOnce() throws Exception {
+
+    int threadCount = 8;
+
+    ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+    try {
+      for (int round = 0; round < STRESS_ROUNDS; round++) {
+
+        Future<Object> future = new StubFuture<>(() -> "test");
+
+        CyclicBarrier barrier = new CyclicBarrier(threadCount);
+
+        List<Future<Boolean>> cancellations = new ArrayList<>();
+
+        for (int count = 0; count < threadCount; count++) {
+          cancellations.add(executorService.submit(() -> {
+            barrier.await();
+            return future.cancel(true);
+          }));
+        }
+
+        int successfulCancellations = 0;
+
+        for (Future<Boolean> cancellation : cancellations) {
+          successfulCancellations += cancellation.get(10L, TimeUnit.SECONDS) ? 1 : 0;
+        }
+
+        assertThat(successfulCancellations).describedAs("Round [%d]", round).isOne();
+        assertThat(future).isCancelled();
+        assertThat(future).isDone();
+      }
+    }
+    finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  @Test
+  public void cancellationRacingGetIsConsistent() throws Exception {
+
+    ExecutorService executorService = Executors.newFixedThreadPool(3);
+
+    try {
+      for (int round = 0; round < STRESS_ROUNDS; round++) {
+
+        Future<Object> future = new StubFuture<>(() -> "test");
+
+        CyclicBarrier barrier = new CyclicBarrier(3);
+
+        Future<Boolean> cancellation = executorService.submit(() -> {
+          barrier.await();
+          return future.cancel(true);
+        });
+
+        Future<Object> result = executorService.submit(() -> {
+          barrier.await();
+          try {
+            return future.get();
+          }
+          catch (CancellationException ignore) {
+            return null;
+          }
+        });
+
+        // observes isCancelled() and isDone() while cancel() and get() race; a cancelled Future is always done
+        Future<Boolean> observation = executorService.submit((Callable<Boolean>) () -> {
+          barrier.await();
+          boolean consistent = true;
+          for (int count = 0; count < 100; count++) {
+            consistent &= !future.isCancelled() || future.isDone();
+          }
+          return consistent;
+        });
+
+        boolean cancelled = cancellation.get(10L, TimeUnit.SECONDS);
+        Object value = result.get(10L, TimeUnit.SECONDS);
+
+        assertThat(observation.get(10L, TimeUnit.SECONDS)).describedAs("Round [%d]", round).isTrue();
+        assertThat(value).describedAs("Round [%d]", round).isEqualTo(cancelled ? null : "test");
+        assertThat(future.isCancelled()).describedAs("Round [%d]", round).isEqualTo(cancelled);
+        assertThat(future).isDone();
+      }
+    }
+    finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  @Test
+  public void memoizingFutureComputesResultOnce() throws Exception {
+
+    AtomicInteger counter = new AtomicInteger();
+
+    StubFuture<Integer> future = new StubFuture<>(counter::incrementAndGet, true);
+
+    assertThat(future.isMemoizing()).isTrue();
+    assertThat(future).isNotDone();
+    assertThat(future.get()).isOne();
+    assertThat(future.get(1L, TimeUnit.SECONDS)).isOne();
+    assertThat(future).isDone();
+    assertThat(future.cancel(true)).isFalse();
+    assertThat(future).isNotCancelled();
+    assertThat(counter.get()).isOne();
+  }
+
+  @Test
+  public void memoizingFutureCachesExecutionException() {
+
+    AtomicInteger counter = new AtomicInteger();
+
+    Future<Object> future = new StubFuture<>(() -> {
+      throw new IllegalStateException("TEST" + counter.incrementAndGet());
+    }, true);
+
+    ExecutionException failure = null;
+
+    for (int count = 0; count < 3; count++) {
+      try {
+        future.get();
+      }
+      catch (Exception cause) {
+        assertThat(cause).isInstanceOf(ExecutionException.class)
+          .hasMessage("Execution of task [%s] failed", future);
+        assertThat(cause.getCause()).hasMessage("TEST1");
+        assertThat(failure == null || failure == cause).isTrue();
+        failure = (ExecutionException) cause;
+      }
+    }
+
+    assertThat(failure).isNotNull();
+    assertThat(counter.get()).isOne();
+    assertThat(future).isDone();
+    assertThat(future).isNotCancelled();
+  }
+
+  @Test
+  public void cancelledMemoizingFutureNeverComputesResult() {
+
+    AtomicInteger counter = new AtomicInteger();
+
+    Future<Integer> future = new StubFuture<>(counter::incrementAndGet, true);
+
+    assertThat(future.cancel(false)).isTrue();
+
+    assertThatExceptionOfType(CancellationException.class)
+      .isThrownBy(future::get)
+      .withMessage("Task [%s] was cancelled", future);
+
+    assertThat(counter.get()).isZero();
+  }
+
+  @Test
+  public void memoizingFutureIsSingleFlight() throws Exception {
+
+    int threadCount = 8;
+
+    AtomicInteger counter = new AtomicInteger();
+
+    CountDownLatch computing = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    Future<Object> future = new StubFuture<>(() -> {
+      counter.incrementAndGet();
+      computing.countDown();
+      try {
+        release.await();
+      }
+      catch (InterruptedException cause) {
+        Thread.currentThread().interrupt();
+      }
+      return new Object();
+    }, true);
+
+    ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+    try {
+
+      List<Future<Object>> results = new ArrayList<>();
+
+      results.add(executorService.submit(() -> future.get()));
+
+      computing.await();
+
+      for (int count = 1; count < threadCount; count++) {
+        results.add(executorService.submit(() -> future.get()));
+      }
+
+      assertThat(future).isDone();
+      assertThat(future.cancel(true)).isFalse();
+
+      release.countDown();
+
+      Object value = future.get();
+
+      for (Future<Object> result : results) {
+        assertThat(result.get(10L, TimeUnit.SECONDS)).isSameAs(value);
+      }
+
+      assertThat(counter.get()).isOne();
+    }
+    finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  @Test
+  public void constructWithNullSupplier() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> new StubFuture<>(null))
+      .withMessage("Supplier used to supply the value returned by the Future as the result is required")
+      .withNoCause();
+  }
+
+  @SuppressWarnings("unused")
+  public static class InterruptedThreadCallingStubFutureGetTestCase extends MultithreadedTestCase {
+
+    public void thread1() {
+
+      Thread.currentThread().setName("Interrupted Thread calling StubFuture.get()");
+
+      assertTick(0);
+
+      Future<String> future = new StubFuture<>(() -> "test");
+
+      Thread.currentThread().interrupt();
+
+      assertThatExceptionOfType(InterruptedException.class)
+        .isThrownBy(future::get)
+        .withMessage("Thread [Interrupted Thread calling StubFuture.get()] was interrupted")
+        .withNoCause();
+
+      assertThat(future.cancel(true)).isFalse();
+      assertThat(future).isNotCancelled();
+      assertThat(future).isDone();
+    }
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.mockito.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit Tests for {@link VirtualClock}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.extensions.mockito.support.VirtualClock
+ * @since 0.1.0
+ */
+public class VirtualClockUnitTests {
+
+  @Test
+  public void newVirtualClockStartsAtEpochInUtc() {
+
+    VirtualClock clock = new VirtualClock();
+
+    assertThat(clock.instant()).isEqualTo(Instant.EPOCH);
+    assertThat(clock.millis()).isZero();
+    assertThat(clock.nanoTime()).isZero();
+    assertThat(clock.getZone()).isEqualTo(ZoneOffset.UTC);
+  }
+
+  @Test
+  public void virtualTimeOnlyPassesWhenAdvanced() {
+
+    Instant origin = Instant.parse("2023-01-01T00:00:00Z");
+
+    VirtualClock clock = new VirtualClock(origin, ZoneOffset.UTC);
+
+    assertThat(clock.instant()).isEqualTo(origin);
+    assertThat(clock.instant()).isEqualTo(origin);
+    assertThat(clock.advance(Duration.ofMinutes(5L))).isEqualTo(TimeUnit.MINUTES.toNanos(5L));
+    assertThat(clock.advance(250L, TimeUnit.MILLISECONDS)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(300_250L));
+    assertThat(clock.instant()).isEqualTo(origin.plusSeconds(300L).plusMillis(250L));
+    assertThat(clock.millis()).isEqualTo(origin.toEpochMilli() + 300_250L);
+  }
+
+  @Test
+  public void advanceToNeverMovesVirtualTimeBackwards() {
+
+    VirtualClock clock = new VirtualClock();
+
+    assertThat(clock.advanceTo(100L)).isEqualTo(100L);
+    assertThat(clock.advanceTo(50L)).isEqualTo(100L);
+    assertThat(clock.nanoTime()).isEqualTo(100L);
+  }
+
+  @Test
+  public void withZoneSharesVirtualTime() {
+
+    VirtualClock clock = new VirtualClock();
+
+    ZoneId zone = ZoneId.of("America/Los_Angeles");
+
+    VirtualClock zonedClock = clock.withZone(zone);
+
+    clock.advance(Duration.ofHours(1L));
+
+    assertThat(zonedClock.getZone()).isEqualTo(zone);
+    assertThat(zonedClock.instant()).isEqualTo(clock.instant());
+    assertThat(zonedClock.nanoTime()).isEqualTo(TimeUnit.HOURS.toNanos(1L));
+  }
+
+  @Test
+  public void advanceWithNegativeTimeThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> new VirtualClock().advance(Duration.ofSeconds(-1L)))
+      .withMessage("Time [-1000000000] to advance the virtual clock must not be negative")
+      .withNoCause();
+  }
+
+  @Test
+  public void constructVirtualClockWithNullArgumentsThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> new VirtualClock(null, ZoneOffset.UTC))
+      .withMessage("Instant at which the virtual time starts is required")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> new VirtualClock(Instant.EPOCH, null))
+      .withMessage("ZoneId is required")
+      .withNoCause();
+  }
+}
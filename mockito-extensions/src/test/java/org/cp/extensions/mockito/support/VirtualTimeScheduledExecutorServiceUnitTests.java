@@ -0,0 +1,191 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.mockito.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit Tests for {@link VirtualTimeScheduledExecutorService}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.extensions.mockito.support.VirtualClock
+ * @see org.cp.extensions.mockito.support.VirtualTimeScheduledExecutorService
+ * @since 0.1.0
+ */
+public class VirtualTimeScheduledExecutorServiceUnitTests {
+
+  private final VirtualTimeScheduledExecutorService scheduler = new VirtualTimeScheduledExecutorService();
+
+  @Test
+  public void scheduledTasksRunInVirtualTimeOrder() throws Exception {
+
+    List<String> events = new ArrayList<>();
+
+    this.scheduler.schedule(() -> events.add("C@" + this.scheduler.getClock().nanoTime()), 3L, TimeUnit.SECONDS);
+    this.scheduler.schedule(() -> events.add("A@" + this.scheduler.getClock().nanoTime()), 1L, TimeUnit.SECONDS);
+    ScheduledFuture<String> future = this.scheduler.schedule(() -> "B", 2L, TimeUnit.SECONDS);
+
+    assertThat(future.getDelay(TimeUnit.SECONDS)).isEqualTo(2L);
+    assertThat(this.scheduler.advance(Duration.ofMillis(1999L))).isOne();
+    assertThat(future.isDone()).isFalse();
+    assertThat(this.scheduler.advance(Duration.ofSeconds(5L))).isEqualTo(2);
+    assertThat(future.get()).isEqualTo("B");
+    assertThat(events).containsExactly("A@1000000000", "C@3000000000");
+    assertThat(this.scheduler.getClock().nanoTime()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(6999L));
+    assertThat(this.scheduler.getNumberOfScheduledTasks()).isZero();
+  }
+
+  @Test
+  public void tasksScheduledAtTheSameVirtualTimeRunInSubmissionOrder() {
+
+    List<Integer> events = new ArrayList<>();
+
+    for (int index = 0; index < 10; index++) {
+      int value = index;
+      this.scheduler.schedule(() -> events.add(value), 1L, TimeUnit.SECONDS);
+    }
+
+    this.scheduler.advance(1L, TimeUnit.SECONDS);
+
+    assertThat(events).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+  }
+
+  @Test
+  public void executedTasksRunOnRunDueTasks() {
+
+    List<String> events = new ArrayList<>();
+
+    this.scheduler.execute(() -> events.add("X"));
+
+    assertThat(events).isEmpty();
+    assertThat(this.scheduler.runDueTasks()).isOne();
+    assertThat(events).containsExactly("X");
+    assertThat(this.scheduler.getClock().nanoTime()).isZero();
+  }
+
+  @Test
+  public void fixedRateTaskRunsOncePerPeriod() {
+
+    List<Long> times = new ArrayList<>();
+
+    ScheduledFuture<?> future = this.scheduler.scheduleAtFixedRate(() ->
+      times.add(this.scheduler.getClock().nanoTime()), 1L, 2L, TimeUnit.NANOSECONDS);
+
+    this.scheduler.advance(8L, TimeUnit.NANOSECONDS);
+
+    assertThat(times).containsExactly(1L, 3L, 5L, 7L);
+    assertThat(future.cancel(false)).isTrue();
+    assertThat(this.scheduler.getNumberOfScheduledTasks()).isZero();
+
+    this.scheduler.advance(8L, TimeUnit.NANOSECONDS);
+
+    assertThat(times).hasSize(4);
+  }
+
+  @Test
+  public void fixedDelayTaskRunsAfterDelayFromPreviousRun() {
+
+    List<Long> times = new ArrayList<>();
+
+    this.scheduler.scheduleWithFixedDelay(() -> {
+      times.add(this.scheduler.getClock().nanoTime());
+      this.scheduler.getClock().advance(1L, TimeUnit.NANOSECONDS);
+    }, 0L, 3L, TimeUnit.NANOSECONDS);
+
+    this.scheduler.advance(10L, TimeUnit.NANOSECONDS);
+
+    assertThat(times).containsExactly(0L, 4L, 8L);
+  }
+
+  @Test
+  public void cancelledTaskDoesNotRun() {
+
+    List<String> events = new ArrayList<>();
+
+    ScheduledFuture<?> future = this.scheduler.schedule(() -> events.add("X"), 1L, TimeUnit.SECONDS);
+
+    assertThat(future.cancel(true)).isTrue();
+    assertThat(this.scheduler.advance(Duration.ofSeconds(1L))).isZero();
+    assertThat(events).isEmpty();
+  }
+
+  @Test
+  public void delayedFutureCompletesAtVirtualTime() {
+
+    VirtualTimeScheduledExecutorService scheduler = JavaMockObjects.virtualTimeScheduler();
+
+    CompletableFuture<String> future = JavaMockObjects.delayedFuture(() -> "test", 30L, TimeUnit.SECONDS, scheduler);
+
+    scheduler.advance(Duration.ofSeconds(29L));
+
+    assertThat(future).isNotDone();
+
+    scheduler.advance(Duration.ofSeconds(1L));
+
+    assertThat(future).isCompletedWithValue("test");
+  }
+
+  @Test
+  public void cancellingDelayedFutureCancelsVirtualTimeTask() {
+
+    CompletableFuture<String> future =
+      JavaMockObjects.delayedFuture(() -> "test", 30L, TimeUnit.SECONDS, this.scheduler);
+
+    assertThat(future.cancel(true)).isTrue();
+    assertThat(this.scheduler.getNumberOfScheduledTasks()).isZero();
+  }
+
+  @Test
+  public void shutdownRejectsNewTasks() throws Exception {
+
+    this.scheduler.schedule(() -> { }, 1L, TimeUnit.SECONDS);
+    this.scheduler.shutdown();
+
+    assertThat(this.scheduler.isShutdown()).isTrue();
+    assertThat(this.scheduler.isTerminated()).isFalse();
+
+    assertThatExceptionOfType(RejectedExecutionException.class)
+      .isThrownBy(() -> this.scheduler.execute(() -> { }))
+      .withMessage("ScheduledExecutorService [%s] was shutdown", this.scheduler)
+      .withNoCause();
+
+    this.scheduler.advance(Duration.ofSeconds(1L));
+
+    assertThat(this.scheduler.awaitTermination(1L, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  public void shutdownNowReturnsPendingTasks() {
+
+    this.scheduler.schedule(() -> { }, 1L, TimeUnit.SECONDS);
+    this.scheduler.schedule(() -> { }, 2L, TimeUnit.SECONDS);
+
+    assertThat(this.scheduler.shutdownNow()).hasSize(2);
+    assertThat(this.scheduler.isTerminated()).isTrue();
+  }
+}
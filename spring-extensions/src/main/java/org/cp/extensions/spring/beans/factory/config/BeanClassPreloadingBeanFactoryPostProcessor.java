@@ -0,0 +1,390 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.spring.beans.factory.config;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.StringUtils;
+import org.cp.elements.util.ArrayUtils;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.MethodMetadata;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Spring {@link BeanFactoryPostProcessor} loading the classes of the beans declared in the Spring container
+ * on background {@link Thread Threads}, in topological order of the {@link BeanDependencyGraph}, while
+ * the Spring container continues its refresh on the main {@link Thread}, so that the class of a bean is already
+ * loaded by the time the bean is instantiated.
+ * <p>
+ * The classes of a bean are the bean class and, for beans created with a factory method, such as
+ * {@literal @Bean} methods, the declared return type of the factory method. The classes of the dependencies
+ * of a bean are loaded before the classes of the bean.
+ * <p>
+ * The {@link BeanDependencyGraph} registered by the
+ * {@link org.cp.extensions.spring.context.annotation.DependencyOfBeanFactoryPostProcessor} is used when available,
+ * for example, when the {@literal DependencyOfBeanFactoryPostProcessor} is registered with
+ * {@literal registerWith(..)}, and therefore runs before all {@link BeanFactoryPostProcessor} beans.
+ * Otherwise, the {@link org.springframework.context.annotation.DependsOn} dependencies declared by the beans
+ * are used.
+ * <p>
+ * Classes that cannot be loaded, or fail to initialize, are skipped and logged at {@literal DEBUG} level;
+ * the failure is then reported again when the Spring container uses the class. The number of
+ * {@link Thread Threads} is configured with the {@value #PARALLELISM_PROPERTY} property.
+ * <p>
+ * By default, classes are loaded without being initialized. Running static initializers on the background
+ * {@link Thread Threads} is opt-in, with the {@value #INITIALIZATION_ENABLED_PROPERTY} property.
+ *
+ * @see #setInitializationEnabled(boolean)
+ *
+ * @author John Blum
+ * @see org.cp.extensions.spring.beans.factory.config.BeanDependencyGraph
+ * @see org.springframework.beans.factory.config.BeanFactoryPostProcessor
+ * @see org.springframework.context.EnvironmentAware
+ * @since 0.1.0
+ */
+public class BeanClassPreloadingBeanFactoryPostProcessor implements BeanFactoryPostProcessor, EnvironmentAware {
+
+	public static final String PARALLELISM_PROPERTY =
+		"codeprimate.extensions.spring.beans.class-preloading.parallelism";
+
+	public static final String INITIALIZATION_ENABLED_PROPERTY =
+		"codeprimate.extensions.spring.beans.class-preloading.initialization-enabled";
+
+	protected static final boolean DEFAULT_INITIALIZATION_ENABLED = false;
+
+	protected static final int DEFAULT_PARALLELISM = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private volatile CompletableFuture<Void> preloading = CompletableFuture.completedFuture(null);
+
+	private boolean initializationEnabled = DEFAULT_INITIALIZATION_ENABLED;
+
+	private int parallelism = DEFAULT_PARALLELISM;
+
+	private final Set<String> preloadedClassNames = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Configures the number of {@link Thread Threads} used to preload classes and whether the classes are initialized
+	 * from the {@value #PARALLELISM_PROPERTY} and {@value #INITIALIZATION_ENABLED_PROPERTY} properties
+	 * in the {@link Environment}.
+	 *
+	 * @param environment {@link Environment} of the Spring container.
+	 * @see org.springframework.core.env.Environment
+	 */
+	@Override
+	public void setEnvironment(@NonNull Environment environment) {
+		setParallelism(environment.getProperty(PARALLELISM_PROPERTY, Integer.class, this.parallelism));
+		setInitializationEnabled(environment.getProperty(INITIALIZATION_ENABLED_PROPERTY, Boolean.class,
+			this.initializationEnabled));
+	}
+
+	/**
+	 * Enables or disables the initialization of the preloaded classes, running their static initializers
+	 * on the background {@link Thread Threads}; disabled by default.
+	 * <p>
+	 * Enable with care. The JVM holds an initialization lock on a class while its static initializer runs.
+	 * When the static initializers of two classes use each other, and the classes are initialized concurrently,
+	 * by a background {@link Thread} and by the refresh {@link Thread} or another background {@link Thread},
+	 * each {@link Thread} waits for the other to release its lock, and the refresh of the Spring container
+	 * deadlocks. Static initializers also run with the context of the background {@link Thread},
+	 * not the refresh {@link Thread}, for example, the {@link Thread#getContextClassLoader() context ClassLoader}.
+	 *
+	 * @param initializationEnabled boolean indicating whether the preloaded classes are initialized.
+	 */
+	public void setInitializationEnabled(boolean initializationEnabled) {
+		this.initializationEnabled = initializationEnabled;
+	}
+
+	/**
+	 * Determines whether the preloaded classes are initialized.
+	 *
+	 * @return a boolean value indicating whether the preloaded classes are initialized.
+	 * @see #setInitializationEnabled(boolean)
+	 */
+	public boolean isInitializationEnabled() {
+		return this.initializationEnabled;
+	}
+
+	/**
+	 * Sets the number of {@link Thread Threads} used to preload classes.
+	 *
+	 * @param parallelism number of {@link Thread Threads} used to preload classes; must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if {@code parallelism} is less than {@literal 1}.
+	 */
+	public void setParallelism(int parallelism) {
+		Assert.isTrue(parallelism > 0, "Parallelism [%d] must be greater than 0", parallelism);
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Returns the number of {@link Thread Threads} used to preload classes.
+	 *
+	 * @return the number of {@link Thread Threads} used to preload classes.
+	 */
+	public int getParallelism() {
+		return this.parallelism;
+	}
+
+	/**
+	 * Returns the {@link CompletableFuture} completed when all classes have been preloaded.
+	 *
+	 * @return the {@link CompletableFuture} completed when all classes have been preloaded.
+	 * @see java.util.concurrent.CompletableFuture
+	 */
+	public @NonNull CompletableFuture<Void> getPreloading() {
+		return this.preloading;
+	}
+
+	/**
+	 * Returns the {@link String names} of the classes successfully preloaded so far.
+	 *
+	 * @return an unmodifiable {@link Set} of the {@link String names} of the preloaded classes.
+	 */
+	public @NonNull Set<String> getPreloadedClassNames() {
+		return Collections.unmodifiableSet(this.preloadedClassNames);
+	}
+
+	/**
+	 * Starts preloading the classes of the beans declared in the given {@link ConfigurableListableBeanFactory}
+	 * on background {@link Thread Threads}, without waiting for the classes to be preloaded.
+	 *
+	 * @param beanFactory {@link ConfigurableListableBeanFactory} to post process; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link ConfigurableListableBeanFactory} is {@literal null}.
+	 * @see #resolveClassNames(ConfigurableListableBeanFactory, BeanDependencyGraph)
+	 */
+	@Override
+	public void postProcessBeanFactory(@NonNull ConfigurableListableBeanFactory beanFactory) throws BeansException {
+
+		Assert.notNull(beanFactory, "BeanFactory is required");
+
+		List<String> classNames = resolveClassNames(beanFactory, resolveDependencyGraph(beanFactory));
+
+		ClassLoader classLoader = beanFactory.getBeanClassLoader() != null ? beanFactory.getBeanClassLoader()
+			: ClassUtils.getDefaultClassLoader();
+
+		this.preloading = preload(classNames, classLoader);
+	}
+
+	/**
+	 * Resolves the {@link BeanDependencyGraph} registered in the given {@link ConfigurableListableBeanFactory},
+	 * or builds a {@link BeanDependencyGraph} from the {@link org.springframework.context.annotation.DependsOn}
+	 * dependencies declared by the beans.
+	 *
+	 * @param beanFactory {@link ConfigurableListableBeanFactory} containing the bean definitions.
+	 * @return the {@link BeanDependencyGraph} of the beans.
+	 * @see org.cp.extensions.spring.beans.factory.config.BeanDependencyGraph
+	 */
+	protected @NonNull BeanDependencyGraph resolveDependencyGraph(
+			@NonNull ConfigurableListableBeanFactory beanFactory) {
+
+		if (beanFactory.containsSingleton(BeanDependencyGraph.BEAN_NAME)) {
+			return beanFactory.getBean(BeanDependencyGraph.BEAN_NAME, BeanDependencyGraph.class);
+		}
+
+		BeanDependencyGraph.Builder dependencyGraph = BeanDependencyGraph.builder();
+
+		for (String beanName : ArrayUtils.nullSafeArray(beanFactory.getBeanDefinitionNames(), String.class)) {
+
+			dependencyGraph.addBean(beanName);
+
+			String[] dependsOn = beanFactory.getBeanDefinition(beanName).getDependsOn();
+
+			for (String dependencyName : ArrayUtils.nullSafeArray(dependsOn, String.class)) {
+
+				if (StringUtils.hasText(dependencyName)) {
+					dependencyGraph.addDependency(beanName, dependencyName, BeanDependencyGraph.Provenance.DEPENDS_ON);
+				}
+			}
+		}
+
+		return dependencyGraph.build();
+	}
+
+	/**
+	 * Resolves the {@link String names} of the classes to preload, in topological order of the given
+	 * {@link BeanDependencyGraph}, with the classes of the dependencies of a bean before the classes of the bean.
+	 * <p>
+	 * Beans in a dependency cycle are ordered last, in declaration order.
+	 *
+	 * @param beanFactory {@link ConfigurableListableBeanFactory} containing the bean definitions.
+	 * @param dependencyGraph {@link BeanDependencyGraph} of the beans.
+	 * @return the {@link List} of distinct {@link String names} of the classes to preload.
+	 * @see org.cp.extensions.spring.beans.factory.config.BeanDependencyGraph
+	 */
+	protected @NonNull List<String> resolveClassNames(@NonNull ConfigurableListableBeanFactory beanFactory,
+			@NonNull BeanDependencyGraph dependencyGraph) {
+
+		Set<String> classNames = new LinkedHashSet<>();
+
+		for (String beanName : sortTopologically(dependencyGraph)) {
+			if (beanFactory.containsBeanDefinition(beanName)) {
+
+				BeanDefinition beanDefinition = beanFactory.getBeanDefinition(beanName);
+
+				if (!beanDefinition.isAbstract()) {
+
+					addClassName(classNames, beanDefinition.getBeanClassName());
+
+					if (beanDefinition instanceof AnnotatedBeanDefinition) {
+						MethodMetadata factoryMethod =
+							((AnnotatedBeanDefinition) beanDefinition).getFactoryMethodMetadata();
+
+						addClassName(classNames, factoryMethod != null ? factoryMethod.getReturnTypeName() : null);
+					}
+				}
+			}
+		}
+
+		return new ArrayList<>(classNames);
+	}
+
+	private void addClassName(Set<String> classNames, @Nullable String className) {
+
+		if (StringUtils.hasText(className) && ClassUtils.resolvePrimitiveClassName(className) == null) {
+			classNames.add(className);
+		}
+	}
+
+	private List<String> sortTopologically(BeanDependencyGraph dependencyGraph) {
+
+		int beanCount = dependencyGraph.getBeanCount();
+
+		int[] pendingDependencies = new int[beanCount];
+
+		Deque<Integer> ready = new ArrayDeque<>();
+
+		for (int index = 0; index < beanCount; index++) {
+			pendingDependencies[index] = dependencyGraph.getFanOut(dependencyGraph.getBeanName(index));
+			if (pendingDependencies[index] == 0) {
+				ready.add(index);
+			}
+		}
+
+		Set<String> sorted = new LinkedHashSet<>(beanCount);
+
+		while (!ready.isEmpty()) {
+
+			String beanName = dependencyGraph.getBeanName(ready.poll());
+
+			sorted.add(beanName);
+
+			for (String dependentName : dependencyGraph.getDependents(beanName)) {
+				int dependent = dependencyGraph.indexOf(dependentName).orElse(-1);
+				if (dependent >= 0 && --pendingDependencies[dependent] == 0) {
+					ready.add(dependent);
+				}
+			}
+		}
+
+		// beans in a dependency cycle
+		sorted.addAll(dependencyGraph.getBeanNames());
+
+		return new ArrayList<>(sorted);
+	}
+
+	/**
+	 * Loads, and when {@link #isInitializationEnabled() enabled}, initializes the given classes
+	 * on background {@link Thread Threads}, in the given order.
+	 *
+	 * @param classNames {@link List} of {@link String names} of the classes to preload.
+	 * @param classLoader {@link ClassLoader} used to load the classes.
+	 * @return a {@link CompletableFuture} completed when all classes have been preloaded.
+	 * @see java.util.concurrent.CompletableFuture
+	 */
+	protected @NonNull CompletableFuture<Void> preload(@NonNull List<String> classNames,
+			@Nullable ClassLoader classLoader) {
+
+		if (classNames.isEmpty()) {
+			return CompletableFuture.completedFuture(null);
+		}
+
+		ExecutorService executorService = newExecutorService();
+
+		try {
+
+			CompletableFuture<?>[] preloads = new CompletableFuture<?>[classNames.size()];
+
+			for (int index = 0; index < preloads.length; index++) {
+				String className = classNames.get(index);
+				preloads[index] = CompletableFuture.runAsync(() -> preload(className, classLoader), executorService);
+			}
+
+			return CompletableFuture.allOf(preloads);
+		}
+		finally {
+			// previously submitted classes are still preloaded
+			executorService.shutdown();
+		}
+	}
+
+	private void preload(String className, @Nullable ClassLoader classLoader) {
+
+		try {
+			Class.forName(className, isInitializationEnabled(), classLoader);
+			this.preloadedClassNames.add(className);
+		}
+		catch (ClassNotFoundException | LinkageError cause) {
+			if (this.logger.isDebugEnabled()) {
+				this.logger.debug(String.format("Failed to preload class [%s]", className), cause);
+			}
+		}
+	}
+
+	/**
+	 * Constructs a new {@link ExecutorService} preloading classes on daemon {@link Thread Threads}.
+	 *
+	 * @return a new {@link ExecutorService}.
+	 * @see java.util.concurrent.ExecutorService
+	 */
+	protected @NonNull ExecutorService newExecutorService() {
+
+		AtomicInteger threadCount = new AtomicInteger(0);
+
+		ThreadFactory threadFactory = runnable -> {
+			Thread thread = new Thread(runnable, "bean-class-preloading-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+
+		return Executors.newFixedThreadPool(getParallelism(), threadFactory);
+	}
+}
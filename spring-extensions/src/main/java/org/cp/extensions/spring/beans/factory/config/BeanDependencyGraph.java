@@ -0,0 +1,559 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.spring.beans.factory.config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+
+import org.cp.elements.lang.Assert;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Compact, immutable graph of the dependencies between beans declared in the Spring container.
+ * <p>
+ * Beans are indexed by {@literal int} and the edges, from a bean to the beans on which it depends, are stored in
+ * compressed sparse row (CSR) arrays, in both directions, so the fan-out and fan-in of any bean are looked up
+ * in constant time, and its dependencies and dependents in time proportional to their number, even for graphs
+ * with many thousands of beans.
+ * <p>
+ * Each edge records its {@link Provenance}: whether the dependency was declared on the dependent bean,
+ * with {@link org.springframework.context.annotation.DependsOn}, or declared on the dependency with
+ * {@link org.cp.extensions.spring.context.annotation.DependencyOf}. A dependency declared in more than one way
+ * is {@link #forEachEdge(EdgeVisitor) visited} and exported once per {@link Provenance}, but is listed and counted
+ * only once in the dependencies, dependents, fan-out and fan-in of a bean.
+ * <p>
+ * The graph can be exported in {@link #toDot() DOT} format, for rendering with Graphviz, and in
+ * {@link #toJson() JSON} format.
+ *
+ * @author John Blum
+ * @see org.cp.extensions.spring.context.annotation.DependencyOfBeanFactoryPostProcessor
+ * @since 0.1.0
+ */
+public class BeanDependencyGraph {
+
+	public static final String BEAN_NAME = "beanDependencyGraph";
+
+	/**
+	 * Factory method used to construct a new {@link Builder} used to build a {@link BeanDependencyGraph}.
+	 *
+	 * @return a new {@link Builder}.
+	 */
+	public static @NonNull Builder builder() {
+		return new Builder();
+	}
+
+	private final byte[] provenances;
+
+	private final int[] dependencies;
+	private final int[] dependencyOffsets;
+	private final int[] dependents;
+	private final int[] dependentOffsets;
+	private final int[] edgeDependencies;
+	private final int[] edgeOffsets;
+
+	private final Map<String, Integer> beanIndexes;
+
+	private final String[] beanNames;
+
+	private BeanDependencyGraph(String[] beanNames, Map<String, Integer> beanIndexes,
+			int[] edgeOffsets, int[] edgeDependencies, byte[] provenances,
+			int[] dependencyOffsets, int[] dependencies, int[] dependentOffsets, int[] dependents) {
+
+		this.beanNames = beanNames;
+		this.beanIndexes = beanIndexes;
+		this.edgeOffsets = edgeOffsets;
+		this.edgeDependencies = edgeDependencies;
+		this.provenances = provenances;
+		this.dependencyOffsets = dependencyOffsets;
+		this.dependencies = dependencies;
+		this.dependentOffsets = dependentOffsets;
+		this.dependents = dependents;
+	}
+
+	/**
+	 * Returns the number of beans in this graph.
+	 *
+	 * @return the number of beans in this graph.
+	 */
+	public int getBeanCount() {
+		return this.beanNames.length;
+	}
+
+	/**
+	 * Returns the number of dependency edges in this graph, counting a dependency declared in more than one way
+	 * once per {@link Provenance}.
+	 *
+	 * @return the number of dependency edges in this graph.
+	 */
+	public int getEdgeCount() {
+		return this.edgeDependencies.length;
+	}
+
+	/**
+	 * Returns the {@link String name} of the bean at the given index.
+	 *
+	 * @param index {@literal int} index of the bean.
+	 * @return the {@link String name} of the bean at the given index.
+	 * @throws IndexOutOfBoundsException if the index is not a valid bean index.
+	 */
+	public @NonNull String getBeanName(int index) {
+		return this.beanNames[index];
+	}
+
+	/**
+	 * Returns the {@link String names} of all beans in this graph, in index order.
+	 *
+	 * @return the {@link String names} of all beans in this graph.
+	 */
+	public @NonNull List<String> getBeanNames() {
+		return Collections.unmodifiableList(Arrays.asList(this.beanNames));
+	}
+
+	/**
+	 * Returns the index of the bean with the given {@link String name}.
+	 *
+	 * @param beanName {@link String} containing the {@literal name} of the bean.
+	 * @return the {@link OptionalInt index} of the bean, or {@link OptionalInt#empty()} if the bean
+	 * is not in this graph.
+	 */
+	public @NonNull OptionalInt indexOf(@Nullable String beanName) {
+
+		Integer index = beanName != null ? this.beanIndexes.get(beanName) : null;
+
+		return index != null ? OptionalInt.of(index) : OptionalInt.empty();
+	}
+
+	/**
+	 * Determines whether the bean with the given {@link String name} is in this graph.
+	 *
+	 * @param beanName {@link String} containing the {@literal name} of the bean.
+	 * @return a boolean value indicating whether the bean is in this graph.
+	 */
+	public boolean contains(@Nullable String beanName) {
+		return indexOf(beanName).isPresent();
+	}
+
+	/**
+	 * Returns the {@link String names} of the beans on which the named bean depends.
+	 *
+	 * @param beanName {@link String} containing the {@literal name} of the bean.
+	 * @return the {@link String names} of the beans on which the named bean depends;
+	 * empty if the bean is not in this graph.
+	 */
+	public @NonNull List<String> getDependencies(@Nullable String beanName) {
+		return resolveBeanNames(beanName, this.dependencyOffsets, this.dependencies);
+	}
+
+	/**
+	 * Returns the {@link String names} of the beans depending on the named bean.
+	 *
+	 * @param beanName {@link String} containing the {@literal name} of the bean.
+	 * @return the {@link String names} of the beans depending on the named bean;
+	 * empty if the bean is not in this graph.
+	 */
+	public @NonNull List<String> getDependents(@Nullable String beanName) {
+		return resolveBeanNames(beanName, this.dependentOffsets, this.dependents);
+	}
+
+	private List<String> resolveBeanNames(String beanName, int[] offsets, int[] edges) {
+
+		OptionalInt index = indexOf(beanName);
+
+		if (index.isPresent()) {
+
+			int from = offsets[index.getAsInt()];
+			int to = offsets[index.getAsInt() + 1];
+
+			List<String> beanNames = new ArrayList<>(to - from);
+
+			for (int edge = from; edge < to; edge++) {
+				beanNames.add(this.beanNames[edges[edge]]);
+			}
+
+			return Collections.unmodifiableList(beanNames);
+		}
+
+		return Collections.emptyList();
+	}
+
+	/**
+	 * Returns the number of beans on which the named bean depends.
+	 *
+	 * @param beanName {@link String} containing the {@literal name} of the bean.
+	 * @return the fan-out of the named bean; {@literal 0} if the bean is not in this graph.
+	 */
+	public int getFanOut(@Nullable String beanName) {
+		return degree(indexOf(beanName), this.dependencyOffsets);
+	}
+
+	/**
+	 * Returns the number of beans depending on the named bean.
+	 *
+	 * @param beanName {@link String} containing the {@literal name} of the bean.
+	 * @return the fan-in of the named bean; {@literal 0} if the bean is not in this graph.
+	 */
+	public int getFanIn(@Nullable String beanName) {
+		return degree(indexOf(beanName), this.dependentOffsets);
+	}
+
+	private int degree(OptionalInt index, int[] offsets) {
+
+		return index.isPresent()
+			? offsets[index.getAsInt() + 1] - offsets[index.getAsInt()]
+			: 0;
+	}
+
+	/**
+	 * Returns the {@link String names} of at most {@code limit} beans with the greatest fan-in, largest first.
+	 *
+	 * @param limit maximum number of bean names to return.
+	 * @return the {@link String names} of the beans with the greatest fan-in.
+	 */
+	public @NonNull List<String> getHighestFanIn(int limit) {
+		return highestDegree(limit, this.dependentOffsets);
+	}
+
+	/**
+	 * Returns the {@link String names} of at most {@code limit} beans with the greatest fan-out, largest first.
+	 *
+	 * @param limit maximum number of bean names to return.
+	 * @return the {@link String names} of the beans with the greatest fan-out.
+	 */
+	public @NonNull List<String> getHighestFanOut(int limit) {
+		return highestDegree(limit, this.dependencyOffsets);
+	}
+
+	private List<String> highestDegree(int limit, int[] offsets) {
+
+		Integer[] indexes = new Integer[getBeanCount()];
+
+		Arrays.setAll(indexes, index -> index);
+		Arrays.sort(indexes, (one, two) ->
+			Integer.compare(offsets[two + 1] - offsets[two], offsets[one + 1] - offsets[one]));
+
+		List<String> beanNames = new ArrayList<>();
+
+		for (int index = 0, size = Math.min(Math.max(limit, 0), indexes.length); index < size; index++) {
+			beanNames.add(this.beanNames[indexes[index]]);
+		}
+
+		return Collections.unmodifiableList(beanNames);
+	}
+
+	/**
+	 * Visits every edge in this graph, in bean index order.
+	 *
+	 * @param visitor {@link EdgeVisitor} called for every edge; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link EdgeVisitor} is {@literal null}.
+	 * @see EdgeVisitor
+	 */
+	public void forEachEdge(@NonNull EdgeVisitor visitor) {
+
+		Assert.notNull(visitor, "EdgeVisitor is required");
+
+		for (int bean = 0; bean < this.beanNames.length; bean++) {
+			for (int edge = this.edgeOffsets[bean]; edge < this.edgeOffsets[bean + 1]; edge++) {
+				visitor.visit(this.beanNames[bean], this.beanNames[this.edgeDependencies[edge]],
+					Provenance.values()[this.provenances[edge]]);
+			}
+		}
+	}
+
+	/**
+	 * Exports this graph in Graphviz DOT format.
+	 * <p>
+	 * Edges point from a bean to the bean on which it depends;
+	 * {@link Provenance#DEPENDENCY_OF} edges are dashed and {@link Provenance#ASYNC_DEPENDENCY_OF} edges are dotted.
+	 *
+	 * @return this graph in DOT format.
+	 */
+	public @NonNull String toDot() {
+
+		StringBuilder dot = new StringBuilder("digraph beans {\n");
+
+		for (String beanName : this.beanNames) {
+			dot.append("  ").append(quote(beanName)).append(";\n");
+		}
+
+		forEachEdge((beanName, dependency, provenance) -> {
+			dot.append("  ").append(quote(beanName)).append(" -> ").append(quote(dependency));
+			if (Provenance.DEPENDENCY_OF.equals(provenance)) {
+				dot.append(" [style=dashed, label=\"@DependencyOf\"]");
+			}
+			else if (Provenance.ASYNC_DEPENDENCY_OF.equals(provenance)) {
+				dot.append(" [style=dotted, label=\"@AsyncDependencyOf\"]");
+			}
+			dot.append(";\n");
+		});
+
+		return dot.append("}\n").toString();
+	}
+
+	/**
+	 * Exports this graph in JSON format.
+	 * <p>
+	 * For example: <code>{"beans":["a","b"],"edges":[{"from":"a","to":"b","provenance":"DEPENDS_ON"}]}</code>
+	 *
+	 * @return this graph in JSON format.
+	 */
+	public @NonNull String toJson() {
+
+		StringBuilder json = new StringBuilder("{\"beans\":[");
+
+		for (int index = 0; index < this.beanNames.length; index++) {
+			json.append(index > 0 ? "," : "").append(quote(this.beanNames[index]));
+		}
+
+		json.append("],\"edges\":[");
+
+		forEachEdge((beanName, dependency, provenance) -> {
+			json.append(json.charAt(json.length() - 1) == '[' ? "" : ",")
+				.append("{\"from\":").append(quote(beanName))
+				.append(",\"to\":").append(quote(dependency))
+				.append(",\"provenance\":\"").append(provenance.name()).append("\"}");
+		});
+
+		return json.append("]}").toString();
+	}
+
+	// quoting and escaping are the same for DOT IDs and JSON strings
+	private static String quote(String value) {
+
+		StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+
+		for (char character : value.toCharArray()) {
+			if (character == '"' || character == '\\') {
+				quoted.append('\\').append(character);
+			}
+			else if (character < ' ') {
+				quoted.append(String.format("\\u%04x", (int) character));
+			}
+			else {
+				quoted.append(character);
+			}
+		}
+
+		return quoted.append('"').toString();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s[beans=%d, edges=%d]", getClass().getSimpleName(), getBeanCount(), getEdgeCount());
+	}
+
+	/**
+	 * Source of a dependency edge.
+	 */
+	public enum Provenance {
+
+		/**
+		 * Dependency declared on the dependent bean, for example with
+		 * {@link org.springframework.context.annotation.DependsOn}.
+		 */
+		DEPENDS_ON,
+
+		/**
+		 * Dependency declared on the dependency with {@link org.cp.extensions.spring.context.annotation.DependencyOf}.
+		 */
+		DEPENDENCY_OF,
+
+		/**
+		 * Dependency declared on the dependency with
+		 * {@link org.cp.extensions.spring.context.annotation.AsyncDependencyOf}.
+		 */
+		ASYNC_DEPENDENCY_OF
+
+	}
+
+	/**
+	 * Callback interface used to visit the edges of a {@link BeanDependencyGraph}.
+	 *
+	 * @see #forEachEdge(EdgeVisitor)
+	 */
+	@FunctionalInterface
+	public interface EdgeVisitor {
+
+		/**
+		 * Visits the edge from the named bean to the named dependency.
+		 *
+		 * @param beanName {@link String} containing the {@literal name} of the dependent bean.
+		 * @param dependencyName {@link String} containing the {@literal name} of the bean depended on.
+		 * @param provenance {@link Provenance} of the edge.
+		 */
+		void visit(String beanName, String dependencyName, Provenance provenance);
+
+	}
+
+	/**
+	 * Builder used to build a {@link BeanDependencyGraph}.
+	 * <p>
+	 * Duplicate edges with the same {@link Provenance} are added only once.
+	 */
+	public static class Builder {
+
+		private byte[] provenances = new byte[16];
+
+		private int edgeCount;
+
+		private int[] dependents = new int[16];
+		private int[] dependencies = new int[16];
+
+		private final List<String> beanNames = new ArrayList<>();
+
+		private final Map<String, Integer> beanIndexes = new HashMap<>();
+
+		private final Set<Long> edges = new HashSet<>();
+		private final Set<Long> dependencyPairs = new HashSet<>();
+
+		// edges that are the first edge added between the same two beans, regardless of provenance
+		private final BitSet adjacentEdges = new BitSet();
+
+		/**
+		 * Adds the bean with the given {@link String name}, if not already added.
+		 *
+		 * @param beanName {@link String} containing the {@literal name} of the bean; must not be {@literal null}.
+		 * @return this {@link Builder}.
+		 * @throws IllegalArgumentException if the bean name is {@literal null} or empty.
+		 */
+		public @NonNull Builder addBean(@NonNull String beanName) {
+			index(beanName);
+			return this;
+		}
+
+		/**
+		 * Adds an edge from the named bean to the named dependency, adding the beans if not already added.
+		 *
+		 * @param beanName {@link String} containing the {@literal name} of the dependent bean.
+		 * @param dependencyName {@link String} containing the {@literal name} of the bean depended on.
+		 * @param provenance {@link Provenance} of the edge; must not be {@literal null}.
+		 * @return this {@link Builder}.
+		 * @throws IllegalArgumentException if either bean name is {@literal null} or empty,
+		 * or the {@link Provenance} is {@literal null}.
+		 */
+		public @NonNull Builder addDependency(@NonNull String beanName, @NonNull String dependencyName,
+				@NonNull Provenance provenance) {
+
+			Assert.notNull(provenance, "Provenance is required");
+
+			int dependent = index(beanName);
+			int dependency = index(dependencyName);
+
+			// 2 bits for the provenance; the dependency index is less than 2^30
+			long dependencyPair = ((long) dependent << 32) | ((long) dependency << 2);
+
+			if (this.edges.add(dependencyPair | provenance.ordinal())) {
+
+				if (this.edgeCount == this.dependents.length) {
+					int capacity = this.edgeCount * 2;
+					this.dependents = Arrays.copyOf(this.dependents, capacity);
+					this.dependencies = Arrays.copyOf(this.dependencies, capacity);
+					this.provenances = Arrays.copyOf(this.provenances, capacity);
+				}
+
+				this.dependents[this.edgeCount] = dependent;
+				this.dependencies[this.edgeCount] = dependency;
+				this.provenances[this.edgeCount] = (byte) provenance.ordinal();
+				this.adjacentEdges.set(this.edgeCount, this.dependencyPairs.add(dependencyPair));
+				this.edgeCount++;
+			}
+
+			return this;
+		}
+
+		private int index(String beanName) {
+
+			Assert.hasText(beanName, "Bean name [%s] is required", beanName);
+
+			Integer index = this.beanIndexes.get(beanName);
+
+			if (index == null) {
+				index = this.beanNames.size();
+				this.beanIndexes.put(beanName, index);
+				this.beanNames.add(beanName);
+			}
+
+			return index;
+		}
+
+		/**
+		 * Builds the {@link BeanDependencyGraph}.
+		 *
+		 * @return a new {@link BeanDependencyGraph}.
+		 */
+		public @NonNull BeanDependencyGraph build() {
+
+			int beanCount = this.beanNames.size();
+			int adjacentEdgeCount = this.adjacentEdges.cardinality();
+
+			int[] edgeOffsets = new int[beanCount + 1];
+			int[] dependencyOffsets = new int[beanCount + 1];
+			int[] dependentOffsets = new int[beanCount + 1];
+
+			for (int edge = 0; edge < this.edgeCount; edge++) {
+
+				edgeOffsets[this.dependents[edge] + 1]++;
+
+				if (this.adjacentEdges.get(edge)) {
+					dependencyOffsets[this.dependents[edge] + 1]++;
+					dependentOffsets[this.dependencies[edge] + 1]++;
+				}
+			}
+
+			for (int bean = 0; bean < beanCount; bean++) {
+				edgeOffsets[bean + 1] += edgeOffsets[bean];
+				dependencyOffsets[bean + 1] += dependencyOffsets[bean];
+				dependentOffsets[bean + 1] += dependentOffsets[bean];
+			}
+
+			int[] edgeDependencies = new int[this.edgeCount];
+			int[] dependencies = new int[adjacentEdgeCount];
+			int[] dependents = new int[adjacentEdgeCount];
+			int[] edgePositions = Arrays.copyOf(edgeOffsets, beanCount);
+			int[] dependencyPositions = Arrays.copyOf(dependencyOffsets, beanCount);
+			int[] dependentPositions = Arrays.copyOf(dependentOffsets, beanCount);
+
+			byte[] provenances = new byte[this.edgeCount];
+
+			// counting sort preserving the order in which edges were added
+			for (int edge = 0; edge < this.edgeCount; edge++) {
+
+				int edgePosition = edgePositions[this.dependents[edge]]++;
+
+				edgeDependencies[edgePosition] = this.dependencies[edge];
+				provenances[edgePosition] = this.provenances[edge];
+
+				if (this.adjacentEdges.get(edge)) {
+					dependencies[dependencyPositions[this.dependents[edge]]++] = this.dependencies[edge];
+					dependents[dependentPositions[this.dependencies[edge]]++] = this.dependents[edge];
+				}
+			}
+
+			return new BeanDependencyGraph(this.beanNames.toArray(new String[0]), new HashMap<>(this.beanIndexes),
+				edgeOffsets, edgeDependencies, provenances,
+				dependencyOffsets, dependencies, dependentOffsets, dependents);
+		}
+	}
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.spring.beans.factory.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.cp.elements.lang.Assert;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Critical path of bean initialization in the Spring container, computed from the {@link Duration} spent creating
+ * each bean and the dependencies between beans.
+ * <p>
+ * Beans are scheduled as early as their dependencies allow, so the critical path is the chain of dependent beans
+ * with the greatest total {@link Duration}; it is the lower bound of the time to initialize all beans, even when
+ * independent beans are initialized in parallel. The {@link #getSlack(String) slack} of a bean is the time by which
+ * the initialization of the bean can be delayed, or extended, without extending the critical path. Beans on
+ * the critical path have no slack, and are therefore the beans to make lazy, asynchronous or faster in order
+ * to reduce startup time.
+ * <p>
+ * Circular dependencies are broken at the first dependency found to be circular.
+ *
+ * @author John Blum
+ * @see java.time.Duration
+ * @see org.cp.extensions.spring.beans.factory.config.BeanInitializationTimingBeanPostProcessor
+ * @since 0.1.0
+ */
+public class BeanInitializationCriticalPath {
+
+	/**
+	 * Computes the {@link BeanInitializationCriticalPath} of the given beans.
+	 *
+	 * @param beanDurations {@link Map} of bean names to the {@link Duration} spent creating each bean; iteration order
+	 * of the {@link Map} is used to order beans with equal {@link Duration Durations}; must not be {@literal null}.
+	 * @param dependencies {@link Function} returning the names of the beans on which the named bean depends;
+	 * names of beans not contained in the {@link Map} are ignored; must not be {@literal null}.
+	 * @return the computed {@link BeanInitializationCriticalPath}.
+	 * @throws IllegalArgumentException if the {@link Map} or {@link Function} is {@literal null}.
+	 */
+	public static @NonNull BeanInitializationCriticalPath analyze(@NonNull Map<String, Duration> beanDurations,
+			@NonNull Function<String, Collection<String>> dependencies) {
+
+		Assert.notNull(beanDurations, "Map of bean names to Durations is required");
+		Assert.notNull(dependencies, "Function used to resolve bean dependencies is required");
+
+		return new Analysis(beanDurations, dependencies).analyze();
+	}
+
+	private final Duration duration;
+
+	private final List<String> beanNames;
+
+	private final Map<String, Duration> slacks;
+
+	private BeanInitializationCriticalPath(@NonNull List<String> beanNames, @NonNull Duration duration,
+			@NonNull Map<String, Duration> slacks) {
+
+		this.beanNames = Collections.unmodifiableList(beanNames);
+		this.duration = duration;
+		this.slacks = Collections.unmodifiableMap(slacks);
+	}
+
+	/**
+	 * Gets the {@link String names} of the beans on the critical path, in initialization order.
+	 *
+	 * @return the {@link String names} of the beans on the critical path.
+	 */
+	public @NonNull List<String> getBeanNames() {
+		return this.beanNames;
+	}
+
+	/**
+	 * Gets the total {@link Duration} of the critical path.
+	 *
+	 * @return the total {@link Duration} of the critical path.
+	 */
+	public @NonNull Duration getDuration() {
+		return this.duration;
+	}
+
+	/**
+	 * Gets the slack of the bean with the given {@link String name}.
+	 *
+	 * @param beanName {@link String} containing the {@literal name} of the bean.
+	 * @return the {@link Optional} slack of the bean, or {@link Optional#empty()} if the bean was not analyzed.
+	 */
+	public Optional<Duration> getSlack(@Nullable String beanName) {
+		return Optional.ofNullable(beanName).map(this.slacks::get);
+	}
+
+	/**
+	 * Gets the slack of every analyzed bean.
+	 *
+	 * @return a {@link Map} of bean names to the slack of each bean.
+	 */
+	public @NonNull Map<String, Duration> getSlacks() {
+		return this.slacks;
+	}
+
+	/**
+	 * Determines whether the bean with the given {@link String name} is on the critical path.
+	 *
+	 * @param beanName {@link String} containing the {@literal name} of the bean.
+	 * @return a boolean value indicating whether the bean is on the critical path.
+	 */
+	public boolean isCritical(@Nullable String beanName) {
+		return this.beanNames.contains(beanName);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("Critical path [%dms]: %s", getDuration().toMillis(), String.join(" -> ", getBeanNames()));
+	}
+
+	private static class Analysis {
+
+		private final Function<String, Collection<String>> dependencies;
+
+		private final List<String> topologicalOrder = new ArrayList<>();
+
+		private final Map<String, Duration> beanDurations;
+		private final Map<String, List<String>> dependents = new HashMap<>();
+		private final Map<String, Long> earliestFinish = new HashMap<>();
+		private final Map<String, String> criticalDependency = new HashMap<>();
+
+		private final Set<String> visited = new HashSet<>();
+		private final Set<String> visiting = new HashSet<>();
+
+		private Analysis(Map<String, Duration> beanDurations, Function<String, Collection<String>> dependencies) {
+			this.beanDurations = beanDurations;
+			this.dependencies = dependencies;
+		}
+
+		private BeanInitializationCriticalPath analyze() {
+
+			this.beanDurations.keySet().forEach(this::visit);
+
+			String lastBeanName = null;
+
+			long length = 0L;
+
+			for (String beanName : this.topologicalOrder) {
+
+				long finish = this.earliestFinish.get(beanName);
+
+				if (lastBeanName == null || finish > length) {
+					lastBeanName = beanName;
+					length = finish;
+				}
+			}
+
+			List<String> criticalPath = new ArrayList<>();
+
+			for (String beanName = lastBeanName; beanName != null; beanName = this.criticalDependency.get(beanName)) {
+				criticalPath.add(0, beanName);
+			}
+
+			return new BeanInitializationCriticalPath(criticalPath, Duration.ofNanos(length), computeSlacks(length));
+		}
+
+		// depth-first, post-order traversal computing the earliest finish time of each bean after its dependencies
+		private void visit(String beanName) {
+
+			if (this.visited.add(beanName)) {
+
+				this.visiting.add(beanName);
+
+				long start = 0L;
+
+				for (String dependency : resolveDependencies(beanName)) {
+					if (this.beanDurations.containsKey(dependency) && !dependency.equals(beanName)) {
+
+						visit(dependency);
+
+						// a dependency still being visited is circular; the edge is ignored
+						if (!this.visiting.contains(dependency)) {
+
+							this.dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(beanName);
+
+							long dependencyFinish = this.earliestFinish.get(dependency);
+
+							if (dependencyFinish > start || !this.criticalDependency.containsKey(beanName)) {
+								start = Math.max(start, dependencyFinish);
+								this.criticalDependency.put(beanName, dependency);
+							}
+						}
+					}
+				}
+
+				this.earliestFinish.put(beanName, start + this.beanDurations.get(beanName).toNanos());
+				this.visiting.remove(beanName);
+				this.topologicalOrder.add(beanName);
+			}
+		}
+
+		private Collection<String> resolveDependencies(String beanName) {
+
+			Collection<String> dependencies = this.dependencies.apply(beanName);
+
+			return dependencies != null ? dependencies : Collections.emptyList();
+		}
+
+		private Map<String, Duration> computeSlacks(long length) {
+
+			Map<String, Long> latestFinish = new HashMap<>();
+
+			for (int index = this.topologicalOrder.size() - 1; index >= 0; index--) {
+
+				String beanName = this.topologicalOrder.get(index);
+
+				long finish = this.dependents.getOrDefault(beanName, Collections.emptyList()).stream()
+					.mapToLong(dependent -> latestFinish.get(dependent) - this.beanDurations.get(dependent).toNanos())
+					.min()
+					.orElse(length);
+
+				latestFinish.put(beanName, finish);
+			}
+
+			return this.beanDurations.keySet().stream()
+				.collect(Collectors.toMap(Function.identity(),
+					beanName -> Duration.ofNanos(latestFinish.get(beanName) - this.earliestFinish.get(beanName)),
+					(slackOne, slackTwo) -> slackOne, LinkedHashMap::new));
+		}
+	}
+}
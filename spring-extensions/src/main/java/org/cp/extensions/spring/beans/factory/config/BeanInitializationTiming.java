@@ -0,0 +1,140 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.spring.beans.factory.config;
+
+import java.time.Duration;
+
+import org.cp.elements.lang.Assert;
+
+import org.springframework.lang.NonNull;
+
+/**
+ * Immutable record of the time spent creating a single bean in the Spring container.
+ * <p>
+ * The {@link #getInstantiationDuration() instantiation}, {@link #getInitializationDuration() initialization}
+ * and {@link #getTotalDuration() total} durations include the time spent creating other beans on which the bean
+ * depends while the bean is being created, for example, beans injected into the constructor of the bean. The
+ * {@link #getSelfDuration() self} duration excludes the time spent creating those beans.
+ *
+ * @author John Blum
+ * @see java.time.Duration
+ * @see org.cp.extensions.spring.beans.factory.config.BeanInitializationTimingBeanPostProcessor
+ * @since 0.1.0
+ */
+public class BeanInitializationTiming {
+
+	private final Duration initializationDuration;
+	private final Duration instantiationDuration;
+	private final Duration selfDuration;
+	private final Duration totalDuration;
+
+	private final long sequence;
+
+	private final String beanName;
+
+	/**
+	 * Constructs a new {@link BeanInitializationTiming} for the bean with the given {@link String name}.
+	 *
+	 * @param beanName {@link String} containing the {@literal name} of the bean; must not be {@literal null}.
+	 * @param sequence order in which creation of the bean started relative to other beans.
+	 * @param instantiationDuration {@link Duration} spent instantiating the bean.
+	 * @param initializationDuration {@link Duration} spent initializing the bean.
+	 * @param totalDuration {@link Duration} spent creating the bean, including other beans created in the process.
+	 * @param selfDuration {@link Duration} spent creating the bean, excluding other beans created in the process.
+	 * @throws IllegalArgumentException if the {@link String bean name} or any {@link Duration} is {@literal null}.
+	 */
+	public BeanInitializationTiming(@NonNull String beanName, long sequence, @NonNull Duration instantiationDuration,
+			@NonNull Duration initializationDuration, @NonNull Duration totalDuration, @NonNull Duration selfDuration) {
+
+		Assert.hasText(beanName, "Bean name [%s] is required", beanName);
+		Assert.notNull(instantiationDuration, "Instantiation Duration is required");
+		Assert.notNull(initializationDuration, "Initialization Duration is required");
+		Assert.notNull(totalDuration, "Total Duration is required");
+		Assert.notNull(selfDuration, "Self Duration is required");
+
+		this.beanName = beanName;
+		this.sequence = sequence;
+		this.instantiationDuration = instantiationDuration;
+		this.initializationDuration = initializationDuration;
+		this.totalDuration = totalDuration;
+		this.selfDuration = selfDuration;
+	}
+
+	/**
+	 * Gets the {@link String name} of the bean.
+	 *
+	 * @return the {@link String name} of the bean.
+	 */
+	public @NonNull String getBeanName() {
+		return this.beanName;
+	}
+
+	/**
+	 * Gets the {@link Duration} spent initializing the bean, from before to after the initialization callbacks,
+	 * such as {@link org.springframework.beans.factory.InitializingBean#afterPropertiesSet()}.
+	 *
+	 * @return the {@link Duration} spent initializing the bean.
+	 */
+	public @NonNull Duration getInitializationDuration() {
+		return this.initializationDuration;
+	}
+
+	/**
+	 * Gets the {@link Duration} spent instantiating the bean, including resolving constructor arguments.
+	 *
+	 * @return the {@link Duration} spent instantiating the bean.
+	 */
+	public @NonNull Duration getInstantiationDuration() {
+		return this.instantiationDuration;
+	}
+
+	/**
+	 * Gets the {@link Duration} spent creating the bean, excluding the time spent creating other beans
+	 * while the bean was being created.
+	 *
+	 * @return the {@link Duration} spent creating the bean itself.
+	 */
+	public @NonNull Duration getSelfDuration() {
+		return this.selfDuration;
+	}
+
+	/**
+	 * Gets the order in which creation of the bean started relative to other beans.
+	 *
+	 * @return the order in which creation of the bean started.
+	 */
+	public long getSequence() {
+		return this.sequence;
+	}
+
+	/**
+	 * Gets the {@link Duration} spent creating the bean, including the time spent creating other beans
+	 * while the bean was being created.
+	 *
+	 * @return the total {@link Duration} spent creating the bean.
+	 */
+	public @NonNull Duration getTotalDuration() {
+		return this.totalDuration;
+	}
+
+	@Override
+	public String toString() {
+
+		return String.format("%s[self=%dms, total=%dms, instantiation=%dms, initialization=%dms]", getBeanName(),
+			getSelfDuration().toMillis(), getTotalDuration().toMillis(), getInstantiationDuration().toMillis(),
+			getInitializationDuration().toMillis());
+	}
+}
@@ -0,0 +1,383 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.spring.beans.factory.config;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.cp.elements.util.ArrayUtils;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.Ordered;
+import org.springframework.core.PriorityOrdered;
+import org.springframework.core.env.Environment;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Spring {@link InstantiationAwareBeanPostProcessor} recording the time spent instantiating and initializing
+ * each bean, and computing the {@link BeanInitializationCriticalPath} of bean initialization at the end
+ * of the {@link org.springframework.context.ApplicationContext} refresh.
+ * <p>
+ * The dependencies of a bean are the beans declared with {@link org.springframework.context.annotation.DependsOn}
+ * or {@link org.cp.extensions.spring.context.annotation.DependencyOf}, as recorded in the bean definition
+ * by the {@link org.cp.extensions.spring.context.annotation.DependencyOfBeanFactoryPostProcessor}, along with
+ * the beans injected into the bean, as registered with the {@link ConfigurableListableBeanFactory}.
+ * <p>
+ * This {@link org.springframework.beans.factory.config.BeanPostProcessor} is {@link PriorityOrdered} with
+ * the {@link Ordered#HIGHEST_PRECEDENCE highest precedence} so that it times as many beans as possible;
+ * {@link org.springframework.beans.factory.config.BeanPostProcessor BeanPostProcessors} created before
+ * this {@link org.springframework.beans.factory.config.BeanPostProcessor} are not timed.
+ * <p>
+ * Logging the critical path at {@literal INFO} level, on every refresh, is opt-in, either with
+ * {@link #setCriticalPathLoggingEnabled(Boolean)} or with the {@value #CRITICAL_PATH_LOGGING_ENABLED_PROPERTY}
+ * property in the {@link Environment}. The critical path analysis itself can be disabled when only the timings
+ * are needed, for example, to enforce startup time budgets.
+ *
+ * @author John Blum
+ * @see org.cp.extensions.spring.beans.factory.config.BeanInitializationCriticalPath
+ * @see org.cp.extensions.spring.beans.factory.config.BeanInitializationTiming
+ * @see org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessor
+ * @see org.springframework.context.ApplicationListener
+ * @see org.springframework.context.event.ContextRefreshedEvent
+ * @since 0.1.0
+ */
+public class BeanInitializationTimingBeanPostProcessor implements InstantiationAwareBeanPostProcessor,
+		ApplicationListener<ContextRefreshedEvent>, BeanFactoryAware, EnvironmentAware, PriorityOrdered {
+
+	public static final String CRITICAL_PATH_LOGGING_ENABLED_PROPERTY =
+		"codeprimate.extensions.spring.beans.critical-path.logging-enabled";
+
+	protected static final boolean DEFAULT_CRITICAL_PATH_LOGGING_ENABLED = false;
+
+	private final boolean criticalPathAnalysisEnabled;
+
+	private volatile Boolean criticalPathLoggingEnabled;
+
+	private final AtomicLong sequence = new AtomicLong(0L);
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final Map<String, BeanInitializationTiming> beanTimings = new ConcurrentHashMap<>();
+
+	private final ThreadLocal<Deque<Frame>> frames = ThreadLocal.withInitial(ArrayDeque::new);
+
+	private volatile BeanInitializationCriticalPath criticalPath;
+
+	private volatile ConfigurableListableBeanFactory beanFactory;
+
+	private volatile Environment environment;
+
+	/**
+	 * Constructs a new {@link BeanInitializationTimingBeanPostProcessor} timing beans and analyzing
+	 * the critical path of bean initialization at the end of each refresh.
+	 */
+	public BeanInitializationTimingBeanPostProcessor() {
+		this(true);
+	}
+
+	/**
+	 * Constructs a new {@link BeanInitializationTimingBeanPostProcessor} timing beans, and optionally analyzing
+	 * the critical path of bean initialization at the end of each refresh.
+	 *
+	 * @param criticalPathAnalysisEnabled boolean value indicating whether the critical path is analyzed.
+	 */
+	public BeanInitializationTimingBeanPostProcessor(boolean criticalPathAnalysisEnabled) {
+		this.criticalPathAnalysisEnabled = criticalPathAnalysisEnabled;
+	}
+
+	@Override
+	public void setBeanFactory(@NonNull BeanFactory beanFactory) throws BeansException {
+
+		if (beanFactory instanceof ConfigurableListableBeanFactory) {
+			this.beanFactory = (ConfigurableListableBeanFactory) beanFactory;
+		}
+	}
+
+	@Override
+	public void setEnvironment(@NonNull Environment environment) {
+		this.environment = environment;
+	}
+
+	/**
+	 * Determines whether the critical path of bean initialization is analyzed at the end of each refresh.
+	 *
+	 * @return a boolean value indicating whether the critical path is analyzed.
+	 */
+	public boolean isCriticalPathAnalysisEnabled() {
+		return this.criticalPathAnalysisEnabled;
+	}
+
+	/**
+	 * Enables or disables logging the critical path at {@literal INFO} level at the end of each refresh.
+	 * <p>
+	 * When unset, logging is configured with the {@value #CRITICAL_PATH_LOGGING_ENABLED_PROPERTY} property
+	 * in the {@link Environment}; disabled by default.
+	 *
+	 * @param criticalPathLoggingEnabled {@link Boolean} indicating whether the critical path is logged;
+	 * may be {@literal null}.
+	 */
+	public void setCriticalPathLoggingEnabled(@Nullable Boolean criticalPathLoggingEnabled) {
+		this.criticalPathLoggingEnabled = criticalPathLoggingEnabled;
+	}
+
+	/**
+	 * Determines whether the critical path is logged at {@literal INFO} level at the end of each refresh.
+	 *
+	 * @return a boolean value indicating whether the critical path is logged.
+	 * @see #setCriticalPathLoggingEnabled(Boolean)
+	 */
+	public boolean isCriticalPathLoggingEnabled() {
+
+		Boolean criticalPathLoggingEnabled = this.criticalPathLoggingEnabled;
+		Environment environment = this.environment;
+
+		return criticalPathLoggingEnabled != null ? criticalPathLoggingEnabled
+			: environment != null && environment.getProperty(CRITICAL_PATH_LOGGING_ENABLED_PROPERTY, Boolean.TYPE,
+				DEFAULT_CRITICAL_PATH_LOGGING_ENABLED);
+	}
+
+	/**
+	 * Returns the configured {@link ConfigurableListableBeanFactory} in which beans are timed.
+	 *
+	 * @return the {@link Optional} {@link ConfigurableListableBeanFactory} in which beans are timed.
+	 */
+	protected Optional<ConfigurableListableBeanFactory> getBeanFactory() {
+		return Optional.ofNullable(this.beanFactory);
+	}
+
+	/**
+	 * Returns the {@link BeanInitializationTiming BeanInitializationTimings} recorded for the beans created so far,
+	 * in the order in which creation of the beans started.
+	 *
+	 * @return the {@link BeanInitializationTiming BeanInitializationTimings} recorded so far.
+	 * @see org.cp.extensions.spring.beans.factory.config.BeanInitializationTiming
+	 */
+	public @NonNull List<BeanInitializationTiming> getBeanTimings() {
+
+		return this.beanTimings.values().stream()
+			.sorted(Comparator.comparingLong(BeanInitializationTiming::getSequence))
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * Returns the {@link BeanInitializationTiming} recorded for the bean with the given {@link String name}.
+	 *
+	 * @param beanName {@link String} containing the {@literal name} of the bean.
+	 * @return the {@link Optional} {@link BeanInitializationTiming} recorded for the bean.
+	 */
+	public Optional<BeanInitializationTiming> getBeanTiming(@Nullable String beanName) {
+		return Optional.ofNullable(beanName).map(this.beanTimings::get);
+	}
+
+	/**
+	 * Returns the {@link BeanInitializationCriticalPath} computed at the end of the last refresh.
+	 *
+	 * @return the {@link Optional} {@link BeanInitializationCriticalPath}, or {@link Optional#empty()}
+	 * if the {@link org.springframework.context.ApplicationContext} has not been refreshed
+	 * or the {@link #isCriticalPathAnalysisEnabled() critical path analysis} is disabled.
+	 * @see org.cp.extensions.spring.beans.factory.config.BeanInitializationCriticalPath
+	 */
+	public Optional<BeanInitializationCriticalPath> getCriticalPath() {
+		return Optional.ofNullable(this.criticalPath);
+	}
+
+	@Override
+	public int getOrder() {
+		return Ordered.HIGHEST_PRECEDENCE;
+	}
+
+	@Override
+	public Object postProcessBeforeInstantiation(@NonNull Class<?> beanClass, @NonNull String beanName) {
+
+		this.frames.get().push(new Frame(beanName, this.sequence.getAndIncrement(), System.nanoTime()));
+
+		return null;
+	}
+
+	@Override
+	public boolean postProcessAfterInstantiation(@NonNull Object bean, @NonNull String beanName) {
+
+		Frame frame = this.frames.get().peek();
+
+		if (frame != null && frame.beanName.equals(beanName)) {
+			frame.instantiatedTime = System.nanoTime();
+		}
+
+		return true;
+	}
+
+	@Override
+	public Object postProcessBeforeInitialization(@NonNull Object bean, @NonNull String beanName) {
+
+		Frame frame = this.frames.get().peek();
+
+		if (frame != null && frame.beanName.equals(beanName)) {
+			frame.initializingTime = System.nanoTime();
+		}
+
+		return bean;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+
+		long now = System.nanoTime();
+
+		Deque<Frame> frames = this.frames.get();
+
+		// objects created by a FactoryBean are post processed with the name of the FactoryBean, without a Frame
+		if (containsFrame(frames, beanName)) {
+
+			Frame frame = frames.pop();
+
+			// frames of beans that failed to be created are discarded
+			while (!frame.beanName.equals(beanName)) {
+				frame = frames.pop();
+			}
+
+			long totalTime = now - frame.startTime;
+			long instantiationTime = frame.instantiatedTime > 0L ? frame.instantiatedTime - frame.startTime : 0L;
+			long initializationTime = frame.initializingTime > 0L ? now - frame.initializingTime : 0L;
+
+			Frame parentFrame = frames.peek();
+
+			if (parentFrame != null) {
+				parentFrame.nestedTime += totalTime;
+			}
+			else {
+				this.frames.remove();
+			}
+
+			this.beanTimings.put(beanName, new BeanInitializationTiming(beanName, frame.sequence,
+				Duration.ofNanos(instantiationTime), Duration.ofNanos(initializationTime), Duration.ofNanos(totalTime),
+				Duration.ofNanos(Math.max(totalTime - frame.nestedTime, 0L))));
+		}
+
+		return bean;
+	}
+
+	private boolean containsFrame(@NonNull Deque<Frame> frames, @NonNull String beanName) {
+		return frames.stream().anyMatch(frame -> frame.beanName.equals(beanName));
+	}
+
+	/**
+	 * Computes, and when enabled logs, the {@link BeanInitializationCriticalPath} when
+	 * the {@link ConfigurableListableBeanFactory} in which beans are timed has been refreshed.
+	 *
+	 * @param event {@link ContextRefreshedEvent} published at the end of the refresh.
+	 * @see org.springframework.context.event.ContextRefreshedEvent
+	 */
+	@Override
+	public void onApplicationEvent(@NonNull ContextRefreshedEvent event) {
+
+		ConfigurableListableBeanFactory beanFactory = this.beanFactory;
+
+		// ignore events propagated from child ApplicationContexts
+		if (isCriticalPathAnalysisEnabled() && beanFactory != null
+				&& event.getApplicationContext().getAutowireCapableBeanFactory() == beanFactory) {
+
+			BeanInitializationCriticalPath criticalPath = analyze(beanFactory);
+
+			this.criticalPath = criticalPath;
+
+			if (isCriticalPathLoggingEnabled() && this.logger.isInfoEnabled()) {
+				this.logger.info(String.format("Bean initialization %s", criticalPath));
+			}
+		}
+	}
+
+	/**
+	 * Computes the {@link BeanInitializationCriticalPath} from the {@link #getBeanTimings() recorded timings}
+	 * and the dependencies between beans registered in the given {@link ConfigurableListableBeanFactory}.
+	 *
+	 * @param beanFactory {@link ConfigurableListableBeanFactory} containing the timed beans.
+	 * @return the computed {@link BeanInitializationCriticalPath}.
+	 * @see BeanInitializationCriticalPath#analyze(Map, java.util.function.Function)
+	 */
+	protected @NonNull BeanInitializationCriticalPath analyze(@NonNull ConfigurableListableBeanFactory beanFactory) {
+
+		Map<String, Duration> beanDurations = new LinkedHashMap<>();
+
+		getBeanTimings().forEach(timing -> beanDurations.put(timing.getBeanName(), timing.getSelfDuration()));
+
+		return BeanInitializationCriticalPath.analyze(beanDurations, beanName -> resolveDependencies(beanFactory, beanName));
+	}
+
+	/**
+	 * Resolves the {@link String names} of the beans on which the named bean depends.
+	 *
+	 * @param beanFactory {@link ConfigurableListableBeanFactory} containing the bean.
+	 * @param beanName {@link String} containing the {@literal name} of the bean.
+	 * @return the {@link String names} of the beans on which the named bean depends.
+	 */
+	protected @NonNull Collection<String> resolveDependencies(@NonNull ConfigurableListableBeanFactory beanFactory,
+			@NonNull String beanName) {
+
+		Set<String> dependencies = new LinkedHashSet<>();
+
+		if (beanFactory.containsBeanDefinition(beanName)) {
+			Collections.addAll(dependencies,
+				ArrayUtils.nullSafeArray(beanFactory.getBeanDefinition(beanName).getDependsOn(), String.class));
+		}
+
+		Collections.addAll(dependencies,
+			ArrayUtils.nullSafeArray(beanFactory.getDependenciesForBean(beanName), String.class));
+
+		return dependencies;
+	}
+
+	private static class Frame {
+
+		private final long sequence;
+		private final long startTime;
+
+		private long initializingTime;
+		private long instantiatedTime;
+		private long nestedTime;
+
+		private final String beanName;
+
+		private Frame(String beanName, long sequence, long startTime) {
+			this.beanName = beanName;
+			this.sequence = sequence;
+			this.startTime = startTime;
+		}
+	}
+}
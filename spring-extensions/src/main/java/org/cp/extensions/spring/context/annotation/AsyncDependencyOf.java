@@ -0,0 +1,130 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.spring.context.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.cp.elements.lang.annotation.Experimental;
+
+import org.springframework.core.annotation.AliasFor;
+
+/**
+ * The {@link AsyncDependencyOf} annotation is the asynchronous variant of the {@link DependencyOf} annotation,
+ * declaring the annotated bean as a dependency of other beans managed inside the Spring container, which only
+ * needs to be initialized before the dependent beans use it, rather than before the dependent beans are created.
+ * <p>
+ * The annotated bean is created, and its dependencies injected, before the dependent beans as with
+ * {@link DependencyOf}. However, the {@link #initMethod() init method} of the annotated bean, such as a method
+ * loading a cache or building an index, is invoked on a background {@link java.util.concurrent.Executor},
+ * overlapping with the rest of the refresh of the Spring container. The bean is exposed as a proxy implementing
+ * {@link AsyncInitializedBean}, which blocks the first use of the bean until the init method completes.
+ * <p>
+ * For example:
+ *
+ * <pre>
+ * <code>
+ * {@literal @Configuration}
+ * public class ConfigurationUsingAsyncDependencyOf {
+ *
+ *   {@literal @Bean}
+ *   public CustomerService customerService(CustomerCache customerCache) {
+ *     return new CustomerService(customerCache);
+ *   }
+ *
+ *   {@literal @Bean(initMethod = "load")}
+ *   {@literal @AsyncDependencyOf("customerService")}
+ *   public CustomerCache customerCache() {
+ *     return new CustomerCache();
+ *   }
+ * }
+ * </code>
+ * </pre>
+ *
+ * Only the init method is invoked asynchronously; {@link javax.annotation.PostConstruct} methods and
+ * {@link org.springframework.beans.factory.InitializingBean#afterPropertiesSet()} are still invoked while
+ * the bean is created. The init method is invoked on the {@link java.util.concurrent.Executor} bean named
+ * {@value AsyncDependencyOfBeanPostProcessor#EXECUTOR_BEAN_NAME}, if declared, otherwise on daemon
+ * {@link Thread Threads}. The proxy subclasses the bean class, unless the class is {@literal final},
+ * in which case the proxy only implements the interfaces of the bean.
+ * <p>
+ * The init method must not look up beans that are not yet created, for example with
+ * {@link org.springframework.beans.factory.BeanFactory#getBean(String)}. The Spring container holds the lock
+ * on its singleton registry while creating a singleton, so such a lookup from the background init method blocks
+ * while any other singleton is being created. When a dependent bean uses the annotated bean during its own creation,
+ * that use blocks, holding the lock, until the init method completes, while the init method waits for the lock,
+ * and the refresh deadlocks. Inject the beans needed by the init method instead.
+ * <p>
+ * Singletons registered without a bean definition, for example with
+ * {@link org.springframework.beans.factory.config.SingletonBeanRegistry#registerSingleton(String, Object)},
+ * are already initialized, so no init method is invoked asynchronously; the annotated singleton is only declared
+ * as a dependency of the dependent beans, as with {@link DependencyOf}.
+ * <p>
+ * This feature is experimental.
+ *
+ * @author John Blum
+ * @see java.lang.annotation.Documented
+ * @see java.lang.annotation.Inherited
+ * @see java.lang.annotation.Retention
+ * @see java.lang.annotation.Target
+ * @see org.cp.elements.lang.annotation.Experimental
+ * @see org.cp.extensions.spring.context.annotation.AsyncDependencyOfBeanPostProcessor
+ * @see org.cp.extensions.spring.context.annotation.AsyncInitializedBean
+ * @see org.cp.extensions.spring.context.annotation.DependencyOf
+ * @since 0.1.0
+ */
+@Documented
+@Experimental
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.TYPE, ElementType.METHOD })
+@SuppressWarnings("unused")
+public @interface AsyncDependencyOf {
+
+	/**
+	 * An array containing a list of {@link String bean names} declared and managed in the Spring container
+	 * that are dependent on this annotated bean.
+	 *
+	 * @return an array of {@link String bean names}.
+	 * @see #value()
+	 */
+	@AliasFor("value")
+	String[] beanNames() default {};
+
+	/**
+	 * An array containing a list of {@link String bean names} declared and managed in the Spring container
+	 * that are dependent on this annotated bean.
+	 *
+	 * @return an array of {@link String bean names}.
+	 * @see #beanNames()
+	 */
+	@AliasFor("beanNames")
+	String[] value() default {};
+
+	/**
+	 * Name of the no-argument method invoked asynchronously to initialize the annotated bean.
+	 * <p>
+	 * Defaults to the init method declared in the bean definition, for example, with {@literal @Bean(initMethod)}.
+	 *
+	 * @return the name of the method invoked asynchronously to initialize the annotated bean.
+	 */
+	String initMethod() default "";
+
+}
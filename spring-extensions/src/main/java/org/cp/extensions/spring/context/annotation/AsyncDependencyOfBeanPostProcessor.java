@@ -0,0 +1,339 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.spring.context.annotation;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.cp.elements.lang.Assert;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.core.Ordered;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Spring {@link BeanPostProcessor} invoking the init method of beans annotated with {@link AsyncDependencyOf}
+ * on a background {@link Executor} and exposing each bean as a proxy implementing {@link AsyncInitializedBean},
+ * which blocks the first use of the bean until the init method completes.
+ * <p>
+ * The {@link DependencyOfBeanFactoryPostProcessor} records the name of the init method in the bean definition
+ * as the {@value #ASYNC_INIT_METHOD_ATTRIBUTE} attribute, removing the init method from the bean definition
+ * so that the Spring container does not invoke the init method while creating the bean, and registers this
+ * {@link BeanPostProcessor}.
+ * <p>
+ * The init method is invoked on the {@link Executor} bean named {@value #EXECUTOR_BEAN_NAME}, if declared,
+ * otherwise on daemon {@link Thread Threads} shutdown when this {@link BeanPostProcessor} is destroyed.
+ * <p>
+ * Methods declared by {@link Object}, such as {@link Object#toString()}, and the methods of
+ * {@link AsyncInitializedBean} never block.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.CompletableFuture
+ * @see java.util.concurrent.Executor
+ * @see org.cp.extensions.spring.context.annotation.AsyncDependencyOf
+ * @see org.cp.extensions.spring.context.annotation.AsyncInitializedBean
+ * @see org.cp.extensions.spring.context.annotation.DependencyOfBeanFactoryPostProcessor
+ * @see org.springframework.aop.framework.ProxyFactory
+ * @see org.springframework.beans.factory.config.BeanPostProcessor
+ * @since 0.1.0
+ */
+public class AsyncDependencyOfBeanPostProcessor implements BeanPostProcessor, BeanFactoryAware, DisposableBean,
+		Ordered {
+
+	public static final String ASYNC_INIT_METHOD_ATTRIBUTE = AsyncDependencyOf.class.getName() + ".initMethod";
+	public static final String BEAN_NAME = AsyncDependencyOfBeanPostProcessor.class.getName();
+	public static final String EXECUTOR_BEAN_NAME = "asyncDependencyOfExecutor";
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final Map<String, CompletableFuture<Void>> readiness = new ConcurrentHashMap<>();
+
+	private volatile ConfigurableListableBeanFactory beanFactory;
+
+	private volatile Executor executor;
+
+	private volatile ExecutorService executorService;
+
+	/**
+	 * Sets the {@link ConfigurableListableBeanFactory} containing the bean definitions.
+	 *
+	 * @param beanFactory {@link BeanFactory} containing the bean definitions;
+	 * must be a {@link ConfigurableListableBeanFactory}.
+	 * @throws IllegalArgumentException if the {@link BeanFactory} is not a {@link ConfigurableListableBeanFactory}.
+	 * @see org.springframework.beans.factory.config.ConfigurableListableBeanFactory
+	 */
+	@Override
+	public void setBeanFactory(@NonNull BeanFactory beanFactory) throws BeansException {
+
+		Assert.isTrue(beanFactory instanceof ConfigurableListableBeanFactory,
+			"BeanFactory [%s] must be a ConfigurableListableBeanFactory", beanFactory);
+
+		this.beanFactory = (ConfigurableListableBeanFactory) beanFactory;
+	}
+
+	/**
+	 * Sets the {@link Executor} used to invoke the init methods of beans annotated with {@link AsyncDependencyOf}.
+	 *
+	 * @param executor {@link Executor} used to invoke the init methods; may be {@literal null}.
+	 * @see java.util.concurrent.Executor
+	 */
+	public void setExecutor(@Nullable Executor executor) {
+		this.executor = executor;
+	}
+
+	@Override
+	public int getOrder() {
+		return Ordered.LOWEST_PRECEDENCE;
+	}
+
+	/**
+	 * Returns the {@link CompletableFuture} tracking the asynchronous initialization of the bean with the given name.
+	 *
+	 * @param beanName {@link String name} of the bean.
+	 * @return the {@link Optional} {@link CompletableFuture} tracking the initialization of the bean, or
+	 * {@link Optional#empty()} if the bean is not initialized asynchronously.
+	 * @see java.util.concurrent.CompletableFuture
+	 */
+	public Optional<CompletableFuture<Void>> getReadiness(@Nullable String beanName) {
+		return beanName != null ? Optional.ofNullable(this.readiness.get(beanName)) : Optional.empty();
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) throws BeansException {
+
+		String initMethodName = resolveAsyncInitMethodName(beanName);
+
+		if (initMethodName != null) {
+
+			Method initMethod = resolveInitMethod(bean, beanName, initMethodName);
+
+			CompletableFuture<Void> readiness =
+				CompletableFuture.runAsync(() -> invokeInitMethod(bean, beanName, initMethod), resolveExecutor());
+
+			readiness.whenComplete((result, cause) -> {
+				if (cause != null) {
+					String message = String.format("Asynchronous initialization of bean [%s] failed", beanName);
+					this.logger.error(message, cause);
+				}
+			});
+
+			this.readiness.put(beanName, readiness);
+
+			return newProxy(bean, beanName, readiness);
+		}
+
+		return bean;
+	}
+
+	/**
+	 * Resolves the name of the init method invoked asynchronously for the bean with the given name.
+	 *
+	 * @param beanName {@link String name} of the bean.
+	 * @return the name of the init method invoked asynchronously, or {@literal null} if the bean
+	 * is not initialized asynchronously.
+	 */
+	protected @Nullable String resolveAsyncInitMethodName(@NonNull String beanName) {
+
+		ConfigurableListableBeanFactory beanFactory = this.beanFactory;
+
+		if (beanFactory != null && beanFactory.containsBeanDefinition(beanName)) {
+
+			BeanDefinition beanDefinition = beanFactory.getMergedBeanDefinition(beanName);
+			Object initMethodName = beanDefinition.getAttribute(ASYNC_INIT_METHOD_ATTRIBUTE);
+
+			return initMethodName instanceof String ? (String) initMethodName : null;
+		}
+
+		return null;
+	}
+
+	private Method resolveInitMethod(Object bean, String beanName, String initMethodName) {
+
+		Method initMethod = ReflectionUtils.findMethod(bean.getClass(), initMethodName);
+
+		if (initMethod == null) {
+			throw new IllegalStateException(String.format("Init method [%s] not found on bean [%s] of type [%s]",
+				initMethodName, beanName, bean.getClass().getName()));
+		}
+
+		ReflectionUtils.makeAccessible(initMethod);
+
+		return initMethod;
+	}
+
+	private void invokeInitMethod(Object bean, String beanName, Method initMethod) {
+
+		try {
+			initMethod.invoke(bean);
+		}
+		catch (InvocationTargetException cause) {
+			ReflectionUtils.rethrowRuntimeException(cause.getTargetException());
+		}
+		catch (IllegalAccessException cause) {
+			throw new IllegalStateException(String.format("Failed to invoke init method [%s] on bean [%s]",
+				initMethod.getName(), beanName), cause);
+		}
+	}
+
+	/**
+	 * Resolves the {@link Executor} used to invoke the init methods of beans annotated with {@link AsyncDependencyOf}.
+	 *
+	 * @return the {@link Executor} used to invoke the init methods.
+	 * @see java.util.concurrent.Executor
+	 */
+	protected @NonNull Executor resolveExecutor() {
+
+		Executor executor = this.executor;
+
+		if (executor == null) {
+			synchronized (this) {
+				executor = this.executor;
+				if (executor == null) {
+					ConfigurableListableBeanFactory beanFactory = this.beanFactory;
+					if (beanFactory != null && beanFactory.containsBean(EXECUTOR_BEAN_NAME)) {
+						executor = beanFactory.getBean(EXECUTOR_BEAN_NAME, Executor.class);
+					}
+					else {
+						this.executorService = newExecutorService();
+						executor = this.executorService;
+					}
+					this.executor = executor;
+				}
+			}
+		}
+
+		return executor;
+	}
+
+	/**
+	 * Constructs a new {@link ExecutorService} running the init methods on daemon {@link Thread Threads}.
+	 *
+	 * @return a new {@link ExecutorService}.
+	 * @see java.util.concurrent.ExecutorService
+	 */
+	protected @NonNull ExecutorService newExecutorService() {
+
+		AtomicInteger threadCount = new AtomicInteger(0);
+
+		ThreadFactory threadFactory = runnable -> {
+			Thread thread = new Thread(runnable, "async-bean-initialization-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+
+		return Executors.newCachedThreadPool(threadFactory);
+	}
+
+	/**
+	 * Constructs a proxy for the given bean blocking the use of the bean until the given {@link CompletableFuture}
+	 * completes.
+	 * <p>
+	 * The proxy subclasses the bean class, unless the class is {@literal final}, in which case the proxy
+	 * only implements the interfaces of the bean.
+	 *
+	 * @param bean {@link Object bean} to proxy.
+	 * @param beanName {@link String name} of the bean.
+	 * @param readiness {@link CompletableFuture} completed when the bean is initialized.
+	 * @return the proxy for the bean.
+	 * @see org.cp.extensions.spring.context.annotation.AsyncInitializedBean
+	 */
+	protected @NonNull Object newProxy(@NonNull Object bean, @NonNull String beanName,
+			@NonNull CompletableFuture<Void> readiness) {
+
+		ProxyFactory proxyFactory = new ProxyFactory(bean);
+
+		proxyFactory.setProxyTargetClass(!Modifier.isFinal(bean.getClass().getModifiers()));
+		proxyFactory.addInterface(AsyncInitializedBean.class);
+		proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+
+			Method method = invocation.getMethod();
+
+			if (AsyncInitializedBean.class.equals(method.getDeclaringClass())) {
+				return "getReadiness".equals(method.getName()) ? readiness
+					: readiness.isDone() && !readiness.isCompletedExceptionally();
+			}
+
+			if (!Object.class.equals(method.getDeclaringClass())) {
+				awaitReadiness(beanName, readiness);
+			}
+
+			return invocation.proceed();
+		});
+
+		return proxyFactory.getProxy(resolveProxyClassLoader(bean));
+	}
+
+	private ClassLoader resolveProxyClassLoader(Object bean) {
+
+		ConfigurableListableBeanFactory beanFactory = this.beanFactory;
+		ClassLoader classLoader = beanFactory != null ? beanFactory.getBeanClassLoader() : null;
+
+		return classLoader != null ? classLoader : bean.getClass().getClassLoader();
+	}
+
+	private void awaitReadiness(String beanName, CompletableFuture<Void> readiness) {
+
+		try {
+			readiness.get();
+		}
+		catch (ExecutionException cause) {
+			throw new IllegalStateException(String.format("Bean [%s] failed to initialize", beanName),
+				cause.getCause());
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(String.format("Interrupted while waiting for bean [%s] to initialize",
+				beanName), cause);
+		}
+	}
+
+	/**
+	 * Shuts down the {@link ExecutorService} created by this {@link BeanPostProcessor}, if any.
+	 */
+	@Override
+	public void destroy() {
+
+		ExecutorService executorService = this.executorService;
+
+		if (executorService != null) {
+			executorService.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.spring.context.annotation;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Interface implemented by the proxy of a bean annotated with {@link AsyncDependencyOf}, providing a handle
+ * on the asynchronous initialization of the bean.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.CompletableFuture
+ * @see org.cp.extensions.spring.context.annotation.AsyncDependencyOf
+ * @since 0.1.0
+ */
+public interface AsyncInitializedBean {
+
+	/**
+	 * Returns the {@link CompletableFuture} completed when the bean is initialized, or completed exceptionally
+	 * when the initialization of the bean fails.
+	 *
+	 * @return the {@link CompletableFuture} tracking the initialization of the bean.
+	 */
+	CompletableFuture<Void> getReadiness();
+
+	/**
+	 * Determines whether the bean was successfully initialized.
+	 *
+	 * @return a boolean value indicating whether the bean was successfully initialized.
+	 */
+	default boolean isReady() {
+
+		CompletableFuture<Void> readiness = getReadiness();
+
+		return readiness.isDone() && !readiness.isCompletedExceptionally();
+	}
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.spring.context.annotation;
+
+import org.cp.extensions.spring.beans.factory.config.BeanClassPreloadingBeanFactoryPostProcessor;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+
+/**
+ * Spring {@link Configuration} class used to register (add) the {@link BeanClassPreloadingBeanFactoryPostProcessor}
+ * with the Spring container to preload the classes of beans on background {@link Thread Threads}.
+ *
+ * @author John Blum
+ * @see org.cp.extensions.spring.beans.factory.config.BeanClassPreloadingBeanFactoryPostProcessor
+ * @see org.springframework.context.annotation.Bean
+ * @see org.springframework.context.annotation.Configuration
+ * @since 0.1.0
+ */
+@Configuration
+@SuppressWarnings("unused")
+public class BeanClassPreloadingConfiguration {
+
+	@Bean
+	static @NonNull BeanClassPreloadingBeanFactoryPostProcessor beanClassPreloadingBeanFactoryPostProcessor() {
+		return new BeanClassPreloadingBeanFactoryPostProcessor();
+	}
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.spring.context.annotation;
+
+import org.cp.extensions.spring.beans.factory.config.BeanInitializationTimingBeanPostProcessor;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+
+/**
+ * Spring {@link Configuration} class used to register (add) the {@link BeanInitializationTimingBeanPostProcessor}
+ * with the Spring container to time the initialization of beans and analyze the critical path.
+ *
+ * @author John Blum
+ * @see org.cp.extensions.spring.beans.factory.config.BeanInitializationTimingBeanPostProcessor
+ * @see org.springframework.context.annotation.Bean
+ * @see org.springframework.context.annotation.Configuration
+ * @since 0.1.0
+ */
+@Configuration
+@SuppressWarnings("unused")
+public class BeanInitializationCriticalPathConfiguration {
+
+	@Bean
+	static @NonNull BeanInitializationTimingBeanPostProcessor beanInitializationTimingBeanPostProcessor() {
+		return new BeanInitializationTimingBeanPostProcessor();
+	}
+}
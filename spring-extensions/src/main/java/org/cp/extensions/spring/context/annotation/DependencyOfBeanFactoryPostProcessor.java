@@ -16,32 +16,74 @@
 package org.cp.extensions.spring.context.annotation;
 
 import java.lang.annotation.Annotation;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.cp.elements.lang.Assert;
 import org.cp.elements.lang.StringUtils;
 import org.cp.elements.util.ArrayUtils;
+import org.cp.extensions.spring.beans.factory.config.BeanDependencyGraph;
+import org.cp.extensions.spring.beans.factory.config.BeanDependencyGraph.Provenance;
 import org.cp.extensions.spring.support.SpringSupport;
 
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionValidationException;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.DependsOn;
 import org.springframework.core.annotation.AnnotationAttributes;
 import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.MethodMetadata;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
 
 /**
  * Spring {@link BeanFactoryPostProcessor} implementation used to post process {@link BeanDefinition BeanDefinitions}
  * declared in the Spring container annotated with the {@link DependencyOf} annotation.
+ * <p>
+ * While post processing, the {@link DependencyOfBeanFactoryPostProcessor} also builds the
+ * {@link BeanDependencyGraph} of all declared dependencies, recording whether each dependency was declared
+ * with {@link DependsOn} or {@link DependencyOf}, and registers the graph as a singleton bean named
+ * {@value BeanDependencyGraph#BEAN_NAME} in the {@link ConfigurableListableBeanFactory}.
+ * <p>
+ * Beans annotated with {@link AsyncDependencyOf} are post processed like beans annotated with {@link DependencyOf},
+ * and additionally, their init method is deferred to the {@link AsyncDependencyOfBeanPostProcessor},
+ * which is registered when at least one bean is annotated with {@link AsyncDependencyOf}.
+ * <p>
+ * Optionally, lazy initialization is propagated to the annotated beans, so that annotated beans only depended on
+ * by lazy beans are not initialized until the lazy beans are initialized, and the bean definitions can be
+ * processed incrementally across refreshes of a Spring container, resolving the annotations only for
+ * the bean definitions that changed.
  *
  * @author John Blum
  * @see java.lang.annotation.Annotation
+ * @see org.cp.extensions.spring.beans.factory.config.BeanDependencyGraph
+ * @see org.cp.extensions.spring.context.annotation.AsyncDependencyOf
+ * @see org.cp.extensions.spring.context.annotation.AsyncDependencyOfBeanPostProcessor
  * @see org.cp.extensions.spring.context.annotation.DependencyOf
  * @see org.cp.extensions.spring.context.annotation.DependencyOfApplicationContextInitializer
  * @see org.springframework.beans.factory.config.BeanDefinition
@@ -59,11 +101,34 @@ public class DependencyOfBeanFactoryPostProcessor implements BeanFactoryPostProc
 
 	protected static final Class<? extends Annotation> DEPENDENCY_OF_TYPE = DependencyOf.class;
 
+	protected static final Class<? extends Annotation> ASYNC_DEPENDENCY_OF_TYPE = AsyncDependencyOf.class;
+
+	private static final List<Class<? extends Annotation>> ANNOTATION_TYPES =
+		Arrays.asList(DEPENDENCY_OF_TYPE, ASYNC_DEPENDENCY_OF_TYPE);
+
+	public static final String LAZY_INIT_PROPAGATION_ENABLED_PROPERTY =
+		"codeprimate.extensions.spring.context.annotation.dependency-of.lazy-init-propagation-enabled";
+
+	public static final String INCREMENTAL_PROCESSING_ENABLED_PROPERTY =
+		"codeprimate.extensions.spring.context.annotation.dependency-of.incremental-processing-enabled";
+
+	protected static final boolean DEFAULT_LAZY_INIT_PROPAGATION_ENABLED = false;
+	protected static final boolean DEFAULT_INCREMENTAL_PROCESSING_ENABLED = false;
+
+	protected static final int MAX_CACHED_BEAN_FACTORIES = 16;
+
+	protected static final String INIT_METHOD_ATTRIBUTE_NAME = "initMethod";
 	protected static final String VALUE_ATTRIBUTE_NAME = "value";
 
 	private static final Map<ConfigurableApplicationContext, DependencyOfBeanFactoryPostProcessor> registrations =
 		new ConcurrentHashMap<>();
 
+	private volatile Boolean incrementalProcessingEnabled;
+	private volatile Boolean lazyInitPropagationEnabled;
+
+	private final Map<String, Map<String, AnnotationResolution>> annotationResolutionCache =
+		Collections.synchronizedMap(new AnnotationResolutionCache());
+
 	/**
 	 * Factory method used to register an instance of the {@link DependencyOfBeanFactoryPostProcessor} with
 	 * the given, required {@link ConfigurableApplicationContext}.
@@ -90,12 +155,105 @@ public class DependencyOfBeanFactoryPostProcessor implements BeanFactoryPostProc
 		return applicationContext;
 	}
 
+	/**
+	 * Enables or disables the propagation of lazy initialization to beans annotated with {@link DependencyOf}
+	 * or {@link AsyncDependencyOf}.
+	 * <p>
+	 * When unset, the propagation of lazy initialization is configured with
+	 * the {@value #LAZY_INIT_PROPAGATION_ENABLED_PROPERTY} property in the {@link Environment};
+	 * disabled by default.
+	 * <p>
+	 * Setting this property on the shared {@link #INSTANCE}, which is registered by
+	 * {@link #registerWith(ConfigurableApplicationContext)} and {@link EnableInverseDependencyDeclarations},
+	 * applies globally, to all Spring containers. Use the property in the {@link Environment} to configure
+	 * each Spring container individually.
+	 *
+	 * @param lazyInitPropagationEnabled {@link Boolean} indicating whether the propagation of lazy initialization
+	 * is enabled; may be {@literal null}.
+	 * @see #propagateLazyInit(ConfigurableListableBeanFactory, BeanDependencyGraph, Set)
+	 */
+	public void setLazyInitPropagationEnabled(@Nullable Boolean lazyInitPropagationEnabled) {
+		this.lazyInitPropagationEnabled = lazyInitPropagationEnabled;
+	}
+
+	/**
+	 * Determines whether the propagation of lazy initialization is enabled.
+	 *
+	 * @param environment {@link Environment} of the {@link ConfigurableListableBeanFactory} being post processed;
+	 * may be {@literal null}.
+	 * @return a boolean value indicating whether the propagation of lazy initialization is enabled.
+	 * @see #setLazyInitPropagationEnabled(Boolean)
+	 */
+	protected boolean isLazyInitPropagationEnabled(@Nullable Environment environment) {
+
+		Boolean lazyInitPropagationEnabled = this.lazyInitPropagationEnabled;
+
+		return lazyInitPropagationEnabled != null ? lazyInitPropagationEnabled
+			: environment != null && environment.getProperty(LAZY_INIT_PROPAGATION_ENABLED_PROPERTY, Boolean.TYPE,
+				DEFAULT_LAZY_INIT_PROPAGATION_ENABLED);
+	}
+
+	/**
+	 * Enables or disables the incremental processing of the bean definitions across refreshes of a Spring container.
+	 * <p>
+	 * When enabled, the {@link DependencyOf} and {@link AsyncDependencyOf} annotations resolved for each bean are
+	 * cached per {@link DefaultListableBeanFactory#getSerializationId() Spring container id}, along with
+	 * a {@link #fingerprint(ConfigurableListableBeanFactory, BeanDefinition) fingerprint} of the bean definition.
+	 * On subsequent refreshes of a Spring container with the same id, the annotations are only resolved again
+	 * for the beans whose bean definition fingerprint changed. The annotations of at most
+	 * {@value #MAX_CACHED_BEAN_FACTORIES} Spring containers are cached; the least recently refreshed Spring container
+	 * is evicted first.
+	 * <p>
+	 * Fingerprints compare the bean types by identity, so when the application classes are loaded again
+	 * by a new {@link ClassLoader}, as with a Spring Boot DevTools restart, every fingerprint changes and all
+	 * annotations are resolved again on the first refresh after the reload. The cache only references classes
+	 * weakly, so it does not keep a previous {@link ClassLoader} reachable.
+	 * <p>
+	 * When unset, the incremental processing is configured with the
+	 * {@value #INCREMENTAL_PROCESSING_ENABLED_PROPERTY} property in the {@link Environment}; disabled by default.
+	 * Setting this property on the shared {@link #INSTANCE} applies globally, to all Spring containers.
+	 *
+	 * @param incrementalProcessingEnabled {@link Boolean} indicating whether incremental processing is enabled;
+	 * may be {@literal null}.
+	 */
+	public void setIncrementalProcessingEnabled(@Nullable Boolean incrementalProcessingEnabled) {
+		this.incrementalProcessingEnabled = incrementalProcessingEnabled;
+	}
+
+	/**
+	 * Determines whether incremental processing of the bean definitions across refreshes is enabled.
+	 *
+	 * @param environment {@link Environment} of the {@link ConfigurableListableBeanFactory} being post processed;
+	 * may be {@literal null}.
+	 * @return a boolean value indicating whether incremental processing is enabled.
+	 * @see #setIncrementalProcessingEnabled(Boolean)
+	 */
+	protected boolean isIncrementalProcessingEnabled(@Nullable Environment environment) {
+
+		Boolean incrementalProcessingEnabled = this.incrementalProcessingEnabled;
+
+		return incrementalProcessingEnabled != null ? incrementalProcessingEnabled
+			: environment != null && environment.getProperty(INCREMENTAL_PROCESSING_ENABLED_PROPERTY, Boolean.TYPE,
+				DEFAULT_INCREMENTAL_PROCESSING_ENABLED);
+	}
+
+	private @Nullable Environment resolveEnvironment(@NonNull ConfigurableListableBeanFactory beanFactory) {
+
+		return beanFactory.containsSingleton(ConfigurableApplicationContext.ENVIRONMENT_BEAN_NAME)
+			? beanFactory.getBean(ConfigurableApplicationContext.ENVIRONMENT_BEAN_NAME, Environment.class)
+			: null;
+	}
+
 	/**
 	 * Post processes the {@link ConfigurableListableBeanFactory} by searching for managed beans that declare (claim)
 	 * to be a {@link DependencyOf dependency of} other beans managed inside the Spring container.
 	 * <p>
 	 * Out-of-the-box, the Spring container does not support this configuration arrangement, and therefore, requires
 	 * additional processing to set up this inverse {@link DependsOn} relationship.
+	 * <p>
+	 * The resulting {@link BeanDependencyGraph} is registered with the {@link ConfigurableListableBeanFactory}
+	 * unless a graph was already registered. When {@link #isLazyInitPropagationEnabled(Environment) enabled},
+	 * lazy initialization is propagated to the annotated beans using the graph.
 	 *
 	 * @param beanFactory {@link ConfigurableListableBeanFactory} to post process.
 	 * @throws BeansException if an exception occurs while processing the {@link ConfigurableListableBeanFactory}.
@@ -107,28 +265,436 @@ public class DependencyOfBeanFactoryPostProcessor implements BeanFactoryPostProc
 
 		Assert.notNull(beanFactory, "BeanFactory is required");
 
-		String[] dependencyOfAnnotatedBeanNames =
-			ArrayUtils.nullSafeArray(beanFactory.getBeanNamesForAnnotation(DEPENDENCY_OF_TYPE), String.class);
+		Environment environment = resolveEnvironment(beanFactory);
 
-		for (String beanName : dependencyOfAnnotatedBeanNames) {
+		BeanDependencyGraph.Builder dependencyGraph = newDependencyGraph(beanFactory);
 
-			Annotation dependencyOf = beanFactory.findAnnotationOnBean(beanName, DEPENDENCY_OF_TYPE);
+		AnnotatedBeans annotatedBeans = isIncrementalProcessingEnabled(environment)
+			? resolveAnnotatedBeansIncrementally(beanFactory)
+			: resolveAnnotatedBeans(beanFactory);
 
-			Optional.ofNullable(dependencyOf)
-				.map(this::getAnnotationAttributes)
-				.map(this::getValueAttribute)
-				.ifPresent(dependentBeanNames -> {
-					for (String dependentBeanName : dependentBeanNames) {
-						Optional.ofNullable(dependentBeanName)
-							.filter(StringUtils::hasText)
-							.map(beanFactory::getBeanDefinition)
-							.ifPresent(dependentBeanDefinition ->
-								SpringSupport.addDependsOn(dependentBeanDefinition, beanName));
-					}
+		annotatedBeans.dependencyOf.forEach((beanName, dependencyOf) ->
+			addDependsOn(beanFactory, dependencyGraph, beanName, getValueAttribute(dependencyOf),
+				Provenance.DEPENDENCY_OF));
+
+		boolean initMethodsDeferred = false;
+
+		for (Map.Entry<String, AnnotationAttributes> entry : annotatedBeans.asyncDependencyOf.entrySet()) {
+
+			String beanName = entry.getKey();
+
+			// singletons registered without a bean definition are already initialized
+			if (beanFactory.containsBeanDefinition(beanName)) {
+				deferInitMethod(beanName, beanFactory.getBeanDefinition(beanName),
+					entry.getValue().getString(INIT_METHOD_ATTRIBUTE_NAME));
+				initMethodsDeferred = true;
+			}
+
+			addDependsOn(beanFactory, dependencyGraph, beanName, getValueAttribute(entry.getValue()),
+				Provenance.ASYNC_DEPENDENCY_OF);
+		}
+
+		if (initMethodsDeferred) {
+			registerAsyncDependencyOfBeanPostProcessor(beanFactory);
+		}
+
+		BeanDependencyGraph builtDependencyGraph = dependencyGraph.build();
+
+		Set<String> annotatedBeanNames = annotatedBeans.getBeanNames();
+
+		if (!annotatedBeanNames.isEmpty() && isLazyInitPropagationEnabled(environment)) {
+			propagateLazyInit(beanFactory, builtDependencyGraph, annotatedBeanNames);
+		}
+
+		registerDependencyGraph(beanFactory, builtDependencyGraph);
+	}
+
+	private AnnotatedBeans resolveAnnotatedBeans(ConfigurableListableBeanFactory beanFactory) {
+
+		AnnotatedBeans annotatedBeans = new AnnotatedBeans();
+
+		for (Class<? extends Annotation> annotationType : ANNOTATION_TYPES) {
+			for (String beanName : ArrayUtils.nullSafeArray(beanFactory.getBeanNamesForAnnotation(annotationType),
+					String.class)) {
+
+				annotatedBeans.add(beanName, annotationType,
+					findAnnotationAttributes(beanFactory, beanName, annotationType));
+			}
+		}
+
+		return annotatedBeans;
+	}
+
+	/**
+	 * Resolves the beans annotated with {@link DependencyOf} or {@link AsyncDependencyOf}, reusing the annotations
+	 * resolved on the previous refresh of the Spring container for the beans whose bean definition did not change.
+	 * <p>
+	 * Only a {@link DefaultListableBeanFactory} with a {@link DefaultListableBeanFactory#getSerializationId() id}
+	 * is processed incrementally. Singletons registered without a bean definition, and beans whose bean definition
+	 * cannot be fingerprinted, are always resolved.
+	 *
+	 * @param beanFactory {@link ConfigurableListableBeanFactory} containing the bean definitions.
+	 * @return the resolved {@link AnnotatedBeans}.
+	 * @see #setIncrementalProcessingEnabled(Boolean)
+	 */
+	private AnnotatedBeans resolveAnnotatedBeansIncrementally(ConfigurableListableBeanFactory beanFactory) {
+
+		String cacheKey = beanFactory instanceof DefaultListableBeanFactory
+			? ((DefaultListableBeanFactory) beanFactory).getSerializationId()
+			: null;
+
+		if (cacheKey == null) {
+			return resolveAnnotatedBeans(beanFactory);
+		}
+
+		AnnotatedBeans annotatedBeans = new AnnotatedBeans();
+
+		Map<String, AnnotationResolution> previousResolutions =
+			this.annotationResolutionCache.getOrDefault(cacheKey, Collections.emptyMap());
+
+		Map<String, AnnotationResolution> resolutions = new HashMap<>(previousResolutions.size());
+
+		for (String beanName : ArrayUtils.nullSafeArray(beanFactory.getBeanDefinitionNames(), String.class)) {
+
+			BeanDefinition beanDefinition = beanFactory.getBeanDefinition(beanName);
+
+			if (!beanDefinition.isAbstract()) {
+
+				Fingerprint fingerprint = fingerprint(beanFactory, beanDefinition);
+
+				AnnotationResolution resolution = fingerprint != null ? previousResolutions.get(beanName) : null;
+
+				if (resolution == null || !resolution.fingerprint.equals(fingerprint)) {
+					resolution = new AnnotationResolution(fingerprint,
+						findAnnotationAttributes(beanFactory, beanName, DEPENDENCY_OF_TYPE),
+						findAnnotationAttributes(beanFactory, beanName, ASYNC_DEPENDENCY_OF_TYPE));
+				}
+
+				if (fingerprint != null) {
+					resolutions.put(beanName, resolution);
+				}
+
+				annotatedBeans.add(beanName, DEPENDENCY_OF_TYPE, resolution.dependencyOf);
+				annotatedBeans.add(beanName, ASYNC_DEPENDENCY_OF_TYPE, resolution.asyncDependencyOf);
+			}
+		}
+
+		for (String singletonName : ArrayUtils.nullSafeArray(beanFactory.getSingletonNames(), String.class)) {
+			if (!beanFactory.containsBeanDefinition(singletonName)) {
+				annotatedBeans.add(singletonName, DEPENDENCY_OF_TYPE,
+					findAnnotationAttributes(beanFactory, singletonName, DEPENDENCY_OF_TYPE));
+				annotatedBeans.add(singletonName, ASYNC_DEPENDENCY_OF_TYPE,
+					findAnnotationAttributes(beanFactory, singletonName, ASYNC_DEPENDENCY_OF_TYPE));
+			}
+		}
+
+		this.annotationResolutionCache.put(cacheKey, resolutions);
+
+		return annotatedBeans;
+	}
+
+	/**
+	 * Finds the {@link Annotation} of the given {@link Class type} declared on the bean with the given name.
+	 *
+	 * @param beanFactory {@link ConfigurableListableBeanFactory} containing the bean.
+	 * @param beanName {@link String name} of the bean.
+	 * @param annotationType {@link Class type} of the {@link Annotation} to find.
+	 * @return the {@link AnnotationAttributes} of the {@link Annotation}, or {@literal null} if the bean
+	 * is not annotated.
+	 * @see org.springframework.core.annotation.AnnotationAttributes
+	 */
+	protected @Nullable AnnotationAttributes findAnnotationAttributes(
+			@NonNull ConfigurableListableBeanFactory beanFactory, @NonNull String beanName,
+			@NonNull Class<? extends Annotation> annotationType) {
+
+		return getAnnotationAttributes(beanFactory.findAnnotationOnBean(beanName, annotationType));
+	}
+
+	/**
+	 * Computes the fingerprint of the given {@link BeanDefinition} used to determine whether the annotations
+	 * declared on the bean changed between refreshes of a Spring container.
+	 * <p>
+	 * The fingerprint identifies the resolved bean {@link Class}, or for a bean created by a factory method,
+	 * the resolved return type and the {@link Class} declaring the factory method. A {@link Class} cannot change
+	 * without being loaded again, as a different {@link Class}, so the fingerprint changes whenever any annotation
+	 * that could be resolved for the bean changes. Conversely, a {@link Class} loaded again by a new
+	 * {@link ClassLoader}, for example after a Spring Boot DevTools restart, changes the fingerprint
+	 * even if the {@link Class} itself did not change.
+	 * <p>
+	 * A bean definition cannot be fingerprinted when it has a parent, when its type is a {@link FactoryBean},
+	 * when the return type of its factory method is unknown, as for factory methods declared in XML,
+	 * or when its type cannot be resolved.
+	 *
+	 * @param beanFactory {@link ConfigurableListableBeanFactory} containing the bean definition.
+	 * @param beanDefinition {@link BeanDefinition} to fingerprint.
+	 * @return the {@link Fingerprint} of the {@link BeanDefinition}, or {@literal null} if the bean definition
+	 * cannot be fingerprinted, in which case the annotations are always resolved.
+	 * @see #setIncrementalProcessingEnabled(Boolean)
+	 */
+	protected @Nullable Fingerprint fingerprint(@NonNull ConfigurableListableBeanFactory beanFactory,
+			@NonNull BeanDefinition beanDefinition) {
+
+		if (beanDefinition.getParentName() != null) {
+			return null;
+		}
+
+		ClassLoader classLoader = beanFactory.getBeanClassLoader();
+
+		Class<?> beanType;
+		Class<?> factoryMethodDeclaringType = null;
+
+		if (beanDefinition.getFactoryMethodName() == null) {
+			beanType = beanDefinition instanceof AbstractBeanDefinition
+					&& ((AbstractBeanDefinition) beanDefinition).hasBeanClass()
+				? ((AbstractBeanDefinition) beanDefinition).getBeanClass()
+				: resolveType(beanDefinition.getBeanClassName(), classLoader);
+		}
+		else {
+
+			MethodMetadata factoryMethodMetadata = beanDefinition instanceof AnnotatedBeanDefinition
+				? ((AnnotatedBeanDefinition) beanDefinition).getFactoryMethodMetadata()
+				: null;
+
+			if (factoryMethodMetadata == null) {
+				return null;
+			}
+
+			beanType = resolveType(factoryMethodMetadata.getReturnTypeName(), classLoader);
+			factoryMethodDeclaringType = resolveType(factoryMethodMetadata.getDeclaringClassName(), classLoader);
+
+			if (factoryMethodDeclaringType == null) {
+				return null;
+			}
+		}
+
+		return beanType != null && !FactoryBean.class.isAssignableFrom(beanType)
+			? new Fingerprint(beanDefinition, beanType, factoryMethodDeclaringType)
+			: null;
+	}
+
+	private @Nullable Class<?> resolveType(@Nullable String className, @Nullable ClassLoader classLoader) {
+
+		try {
+			return className != null ? ClassUtils.forName(className, classLoader) : null;
+		}
+		catch (ClassNotFoundException | LinkageError ignore) {
+			return null;
+		}
+	}
+
+	private void addDependsOn(ConfigurableListableBeanFactory beanFactory, BeanDependencyGraph.Builder dependencyGraph,
+			String beanName, @Nullable String[] dependentBeanNames, Provenance provenance) {
+
+		for (String dependentBeanName : ArrayUtils.nullSafeArray(dependentBeanNames, String.class)) {
+			Optional.ofNullable(dependentBeanName)
+				.filter(StringUtils::hasText)
+				.map(beanFactory::getBeanDefinition)
+				.ifPresent(dependentBeanDefinition -> {
+					SpringSupport.addDependsOn(dependentBeanDefinition, beanName);
+					dependencyGraph.addDependency(dependentBeanName, beanName, provenance);
 				});
 		}
 	}
 
+	/**
+	 * Propagates lazy initialization to the given beans annotated with {@link DependencyOf}
+	 * or {@link AsyncDependencyOf}.
+	 * <p>
+	 * An annotated bean only exists to be initialized before the beans that depend on it. Therefore, an annotated
+	 * singleton bean that does not explicitly declare whether it is lazy is marked lazy unless an eager singleton bean,
+	 * other than another candidate, reaches the annotated bean by following the dependencies in
+	 * the {@link BeanDependencyGraph}. This keeps whole subgraphs of annotated beans lazy when only lazy beans
+	 * depend on them, while the minimal set of annotated beans reachable from eager beans stays eager.
+	 * <p>
+	 * A bean marked lazy is still initialized before any bean depending on it when that bean is initialized,
+	 * since the dependency is declared with {@link DependsOn}. Singletons registered without a bean definition
+	 * are skipped.
+	 *
+	 * @param beanFactory {@link ConfigurableListableBeanFactory} containing the bean definitions.
+	 * @param dependencyGraph {@link BeanDependencyGraph} of all declared dependencies.
+	 * @param annotatedBeanNames {@link Set} of {@link String names} of the beans annotated with {@link DependencyOf}
+	 * or {@link AsyncDependencyOf}.
+	 * @return the {@link Set} of {@link String names} of the beans marked lazy.
+	 * @see org.cp.extensions.spring.beans.factory.config.BeanDependencyGraph
+	 */
+	protected @NonNull Set<String> propagateLazyInit(@NonNull ConfigurableListableBeanFactory beanFactory,
+			@NonNull BeanDependencyGraph dependencyGraph, @NonNull Set<String> annotatedBeanNames) {
+
+		Set<String> lazyBeanNames = new LinkedHashSet<>();
+
+		for (String beanName : annotatedBeanNames) {
+
+			// singletons registered without a bean definition are already initialized
+			if (!beanFactory.containsBeanDefinition(beanName)) {
+				continue;
+			}
+
+			BeanDefinition beanDefinition = beanFactory.getBeanDefinition(beanName);
+
+			if (isEagerSingleton(beanDefinition) && beanDefinition instanceof AbstractBeanDefinition
+					&& ((AbstractBeanDefinition) beanDefinition).getLazyInit() == null) {
+
+				lazyBeanNames.add(beanName);
+			}
+		}
+
+		if (!lazyBeanNames.isEmpty()) {
+
+			Deque<String> pending = new ArrayDeque<>();
+
+			for (String beanName : dependencyGraph.getBeanNames()) {
+				if (!lazyBeanNames.contains(beanName) && beanFactory.containsBeanDefinition(beanName)
+						&& isEagerSingleton(beanFactory.getBeanDefinition(beanName))) {
+
+					pending.add(beanName);
+				}
+			}
+
+			Set<String> reached = new HashSet<>(pending);
+
+			while (!pending.isEmpty()) {
+				for (String dependencyName : dependencyGraph.getDependencies(pending.poll())) {
+					if (reached.add(dependencyName)) {
+						pending.add(dependencyName);
+					}
+				}
+			}
+
+			lazyBeanNames.removeAll(reached);
+			lazyBeanNames.forEach(beanName -> beanFactory.getBeanDefinition(beanName).setLazyInit(true));
+		}
+
+		return lazyBeanNames;
+	}
+
+	private boolean isEagerSingleton(@Nullable BeanDefinition beanDefinition) {
+
+		return beanDefinition != null
+			&& beanDefinition.isSingleton()
+			&& !beanDefinition.isAbstract()
+			&& !beanDefinition.isLazyInit();
+	}
+
+	/**
+	 * Defers the init method of the bean with the given name, annotated with {@link AsyncDependencyOf},
+	 * to the {@link AsyncDependencyOfBeanPostProcessor}.
+	 * <p>
+	 * The name of the init method is recorded in the {@link BeanDefinition} as the
+	 * {@value AsyncDependencyOfBeanPostProcessor#ASYNC_INIT_METHOD_ATTRIBUTE} attribute. When the init method
+	 * is the init method declared in the {@link BeanDefinition}, the init method is removed from
+	 * the {@link BeanDefinition} so that the Spring container does not invoke it while creating the bean.
+	 *
+	 * @param beanName {@link String name} of the bean annotated with {@link AsyncDependencyOf}.
+	 * @param beanDefinition {@link BeanDefinition} of the bean.
+	 * @param initMethodName {@link String name} of the init method declared by {@link AsyncDependencyOf#initMethod()};
+	 * may be {@literal null} or empty.
+	 * @throws BeanDefinitionValidationException if neither {@link AsyncDependencyOf} nor the {@link BeanDefinition}
+	 * declare an init method.
+	 * @see org.springframework.beans.factory.config.BeanDefinition
+	 */
+	protected void deferInitMethod(@NonNull String beanName, @NonNull BeanDefinition beanDefinition,
+			@Nullable String initMethodName) {
+
+		if (!beanDefinition.hasAttribute(AsyncDependencyOfBeanPostProcessor.ASYNC_INIT_METHOD_ATTRIBUTE)) {
+
+			String declaredInitMethodName = beanDefinition.getInitMethodName();
+
+			String asyncInitMethodName = StringUtils.hasText(initMethodName) ? initMethodName
+				: declaredInitMethodName;
+
+			if (!StringUtils.hasText(asyncInitMethodName)) {
+				throw new BeanDefinitionValidationException(String.format(
+					"Bean [%s] annotated with @AsyncDependencyOf must declare an init method to invoke asynchronously",
+						beanName));
+			}
+
+			if (asyncInitMethodName.equals(declaredInitMethodName)) {
+				beanDefinition.setInitMethodName(null);
+			}
+
+			beanDefinition.setAttribute(AsyncDependencyOfBeanPostProcessor.ASYNC_INIT_METHOD_ATTRIBUTE,
+				asyncInitMethodName);
+		}
+	}
+
+	/**
+	 * Registers the {@link AsyncDependencyOfBeanPostProcessor} with the given {@link ConfigurableListableBeanFactory},
+	 * unless already registered.
+	 *
+	 * @param beanFactory {@link ConfigurableListableBeanFactory} in which to register
+	 * the {@link AsyncDependencyOfBeanPostProcessor}.
+	 * @see org.cp.extensions.spring.context.annotation.AsyncDependencyOfBeanPostProcessor
+	 */
+	protected void registerAsyncDependencyOfBeanPostProcessor(@NonNull ConfigurableListableBeanFactory beanFactory) {
+
+		if (beanFactory instanceof BeanDefinitionRegistry) {
+
+			BeanDefinitionRegistry registry = (BeanDefinitionRegistry) beanFactory;
+
+			if (!registry.containsBeanDefinition(AsyncDependencyOfBeanPostProcessor.BEAN_NAME)) {
+
+				RootBeanDefinition beanDefinition = new RootBeanDefinition(AsyncDependencyOfBeanPostProcessor.class);
+
+				beanDefinition.setRole(BeanDefinition.ROLE_INFRASTRUCTURE);
+				registry.registerBeanDefinition(AsyncDependencyOfBeanPostProcessor.BEAN_NAME, beanDefinition);
+			}
+		}
+		else {
+
+			AsyncDependencyOfBeanPostProcessor beanPostProcessor = new AsyncDependencyOfBeanPostProcessor();
+
+			beanPostProcessor.setBeanFactory(beanFactory);
+			beanFactory.addBeanPostProcessor(beanPostProcessor);
+		}
+	}
+
+	/**
+	 * Constructs a new {@link BeanDependencyGraph.Builder} initialized with all the beans defined in
+	 * the given {@link ConfigurableListableBeanFactory} along with their declared {@link DependsOn} dependencies.
+	 *
+	 * @param beanFactory {@link ConfigurableListableBeanFactory} containing the bean definitions.
+	 * @return a new {@link BeanDependencyGraph.Builder}.
+	 * @see org.cp.extensions.spring.beans.factory.config.BeanDependencyGraph.Builder
+	 */
+	protected @NonNull BeanDependencyGraph.Builder newDependencyGraph(
+			@NonNull ConfigurableListableBeanFactory beanFactory) {
+
+		BeanDependencyGraph.Builder dependencyGraph = BeanDependencyGraph.builder();
+
+		for (String beanName : ArrayUtils.nullSafeArray(beanFactory.getBeanDefinitionNames(), String.class)) {
+
+			dependencyGraph.addBean(beanName);
+
+			BeanDefinition beanDefinition = beanFactory.getBeanDefinition(beanName);
+
+			String[] dependsOn = beanDefinition != null ? beanDefinition.getDependsOn() : null;
+
+			for (String dependencyName : ArrayUtils.nullSafeArray(dependsOn, String.class)) {
+				if (StringUtils.hasText(dependencyName)) {
+					dependencyGraph.addDependency(beanName, dependencyName, Provenance.DEPENDS_ON);
+				}
+			}
+		}
+
+		return dependencyGraph;
+	}
+
+	/**
+	 * Registers the given {@link BeanDependencyGraph} as a singleton bean in the given
+	 * {@link ConfigurableListableBeanFactory}, unless a graph was already registered.
+	 *
+	 * @param beanFactory {@link ConfigurableListableBeanFactory} in which to register the graph.
+	 * @param dependencyGraph {@link BeanDependencyGraph} to register.
+	 * @see org.cp.extensions.spring.beans.factory.config.BeanDependencyGraph
+	 */
+	protected void registerDependencyGraph(@NonNull ConfigurableListableBeanFactory beanFactory,
+			@NonNull BeanDependencyGraph dependencyGraph) {
+
+		if (!beanFactory.containsSingleton(BeanDependencyGraph.BEAN_NAME)) {
+			beanFactory.registerSingleton(BeanDependencyGraph.BEAN_NAME, dependencyGraph);
+		}
+	}
+
 	/**
 	 * Resolves the {@link AnnotationAttributes} for the given {@link Annotation}.
 	 *
@@ -161,4 +727,125 @@ public class DependencyOfBeanFactoryPostProcessor implements BeanFactoryPostProc
 			? annotationAttributes.getStringArray(VALUE_ATTRIBUTE_NAME)
 			: null;
 	}
+
+	private static final class AnnotatedBeans {
+
+		private final Map<String, AnnotationAttributes> asyncDependencyOf = new LinkedHashMap<>();
+		private final Map<String, AnnotationAttributes> dependencyOf = new LinkedHashMap<>();
+
+		void add(String beanName, Class<? extends Annotation> annotationType,
+				@Nullable AnnotationAttributes annotationAttributes) {
+
+			if (annotationAttributes != null) {
+				(ASYNC_DEPENDENCY_OF_TYPE.equals(annotationType) ? this.asyncDependencyOf : this.dependencyOf)
+					.put(beanName, annotationAttributes);
+			}
+		}
+
+		Set<String> getBeanNames() {
+
+			Set<String> beanNames = new LinkedHashSet<>(this.dependencyOf.keySet());
+
+			beanNames.addAll(this.asyncDependencyOf.keySet());
+
+			return beanNames;
+		}
+	}
+
+	private static final class AnnotationResolution {
+
+		private final Fingerprint fingerprint;
+
+		private final AnnotationAttributes asyncDependencyOf;
+		private final AnnotationAttributes dependencyOf;
+
+		AnnotationResolution(@Nullable Fingerprint fingerprint, @Nullable AnnotationAttributes dependencyOf,
+				@Nullable AnnotationAttributes asyncDependencyOf) {
+
+			this.fingerprint = fingerprint;
+			this.dependencyOf = dependencyOf;
+			this.asyncDependencyOf = asyncDependencyOf;
+		}
+	}
+
+	private static final class AnnotationResolutionCache
+			extends LinkedHashMap<String, Map<String, AnnotationResolution>> {
+
+		AnnotationResolutionCache() {
+			super(MAX_CACHED_BEAN_FACTORIES, 0.75f, true);
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Map<String, AnnotationResolution>> eldest) {
+			return size() > MAX_CACHED_BEAN_FACTORIES;
+		}
+	}
+
+	/**
+	 * Fingerprint of a {@link BeanDefinition} compared across refreshes of a Spring container.
+	 * <p>
+	 * Types are referenced weakly so that cached fingerprints do not keep the {@link ClassLoader} of classes
+	 * that were since loaded again reachable. A fingerprint whose types were garbage collected never equals
+	 * another fingerprint.
+	 *
+	 * @see #fingerprint(ConfigurableListableBeanFactory, BeanDefinition)
+	 */
+	protected static final class Fingerprint {
+
+		private final int hashCode;
+
+		private final Reference<Class<?>> beanType;
+		private final Reference<Class<?>> factoryMethodDeclaringType;
+
+		private final String factoryBeanName;
+		private final String factoryMethodName;
+
+		private Fingerprint(@NonNull BeanDefinition beanDefinition, @NonNull Class<?> beanType,
+				@Nullable Class<?> factoryMethodDeclaringType) {
+
+			this.beanType = new WeakReference<>(beanType);
+			this.factoryMethodDeclaringType = factoryMethodDeclaringType != null
+				? new WeakReference<>(factoryMethodDeclaringType)
+				: null;
+			this.factoryBeanName = beanDefinition.getFactoryBeanName();
+			this.factoryMethodName = beanDefinition.getFactoryMethodName();
+			this.hashCode = Objects.hash(System.identityHashCode(beanType), this.factoryMethodName);
+		}
+
+		private static boolean isSameType(@Nullable Reference<Class<?>> one, @Nullable Reference<Class<?>> two) {
+
+			if (one == null || two == null) {
+				return one == two;
+			}
+
+			Class<?> type = one.get();
+
+			return type != null && type == two.get();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof Fingerprint)) {
+				return false;
+			}
+
+			Fingerprint that = (Fingerprint) obj;
+
+			// a Class loaded again by another ClassLoader is a different Class
+			return isSameType(this.beanType, that.beanType)
+				&& isSameType(this.factoryMethodDeclaringType, that.factoryMethodDeclaringType)
+				&& Objects.equals(this.factoryBeanName, that.factoryBeanName)
+				&& Objects.equals(this.factoryMethodName, that.factoryMethodName);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+	}
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.spring.context.annotation;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.context.annotation.Import;
+
+/**
+ * Spring {@link Annotation} enabling the loading of the classes of the beans declared in the Spring container
+ * on background {@link Thread Threads}, in dependency order, while the Spring container is refreshed,
+ * moving class loading off the refresh {@link Thread}.
+ * <p>
+ * The number of background {@link Thread Threads} is configured with the
+ * {@literal codeprimate.extensions.spring.beans.class-preloading.parallelism} property. Static initialization
+ * of the classes on the background {@link Thread Threads} is opt-in, with the
+ * {@literal codeprimate.extensions.spring.beans.class-preloading.initialization-enabled} property.
+ *
+ * @author John Blum
+ * @see java.lang.annotation.Documented
+ * @see java.lang.annotation.Inherited
+ * @see java.lang.annotation.Retention
+ * @see java.lang.annotation.Target
+ * @see org.cp.extensions.spring.beans.factory.config.BeanClassPreloadingBeanFactoryPostProcessor
+ * @see org.cp.extensions.spring.context.annotation.BeanClassPreloadingConfiguration
+ * @see org.springframework.context.annotation.Import
+ * @since 0.1.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.TYPE })
+@Import(BeanClassPreloadingConfiguration.class)
+@SuppressWarnings("unused")
+public @interface EnableBeanClassPreloading {
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.spring.context.annotation;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.context.annotation.Import;
+
+/**
+ * Spring {@link Annotation} enabling the concurrent destruction of independent singleton beans when
+ * the Spring container is closed, while beans are still destroyed before the beans on which they depend.
+ *
+ * @author John Blum
+ * @see java.lang.annotation.Documented
+ * @see java.lang.annotation.Inherited
+ * @see java.lang.annotation.Retention
+ * @see java.lang.annotation.Target
+ * @see org.cp.extensions.spring.context.annotation.ParallelBeanDestructionConfiguration
+ * @see org.cp.extensions.spring.context.support.ParallelBeanDestroyer
+ * @see org.springframework.context.annotation.Import
+ * @since 0.1.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.TYPE })
+@Import(ParallelBeanDestructionConfiguration.class)
+@SuppressWarnings("unused")
+public @interface EnableParallelBeanDestruction {
+
+	/**
+	 * Maximum number of beans destroyed concurrently.
+	 *
+	 * @return the maximum number of beans destroyed concurrently.
+	 */
+	int parallelism() default 16;
+
+	/**
+	 * Time, in milliseconds, to wait for each bean to be destroyed before destroying the beans on which it depends.
+	 *
+	 * @return the time, in milliseconds, to wait for each bean to be destroyed.
+	 */
+	long timeoutMillis() default 10000L;
+
+}
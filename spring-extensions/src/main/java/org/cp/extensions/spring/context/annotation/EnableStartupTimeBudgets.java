@@ -0,0 +1,130 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.spring.context.annotation;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.context.annotation.Import;
+
+/**
+ * Spring {@link Annotation} enabling the enforcement of startup time budgets for the creation of beans
+ * and for the refresh of the Spring container as a whole.
+ * <p>
+ * Bean creation times are recorded by a
+ * {@link org.cp.extensions.spring.beans.factory.config.BeanInitializationTimingBeanPostProcessor}, as with
+ * {@link EnableBeanInitializationCriticalPathAnalysis}, but with the critical path analysis disabled, so that
+ * enforcing budgets does not also analyze and log the critical path on every refresh.
+ * <p>
+ * Overruns are logged, ranked by the time in excess of the budget, and fail the refresh when
+ * {@link #failOnOverrun()} is {@literal true}, or the
+ * {@literal codeprimate.extensions.spring.startup.budgets.fail-on-overrun} property is set
+ * to {@literal true}, for example, in a staging environment.
+ * <p>
+ * For example:
+ *
+ * <pre>
+ * <code>
+ * {@literal @Configuration}
+ * {@literal @EnableStartupTimeBudgets(totalMillis = 30000, beans = {
+ *   @BeanBudget(names = "*Repository", millis = 500),
+ *   @BeanBudget(types = DataSource.class, millis = 2000)
+ * })}
+ * class ApplicationConfiguration {
+ *   ...
+ * }
+ * </code>
+ * </pre>
+ *
+ * @author John Blum
+ * @see java.lang.annotation.Documented
+ * @see java.lang.annotation.Inherited
+ * @see java.lang.annotation.Retention
+ * @see java.lang.annotation.Target
+ * @see org.cp.extensions.spring.context.annotation.StartupTimeBudgetsConfiguration
+ * @see org.cp.extensions.spring.context.support.StartupTimeBudgetEnforcer
+ * @see org.springframework.context.annotation.Import
+ * @since 0.1.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.TYPE })
+@Import(StartupTimeBudgetsConfiguration.class)
+@SuppressWarnings("unused")
+public @interface EnableStartupTimeBudgets {
+
+	/**
+	 * Budgets for the time spent creating beans, excluding the time spent creating the dependencies of the bean.
+	 * <p>
+	 * Each bean is checked against the first matching budget, in declaration order.
+	 *
+	 * @return an array of {@link BeanBudget BeanBudgets}.
+	 */
+	BeanBudget[] beans() default {};
+
+	/**
+	 * Budget, in milliseconds, for the total time spent refreshing the Spring container.
+	 * <p>
+	 * Defaults to {@literal -1}, or no budget.
+	 *
+	 * @return the budget, in milliseconds, for the total refresh time.
+	 */
+	long totalMillis() default -1L;
+
+	/**
+	 * Determines whether overruns fail the refresh of the Spring container.
+	 *
+	 * @return a boolean value indicating whether overruns fail the refresh.
+	 */
+	boolean failOnOverrun() default false;
+
+	/**
+	 * Budget for the time spent creating beans matching any of the bean {@link #names()} or {@link #types()}.
+	 */
+	@Documented
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target({})
+	@interface BeanBudget {
+
+		/**
+		 * Bean name patterns, supporting {@literal *} wildcards.
+		 *
+		 * @return an array of bean name patterns.
+		 */
+		String[] names() default {};
+
+		/**
+		 * Bean {@link Class types}, matching beans assignable to the {@link Class type}.
+		 *
+		 * @return an array of bean {@link Class types}.
+		 */
+		Class<?>[] types() default {};
+
+		/**
+		 * Budget, in milliseconds, for the time spent creating a matching bean.
+		 *
+		 * @return the budget, in milliseconds.
+		 */
+		long millis();
+
+	}
+}
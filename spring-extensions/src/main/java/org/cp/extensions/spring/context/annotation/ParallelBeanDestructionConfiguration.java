@@ -0,0 +1,62 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.spring.context.annotation;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.cp.extensions.spring.context.support.ParallelBeanDestroyer;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportAware;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.lang.NonNull;
+
+/**
+ * Spring {@link Configuration} class used to register (add) the {@link ParallelBeanDestroyer}
+ * with the Spring container, configured from the {@link EnableParallelBeanDestruction} annotation.
+ *
+ * @author John Blum
+ * @see org.cp.extensions.spring.context.annotation.EnableParallelBeanDestruction
+ * @see org.cp.extensions.spring.context.support.ParallelBeanDestroyer
+ * @see org.springframework.context.annotation.Bean
+ * @see org.springframework.context.annotation.Configuration
+ * @see org.springframework.context.annotation.ImportAware
+ * @since 0.1.0
+ */
+@Configuration
+@SuppressWarnings("unused")
+public class ParallelBeanDestructionConfiguration implements ImportAware {
+
+	private AnnotationAttributes enableParallelBeanDestruction;
+
+	@Override
+	public void setImportMetadata(@NonNull AnnotationMetadata importMetadata) {
+		this.enableParallelBeanDestruction = AnnotationAttributes.fromMap(
+			importMetadata.getAnnotationAttributes(EnableParallelBeanDestruction.class.getName()));
+	}
+
+	@Bean
+	@NonNull ParallelBeanDestroyer parallelBeanDestroyer() {
+
+		return Optional.ofNullable(this.enableParallelBeanDestruction)
+			.map(attributes -> new ParallelBeanDestroyer(attributes.<Integer>getNumber("parallelism"),
+				Duration.ofMillis(attributes.getNumber("timeoutMillis").longValue())))
+			.orElseGet(ParallelBeanDestroyer::new);
+	}
+}
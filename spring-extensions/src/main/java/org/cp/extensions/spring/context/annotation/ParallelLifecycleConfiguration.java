@@ -0,0 +1,71 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.spring.context.annotation;
+
+import java.util.Optional;
+
+import org.cp.extensions.spring.context.support.ParallelLifecycleProcessor;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportAware;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.lang.NonNull;
+
+/**
+ * Spring {@link Configuration} class used to register (add) the {@link ParallelLifecycleProcessor}
+ * with the Spring container as the {@literal lifecycleProcessor}, configured from
+ * the {@link EnableParallelLifecycle} annotation.
+ *
+ * @author John Blum
+ * @see org.cp.extensions.spring.context.annotation.EnableParallelLifecycle
+ * @see org.cp.extensions.spring.context.support.ParallelLifecycleProcessor
+ * @see org.springframework.context.annotation.Bean
+ * @see org.springframework.context.annotation.Configuration
+ * @see org.springframework.context.annotation.ImportAware
+ * @since 0.1.0
+ */
+@Configuration
+@SuppressWarnings("unused")
+public class ParallelLifecycleConfiguration implements ImportAware {
+
+	private AnnotationAttributes enableParallelLifecycle;
+
+	@Override
+	public void setImportMetadata(@NonNull AnnotationMetadata importMetadata) {
+		this.enableParallelLifecycle = AnnotationAttributes.fromMap(
+			importMetadata.getAnnotationAttributes(EnableParallelLifecycle.class.getName()));
+	}
+
+	@Bean(AbstractApplicationContext.LIFECYCLE_PROCESSOR_BEAN_NAME)
+	@NonNull ParallelLifecycleProcessor lifecycleProcessor() {
+
+		return Optional.ofNullable(this.enableParallelLifecycle)
+			.map(attributes -> {
+
+				ParallelLifecycleProcessor lifecycleProcessor =
+					new ParallelLifecycleProcessor(attributes.<Integer>getNumber("parallelism"));
+
+				lifecycleProcessor.setTimeoutPerStartupPhase(attributes.getNumber("startupTimeoutMillis").longValue());
+				lifecycleProcessor.setTimeoutPerShutdownPhase(attributes.getNumber("shutdownTimeoutMillis").longValue());
+
+				return lifecycleProcessor;
+			})
+			.orElseGet(ParallelLifecycleProcessor::new);
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.spring.context.annotation;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.cp.extensions.spring.beans.factory.config.BeanInitializationTimingBeanPostProcessor;
+import org.cp.extensions.spring.context.support.StartupTimeBudgetEnforcer;
+import org.cp.extensions.spring.context.support.StartupTimeBudgetEnforcer.BeanBudget;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportAware;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.lang.NonNull;
+
+/**
+ * Spring {@link Configuration} class used to register (add) the {@link StartupTimeBudgetEnforcer}
+ * with the Spring container, configured from the {@link EnableStartupTimeBudgets} annotation.
+ * <p>
+ * Beans are timed by a dedicated {@link BeanInitializationTimingBeanPostProcessor}, with the critical path
+ * analysis disabled, which is not a candidate for autowiring so that it does not conflict with the
+ * {@link BeanInitializationTimingBeanPostProcessor} registered by {@link EnableBeanInitializationCriticalPathAnalysis}.
+ *
+ * @author John Blum
+ * @see org.cp.extensions.spring.context.annotation.EnableStartupTimeBudgets
+ * @see org.cp.extensions.spring.context.support.StartupTimeBudgetEnforcer
+ * @see org.springframework.context.annotation.Bean
+ * @see org.springframework.context.annotation.Configuration
+ * @see org.springframework.context.annotation.ImportAware
+ * @since 0.1.0
+ */
+@Configuration
+@SuppressWarnings("unused")
+public class StartupTimeBudgetsConfiguration implements ImportAware {
+
+	protected static final String BEAN_TIMING_POST_PROCESSOR_BEAN_NAME = "startupTimeBudgetsBeanTimingPostProcessor";
+
+	private AnnotationAttributes enableStartupTimeBudgets;
+
+	@Bean(name = BEAN_TIMING_POST_PROCESSOR_BEAN_NAME, autowireCandidate = false)
+	static @NonNull BeanInitializationTimingBeanPostProcessor startupTimeBudgetsBeanTimingPostProcessor() {
+		return new BeanInitializationTimingBeanPostProcessor(false);
+	}
+
+	@Override
+	public void setImportMetadata(@NonNull AnnotationMetadata importMetadata) {
+		this.enableStartupTimeBudgets = AnnotationAttributes.fromMap(
+			importMetadata.getAnnotationAttributes(EnableStartupTimeBudgets.class.getName()));
+	}
+
+	@Bean
+	@NonNull StartupTimeBudgetEnforcer startupTimeBudgetEnforcer(@NonNull BeanFactory beanFactory) {
+
+		BeanInitializationTimingBeanPostProcessor beanTimings =
+			beanFactory.getBean(BEAN_TIMING_POST_PROCESSOR_BEAN_NAME, BeanInitializationTimingBeanPostProcessor.class);
+
+		StartupTimeBudgetEnforcer startupTimeBudgetEnforcer = new StartupTimeBudgetEnforcer(beanTimings);
+
+		Optional.ofNullable(this.enableStartupTimeBudgets).ifPresent(attributes -> {
+
+			Arrays.stream(attributes.getAnnotationArray("beans"))
+				.map(beanBudget -> new BeanBudget(Duration.ofMillis(beanBudget.getNumber("millis").longValue()),
+					beanBudget.getStringArray("names"), beanBudget.getClassArray("types")))
+				.forEach(startupTimeBudgetEnforcer::withBeanBudgets);
+
+			long totalMillis = attributes.getNumber("totalMillis").longValue();
+
+			startupTimeBudgetEnforcer
+				.withTotalBudget(totalMillis >= 0L ? Duration.ofMillis(totalMillis) : null)
+				.failOnOverrun(attributes.getBoolean("failOnOverrun"));
+		});
+
+		return startupTimeBudgetEnforcer;
+	}
+}
@@ -0,0 +1,567 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.spring.context.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.cp.elements.lang.Assert;
+import org.cp.extensions.spring.beans.factory.config.BeanDependencyGraph;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.BeanCreationNotAllowedException;
+import org.springframework.beans.factory.BeanNameAware;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessor;
+import org.springframework.beans.factory.support.DefaultSingletonBeanRegistry;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Spring {@link SmartLifecycle} bean destroying the singleton beans of a closing
+ * {@link org.springframework.context.ApplicationContext} concurrently, in reverse topological waves.
+ * <p>
+ * Out-of-the-box, the Spring container destroys singleton beans one at a time, so shutdown takes as long as
+ * the sum of the time spent destroying each bean. The {@link ParallelBeanDestroyer} destroys all beans
+ * that no other live bean depends on concurrently, as a wave, then the beans on which only destroyed beans
+ * depended, and so on, preserving the order in which dependent beans are destroyed before their dependencies.
+ * <p>
+ * Dependencies are the dependent beans registered with the {@link ConfigurableListableBeanFactory},
+ * including beans declared with {@link org.springframework.context.annotation.DependsOn}
+ * or {@link org.cp.extensions.spring.context.annotation.DependencyOf} and injected beans,
+ * along with the dependents recorded in the {@link BeanDependencyGraph}, if registered.
+ * <p>
+ * A bean is destroyed as soon as all the beans depending on it are destroyed. The time the
+ * {@link ParallelBeanDestroyer} waits for a bean is bounded by a timeout, starting when the destruction
+ * of the bean starts. When a bean is not destroyed in time, the {@link ParallelBeanDestroyer} stops waiting
+ * for the bean and does not destroy the beans on which it depends, so the {@link ParallelBeanDestroyer} never
+ * destroys a bean while a bean depending on it is still being destroyed. Those beans, along with beans in,
+ * or depended on by beans in, circular dependencies, are left to be destroyed sequentially by the Spring container.
+ * <p>
+ * Since the timeout applies to each bean, and a bean is only destroyed after all the beans depending on it,
+ * the total time spent destroying beans is not bounded by the timeout. In the worst case, shutdown takes
+ * as long as the timeout multiplied by the length of the longest chain of dependent beans.
+ * <p>
+ * The Spring container only prevents singleton beans from being created once it starts destroying beans itself.
+ * Therefore, the {@link ParallelBeanDestroyer} registers an {@link InstantiationAwareBeanPostProcessor}
+ * rejecting, with a {@link BeanCreationNotAllowedException}, the creation of singleton beans once it starts
+ * destroying beans, so that a bean looked up by a destroy method, such as a bean that was already destroyed,
+ * is not silently created again.
+ * <p>
+ * Beans are destroyed when this {@link SmartLifecycle} bean, in the {@link Integer#MIN_VALUE last phase},
+ * is stopped while the {@link org.springframework.context.ApplicationContext} is closing, that is, after all
+ * other {@link org.springframework.context.Lifecycle} beans are stopped and right before the Spring container
+ * destroys the remaining beans. Stopping the {@link org.springframework.context.ApplicationContext} without
+ * closing it does not destroy beans.
+ *
+ * @author John Blum
+ * @see org.cp.extensions.spring.beans.factory.config.BeanDependencyGraph
+ * @see org.springframework.beans.factory.config.ConfigurableListableBeanFactory#destroySingleton(String)
+ * @see org.springframework.context.SmartLifecycle
+ * @see org.springframework.context.event.ContextClosedEvent
+ * @since 0.1.0
+ */
+public class ParallelBeanDestroyer implements SmartLifecycle, ApplicationListener<ContextClosedEvent>,
+		BeanFactoryAware, BeanNameAware {
+
+	protected static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+
+	protected static final int DEFAULT_PARALLELISM = 16;
+
+	private volatile boolean closing;
+	private volatile boolean destroying;
+	private volatile boolean running;
+
+	private final Duration timeout;
+
+	private final int parallelism;
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private volatile ConfigurableListableBeanFactory beanFactory;
+
+	private String beanName;
+
+	/**
+	 * Constructs a new {@link ParallelBeanDestroyer} destroying at most {@value #DEFAULT_PARALLELISM} beans
+	 * concurrently, with a timeout of 10 seconds per bean.
+	 */
+	public ParallelBeanDestroyer() {
+		this(DEFAULT_PARALLELISM, DEFAULT_TIMEOUT);
+	}
+
+	/**
+	 * Constructs a new {@link ParallelBeanDestroyer} destroying at most the given number of beans concurrently,
+	 * waiting at most the given {@link Duration} for each bean to be destroyed.
+	 *
+	 * @param parallelism maximum number of beans destroyed concurrently; must be greater than {@literal 0}.
+	 * @param timeout {@link Duration} to wait for each bean to be destroyed; must not be {@literal null} or negative.
+	 * @throws IllegalArgumentException if the parallelism is less than {@literal 1},
+	 * or the timeout is {@literal null} or negative.
+	 */
+	public ParallelBeanDestroyer(int parallelism, @NonNull Duration timeout) {
+
+		Assert.isTrue(parallelism > 0, "Parallelism [%d] must be greater than 0", parallelism);
+		Assert.notNull(timeout, "Timeout is required");
+		Assert.isTrue(!timeout.isNegative(), "Timeout [%s] must not be negative", timeout);
+
+		this.parallelism = parallelism;
+		this.timeout = timeout;
+	}
+
+	@Override
+	public void setBeanFactory(@NonNull BeanFactory beanFactory) throws BeansException {
+
+		if (beanFactory instanceof ConfigurableListableBeanFactory) {
+			this.beanFactory = (ConfigurableListableBeanFactory) beanFactory;
+			this.beanFactory.addBeanPostProcessor(new SingletonCreationGuard());
+		}
+	}
+
+	@Override
+	public void setBeanName(@NonNull String beanName) {
+		this.beanName = beanName;
+	}
+
+	public int getParallelism() {
+		return this.parallelism;
+	}
+
+	public @NonNull Duration getTimeout() {
+		return this.timeout;
+	}
+
+	@Override
+	public int getPhase() {
+		return Integer.MIN_VALUE;
+	}
+
+	// remains running while closing so that beans are destroyed even when the context was stopped before closed
+	@Override
+	public boolean isRunning() {
+		return this.running || this.closing;
+	}
+
+	@Override
+	public void onApplicationEvent(@NonNull ContextClosedEvent event) {
+
+		ConfigurableListableBeanFactory beanFactory = this.beanFactory;
+
+		// ignore events propagated from child ApplicationContexts
+		if (beanFactory != null && event.getApplicationContext().getAutowireCapableBeanFactory() == beanFactory) {
+			this.closing = true;
+		}
+	}
+
+	@Override
+	public void start() {
+		this.running = true;
+	}
+
+	@Override
+	public void stop() {
+
+		ConfigurableListableBeanFactory beanFactory = this.beanFactory;
+
+		if (this.closing && beanFactory instanceof DefaultSingletonBeanRegistry) {
+			// remains set since the Spring container destroys the remaining beans right after
+			this.destroying = true;
+			destroyBeans(beanFactory);
+		}
+
+		this.closing = false;
+		this.running = false;
+	}
+
+	/**
+	 * Destroys the singleton beans in the given {@link ConfigurableListableBeanFactory} concurrently,
+	 * in {@link #computeDestructionWaves(ConfigurableListableBeanFactory) reverse topological order}.
+	 * <p>
+	 * A bean is scheduled for destruction as soon as all the beans depending on it have been destroyed.
+	 * The timeout of a bean starts when its destruction starts. When a bean is not destroyed in time,
+	 * the beans on which it depends are not scheduled, and are left to be destroyed sequentially
+	 * by the Spring container, after the timed out bean.
+	 *
+	 * @param beanFactory {@link ConfigurableListableBeanFactory} containing the beans to destroy.
+	 * @return the number of beans destroyed within the timeout.
+	 * @throws IllegalArgumentException if the {@link ConfigurableListableBeanFactory} is not
+	 * a {@link DefaultSingletonBeanRegistry}.
+	 * @see #computeDestructionWaves(ConfigurableListableBeanFactory)
+	 */
+	protected int destroyBeans(@NonNull ConfigurableListableBeanFactory beanFactory) {
+
+		Assert.isTrue(beanFactory instanceof DefaultSingletonBeanRegistry,
+			"BeanFactory [%s] must be a DefaultSingletonBeanRegistry", beanFactory);
+
+		DefaultSingletonBeanRegistry singletonRegistry = (DefaultSingletonBeanRegistry) beanFactory;
+
+		DestructionOrder destructionOrder = computeDestructionOrder(beanFactory);
+
+		BlockingQueue<Destruction> completions = new LinkedBlockingQueue<>();
+
+		Map<String, Destruction> destructions = new LinkedHashMap<>();
+
+		Set<String> timedOutBeanNames = new HashSet<>();
+
+		ExecutorService executorService = newExecutorService();
+
+		long startTime = System.nanoTime();
+		long timeout = this.timeout.toNanos();
+
+		int destroyed = 0;
+
+		try {
+			for (String beanName : destructionOrder.getFirstWave()) {
+				destructions.put(beanName, new Destruction(beanName).submit(executorService, singletonRegistry,
+					completions));
+			}
+
+			while (!destructions.isEmpty()) {
+
+				long now = System.nanoTime();
+				long wait = timeout;
+
+				boolean started = false;
+
+				for (Iterator<Destruction> iterator = destructions.values().iterator(); iterator.hasNext(); ) {
+
+					Destruction destruction = iterator.next();
+
+					if (destruction.isStarted()) {
+
+						long remaining = destruction.getStartTime() + timeout - now;
+
+						started = true;
+
+						if (remaining <= 0L) {
+							iterator.remove();
+							timedOutBeanNames.add(destruction.getBeanName());
+							destruction.cancel();
+							logTimeout(destruction.getBeanName());
+						}
+						else {
+							wait = Math.min(wait, remaining);
+						}
+					}
+				}
+
+				// all threads are blocked by beans that were not destroyed in time
+				if (destructions.isEmpty() || (!started && timedOutBeanNames.size() >= getParallelism())) {
+					break;
+				}
+
+				Destruction completion = completions.poll(wait, TimeUnit.NANOSECONDS);
+
+				if (completion != null) {
+					if (!timedOutBeanNames.remove(completion.getBeanName())) {
+
+						destructions.remove(completion.getBeanName());
+						destroyed++;
+
+						for (String dependency : destructionOrder.release(completion.getBeanName())) {
+							destructions.put(dependency, new Destruction(dependency).submit(executorService,
+								singletonRegistry, completions));
+						}
+					}
+				}
+			}
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+
+		if (this.logger.isDebugEnabled()) {
+			this.logger.debug(String.format("Destroyed [%d] beans in [%d ms]", destroyed,
+				TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+		}
+
+		return destroyed;
+	}
+
+	private void logTimeout(String beanName) {
+
+		if (this.logger.isWarnEnabled()) {
+			this.logger.warn(String.format("Bean [%s] was not destroyed within [%d ms];"
+				+ " the beans on which it depends are destroyed sequentially", beanName, this.timeout.toMillis()));
+		}
+	}
+
+	/**
+	 * Computes the waves in which the singleton beans in the given {@link ConfigurableListableBeanFactory}
+	 * are destroyed.
+	 * <p>
+	 * The first wave contains the beans on which no other bean depends, and each following wave contains
+	 * the beans on which only beans in previous waves depend. Within a wave, beans are listed in reverse
+	 * registration order, which is the order in which the Spring container destroys beans.
+	 * Beans in, or depended on by beans in, circular dependencies are not contained in any wave.
+	 *
+	 * @param beanFactory {@link ConfigurableListableBeanFactory} containing the beans to destroy.
+	 * @return the {@link List} of waves of bean names.
+	 */
+	protected @NonNull List<List<String>> computeDestructionWaves(@NonNull ConfigurableListableBeanFactory beanFactory) {
+
+		DestructionOrder destructionOrder = computeDestructionOrder(beanFactory);
+
+		List<List<String>> waves = new ArrayList<>();
+
+		List<String> wave = destructionOrder.getFirstWave();
+
+		while (!wave.isEmpty()) {
+
+			waves.add(Collections.unmodifiableList(wave));
+
+			List<String> nextWave = new ArrayList<>();
+
+			for (String beanName : wave) {
+				nextWave.addAll(destructionOrder.release(beanName));
+			}
+
+			wave = destructionOrder.sort(nextWave);
+		}
+
+		return Collections.unmodifiableList(waves);
+	}
+
+	private DestructionOrder computeDestructionOrder(ConfigurableListableBeanFactory beanFactory) {
+
+		List<String> beanNames = new ArrayList<>(Arrays.asList(beanFactory.getSingletonNames()));
+
+		Collections.reverse(beanNames);
+		beanNames.remove(this.beanName);
+
+		DestructionOrder destructionOrder = new DestructionOrder(beanNames);
+
+		BeanDependencyGraph dependencyGraph = resolveDependencyGraph(beanFactory);
+
+		for (String beanName : beanNames) {
+
+			Set<String> dependents = new LinkedHashSet<>(Arrays.asList(beanFactory.getDependentBeans(beanName)));
+
+			if (dependencyGraph != null) {
+				dependents.addAll(dependencyGraph.getDependents(beanName));
+			}
+
+			destructionOrder.addBean(beanName, dependents);
+		}
+
+		return destructionOrder;
+	}
+
+	private @Nullable BeanDependencyGraph resolveDependencyGraph(@NonNull ConfigurableListableBeanFactory beanFactory) {
+
+		Object dependencyGraph = beanFactory.containsSingleton(BeanDependencyGraph.BEAN_NAME)
+			? beanFactory.getSingleton(BeanDependencyGraph.BEAN_NAME)
+			: null;
+
+		return dependencyGraph instanceof BeanDependencyGraph ? (BeanDependencyGraph) dependencyGraph : null;
+	}
+
+	/**
+	 * Constructs a new {@link ExecutorService} used to destroy beans concurrently, with daemon {@link Thread Threads}
+	 * so that beans not destroyed within the timeout do not prevent the JVM from exiting.
+	 *
+	 * @return a new {@link ExecutorService}.
+	 */
+	protected @NonNull ExecutorService newExecutorService() {
+
+		AtomicInteger threadCount = new AtomicInteger(0);
+
+		ThreadFactory threadFactory = runnable -> {
+			Thread thread = new Thread(runnable, "bean-destruction-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+
+		return Executors.newFixedThreadPool(getParallelism(), threadFactory);
+	}
+
+	/**
+	 * {@link InstantiationAwareBeanPostProcessor} rejecting the creation of singleton beans
+	 * once the {@link ParallelBeanDestroyer} starts destroying beans.
+	 */
+	private final class SingletonCreationGuard implements InstantiationAwareBeanPostProcessor {
+
+		@Override
+		public @Nullable Object postProcessBeforeInstantiation(@NonNull Class<?> beanClass, @NonNull String beanName)
+				throws BeansException {
+
+			if (destroying && isSingleton(beanName)) {
+				throw new BeanCreationNotAllowedException(beanName, "Singleton bean creation not allowed while"
+					+ " singletons of this factory are being destroyed in parallel"
+					+ " (Do not request a bean from a BeanFactory in a destroy method implementation!)");
+			}
+
+			return null;
+		}
+
+		private boolean isSingleton(String beanName) {
+
+			ConfigurableListableBeanFactory beanFactory = ParallelBeanDestroyer.this.beanFactory;
+
+			return beanFactory != null && beanFactory.containsBeanDefinition(beanName)
+				&& beanFactory.getMergedBeanDefinition(beanName).isSingleton();
+		}
+	}
+
+	/**
+	 * Reverse topological order in which beans are destroyed, tracking the number of beans depending on each bean
+	 * that are not yet destroyed.
+	 */
+	private static final class DestructionOrder {
+
+		private final List<String> firstWave = new ArrayList<>();
+
+		private final Map<String, Integer> positions = new HashMap<>();
+		private final Map<String, Integer> remainingDependents = new HashMap<>();
+
+		private final Map<String, List<String>> dependencies = new HashMap<>();
+
+		DestructionOrder(List<String> beanNames) {
+			for (String beanName : beanNames) {
+				this.positions.put(beanName, this.positions.size());
+			}
+		}
+
+		void addBean(String beanName, Set<String> dependents) {
+
+			dependents.retainAll(this.positions.keySet());
+			dependents.remove(beanName);
+
+			for (String dependent : dependents) {
+				this.dependencies.computeIfAbsent(dependent, key -> new ArrayList<>()).add(beanName);
+			}
+
+			this.remainingDependents.put(beanName, dependents.size());
+
+			if (dependents.isEmpty()) {
+				this.firstWave.add(beanName);
+			}
+		}
+
+		List<String> getFirstWave() {
+			return new ArrayList<>(this.firstWave);
+		}
+
+		// returns the dependencies of the destroyed bean on which no other bean remaining to be destroyed depends
+		List<String> release(String destroyedBeanName) {
+
+			List<String> released = new ArrayList<>();
+
+			for (String dependency : this.dependencies.getOrDefault(destroyedBeanName, Collections.emptyList())) {
+				if (this.remainingDependents.merge(dependency, -1, Integer::sum) == 0) {
+					released.add(dependency);
+				}
+			}
+
+			return sort(released);
+		}
+
+		List<String> sort(List<String> beanNames) {
+
+			List<String> sorted = new ArrayList<>(new LinkedHashSet<>(beanNames));
+
+			sorted.sort(Comparator.comparing(this.positions::get));
+
+			return sorted;
+		}
+	}
+
+	/**
+	 * Destruction of a single bean, recording when the destruction started.
+	 */
+	private static final class Destruction {
+
+		private final String beanName;
+
+		private volatile boolean started;
+
+		private volatile long startTime;
+
+		private volatile Future<?> future;
+
+		Destruction(String beanName) {
+			this.beanName = beanName;
+		}
+
+		String getBeanName() {
+			return this.beanName;
+		}
+
+		boolean isStarted() {
+			return this.started;
+		}
+
+		long getStartTime() {
+			return this.startTime;
+		}
+
+		Destruction submit(ExecutorService executorService, DefaultSingletonBeanRegistry singletonRegistry,
+				BlockingQueue<Destruction> completions) {
+
+			this.future = executorService.submit(() -> {
+				this.startTime = System.nanoTime();
+				this.started = true;
+				try {
+					singletonRegistry.destroySingleton(this.beanName);
+				}
+				finally {
+					completions.add(this);
+				}
+			});
+
+			return this;
+		}
+
+		void cancel() {
+
+			Future<?> future = this.future;
+
+			if (future != null) {
+				future.cancel(true);
+			}
+		}
+	}
+}
@@ -0,0 +1,689 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.spring.context.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.cp.elements.lang.Assert;
+import org.cp.extensions.spring.beans.factory.config.BeanDependencyGraph;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.ApplicationContextException;
+import org.springframework.context.Lifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.support.DefaultLifecycleProcessor;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Spring {@link org.springframework.context.LifecycleProcessor} starting and stopping the {@link Lifecycle} beans
+ * within a phase concurrently.
+ * <p>
+ * The {@link DefaultLifecycleProcessor} starts and stops the {@link Lifecycle} beans in a phase one at a time,
+ * so a phase takes as long as the sum of the time spent starting, or stopping, each bean. The
+ * {@link ParallelLifecycleProcessor} starts a bean as soon as the beans in the same phase on which it depends
+ * have started, and stops a bean as soon as the beans in the same phase depending on it have stopped.
+ * Phases are still started in ascending order and stopped in descending order.
+ * <p>
+ * Dependencies are the dependencies registered with the {@link ConfigurableListableBeanFactory},
+ * including beans declared with {@link org.springframework.context.annotation.DependsOn}
+ * or {@link org.cp.extensions.spring.context.annotation.DependencyOf} and injected beans, along with
+ * the dependencies recorded in the {@link BeanDependencyGraph}, if registered. As with
+ * the {@link DefaultLifecycleProcessor}, dependencies in other phases are started, or dependents in other phases
+ * stopped, first and sequentially. Circular dependencies within a phase are ignored.
+ * <p>
+ * Stopping a phase waits at most the {@link #setTimeoutPerShutdownPhase(long) timeout per shutdown phase}
+ * for {@link SmartLifecycle} beans to signal that they stopped, after which the remaining beans are stopped
+ * once their dependents returned from {@literal stop}, as with the {@link DefaultLifecycleProcessor}.
+ * As with the {@link DefaultLifecycleProcessor}, calls to {@literal stop} still running are always waited for,
+ * so only the asynchronous {@link SmartLifecycle#stop(Runnable) stop callbacks} are bounded by the timeout.
+ * <p>
+ * Starting a phase waits at most the {@link #setTimeoutPerStartupPhase(long) timeout per startup phase},
+ * if configured. When a bean fails to start, or the phase does not start in time, the beans not yet starting
+ * are not started, the beans still starting are waited for, and then an {@link ApplicationContextException}
+ * is thrown.
+ * <p>
+ * To replace the {@link DefaultLifecycleProcessor}, the {@link ParallelLifecycleProcessor} must be registered
+ * as a bean named {@literal lifecycleProcessor}.
+ *
+ * @author John Blum
+ * @see org.cp.extensions.spring.beans.factory.config.BeanDependencyGraph
+ * @see org.springframework.context.Lifecycle
+ * @see org.springframework.context.SmartLifecycle
+ * @see org.springframework.context.support.DefaultLifecycleProcessor
+ * @since 0.1.0
+ */
+public class ParallelLifecycleProcessor extends DefaultLifecycleProcessor {
+
+	protected static final int DEFAULT_PARALLELISM = 16;
+
+	protected static final long DEFAULT_TIMEOUT_PER_SHUTDOWN_PHASE = 30000L;
+
+	private volatile boolean running;
+
+	private final int parallelism;
+
+	private volatile long timeoutPerShutdownPhase = DEFAULT_TIMEOUT_PER_SHUTDOWN_PHASE;
+	private volatile long timeoutPerStartupPhase = -1L;
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private volatile ConfigurableListableBeanFactory beanFactory;
+
+	/**
+	 * Constructs a new {@link ParallelLifecycleProcessor} starting and stopping at most
+	 * {@value #DEFAULT_PARALLELISM} beans concurrently.
+	 */
+	public ParallelLifecycleProcessor() {
+		this(DEFAULT_PARALLELISM);
+	}
+
+	/**
+	 * Constructs a new {@link ParallelLifecycleProcessor} starting and stopping at most the given number of beans
+	 * concurrently.
+	 *
+	 * @param parallelism maximum number of beans started, or stopped, concurrently;
+	 * must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if the parallelism is less than {@literal 1}.
+	 */
+	public ParallelLifecycleProcessor(int parallelism) {
+
+		Assert.isTrue(parallelism > 0, "Parallelism [%d] must be greater than 0", parallelism);
+
+		this.parallelism = parallelism;
+	}
+
+	@Override
+	public void setBeanFactory(@NonNull BeanFactory beanFactory) {
+
+		super.setBeanFactory(beanFactory);
+
+		// DefaultLifecycleProcessor requires a ConfigurableListableBeanFactory
+		this.beanFactory = (ConfigurableListableBeanFactory) beanFactory;
+	}
+
+	private @NonNull ConfigurableListableBeanFactory resolveBeanFactory() {
+
+		ConfigurableListableBeanFactory beanFactory = this.beanFactory;
+
+		if (beanFactory == null) {
+			throw new IllegalStateException("BeanFactory was not configured");
+		}
+
+		return beanFactory;
+	}
+
+	public int getParallelism() {
+		return this.parallelism;
+	}
+
+	@Override
+	public void setTimeoutPerShutdownPhase(long timeoutPerShutdownPhase) {
+		super.setTimeoutPerShutdownPhase(timeoutPerShutdownPhase);
+		this.timeoutPerShutdownPhase = timeoutPerShutdownPhase;
+	}
+
+	public long getTimeoutPerShutdownPhase() {
+		return this.timeoutPerShutdownPhase;
+	}
+
+	/**
+	 * Configures the maximum time, in milliseconds, to wait for the beans in a phase to start.
+	 *
+	 * @param timeoutPerStartupPhase maximum time, in milliseconds, to wait for the beans in a phase to start;
+	 * a negative value waits indefinitely, which is the default.
+	 */
+	public void setTimeoutPerStartupPhase(long timeoutPerStartupPhase) {
+		this.timeoutPerStartupPhase = timeoutPerStartupPhase;
+	}
+
+	public long getTimeoutPerStartupPhase() {
+		return this.timeoutPerStartupPhase;
+	}
+
+	@Override
+	public boolean isRunning() {
+		return this.running;
+	}
+
+	@Override
+	public void start() {
+		startBeans(false);
+		this.running = true;
+	}
+
+	@Override
+	public void stop() {
+		stopBeans();
+		this.running = false;
+	}
+
+	@Override
+	public void onRefresh() {
+		startBeans(true);
+		this.running = true;
+	}
+
+	@Override
+	public void onClose() {
+		stopBeans();
+		this.running = false;
+	}
+
+	private void startBeans(boolean autoStartupOnly) {
+
+		Map<String, Lifecycle> beans = getLifecycleBeans();
+		Map<String, Lifecycle> lifecycleBeans = new ConcurrentHashMap<>(beans);
+
+		Map<Integer, List<String>> phases = groupByPhase(beans, bean -> !autoStartupOnly
+			|| (bean instanceof SmartLifecycle && ((SmartLifecycle) bean).isAutoStartup()));
+
+		if (!phases.isEmpty()) {
+
+			ExecutorService executorService = newExecutorService();
+
+			try {
+				phases.forEach((phase, beanNames) ->
+					startPhase(phase, beanNames, lifecycleBeans, autoStartupOnly, executorService));
+			}
+			finally {
+				executorService.shutdown();
+			}
+		}
+	}
+
+	private void startPhase(int phase, List<String> beanNames, Map<String, Lifecycle> lifecycleBeans,
+			boolean autoStartupOnly, ExecutorService executorService) {
+
+		Set<String> members = new LinkedHashSet<>(beanNames);
+
+		members.retainAll(lifecycleBeans.keySet());
+
+		Map<String, Set<String>> dependencies = new LinkedHashMap<>();
+
+		for (String beanName : members) {
+
+			Set<String> beanDependencies = resolveDependencies(beanName);
+
+			for (String dependency : beanDependencies) {
+				if (!members.contains(dependency)) {
+					startSequentially(lifecycleBeans, dependency, autoStartupOnly);
+				}
+			}
+
+			beanDependencies.retainAll(members);
+			dependencies.put(beanName, beanDependencies);
+		}
+
+		AtomicBoolean cancelled = new AtomicBoolean(false);
+
+		Map<String, CompletableFuture<Void>> starts = schedule(dependencies, (beanName, dependencyStarts) ->
+			CompletableFuture.allOf(dependencyStarts.toArray(new CompletableFuture[0]))
+				.thenRunAsync(() -> {
+					if (!cancelled.get()) {
+						startBean(lifecycleBeans, beanName, autoStartupOnly);
+					}
+				}, executorService));
+
+		awaitStart(phase, starts, cancelled);
+	}
+
+	private void awaitStart(int phase, Map<String, CompletableFuture<Void>> starts, AtomicBoolean cancelled) {
+
+		CompletableFuture<Void> phaseStart = CompletableFuture.allOf(starts.values().toArray(new CompletableFuture[0]));
+
+		long timeout = getTimeoutPerStartupPhase();
+
+		try {
+			if (timeout < 0L) {
+				phaseStart.get();
+			}
+			else {
+				phaseStart.get(timeout, TimeUnit.MILLISECONDS);
+			}
+		}
+		catch (ExecutionException cause) {
+
+			cancelStarts(starts, cancelled);
+
+			Throwable failure = cause.getCause() instanceof CompletionException && cause.getCause().getCause() != null
+				? cause.getCause().getCause()
+				: cause.getCause();
+
+			throw failure instanceof ApplicationContextException
+				? (ApplicationContextException) failure
+				: new ApplicationContextException(String.format("Failed to start beans in phase [%d]", phase), failure);
+		}
+		catch (TimeoutException cause) {
+
+			List<String> pendingBeanNames = pendingBeanNames(starts);
+
+			cancelStarts(starts, cancelled);
+
+			throw new ApplicationContextException(String.format("Failed to start beans %s in phase [%d] within [%dms]",
+				pendingBeanNames, phase, timeout), cause);
+		}
+		catch (InterruptedException cause) {
+
+			cancelStarts(starts, cancelled);
+			Thread.currentThread().interrupt();
+
+			throw new ApplicationContextException(String.format("Interrupted while starting beans in phase [%d]", phase),
+				cause);
+		}
+	}
+
+	// skips the starts not yet begun and waits for the starts still running
+	private void cancelStarts(Map<String, CompletableFuture<Void>> starts, AtomicBoolean cancelled) {
+
+		cancelled.set(true);
+
+		for (CompletableFuture<Void> start : starts.values()) {
+			try {
+				start.join();
+			}
+			catch (CancellationException | CompletionException ignore) {
+				// the failure, if any, is reported by awaitStart(..)
+			}
+		}
+	}
+
+	private void startBean(Map<String, Lifecycle> lifecycleBeans, String beanName, boolean autoStartupOnly) {
+
+		Lifecycle bean = lifecycleBeans.remove(beanName);
+
+		if (bean != null && bean != this && !bean.isRunning()
+				&& (!autoStartupOnly || !(bean instanceof SmartLifecycle) || ((SmartLifecycle) bean).isAutoStartup())) {
+
+			if (this.logger.isTraceEnabled()) {
+				this.logger.trace(String.format("Starting bean [%s] of type [%s]", beanName, bean.getClass().getName()));
+			}
+
+			try {
+				bean.start();
+			}
+			catch (Throwable cause) {
+				throw new ApplicationContextException(String.format("Failed to start bean [%s]", beanName), cause);
+			}
+		}
+	}
+
+	// starts the bean after its dependencies, as the DefaultLifecycleProcessor does
+	private void startSequentially(Map<String, Lifecycle> lifecycleBeans, String beanName, boolean autoStartupOnly) {
+
+		Lifecycle bean = lifecycleBeans.get(beanName);
+
+		if (bean != null && bean != this) {
+
+			for (String dependency : resolveBeanFactory().getDependenciesForBean(beanName)) {
+				startSequentially(lifecycleBeans, dependency, autoStartupOnly);
+			}
+
+			startBean(lifecycleBeans, beanName, autoStartupOnly);
+		}
+	}
+
+	private void stopBeans() {
+
+		Map<String, Lifecycle> beans = getLifecycleBeans();
+		Map<String, Lifecycle> lifecycleBeans = new ConcurrentHashMap<>(beans);
+
+		Map<Integer, List<String>> phases = groupByPhase(beans, bean -> true);
+
+		if (!phases.isEmpty()) {
+
+			ExecutorService executorService = newExecutorService();
+
+			try {
+				new ArrayList<>(phases.keySet()).stream()
+					.sorted(Comparator.reverseOrder())
+					.forEach(phase -> stopPhase(phase, phases.get(phase), lifecycleBeans, executorService));
+			}
+			finally {
+				executorService.shutdown();
+			}
+		}
+	}
+
+	private void stopPhase(int phase, List<String> beanNames, Map<String, Lifecycle> lifecycleBeans,
+			ExecutorService executorService) {
+
+		Set<String> members = new LinkedHashSet<>(beanNames);
+
+		members.retainAll(lifecycleBeans.keySet());
+
+		Map<String, Set<String>> dependents = new LinkedHashMap<>();
+
+		for (String beanName : members) {
+
+			Set<String> beanDependents = resolveDependents(beanName);
+
+			for (String dependent : beanDependents) {
+				if (!members.contains(dependent)) {
+					stopSequentially(lifecycleBeans, dependent);
+				}
+			}
+
+			beanDependents.retainAll(members);
+			dependents.put(beanName, beanDependents);
+		}
+
+		PhaseStop phaseStop = new PhaseStop(lifecycleBeans, members);
+
+		Map<String, CompletableFuture<Void>> stops = schedule(dependents, (beanName, dependentStops) -> {
+
+			CompletableFuture<Void> stop = new CompletableFuture<>();
+
+			CompletableFuture.allOf(dependentStops.toArray(new CompletableFuture[0]))
+				.whenCompleteAsync((result, cause) -> stopBean(phaseStop, beanName, stop), executorService);
+
+			return stop;
+		});
+
+		awaitStop(phase, stops, dependents, phaseStop, executorService);
+	}
+
+	private void awaitStop(int phase, Map<String, CompletableFuture<Void>> stops, Map<String, Set<String>> dependents,
+			PhaseStop phaseStop, ExecutorService executorService) {
+
+		try {
+			CompletableFuture.allOf(stops.values().toArray(new CompletableFuture[0]))
+				.get(getTimeoutPerShutdownPhase(), TimeUnit.MILLISECONDS);
+
+			// a stop callback may be invoked before the call to stop returns
+			awaitInvocations(phaseStop.invocations);
+		}
+		catch (ExecutionException ignore) {
+			// stopBean(..) handles failures
+		}
+		catch (TimeoutException ignore) {
+
+			List<String> pendingBeanNames = pendingBeanNames(stops);
+
+			if (this.logger.isInfoEnabled()) {
+				this.logger.info(String.format("Failed to stop beans %s in phase [%d] within [%dms]",
+					pendingBeanNames, phase, getTimeoutPerShutdownPhase()));
+			}
+
+			// stop the beans still waiting on their dependents once their dependents returned from stop,
+			// regardless of the stop callbacks, and wait for all calls to stop to return
+			Map<String, CompletableFuture<Void>> invocations = schedule(dependents, (beanName, dependentStops) -> {
+
+				CompletableFuture.allOf(dependentStops.toArray(new CompletableFuture[0]))
+					.whenCompleteAsync((result, cause) -> stopBean(phaseStop, beanName, stops.get(beanName)),
+						executorService);
+
+				return phaseStop.getInvocation(beanName);
+			});
+
+			awaitInvocations(invocations);
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void awaitInvocations(Map<String, CompletableFuture<Void>> invocations) {
+
+		for (CompletableFuture<Void> invocation : invocations.values()) {
+			invocation.join();
+		}
+	}
+
+	private void stopBean(PhaseStop phaseStop, String beanName, CompletableFuture<Void> stop) {
+
+		// the bean may be stopped on schedule and again after the shutdown phase timeout
+		if (!phaseStop.trigger(beanName)) {
+			return;
+		}
+
+		Lifecycle bean = phaseStop.lifecycleBeans.remove(beanName);
+
+		try {
+			if (bean != null && bean != this && bean.isRunning()) {
+
+				if (this.logger.isTraceEnabled()) {
+					this.logger.trace(String.format("Stopping bean [%s] of type [%s]", beanName, bean.getClass().getName()));
+				}
+
+				if (bean instanceof SmartLifecycle) {
+					((SmartLifecycle) bean).stop(() -> stop.complete(null));
+					return;
+				}
+
+				bean.stop();
+			}
+		}
+		catch (Throwable cause) {
+			if (this.logger.isWarnEnabled()) {
+				this.logger.warn(String.format("Failed to stop bean [%s]", beanName), cause);
+			}
+		}
+		finally {
+			phaseStop.getInvocation(beanName).complete(null);
+		}
+
+		stop.complete(null);
+	}
+
+	// stops the bean after its dependents, as the DefaultLifecycleProcessor does
+	private void stopSequentially(Map<String, Lifecycle> lifecycleBeans, String beanName) {
+
+		Lifecycle bean = lifecycleBeans.get(beanName);
+
+		if (bean != null && bean != this) {
+
+			for (String dependent : resolveBeanFactory().getDependentBeans(beanName)) {
+				stopSequentially(lifecycleBeans, dependent);
+			}
+
+			Lifecycle removedBean = lifecycleBeans.remove(beanName);
+
+			try {
+				if (removedBean != null && removedBean.isRunning()) {
+					removedBean.stop();
+				}
+			}
+			catch (Throwable cause) {
+				if (this.logger.isWarnEnabled()) {
+					this.logger.warn(String.format("Failed to stop bean [%s]", beanName), cause);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Schedules the given beans after the beans they wait on, ignoring circular edges.
+	 *
+	 * @param edges {@link Map} of bean names to the names of the beans they wait on.
+	 * @param scheduler {@link Scheduler} used to schedule a bean after the beans it waits on.
+	 * @return a {@link Map} of bean names to the {@link CompletableFuture} completed when the bean is done.
+	 */
+	private Map<String, CompletableFuture<Void>> schedule(Map<String, Set<String>> edges, Scheduler scheduler) {
+
+		Map<String, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+
+		Set<String> visiting = new HashSet<>();
+
+		for (String beanName : edges.keySet()) {
+			schedule(beanName, edges, scheduler, futures, visiting);
+		}
+
+		return futures;
+	}
+
+	private void schedule(String beanName, Map<String, Set<String>> edges, Scheduler scheduler,
+			Map<String, CompletableFuture<Void>> futures, Set<String> visiting) {
+
+		if (!futures.containsKey(beanName) && visiting.add(beanName)) {
+
+			List<CompletableFuture<Void>> predecessors = new ArrayList<>();
+
+			for (String predecessor : edges.getOrDefault(beanName, Collections.emptySet())) {
+
+				schedule(predecessor, edges, scheduler, futures, visiting);
+
+				// a predecessor still being visited is circular; the edge is ignored
+				if (futures.containsKey(predecessor)) {
+					predecessors.add(futures.get(predecessor));
+				}
+			}
+
+			futures.put(beanName, scheduler.schedule(beanName, predecessors));
+			visiting.remove(beanName);
+		}
+	}
+
+	private List<String> pendingBeanNames(Map<String, CompletableFuture<Void>> futures) {
+
+		return futures.entrySet().stream()
+			.filter(entry -> !entry.getValue().isDone())
+			.map(Map.Entry::getKey)
+			.collect(Collectors.toList());
+	}
+
+	private Map<Integer, List<String>> groupByPhase(Map<String, ? extends Lifecycle> lifecycleBeans,
+			Function<Lifecycle, Boolean> filter) {
+
+		Map<Integer, List<String>> phases = new TreeMap<>();
+
+		lifecycleBeans.forEach((beanName, bean) -> {
+			if (filter.apply(bean)) {
+				phases.computeIfAbsent(getPhase(bean), phase -> new ArrayList<>()).add(beanName);
+			}
+		});
+
+		return phases;
+	}
+
+	private Set<String> resolveDependencies(String beanName) {
+
+		Set<String> dependencies = new LinkedHashSet<>(Arrays.asList(resolveBeanFactory().getDependenciesForBean(beanName)));
+
+		BeanDependencyGraph dependencyGraph = resolveDependencyGraph(resolveBeanFactory());
+
+		if (dependencyGraph != null) {
+			dependencies.addAll(dependencyGraph.getDependencies(beanName));
+		}
+
+		dependencies.remove(beanName);
+
+		return dependencies;
+	}
+
+	private Set<String> resolveDependents(String beanName) {
+
+		Set<String> dependents = new LinkedHashSet<>(Arrays.asList(resolveBeanFactory().getDependentBeans(beanName)));
+
+		BeanDependencyGraph dependencyGraph = resolveDependencyGraph(resolveBeanFactory());
+
+		if (dependencyGraph != null) {
+			dependents.addAll(dependencyGraph.getDependents(beanName));
+		}
+
+		dependents.remove(beanName);
+
+		return dependents;
+	}
+
+	private @Nullable BeanDependencyGraph resolveDependencyGraph(@NonNull ConfigurableListableBeanFactory beanFactory) {
+
+		Object dependencyGraph = beanFactory.containsSingleton(BeanDependencyGraph.BEAN_NAME)
+			? beanFactory.getSingleton(BeanDependencyGraph.BEAN_NAME)
+			: null;
+
+		return dependencyGraph instanceof BeanDependencyGraph ? (BeanDependencyGraph) dependencyGraph : null;
+	}
+
+	/**
+	 * Constructs a new {@link ExecutorService} used to start and stop beans concurrently,
+	 * with daemon {@link Thread Threads}.
+	 *
+	 * @return a new {@link ExecutorService}.
+	 */
+	protected @NonNull ExecutorService newExecutorService() {
+
+		AtomicInteger threadCount = new AtomicInteger(0);
+
+		ThreadFactory threadFactory = runnable -> {
+			Thread thread = new Thread(runnable, "lifecycle-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+
+		return Executors.newFixedThreadPool(getParallelism(), threadFactory);
+	}
+
+	private static final class PhaseStop {
+
+		private final Map<String, Lifecycle> lifecycleBeans;
+
+		// completed when the call to stop the bean returned
+		private final Map<String, CompletableFuture<Void>> invocations = new ConcurrentHashMap<>();
+
+		private final Set<String> triggered = ConcurrentHashMap.newKeySet();
+
+		PhaseStop(Map<String, Lifecycle> lifecycleBeans, Set<String> beanNames) {
+
+			this.lifecycleBeans = lifecycleBeans;
+
+			for (String beanName : beanNames) {
+				this.invocations.put(beanName, new CompletableFuture<>());
+			}
+		}
+
+		CompletableFuture<Void> getInvocation(String beanName) {
+			return this.invocations.computeIfAbsent(beanName, it -> new CompletableFuture<>());
+		}
+
+		boolean trigger(String beanName) {
+			return this.triggered.add(beanName);
+		}
+	}
+
+	@FunctionalInterface
+	private interface Scheduler {
+		CompletableFuture<Void> schedule(String beanName, List<CompletableFuture<Void>> predecessors);
+	}
+}
@@ -0,0 +1,411 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.spring.context.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.cp.elements.lang.Assert;
+import org.cp.elements.util.ArrayUtils;
+import org.cp.extensions.spring.beans.factory.config.BeanInitializationTiming;
+import org.cp.extensions.spring.beans.factory.config.BeanInitializationTimingBeanPostProcessor;
+
+import org.springframework.beans.BeansException;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.env.Environment;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.PatternMatchUtils;
+
+/**
+ * Spring {@link ApplicationListener} enforcing startup time budgets for the creation of individual beans
+ * and for the refresh of the {@link ApplicationContext} as a whole.
+ * <p>
+ * The time spent creating each bean is the {@link BeanInitializationTiming#getSelfDuration() self time}
+ * recorded by the {@link BeanInitializationTimingBeanPostProcessor}, which excludes the time spent creating
+ * the dependencies of the bean. A bean is checked against the first {@link BeanBudget} matching the bean
+ * by {@link String name} or {@link Class type}. The time spent refreshing the {@link ApplicationContext}
+ * is measured from the {@link ApplicationContext#getStartupDate() startup date}.
+ * <p>
+ * Overruns are logged, ranked by the time in excess of the budget, and optionally fail the refresh
+ * with a {@link StartupTimeBudgetExceededException}. Failing the refresh can be enabled, or disabled,
+ * per environment with the {@value #FAIL_ON_OVERRUN_PROPERTY} property.
+ *
+ * @author John Blum
+ * @see org.cp.extensions.spring.beans.factory.config.BeanInitializationTimingBeanPostProcessor
+ * @see org.cp.extensions.spring.context.support.StartupTimeBudgetExceededException
+ * @see org.springframework.context.ApplicationListener
+ * @see org.springframework.context.event.ContextRefreshedEvent
+ * @since 0.1.0
+ */
+public class StartupTimeBudgetEnforcer implements ApplicationListener<ContextRefreshedEvent>,
+		ApplicationContextAware, EnvironmentAware {
+
+	public static final String FAIL_ON_OVERRUN_PROPERTY =
+		"codeprimate.extensions.spring.startup.budgets.fail-on-overrun";
+
+	protected static final String TOTAL_REFRESH = "total refresh";
+
+	private volatile ApplicationContext applicationContext;
+
+	private final BeanInitializationTimingBeanPostProcessor beanTimings;
+
+	private boolean failOnOverrun;
+
+	private Duration totalBudget;
+
+	private final List<BeanBudget> beanBudgets = new ArrayList<>();
+
+	private volatile List<Overrun> overruns = Collections.emptyList();
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	/**
+	 * Constructs a new {@link StartupTimeBudgetEnforcer} checking the bean creation times recorded by the given,
+	 * required {@link BeanInitializationTimingBeanPostProcessor}.
+	 *
+	 * @param beanTimings {@link BeanInitializationTimingBeanPostProcessor} recording the bean creation times;
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link BeanInitializationTimingBeanPostProcessor} is {@literal null}.
+	 */
+	public StartupTimeBudgetEnforcer(@NonNull BeanInitializationTimingBeanPostProcessor beanTimings) {
+
+		Assert.notNull(beanTimings, "BeanInitializationTimingBeanPostProcessor is required");
+
+		this.beanTimings = beanTimings;
+	}
+
+	@Override
+	public void setApplicationContext(@NonNull ApplicationContext applicationContext) throws BeansException {
+		this.applicationContext = applicationContext;
+	}
+
+	@Override
+	public void setEnvironment(@NonNull Environment environment) {
+		this.failOnOverrun = environment.getProperty(FAIL_ON_OVERRUN_PROPERTY, Boolean.class, this.failOnOverrun);
+	}
+
+	/**
+	 * Adds the given {@link BeanBudget BeanBudgets}, checked in order after any previously added budgets.
+	 *
+	 * @param beanBudgets array of {@link BeanBudget BeanBudgets} to add.
+	 * @return this {@link StartupTimeBudgetEnforcer}.
+	 * @see BeanBudget
+	 */
+	public @NonNull StartupTimeBudgetEnforcer withBeanBudgets(BeanBudget... beanBudgets) {
+
+		Arrays.stream(ArrayUtils.nullSafeArray(beanBudgets, BeanBudget.class))
+			.filter(beanBudget -> beanBudget != null)
+			.forEach(this.beanBudgets::add);
+
+		return this;
+	}
+
+	/**
+	 * Configures the budget for the total time spent refreshing the {@link ApplicationContext}.
+	 *
+	 * @param totalBudget {@link Duration} of the budget; {@literal null} for no budget.
+	 * @return this {@link StartupTimeBudgetEnforcer}.
+	 */
+	public @NonNull StartupTimeBudgetEnforcer withTotalBudget(@Nullable Duration totalBudget) {
+		this.totalBudget = totalBudget;
+		return this;
+	}
+
+	/**
+	 * Configures whether overruns fail the refresh of the {@link ApplicationContext}.
+	 * <p>
+	 * The {@value #FAIL_ON_OVERRUN_PROPERTY} property, when set, takes precedence.
+	 *
+	 * @param failOnOverrun boolean value indicating whether overruns fail the refresh.
+	 * @return this {@link StartupTimeBudgetEnforcer}.
+	 */
+	public @NonNull StartupTimeBudgetEnforcer failOnOverrun(boolean failOnOverrun) {
+		this.failOnOverrun = failOnOverrun;
+		return this;
+	}
+
+	/**
+	 * Returns the configured {@link BeanBudget BeanBudgets}, in order.
+	 *
+	 * @return the configured {@link BeanBudget BeanBudgets}.
+	 */
+	public @NonNull List<BeanBudget> getBeanBudgets() {
+		return Collections.unmodifiableList(this.beanBudgets);
+	}
+
+	/**
+	 * Returns the budget for the total time spent refreshing the {@link ApplicationContext}.
+	 *
+	 * @return the {@link Optional} budget for the total refresh time.
+	 */
+	public Optional<Duration> getTotalBudget() {
+		return Optional.ofNullable(this.totalBudget);
+	}
+
+	/**
+	 * Returns the {@link Overrun Overruns} found at the end of the last refresh, ranked by the time
+	 * in excess of the budget, largest first.
+	 *
+	 * @return the {@link Overrun Overruns} found at the end of the last refresh.
+	 */
+	public @NonNull List<Overrun> getOverruns() {
+		return this.overruns;
+	}
+
+	/**
+	 * Determines whether overruns fail the refresh of the {@link ApplicationContext}.
+	 *
+	 * @return a boolean value indicating whether overruns fail the refresh.
+	 */
+	public boolean isFailOnOverrun() {
+		return this.failOnOverrun;
+	}
+
+	@Override
+	public void onApplicationEvent(@NonNull ContextRefreshedEvent event) {
+
+		ApplicationContext applicationContext = event.getApplicationContext();
+
+		// ignore events propagated from child ApplicationContexts
+		if (this.applicationContext == null || this.applicationContext == applicationContext) {
+
+			List<Overrun> overruns = findOverruns(applicationContext);
+
+			this.overruns = overruns;
+
+			if (!overruns.isEmpty()) {
+
+				String report = report(overruns);
+
+				if (isFailOnOverrun()) {
+					throw new StartupTimeBudgetExceededException(report, overruns);
+				}
+
+				if (this.logger.isWarnEnabled()) {
+					this.logger.warn(report);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Finds the beans, and the refresh, that exceeded their budgets.
+	 *
+	 * @param applicationContext refreshed {@link ApplicationContext}.
+	 * @return the {@link Overrun Overruns}, ranked by the time in excess of the budget, largest first.
+	 */
+	protected @NonNull List<Overrun> findOverruns(@NonNull ApplicationContext applicationContext) {
+
+		List<Overrun> overruns = new ArrayList<>();
+
+		if (!this.beanBudgets.isEmpty()) {
+			for (BeanInitializationTiming timing : this.beanTimings.getBeanTimings()) {
+				for (BeanBudget beanBudget : this.beanBudgets) {
+					if (beanBudget.matches(applicationContext, timing.getBeanName())) {
+						if (timing.getSelfDuration().compareTo(beanBudget.getBudget()) > 0) {
+							overruns.add(new Overrun(timing.getBeanName(), timing.getSelfDuration(),
+								beanBudget.getBudget()));
+						}
+						break;
+					}
+				}
+			}
+		}
+
+		Duration totalBudget = this.totalBudget;
+
+		if (totalBudget != null) {
+
+			Duration total = Duration.ofMillis(System.currentTimeMillis() - applicationContext.getStartupDate());
+
+			if (total.compareTo(totalBudget) > 0) {
+				overruns.add(new Overrun(TOTAL_REFRESH, total, totalBudget));
+			}
+		}
+
+		overruns.sort(Comparator.comparing(Overrun::getExcess).reversed());
+
+		return Collections.unmodifiableList(overruns);
+	}
+
+	/**
+	 * Formats the ranked {@link Overrun Overruns} as a report.
+	 *
+	 * @param overruns ranked {@link List} of {@link Overrun Overruns}.
+	 * @return the formatted report.
+	 */
+	protected @NonNull String report(@NonNull List<Overrun> overruns) {
+
+		StringBuilder report = new StringBuilder(String.format("Startup time budgets exceeded [%d]:", overruns.size()));
+
+		for (int index = 0; index < overruns.size(); index++) {
+			report.append(String.format("%n  %d. %s", index + 1, overruns.get(index)));
+		}
+
+		return report.toString();
+	}
+
+	/**
+	 * Budget for the time spent creating beans matching any of the configured bean name patterns or types.
+	 * <p>
+	 * Bean name patterns are simple patterns supporting {@literal *} wildcards.
+	 *
+	 * @see org.springframework.util.PatternMatchUtils#simpleMatch(String[], String)
+	 */
+	public static class BeanBudget {
+
+		/**
+		 * Factory method used to construct a new {@link BeanBudget} for beans with names matching
+		 * any of the given patterns.
+		 *
+		 * @param budget {@link Duration} of the budget; must not be {@literal null} or negative.
+		 * @param beanNamePatterns array of bean name patterns.
+		 * @return a new {@link BeanBudget}.
+		 * @throws IllegalArgumentException if the {@link Duration} is {@literal null} or negative.
+		 */
+		public static @NonNull BeanBudget forBeansNamed(@NonNull Duration budget, String... beanNamePatterns) {
+			return new BeanBudget(budget, beanNamePatterns, null);
+		}
+
+		/**
+		 * Factory method used to construct a new {@link BeanBudget} for beans assignable to any of the given types.
+		 *
+		 * @param budget {@link Duration} of the budget; must not be {@literal null} or negative.
+		 * @param beanTypes array of bean {@link Class types}.
+		 * @return a new {@link BeanBudget}.
+		 * @throws IllegalArgumentException if the {@link Duration} is {@literal null} or negative.
+		 */
+		public static @NonNull BeanBudget forBeansOfType(@NonNull Duration budget, Class<?>... beanTypes) {
+			return new BeanBudget(budget, null, beanTypes);
+		}
+
+		private final Class<?>[] beanTypes;
+
+		private final Duration budget;
+
+		private final String[] beanNamePatterns;
+
+		/**
+		 * Constructs a new {@link BeanBudget} for beans matching any of the given bean name patterns or types.
+		 *
+		 * @param budget {@link Duration} of the budget; must not be {@literal null} or negative.
+		 * @param beanNamePatterns array of bean name patterns.
+		 * @param beanTypes array of bean {@link Class types}.
+		 * @throws IllegalArgumentException if the {@link Duration} is {@literal null} or negative.
+		 */
+		public BeanBudget(@NonNull Duration budget, @Nullable String[] beanNamePatterns,
+				@Nullable Class<?>[] beanTypes) {
+
+			Assert.notNull(budget, "Duration of the budget is required");
+			Assert.isTrue(!budget.isNegative(), "Duration of the budget [%s] must not be negative", budget);
+
+			this.budget = budget;
+			this.beanNamePatterns = ArrayUtils.nullSafeArray(beanNamePatterns, String.class).clone();
+			this.beanTypes = ArrayUtils.nullSafeArray(beanTypes, Class.class).clone();
+		}
+
+		public @NonNull Duration getBudget() {
+			return this.budget;
+		}
+
+		/**
+		 * Determines whether the named bean in the given {@link ApplicationContext} is subject to this budget.
+		 *
+		 * @param applicationContext {@link ApplicationContext} containing the bean.
+		 * @param beanName {@link String} containing the {@literal name} of the bean.
+		 * @return a boolean value indicating whether the bean is subject to this budget.
+		 */
+		public boolean matches(@NonNull ApplicationContext applicationContext, @NonNull String beanName) {
+
+			if (PatternMatchUtils.simpleMatch(this.beanNamePatterns, beanName)) {
+				return true;
+			}
+
+			if (this.beanTypes.length > 0 && applicationContext.containsBean(beanName)) {
+
+				Class<?> beanType = applicationContext.getType(beanName, false);
+
+				return beanType != null
+					&& Arrays.stream(this.beanTypes).anyMatch(type -> type.isAssignableFrom(beanType));
+			}
+
+			return false;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%s[names=%s, types=%s, budget=%dms]", getClass().getSimpleName(),
+				Arrays.toString(this.beanNamePatterns), Arrays.toString(this.beanTypes), getBudget().toMillis());
+		}
+	}
+
+	/**
+	 * Time spent creating a bean, or refreshing the {@link ApplicationContext}, in excess of the budget.
+	 */
+	public static class Overrun {
+
+		private final Duration budget;
+		private final Duration duration;
+
+		private final String name;
+
+		protected Overrun(@NonNull String name, @NonNull Duration duration, @NonNull Duration budget) {
+			this.name = name;
+			this.duration = duration;
+			this.budget = budget;
+		}
+
+		/**
+		 * Returns the {@link String name} of the bean, or {@literal total refresh}.
+		 *
+		 * @return the {@link String name} of the bean, or {@literal total refresh}.
+		 */
+		public @NonNull String getName() {
+			return this.name;
+		}
+
+		public @NonNull Duration getBudget() {
+			return this.budget;
+		}
+
+		public @NonNull Duration getDuration() {
+			return this.duration;
+		}
+
+		public @NonNull Duration getExcess() {
+			return getDuration().minus(getBudget());
+		}
+
+		@Override
+		public String toString() {
+			return String.format("[%s] took [%dms]; budget [%dms]; over by [%dms]", getName(),
+				getDuration().toMillis(), getBudget().toMillis(), getExcess().toMillis());
+		}
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.spring.context.support;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.cp.extensions.spring.context.support.StartupTimeBudgetEnforcer.Overrun;
+
+import org.springframework.context.ApplicationContextException;
+import org.springframework.lang.NonNull;
+
+/**
+ * {@link ApplicationContextException} thrown to fail the refresh of an
+ * {@link org.springframework.context.ApplicationContext} when startup time budgets are exceeded.
+ *
+ * @author John Blum
+ * @see org.cp.extensions.spring.context.support.StartupTimeBudgetEnforcer
+ * @see org.springframework.context.ApplicationContextException
+ * @since 0.1.0
+ */
+@SuppressWarnings("unused")
+public class StartupTimeBudgetExceededException extends ApplicationContextException {
+
+	private final transient List<Overrun> overruns;
+
+	/**
+	 * Constructs a new {@link StartupTimeBudgetExceededException} initialized with the given message
+	 * and ranked {@link List} of {@link Overrun Overruns}.
+	 *
+	 * @param message {@link String} describing the overruns.
+	 * @param overruns ranked {@link List} of {@link Overrun Overruns}.
+	 */
+	public StartupTimeBudgetExceededException(String message, @NonNull List<Overrun> overruns) {
+		super(message);
+		this.overruns = Collections.unmodifiableList(overruns);
+	}
+
+	/**
+	 * Returns the {@link Overrun Overruns} ranked by the time in excess of the budget, largest first.
+	 *
+	 * @return the ranked {@link List} of {@link Overrun Overruns}.
+	 */
+	public @NonNull List<Overrun> getOverruns() {
+		return this.overruns;
+	}
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.spring.beans.factory.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.extensions.spring.beans.factory.config.BeanDependencyGraph.Provenance;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.mock.env.MockEnvironment;
+
+/**
+ * Unit Tests for {@link BeanClassPreloadingBeanFactoryPostProcessor}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.extensions.spring.beans.factory.config.BeanClassPreloadingBeanFactoryPostProcessor
+ * @since 0.1.0
+ */
+public class BeanClassPreloadingBeanFactoryPostProcessorUnitTests {
+
+	private static final Set<String> INITIALIZED_CLASS_NAMES = ConcurrentHashMap.newKeySet();
+
+	private static RootBeanDefinition newBeanDefinition(String beanClassName, String... dependsOn) {
+
+		RootBeanDefinition beanDefinition = new RootBeanDefinition();
+
+		beanDefinition.setBeanClassName(beanClassName);
+		beanDefinition.setDependsOn(dependsOn);
+
+		return beanDefinition;
+	}
+
+	@Test
+	void resolvesClassNamesInDependencyOrder() {
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+		beanFactory.registerBeanDefinition("service", newBeanDefinition("example.Service", "repository"));
+		beanFactory.registerBeanDefinition("repository", newBeanDefinition("example.Repository", "dataSource"));
+		beanFactory.registerBeanDefinition("dataSource", newBeanDefinition("example.DataSource"));
+		beanFactory.registerBeanDefinition("cache", newBeanDefinition("example.Cache"));
+		beanFactory.registerBeanDefinition("client", newBeanDefinition("example.Service"));
+
+		BeanClassPreloadingBeanFactoryPostProcessor beanFactoryPostProcessor =
+			new BeanClassPreloadingBeanFactoryPostProcessor();
+
+		assertThat(beanFactoryPostProcessor.resolveClassNames(beanFactory,
+				beanFactoryPostProcessor.resolveDependencyGraph(beanFactory)))
+			.containsExactly("example.DataSource", "example.Cache", "example.Service", "example.Repository");
+	}
+
+	@Test
+	void resolvesClassNamesUsingRegisteredDependencyGraph() {
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+		beanFactory.registerBeanDefinition("service", newBeanDefinition("example.Service"));
+		beanFactory.registerBeanDefinition("cache", newBeanDefinition("example.Cache"));
+		beanFactory.registerSingleton(BeanDependencyGraph.BEAN_NAME, BeanDependencyGraph.builder()
+			.addDependency("service", "cache", Provenance.DEPENDENCY_OF)
+			.build());
+
+		BeanClassPreloadingBeanFactoryPostProcessor beanFactoryPostProcessor =
+			new BeanClassPreloadingBeanFactoryPostProcessor();
+
+		assertThat(beanFactoryPostProcessor.resolveClassNames(beanFactory,
+				beanFactoryPostProcessor.resolveDependencyGraph(beanFactory)))
+			.containsExactly("example.Cache", "example.Service");
+	}
+
+	@Test
+	void resolvesClassNamesOfBeansInDependencyCycle() {
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+		beanFactory.registerBeanDefinition("one", newBeanDefinition("example.One", "two"));
+		beanFactory.registerBeanDefinition("two", newBeanDefinition("example.Two", "one"));
+		beanFactory.registerBeanDefinition("three", newBeanDefinition("example.Three"));
+
+		BeanClassPreloadingBeanFactoryPostProcessor beanFactoryPostProcessor =
+			new BeanClassPreloadingBeanFactoryPostProcessor();
+
+		assertThat(beanFactoryPostProcessor.resolveClassNames(beanFactory,
+				beanFactoryPostProcessor.resolveDependencyGraph(beanFactory)))
+			.containsExactly("example.Three", "example.One", "example.Two");
+	}
+
+	@Test
+	void preloadsAndInitializesBeanClassesInBackgroundWhenEnabled() throws Exception {
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+		beanFactory.registerBeanDefinition("preloaded", newBeanDefinition(PreloadedBean.class.getName()));
+		beanFactory.registerBeanDefinition("missing", newBeanDefinition("example.MissingBean"));
+
+		BeanClassPreloadingBeanFactoryPostProcessor beanFactoryPostProcessor =
+			new BeanClassPreloadingBeanFactoryPostProcessor();
+
+		beanFactoryPostProcessor.setInitializationEnabled(true);
+		beanFactoryPostProcessor.postProcessBeanFactory(beanFactory);
+		beanFactoryPostProcessor.getPreloading().get(5L, TimeUnit.SECONDS);
+
+		assertThat(INITIALIZED_CLASS_NAMES).contains(PreloadedBean.class.getName());
+		assertThat(beanFactoryPostProcessor.getPreloadedClassNames()).containsExactly(PreloadedBean.class.getName());
+	}
+
+	@Test
+	void preloadsBeanClassesWithCyclicStaticInitializationWithoutInitializingThemByDefault() throws Exception {
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+		beanFactory.registerBeanDefinition("one", newBeanDefinition(CyclicallyInitializedBeanOne.class.getName()));
+		beanFactory.registerBeanDefinition("two", newBeanDefinition(CyclicallyInitializedBeanTwo.class.getName()));
+
+		BeanClassPreloadingBeanFactoryPostProcessor beanFactoryPostProcessor =
+			new BeanClassPreloadingBeanFactoryPostProcessor();
+
+		beanFactoryPostProcessor.setParallelism(2);
+		beanFactoryPostProcessor.postProcessBeanFactory(beanFactory);
+		beanFactoryPostProcessor.getPreloading().get(5L, TimeUnit.SECONDS);
+
+		assertThat(beanFactoryPostProcessor.isInitializationEnabled()).isFalse();
+		assertThat(beanFactoryPostProcessor.getPreloadedClassNames())
+			.containsExactlyInAnyOrder(CyclicallyInitializedBeanOne.class.getName(),
+				CyclicallyInitializedBeanTwo.class.getName());
+		assertThat(INITIALIZED_CLASS_NAMES).doesNotContain(CyclicallyInitializedBeanOne.class.getName(),
+			CyclicallyInitializedBeanTwo.class.getName());
+
+		// the static initializers then run on the refresh Thread, as without preloading
+		assertThat(CyclicallyInitializedBeanOne.NAME).isEqualTo("one");
+		assertThat(INITIALIZED_CLASS_NAMES).contains(CyclicallyInitializedBeanOne.class.getName(),
+			CyclicallyInitializedBeanTwo.class.getName());
+	}
+
+	@Test
+	void configuresInitializationFromEnvironment() {
+
+		BeanClassPreloadingBeanFactoryPostProcessor beanFactoryPostProcessor =
+			new BeanClassPreloadingBeanFactoryPostProcessor();
+
+		assertThat(beanFactoryPostProcessor.isInitializationEnabled()).isFalse();
+
+		beanFactoryPostProcessor.setEnvironment(new MockEnvironment()
+			.withProperty(BeanClassPreloadingBeanFactoryPostProcessor.INITIALIZATION_ENABLED_PROPERTY, "true"));
+
+		assertThat(beanFactoryPostProcessor.isInitializationEnabled()).isTrue();
+	}
+
+	@Test
+	void configuresParallelismFromEnvironment() {
+
+		BeanClassPreloadingBeanFactoryPostProcessor beanFactoryPostProcessor =
+			new BeanClassPreloadingBeanFactoryPostProcessor();
+
+		beanFactoryPostProcessor.setEnvironment(new MockEnvironment()
+			.withProperty(BeanClassPreloadingBeanFactoryPostProcessor.PARALLELISM_PROPERTY, "3"));
+
+		assertThat(beanFactoryPostProcessor.getParallelism()).isEqualTo(3);
+
+		beanFactoryPostProcessor.setEnvironment(new MockEnvironment());
+
+		assertThat(beanFactoryPostProcessor.getParallelism()).isEqualTo(3);
+	}
+
+	@Test
+	void setParallelismToZeroThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new BeanClassPreloadingBeanFactoryPostProcessor().setParallelism(0))
+			.withMessage("Parallelism [0] must be greater than 0")
+			.withNoCause();
+	}
+
+	static class PreloadedBean {
+
+		static {
+			INITIALIZED_CLASS_NAMES.add(PreloadedBean.class.getName());
+		}
+	}
+
+	// the static initializers of one and two use each other
+	static class CyclicallyInitializedBeanOne {
+
+		static final String NAME;
+
+		static {
+			INITIALIZED_CLASS_NAMES.add(CyclicallyInitializedBeanOne.class.getName());
+			NAME = CyclicallyInitializedBeanTwo.NAME != null ? "one" : "none";
+		}
+	}
+
+	static class CyclicallyInitializedBeanTwo {
+
+		static final String NAME;
+
+		static {
+			INITIALIZED_CLASS_NAMES.add(CyclicallyInitializedBeanTwo.class.getName());
+			NAME = String.valueOf(CyclicallyInitializedBeanOne.NAME);
+		}
+	}
+}
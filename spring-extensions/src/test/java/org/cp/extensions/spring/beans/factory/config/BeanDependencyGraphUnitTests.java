@@ -0,0 +1,212 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.spring.beans.factory.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.extensions.spring.beans.factory.config.BeanDependencyGraph.Provenance;
+
+/**
+ * Unit Tests for {@link BeanDependencyGraph}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.extensions.spring.beans.factory.config.BeanDependencyGraph
+ * @since 0.1.0
+ */
+public class BeanDependencyGraphUnitTests {
+
+	private static BeanDependencyGraph newDependencyGraph() {
+
+		return BeanDependencyGraph.builder()
+			.addBean("dataSource")
+			.addDependency("repository", "dataSource", Provenance.DEPENDS_ON)
+			.addDependency("service", "repository", Provenance.DEPENDS_ON)
+			.addDependency("cache", "dataSource", Provenance.DEPENDENCY_OF)
+			.addDependency("service", "cache", Provenance.DEPENDENCY_OF)
+			.addDependency("service", "cache", Provenance.DEPENDENCY_OF)
+			.addBean("standalone")
+			.build();
+	}
+
+	@Test
+	void keepsEdgesOfAllProvenancesFromTheSameBean() {
+
+		BeanDependencyGraph dependencyGraph = BeanDependencyGraph.builder()
+			.addBean("x")
+			.addBean("y")
+			.addDependency("a", "y", Provenance.DEPENDS_ON)
+			.addDependency("a", "x", Provenance.ASYNC_DEPENDENCY_OF)
+			.addDependency("a", "y", Provenance.DEPENDENCY_OF)
+			.addDependency("a", "y", Provenance.ASYNC_DEPENDENCY_OF)
+			.addDependency("a", "x", Provenance.ASYNC_DEPENDENCY_OF)
+			.build();
+
+		List<String> edges = new ArrayList<>();
+
+		dependencyGraph.forEachEdge((beanName, dependencyName, provenance) ->
+			edges.add(beanName + " -> " + dependencyName + " " + provenance));
+
+		assertThat(dependencyGraph.getEdgeCount()).isEqualTo(4);
+		assertThat(edges).containsExactly("a -> y DEPENDS_ON", "a -> x ASYNC_DEPENDENCY_OF", "a -> y DEPENDENCY_OF",
+			"a -> y ASYNC_DEPENDENCY_OF");
+	}
+
+	@Test
+	void listsAndCountsDependenciesDeclaredWithDifferentProvenancesOnce() {
+
+		BeanDependencyGraph dependencyGraph = BeanDependencyGraph.builder()
+			.addDependency("service", "repository", Provenance.DEPENDS_ON)
+			.addDependency("service", "repository", Provenance.DEPENDENCY_OF)
+			.addDependency("service", "cache", Provenance.DEPENDENCY_OF)
+			.addDependency("client", "repository", Provenance.ASYNC_DEPENDENCY_OF)
+			.addDependency("client", "repository", Provenance.DEPENDS_ON)
+			.build();
+
+		assertThat(dependencyGraph.getEdgeCount()).isEqualTo(5);
+		assertThat(dependencyGraph.getDependencies("service")).containsExactly("repository", "cache");
+		assertThat(dependencyGraph.getDependents("repository")).containsExactly("service", "client");
+		assertThat(dependencyGraph.getFanOut("service")).isEqualTo(2);
+		assertThat(dependencyGraph.getFanOut("client")).isEqualTo(1);
+		assertThat(dependencyGraph.getFanIn("repository")).isEqualTo(2);
+		assertThat(dependencyGraph.getHighestFanIn(1)).containsExactly("repository");
+		assertThat(dependencyGraph.toJson()).contains(
+			"{\"from\":\"service\",\"to\":\"repository\",\"provenance\":\"DEPENDS_ON\"}",
+			"{\"from\":\"service\",\"to\":\"repository\",\"provenance\":\"DEPENDENCY_OF\"}");
+	}
+
+	@Test
+	void buildsIndexedGraph() {
+
+		BeanDependencyGraph dependencyGraph = newDependencyGraph();
+
+		assertThat(dependencyGraph.getBeanCount()).isEqualTo(5);
+		assertThat(dependencyGraph.getEdgeCount()).isEqualTo(4);
+		assertThat(dependencyGraph.getBeanNames())
+			.containsExactly("dataSource", "repository", "service", "cache", "standalone");
+		assertThat(dependencyGraph.indexOf("service")).hasValue(2);
+		assertThat(dependencyGraph.indexOf("unknown")).isEmpty();
+		assertThat(dependencyGraph.indexOf(null)).isEmpty();
+		assertThat(dependencyGraph.getBeanName(3)).isEqualTo("cache");
+		assertThat(dependencyGraph.contains("standalone")).isTrue();
+		assertThat(dependencyGraph.contains("unknown")).isFalse();
+		assertThat(dependencyGraph).hasToString("BeanDependencyGraph[beans=5, edges=4]");
+	}
+
+	@Test
+	void queriesDependenciesAndDependents() {
+
+		BeanDependencyGraph dependencyGraph = newDependencyGraph();
+
+		assertThat(dependencyGraph.getDependencies("service")).containsExactly("repository", "cache");
+		assertThat(dependencyGraph.getDependencies("dataSource")).isEmpty();
+		assertThat(dependencyGraph.getDependencies("unknown")).isEmpty();
+		assertThat(dependencyGraph.getDependents("dataSource")).containsExactly("repository", "cache");
+		assertThat(dependencyGraph.getDependents("service")).isEmpty();
+	}
+
+	@Test
+	void queriesFanInAndFanOut() {
+
+		BeanDependencyGraph dependencyGraph = newDependencyGraph();
+
+		assertThat(dependencyGraph.getFanIn("dataSource")).isEqualTo(2);
+		assertThat(dependencyGraph.getFanOut("service")).isEqualTo(2);
+		assertThat(dependencyGraph.getFanIn("standalone")).isZero();
+		assertThat(dependencyGraph.getFanOut(null)).isZero();
+		assertThat(dependencyGraph.getHighestFanIn(1)).containsExactly("dataSource");
+		assertThat(dependencyGraph.getHighestFanOut(1)).containsExactly("service");
+		assertThat(dependencyGraph.getHighestFanIn(10)).hasSize(5);
+		assertThat(dependencyGraph.getHighestFanIn(-1)).isEmpty();
+	}
+
+	@Test
+	void visitsEdgesWithProvenance() {
+
+		List<String> edges = new ArrayList<>();
+
+		newDependencyGraph().forEachEdge((beanName, dependencyName, provenance) ->
+			edges.add(String.format("%s->%s:%s", beanName, dependencyName, provenance)));
+
+		assertThat(edges).containsExactly("repository->dataSource:DEPENDS_ON", "service->repository:DEPENDS_ON",
+			"service->cache:DEPENDENCY_OF", "cache->dataSource:DEPENDENCY_OF");
+	}
+
+	@Test
+	void exportsDot() {
+
+		assertThat(newDependencyGraph().toDot())
+			.startsWith("digraph beans {\n")
+			.contains("  \"standalone\";\n")
+			.contains("  \"repository\" -> \"dataSource\";\n")
+			.contains("  \"cache\" -> \"dataSource\" [style=dashed, label=\"@DependencyOf\"];\n")
+			.endsWith("}\n");
+	}
+
+	@Test
+	void exportsJson() {
+
+		BeanDependencyGraph dependencyGraph = BeanDependencyGraph.builder()
+			.addDependency("a\"b", "c\\d", Provenance.DEPENDS_ON)
+			.addBean("e\n")
+			.build();
+
+		assertThat(dependencyGraph.toJson()).isEqualTo("{\"beans\":[\"a\\\"b\",\"c\\\\d\",\"e\\u000a\"],"
+			+ "\"edges\":[{\"from\":\"a\\\"b\",\"to\":\"c\\\\d\",\"provenance\":\"DEPENDS_ON\"}]}");
+		assertThat(BeanDependencyGraph.builder().build().toJson()).isEqualTo("{\"beans\":[],\"edges\":[]}");
+	}
+
+	@Test
+	void buildsLargeGraph() {
+
+		BeanDependencyGraph.Builder builder = BeanDependencyGraph.builder();
+
+		for (int index = 1; index < 10000; index++) {
+			builder.addDependency("bean" + index, "bean" + (index / 2), Provenance.DEPENDS_ON);
+		}
+
+		BeanDependencyGraph dependencyGraph = builder.build();
+
+		assertThat(dependencyGraph.getBeanCount()).isEqualTo(10000);
+		assertThat(dependencyGraph.getEdgeCount()).isEqualTo(9999);
+		assertThat(dependencyGraph.getDependents("bean1")).containsExactly("bean2", "bean3");
+		assertThat(dependencyGraph.getDependencies("bean9999")).containsExactly("bean4999");
+	}
+
+	@Test
+	void addBeanWithNoName() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> BeanDependencyGraph.builder().addBean("  "))
+			.withMessage("Bean name [  ] is required")
+			.withNoCause();
+	}
+
+	@Test
+	void addDependencyWithNullProvenance() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> BeanDependencyGraph.builder().addDependency("a", "b", null))
+			.withMessage("Provenance is required")
+			.withNoCause();
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.spring.beans.factory.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit Tests for {@link BeanInitializationCriticalPath}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.extensions.spring.beans.factory.config.BeanInitializationCriticalPath
+ * @since 0.1.0
+ */
+public class BeanInitializationCriticalPathUnitTests {
+
+	private static Map<String, Duration> durations(Object... beanNamesAndMillis) {
+
+		Map<String, Duration> durations = new LinkedHashMap<>();
+
+		for (int index = 0; index < beanNamesAndMillis.length; index += 2) {
+			durations.put(String.valueOf(beanNamesAndMillis[index]),
+				Duration.ofMillis(((Number) beanNamesAndMillis[index + 1]).longValue()));
+		}
+
+		return durations;
+	}
+
+	private static Function<String, Collection<String>> dependencies(String... beanNameAndDependencies) {
+
+		Map<String, Collection<String>> dependencies = new HashMap<>();
+
+		for (String beanNameAndDependency : beanNameAndDependencies) {
+			String[] beanNames = beanNameAndDependency.split("->");
+			dependencies.put(beanNames[0].trim(), Arrays.asList(beanNames[1].trim().split(",")));
+		}
+
+		return beanName -> dependencies.getOrDefault(beanName, Collections.emptyList());
+	}
+
+	@Test
+	void analyzeDependencyChain() {
+
+		// C depends on B depends on A; D is independent
+		BeanInitializationCriticalPath criticalPath = BeanInitializationCriticalPath.analyze(
+			durations("A", 100, "B", 50, "C", 25, "D", 10), dependencies("B -> A", "C -> B"));
+
+		assertThat(criticalPath.getBeanNames()).containsExactly("A", "B", "C");
+		assertThat(criticalPath.getDuration()).isEqualTo(Duration.ofMillis(175));
+		assertThat(criticalPath.isCritical("A")).isTrue();
+		assertThat(criticalPath.isCritical("D")).isFalse();
+		assertThat(criticalPath.getSlack("A")).hasValue(Duration.ZERO);
+		assertThat(criticalPath.getSlack("C")).hasValue(Duration.ZERO);
+		assertThat(criticalPath.getSlack("D")).hasValue(Duration.ofMillis(165));
+		assertThat(criticalPath.getSlacks()).containsOnlyKeys("A", "B", "C", "D");
+		assertThat(criticalPath).hasToString("Critical path [175ms]: A -> B -> C");
+	}
+
+	@Test
+	void analyzeDiamondDependencies() {
+
+		// D depends on B and C, which both depend on A
+		BeanInitializationCriticalPath criticalPath = BeanInitializationCriticalPath.analyze(
+			durations("A", 10, "B", 20, "C", 50, "D", 5), dependencies("B -> A", "C -> A", "D -> B,C"));
+
+		assertThat(criticalPath.getBeanNames()).containsExactly("A", "C", "D");
+		assertThat(criticalPath.getDuration()).isEqualTo(Duration.ofMillis(65));
+		assertThat(criticalPath.getSlack("B")).hasValue(Duration.ofMillis(30));
+		assertThat(criticalPath.getSlack("C")).hasValue(Duration.ZERO);
+	}
+
+	@Test
+	void analyzeIgnoresCircularAndUnknownDependencies() {
+
+		BeanInitializationCriticalPath criticalPath = BeanInitializationCriticalPath.analyze(
+			durations("A", 10, "B", 20), dependencies("A -> B,X", "B -> A,B"));
+
+		assertThat(criticalPath.getBeanNames()).containsExactly("B", "A");
+		assertThat(criticalPath.getDuration()).isEqualTo(Duration.ofMillis(30));
+		assertThat(criticalPath.getSlack("X")).isNotPresent();
+	}
+
+	@Test
+	void analyzeNullDependencies() {
+
+		BeanInitializationCriticalPath criticalPath =
+			BeanInitializationCriticalPath.analyze(durations("A", 10, "B", 20), beanName -> null);
+
+		assertThat(criticalPath.getBeanNames()).containsExactly("B");
+		assertThat(criticalPath.getSlack("A")).hasValue(Duration.ofMillis(10));
+	}
+
+	@Test
+	void analyzeNoBeans() {
+
+		BeanInitializationCriticalPath criticalPath =
+			BeanInitializationCriticalPath.analyze(Collections.emptyMap(), beanName -> Collections.emptyList());
+
+		assertThat(criticalPath.getBeanNames()).isEmpty();
+		assertThat(criticalPath.getDuration()).isEqualTo(Duration.ZERO);
+		assertThat(criticalPath.getSlack(null)).isNotPresent();
+	}
+
+	@Test
+	void analyzeWithNullArguments() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> BeanInitializationCriticalPath.analyze(null, beanName -> Collections.emptyList()))
+			.withMessage("Map of bean names to Durations is required")
+			.withNoCause();
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> BeanInitializationCriticalPath.analyze(Collections.emptyMap(), null))
+			.withMessage("Function used to resolve bean dependencies is required")
+			.withNoCause();
+	}
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.spring.beans.factory.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.mock.env.MockEnvironment;
+
+/**
+ * Unit Tests for {@link BeanInitializationTimingBeanPostProcessor}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.extensions.spring.beans.factory.config.BeanInitializationTimingBeanPostProcessor
+ * @since 0.1.0
+ */
+public class BeanInitializationTimingBeanPostProcessorUnitTests {
+
+	private static void sleep(long milliseconds) {
+
+		try {
+			TimeUnit.MILLISECONDS.sleep(milliseconds);
+		}
+		catch (InterruptedException ignore) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Test
+	void hasHighestPrecedence() {
+		assertThat(new BeanInitializationTimingBeanPostProcessor().getOrder()).isEqualTo(Ordered.HIGHEST_PRECEDENCE);
+	}
+
+	@Test
+	void logsCriticalPathOnlyWhenEnabled() {
+
+		BeanInitializationTimingBeanPostProcessor beanPostProcessor = new BeanInitializationTimingBeanPostProcessor();
+
+		assertThat(beanPostProcessor.isCriticalPathAnalysisEnabled()).isTrue();
+		assertThat(beanPostProcessor.isCriticalPathLoggingEnabled()).isFalse();
+
+		beanPostProcessor.setEnvironment(new MockEnvironment()
+			.withProperty(BeanInitializationTimingBeanPostProcessor.CRITICAL_PATH_LOGGING_ENABLED_PROPERTY, "true"));
+
+		assertThat(beanPostProcessor.isCriticalPathLoggingEnabled()).isTrue();
+
+		beanPostProcessor.setCriticalPathLoggingEnabled(false);
+
+		assertThat(beanPostProcessor.isCriticalPathLoggingEnabled()).isFalse();
+	}
+
+	@Test
+	void doesNotComputeCriticalPathWhenAnalysisIsDisabled() {
+
+		try (AnnotationConfigApplicationContext applicationContext = new AnnotationConfigApplicationContext()) {
+
+			applicationContext.registerBean("timingBeanPostProcessor", BeanInitializationTimingBeanPostProcessor.class,
+				() -> new BeanInitializationTimingBeanPostProcessor(false));
+			applicationContext.registerBean("a", String.class, () -> "A");
+			applicationContext.refresh();
+
+			BeanInitializationTimingBeanPostProcessor beanPostProcessor =
+				applicationContext.getBean(BeanInitializationTimingBeanPostProcessor.class);
+
+			assertThat(beanPostProcessor.getBeanTiming("a")).isPresent();
+			assertThat(beanPostProcessor.getCriticalPath()).isNotPresent();
+		}
+	}
+
+	@Test
+	void timesNestedBeanCreationExcludingTimeSpentCreatingDependencies() {
+
+		BeanInitializationTimingBeanPostProcessor beanPostProcessor = new BeanInitializationTimingBeanPostProcessor();
+
+		Object outer = new Object();
+		Object inner = new Object();
+
+		beanPostProcessor.postProcessBeforeInstantiation(Object.class, "outer");
+		beanPostProcessor.postProcessBeforeInstantiation(Object.class, "inner");
+		sleep(40L);
+		beanPostProcessor.postProcessAfterInstantiation(inner, "inner");
+		beanPostProcessor.postProcessBeforeInitialization(inner, "inner");
+		assertThat(beanPostProcessor.postProcessAfterInitialization(inner, "inner")).isSameAs(inner);
+		sleep(20L);
+		beanPostProcessor.postProcessAfterInstantiation(outer, "outer");
+		beanPostProcessor.postProcessBeforeInitialization(outer, "outer");
+		assertThat(beanPostProcessor.postProcessAfterInitialization(outer, "outer")).isSameAs(outer);
+
+		assertThat(beanPostProcessor.getBeanTimings())
+			.extracting(BeanInitializationTiming::getBeanName)
+			.containsExactly("outer", "inner");
+
+		BeanInitializationTiming outerTiming = beanPostProcessor.getBeanTiming("outer").orElse(null);
+		BeanInitializationTiming innerTiming = beanPostProcessor.getBeanTiming("inner").orElse(null);
+
+		assertThat(innerTiming).isNotNull();
+		assertThat(innerTiming.getSelfDuration()).isGreaterThanOrEqualTo(Duration.ofMillis(40));
+		assertThat(innerTiming.getInstantiationDuration()).isGreaterThanOrEqualTo(Duration.ofMillis(40));
+		assertThat(outerTiming).isNotNull();
+		assertThat(outerTiming.getTotalDuration()).isGreaterThanOrEqualTo(Duration.ofMillis(60));
+		assertThat(outerTiming.getSelfDuration()).isGreaterThanOrEqualTo(Duration.ofMillis(20));
+		assertThat(outerTiming.getSelfDuration()).isLessThan(outerTiming.getTotalDuration());
+	}
+
+	@Test
+	void ignoresObjectsWithoutRecordedInstantiation() {
+
+		BeanInitializationTimingBeanPostProcessor beanPostProcessor = new BeanInitializationTimingBeanPostProcessor();
+
+		Object bean = new Object();
+
+		assertThat(beanPostProcessor.postProcessBeforeInitialization(bean, "factoryObject")).isSameAs(bean);
+		assertThat(beanPostProcessor.postProcessAfterInitialization(bean, "factoryObject")).isSameAs(bean);
+		assertThat(beanPostProcessor.getBeanTimings()).isEmpty();
+		assertThat(beanPostProcessor.getBeanTiming(null)).isNotPresent();
+		assertThat(beanPostProcessor.getCriticalPath()).isNotPresent();
+	}
+
+	@Test
+	void computesCriticalPathOnRefresh() {
+
+		try (AnnotationConfigApplicationContext applicationContext = new AnnotationConfigApplicationContext()) {
+
+			applicationContext.registerBean("timingBeanPostProcessor", BeanInitializationTimingBeanPostProcessor.class);
+			applicationContext.registerBean("a", String.class, () -> { sleep(30L); return "A"; });
+			applicationContext.registerBean("b", String.class, () -> { sleep(20L); return "B"; },
+				beanDefinition -> beanDefinition.setDependsOn("a"));
+			applicationContext.registerBean("c", String.class, () -> { sleep(10L); return "C"; },
+				beanDefinition -> beanDefinition.setDependsOn("b"));
+			applicationContext.registerBean("d", String.class, () -> "D");
+			applicationContext.refresh();
+
+			BeanInitializationTimingBeanPostProcessor beanPostProcessor =
+				applicationContext.getBean(BeanInitializationTimingBeanPostProcessor.class);
+
+			BeanInitializationCriticalPath criticalPath = beanPostProcessor.getCriticalPath().orElse(null);
+
+			assertThat(criticalPath).isNotNull();
+			assertThat(criticalPath.getBeanNames()).containsSubsequence("a", "b", "c");
+			assertThat(criticalPath.getDuration()).isGreaterThanOrEqualTo(Duration.ofMillis(60));
+			assertThat(criticalPath.isCritical("d")).isFalse();
+			assertThat(criticalPath.getSlack("d")).isPresent();
+			assertThat(criticalPath.getSlack("d").orElse(Duration.ZERO)).isGreaterThan(Duration.ZERO);
+		}
+	}
+}
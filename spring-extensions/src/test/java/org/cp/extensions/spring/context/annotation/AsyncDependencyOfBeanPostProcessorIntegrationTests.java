@@ -0,0 +1,176 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.spring.context.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.extensions.spring.beans.factory.config.BeanDependencyGraph;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Integration Tests for {@link AsyncDependencyOf} and {@link AsyncDependencyOfBeanPostProcessor}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.extensions.spring.context.annotation.AsyncDependencyOf
+ * @see org.cp.extensions.spring.context.annotation.AsyncDependencyOfBeanPostProcessor
+ * @see org.springframework.context.annotation.AnnotationConfigApplicationContext
+ * @since 0.1.0
+ */
+public class AsyncDependencyOfBeanPostProcessorIntegrationTests {
+
+	@Test
+	void initMethodRunsConcurrentlyWithRefreshAndFirstUseBlocksUntilInitialized() throws Exception {
+
+		try (AnnotationConfigApplicationContext applicationContext =
+				new AnnotationConfigApplicationContext(TestConfiguration.class)) {
+
+			// the refresh completed while the init method is blocked
+			Cache cache = applicationContext.getBean("cache", Cache.class);
+
+			assertThat(cache).isInstanceOf(AsyncInitializedBean.class);
+			AsyncInitializedBean asyncInitializedCache = (AsyncInitializedBean) cache;
+
+			assertThat(asyncInitializedCache.isReady()).isFalse();
+			assertThat(applicationContext.getBean(AsyncDependencyOfBeanPostProcessor.class).getReadiness("cache"))
+				.hasValueSatisfying(readiness -> assertThat(readiness).isSameAs(asyncInitializedCache.getReadiness()));
+			assertThat(applicationContext.getBean(BeanDependencyGraph.class).getDependencies("service"))
+				.containsExactly("cache");
+
+			CountDownLatch release = applicationContext.getBean(CountDownLatch.class);
+
+			Thread releaser = new Thread(() -> {
+				try {
+					Thread.sleep(100L);
+				}
+				catch (InterruptedException ignore) {
+					Thread.currentThread().interrupt();
+				}
+				release.countDown();
+			});
+
+			releaser.start();
+
+			assertThat(applicationContext.getBean(Service.class).lookup()).isEqualTo("loaded");
+			assertThat(((AsyncInitializedBean) cache).isReady()).isTrue();
+
+			releaser.join(TimeUnit.SECONDS.toMillis(5L));
+		}
+	}
+
+	@Test
+	void failedInitMethodSurfacesOnFirstUse() {
+
+		try (AnnotationConfigApplicationContext applicationContext =
+				new AnnotationConfigApplicationContext(FailingTestConfiguration.class)) {
+
+			Cache cache = applicationContext.getBean(Cache.class);
+
+			assertThatIllegalStateException()
+				.isThrownBy(cache::get)
+				.withMessage("Bean [cache] failed to initialize")
+				.withCauseInstanceOf(IllegalStateException.class);
+
+			assertThat(((AsyncInitializedBean) cache).getReadiness()).isCompletedExceptionally();
+			assertThat(((AsyncInitializedBean) cache).isReady()).isFalse();
+		}
+	}
+
+	@Configuration
+	static class TestConfiguration {
+
+		@Bean
+		static DependencyOfBeanFactoryPostProcessor dependencyOfBeanFactoryPostProcessor() {
+			return new DependencyOfBeanFactoryPostProcessor();
+		}
+
+		@Bean
+		CountDownLatch release() {
+			return new CountDownLatch(1);
+		}
+
+		@Bean(initMethod = "load")
+		@AsyncDependencyOf("service")
+		Cache cache(CountDownLatch release) {
+			return new Cache(release);
+		}
+
+		@Bean
+		Service service(Cache cache) {
+			return new Service(cache);
+		}
+	}
+
+	@Configuration
+	static class FailingTestConfiguration {
+
+		@Bean
+		static DependencyOfBeanFactoryPostProcessor dependencyOfBeanFactoryPostProcessor() {
+			return new DependencyOfBeanFactoryPostProcessor();
+		}
+
+		@Bean
+		@AsyncDependencyOf(initMethod = "fail")
+		Cache cache() {
+			return new Cache(new CountDownLatch(0));
+		}
+	}
+
+	static class Cache {
+
+		private final CountDownLatch release;
+
+		private volatile boolean loaded;
+
+		Cache(CountDownLatch release) {
+			this.release = release;
+		}
+
+		void load() throws InterruptedException {
+			this.loaded = this.release.await(5L, TimeUnit.SECONDS);
+		}
+
+		void fail() {
+			throw new IllegalStateException("TEST");
+		}
+
+		String get() {
+			return this.loaded ? "loaded" : "not loaded";
+		}
+	}
+
+	static class Service {
+
+		private final Cache cache;
+
+		Service(Cache cache) {
+			this.cache = cache;
+		}
+
+		String lookup() {
+			return this.cache.get();
+		}
+	}
+}
@@ -16,8 +16,10 @@
 package org.cp.extensions.spring.context.annotation;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
@@ -25,11 +27,27 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
+import java.lang.annotation.Annotation;
+import java.util.HashSet;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
+import org.cp.extensions.spring.beans.factory.config.BeanDependencyGraph;
+
+import org.springframework.beans.factory.annotation.AnnotatedGenericBeanDefinition;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionValidationException;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.OverridingClassLoader;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.MethodMetadata;
+import org.springframework.mock.env.MockEnvironment;
 import org.springframework.stereotype.Component;
 
 /**
@@ -105,17 +123,431 @@ public class DependencyOfBeanFactoryPostProcessorUnitTests {
 
 		DependencyOfBeanFactoryPostProcessor.INSTANCE.postProcessBeanFactory(mockBeanFactory);
 
+		verify(mockBeanFactory, times(1)).getBeanDefinitionNames();
 		verify(mockBeanFactory, times(1)).getBeanNamesForAnnotation(eq(DependencyOf.class));
 		verify(mockBeanFactory, times(1)).findAnnotationOnBean(eq("TestBean"), eq(DependencyOf.class));
+		verify(mockBeanFactory, times(1)).getBeanNamesForAnnotation(eq(AsyncDependencyOf.class));
+		verify(mockBeanFactory, times(1)).containsSingleton(eq(ConfigurableApplicationContext.ENVIRONMENT_BEAN_NAME));
 		verify(mockBeanFactory, times(1)).getBeanDefinition(eq("BeanOne"));
 		verify(mockBeanFactory, times(1)).getBeanDefinition(eq("BeanTwo"));
 		verify(beanOne, times(1)).getDependsOn();
 		verify(beanOne, times(1)).setDependsOn(new String[] { "TestBean" });
 		verify(beanTwo, times(1)).getDependsOn();
 		verify(beanTwo, times(1)).setDependsOn(new String[] { "TestBean" });
+		verify(mockBeanFactory, times(1)).containsSingleton(eq(BeanDependencyGraph.BEAN_NAME));
+		verify(mockBeanFactory, times(1))
+			.registerSingleton(eq(BeanDependencyGraph.BEAN_NAME), isA(BeanDependencyGraph.class));
 		verifyNoMoreInteractions(mockBeanFactory, beanOne, beanTwo);
 	}
 
+	@Test
+	public void postProcessBeanFactoryRegistersDependencyGraph() {
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+		RootBeanDefinition beanOne = new RootBeanDefinition(Object.class);
+
+		beanOne.setDependsOn("BeanTwo");
+
+		beanFactory.registerBeanDefinition("TestBean", new RootBeanDefinition(TestBean.class));
+		beanFactory.registerBeanDefinition("BeanOne", beanOne);
+		beanFactory.registerBeanDefinition("BeanTwo", new RootBeanDefinition(Object.class));
+
+		DependencyOfBeanFactoryPostProcessor.INSTANCE.postProcessBeanFactory(beanFactory);
+
+		BeanDependencyGraph dependencyGraph =
+			beanFactory.getBean(BeanDependencyGraph.BEAN_NAME, BeanDependencyGraph.class);
+
+		assertThat(dependencyGraph.getBeanNames()).containsExactly("TestBean", "BeanOne", "BeanTwo");
+		assertThat(dependencyGraph.getDependencies("BeanOne")).containsExactly("BeanTwo", "TestBean");
+		assertThat(dependencyGraph.getDependents("TestBean")).containsExactlyInAnyOrder("BeanOne", "BeanTwo");
+		assertThat(dependencyGraph.getFanIn("TestBean")).isEqualTo(2);
+		assertThat(dependencyGraph.toJson())
+			.contains("{\"from\":\"BeanOne\",\"to\":\"BeanTwo\",\"provenance\":\"DEPENDS_ON\"}")
+			.contains("{\"from\":\"BeanOne\",\"to\":\"TestBean\",\"provenance\":\"DEPENDENCY_OF\"}");
+
+		// the graph registered first is kept
+		DependencyOfBeanFactoryPostProcessor.INSTANCE.postProcessBeanFactory(beanFactory);
+
+		assertThat(beanFactory.getBean(BeanDependencyGraph.class)).isSameAs(dependencyGraph);
+		assertThat(dependencyGraph.getEdgeCount()).isEqualTo(3);
+	}
+
+	@Test
+	public void postProcessBeanFactoryDefersInitMethodOfAsyncDependencyOfBean() {
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+		RootBeanDefinition asyncBean = new RootBeanDefinition(AsyncTestBean.class);
+
+		asyncBean.setInitMethodName("load");
+
+		beanFactory.registerBeanDefinition("AsyncTestBean", asyncBean);
+		beanFactory.registerBeanDefinition("BeanOne", new RootBeanDefinition(Object.class));
+
+		DependencyOfBeanFactoryPostProcessor.INSTANCE.postProcessBeanFactory(beanFactory);
+
+		assertThat(asyncBean.getInitMethodName()).isNull();
+		assertThat(asyncBean.getAttribute(AsyncDependencyOfBeanPostProcessor.ASYNC_INIT_METHOD_ATTRIBUTE))
+			.isEqualTo("load");
+		assertThat(beanFactory.getBeanDefinition("BeanOne").getDependsOn()).containsExactly("AsyncTestBean");
+		assertThat(beanFactory.containsBeanDefinition(AsyncDependencyOfBeanPostProcessor.BEAN_NAME)).isTrue();
+		assertThat(beanFactory.getBean(BeanDependencyGraph.class).toJson())
+			.contains("{\"from\":\"BeanOne\",\"to\":\"AsyncTestBean\",\"provenance\":\"ASYNC_DEPENDENCY_OF\"}");
+
+		// post processing the bean factory again keeps the deferred init method
+		DependencyOfBeanFactoryPostProcessor.INSTANCE.postProcessBeanFactory(beanFactory);
+
+		assertThat(asyncBean.getAttribute(AsyncDependencyOfBeanPostProcessor.ASYNC_INIT_METHOD_ATTRIBUTE))
+			.isEqualTo("load");
+	}
+
+	@Test
+	public void postProcessBeanFactoryDoesNotDeferInitMethodOfAsyncDependencyOfSingletonWithoutBeanDefinition() {
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+		beanFactory.registerSingleton("AsyncTestBean", new AsyncTestBean());
+		beanFactory.registerBeanDefinition("BeanOne", new RootBeanDefinition(Object.class));
+
+		DependencyOfBeanFactoryPostProcessor.INSTANCE.postProcessBeanFactory(beanFactory);
+
+		assertThat(beanFactory.getBeanDefinition("BeanOne").getDependsOn()).containsExactly("AsyncTestBean");
+		assertThat(beanFactory.containsBeanDefinition(AsyncDependencyOfBeanPostProcessor.BEAN_NAME)).isFalse();
+		assertThat(beanFactory.getBean(BeanDependencyGraph.class).toJson())
+			.contains("{\"from\":\"BeanOne\",\"to\":\"AsyncTestBean\",\"provenance\":\"ASYNC_DEPENDENCY_OF\"}");
+	}
+
+	@Test
+	public void postProcessBeanFactoryRejectsAsyncDependencyOfBeanWithoutInitMethod() {
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+		beanFactory.registerBeanDefinition("AsyncTestBean", new RootBeanDefinition(AsyncTestBean.class));
+
+		assertThatExceptionOfType(BeanDefinitionValidationException.class)
+			.isThrownBy(() -> DependencyOfBeanFactoryPostProcessor.INSTANCE.postProcessBeanFactory(beanFactory))
+			.withMessage("Bean [AsyncTestBean] annotated with @AsyncDependencyOf must declare an init method"
+				+ " to invoke asynchronously")
+			.withNoCause();
+	}
+
+	@Test
+	public void postProcessBeanFactoryPropagatesLazyInit() {
+
+		DefaultListableBeanFactory beanFactory = newLazyInitTestBeanFactory();
+
+		DependencyOfBeanFactoryPostProcessor beanFactoryPostProcessor = new DependencyOfBeanFactoryPostProcessor();
+
+		beanFactoryPostProcessor.setLazyInitPropagationEnabled(true);
+		beanFactoryPostProcessor.postProcessBeanFactory(beanFactory);
+
+		assertThat(beanFactory.getBeanDefinition("A").isLazyInit()).isTrue();
+		assertThat(beanFactory.getBeanDefinition("B").isLazyInit()).isTrue();
+		assertThat(beanFactory.getBeanDefinition("C").isLazyInit()).isFalse();
+		assertThat(beanFactory.getBeanDefinition("D").isLazyInit()).isFalse();
+		assertThat(beanFactory.getBeanDefinition("F").isLazyInit()).isFalse();
+
+		// as the container does after invoking the BeanFactoryPostProcessors
+		beanFactory.clearMetadataCache();
+		beanFactory.preInstantiateSingletons();
+
+		assertThat(beanFactory.containsSingleton("A")).isFalse();
+		assertThat(beanFactory.containsSingleton("B")).isFalse();
+		assertThat(beanFactory.containsSingleton("C")).isTrue();
+		assertThat(beanFactory.containsSingleton("F")).isTrue();
+
+		beanFactory.getBean("LazyBean");
+
+		assertThat(beanFactory.containsSingleton("A")).isTrue();
+		assertThat(beanFactory.containsSingleton("B")).isTrue();
+	}
+
+	@Test
+	public void postProcessBeanFactoryPropagatesLazyInitSkippingSingletonsWithoutBeanDefinition() {
+
+		DefaultListableBeanFactory beanFactory = newLazyInitTestBeanFactory();
+
+		beanFactory.registerSingleton("G", new LazyInitTestBeanF());
+
+		DependencyOfBeanFactoryPostProcessor beanFactoryPostProcessor = new DependencyOfBeanFactoryPostProcessor();
+
+		beanFactoryPostProcessor.setLazyInitPropagationEnabled(true);
+		beanFactoryPostProcessor.postProcessBeanFactory(beanFactory);
+
+		assertThat(beanFactory.getBeanDefinition("A").isLazyInit()).isTrue();
+		assertThat(beanFactory.getBeanDefinition("LazyBean").getDependsOn()).contains("G");
+		assertThat(beanFactory.containsBeanDefinition("G")).isFalse();
+	}
+
+	@Test
+	public void postProcessBeanFactoryPropagatesLazyInitWhenEnabledInEnvironment() {
+
+		DefaultListableBeanFactory beanFactory = newLazyInitTestBeanFactory();
+
+		beanFactory.registerSingleton(ConfigurableApplicationContext.ENVIRONMENT_BEAN_NAME, new MockEnvironment()
+			.withProperty(DependencyOfBeanFactoryPostProcessor.LAZY_INIT_PROPAGATION_ENABLED_PROPERTY, "true"));
+
+		new DependencyOfBeanFactoryPostProcessor().postProcessBeanFactory(beanFactory);
+
+		assertThat(beanFactory.getBeanDefinition("A").isLazyInit()).isTrue();
+		assertThat(beanFactory.getBeanDefinition("C").isLazyInit()).isFalse();
+	}
+
+	@Test
+	public void postProcessBeanFactoryDoesNotPropagateLazyInitByDefault() {
+
+		DefaultListableBeanFactory beanFactory = newLazyInitTestBeanFactory();
+
+		beanFactory.registerSingleton(ConfigurableApplicationContext.ENVIRONMENT_BEAN_NAME, new MockEnvironment());
+
+		new DependencyOfBeanFactoryPostProcessor().postProcessBeanFactory(beanFactory);
+
+		assertThat(beanFactory.getBeanDefinition("A").isLazyInit()).isFalse();
+		assertThat(beanFactory.getBeanDefinition("B").isLazyInit()).isFalse();
+	}
+
+	// @DependencyOf: A -> LazyBean, B -> A, C -> EagerBean, D -> LazyBean (explicitly eager), F -> LazyBean;
+	// eager E depends on F
+	private DefaultListableBeanFactory newLazyInitTestBeanFactory() {
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+		RootBeanDefinition lazyBean = new RootBeanDefinition(Object.class);
+		RootBeanDefinition beanD = new RootBeanDefinition(LazyInitTestBeanD.class);
+		RootBeanDefinition beanE = new RootBeanDefinition(Object.class);
+
+		lazyBean.setLazyInit(true);
+		beanD.setLazyInit(false);
+		beanE.setDependsOn("F");
+
+		beanFactory.registerBeanDefinition("LazyBean", lazyBean);
+		beanFactory.registerBeanDefinition("EagerBean", new RootBeanDefinition(Object.class));
+		beanFactory.registerBeanDefinition("A", new RootBeanDefinition(LazyInitTestBeanA.class));
+		beanFactory.registerBeanDefinition("B", new RootBeanDefinition(LazyInitTestBeanB.class));
+		beanFactory.registerBeanDefinition("C", new RootBeanDefinition(LazyInitTestBeanC.class));
+		beanFactory.registerBeanDefinition("D", beanD);
+		beanFactory.registerBeanDefinition("E", beanE);
+		beanFactory.registerBeanDefinition("F", new RootBeanDefinition(LazyInitTestBeanF.class));
+
+		return beanFactory;
+	}
+
+	@Test
+	public void postProcessBeanFactoryIncrementallyResolvesOnlyChangedBeanDefinitions() {
+
+		CountingDependencyOfBeanFactoryPostProcessor beanFactoryPostProcessor =
+			new CountingDependencyOfBeanFactoryPostProcessor();
+
+		beanFactoryPostProcessor.setIncrementalProcessingEnabled(true);
+
+		DefaultListableBeanFactory beanFactory = newIncrementalTestBeanFactory("application", LazyInitTestBeanC.class);
+
+		beanFactoryPostProcessor.postProcessBeanFactory(beanFactory);
+
+		assertThat(beanFactoryPostProcessor.resolvedBeanNames)
+			.containsExactlyInAnyOrder("A", "C", "EagerBean", "LazyBean");
+		assertThat(beanFactory.getBeanDefinition("EagerBean").getDependsOn()).containsExactly("C");
+		assertThat(beanFactory.getBeanDefinition("LazyBean").getDependsOn()).containsExactly("A");
+
+		// refresh with the same bean definitions
+		beanFactoryPostProcessor.resolvedBeanNames.clear();
+		beanFactory = newIncrementalTestBeanFactory("application", LazyInitTestBeanC.class);
+		beanFactoryPostProcessor.postProcessBeanFactory(beanFactory);
+
+		assertThat(beanFactoryPostProcessor.resolvedBeanNames).isEmpty();
+		assertThat(beanFactory.getBeanDefinition("EagerBean").getDependsOn()).containsExactly("C");
+		assertThat(beanFactory.getBeanDefinition("LazyBean").getDependsOn()).containsExactly("A");
+
+		// refresh with a changed bean definition
+		beanFactory = newIncrementalTestBeanFactory("application", LazyInitTestBeanD.class);
+		beanFactoryPostProcessor.postProcessBeanFactory(beanFactory);
+
+		assertThat(beanFactoryPostProcessor.resolvedBeanNames).containsExactly("C");
+		assertThat(beanFactory.getBeanDefinition("EagerBean").getDependsOn()).isNull();
+		assertThat(beanFactory.getBeanDefinition("LazyBean").getDependsOn()).containsExactlyInAnyOrder("A", "C");
+
+		// another Spring container
+		beanFactoryPostProcessor.resolvedBeanNames.clear();
+		beanFactory = newIncrementalTestBeanFactory("other", LazyInitTestBeanD.class);
+		beanFactoryPostProcessor.postProcessBeanFactory(beanFactory);
+
+		assertThat(beanFactoryPostProcessor.resolvedBeanNames)
+			.containsExactlyInAnyOrder("A", "C", "EagerBean", "LazyBean");
+	}
+
+	@Test
+	public void postProcessBeanFactoryIncrementallyResolvesClassesLoadedAgain() throws Exception {
+
+		CountingDependencyOfBeanFactoryPostProcessor beanFactoryPostProcessor =
+			new CountingDependencyOfBeanFactoryPostProcessor();
+
+		beanFactoryPostProcessor.setIncrementalProcessingEnabled(true);
+		beanFactoryPostProcessor.postProcessBeanFactory(
+			newIncrementalTestBeanFactory("application", LazyInitTestBeanC.class));
+
+		// the same class loaded again by another ClassLoader, as after a Spring Boot DevTools restart
+		String className = LazyInitTestBeanC.class.getName();
+
+		Class<?> reloadedBeanClassC = new OverridingClassLoader(getClass().getClassLoader()) {
+
+			@Override
+			protected boolean isEligibleForOverriding(String name) {
+				return className.equals(name);
+			}
+
+		}.loadClass(className);
+
+		assertThat(reloadedBeanClassC).isNotSameAs(LazyInitTestBeanC.class);
+
+		beanFactoryPostProcessor.resolvedBeanNames.clear();
+
+		DefaultListableBeanFactory beanFactory = newIncrementalTestBeanFactory("application", reloadedBeanClassC);
+
+		beanFactoryPostProcessor.postProcessBeanFactory(beanFactory);
+
+		assertThat(beanFactoryPostProcessor.resolvedBeanNames).containsExactly("C");
+		assertThat(beanFactory.getBeanDefinition("EagerBean").getDependsOn()).containsExactly("C");
+	}
+
+	@Test
+	public void postProcessBeanFactoryDoesNotCacheAnnotationsByDefault() {
+
+		CountingDependencyOfBeanFactoryPostProcessor beanFactoryPostProcessor =
+			new CountingDependencyOfBeanFactoryPostProcessor();
+
+		beanFactoryPostProcessor.postProcessBeanFactory(
+			newIncrementalTestBeanFactory("application", LazyInitTestBeanC.class));
+
+		beanFactoryPostProcessor.resolvedBeanNames.clear();
+
+		beanFactoryPostProcessor.postProcessBeanFactory(
+			newIncrementalTestBeanFactory("application", LazyInitTestBeanC.class));
+
+		assertThat(beanFactoryPostProcessor.resolvedBeanNames).containsExactlyInAnyOrder("A", "C");
+	}
+
+	@Test
+	public void postProcessBeanFactoryIncrementallyResolvesChangedFactoryMethods() {
+
+		CountingDependencyOfBeanFactoryPostProcessor beanFactoryPostProcessor =
+			new CountingDependencyOfBeanFactoryPostProcessor();
+
+		beanFactoryPostProcessor.setIncrementalProcessingEnabled(true);
+		beanFactoryPostProcessor.postProcessBeanFactory(newFactoryMethodTestBeanFactory(FactoryMethodConfigC.class));
+
+		assertThat(beanFactoryPostProcessor.resolvedBeanNames).contains("C");
+
+		// refresh with the same factory method
+		beanFactoryPostProcessor.resolvedBeanNames.clear();
+		beanFactoryPostProcessor.postProcessBeanFactory(newFactoryMethodTestBeanFactory(FactoryMethodConfigC.class));
+
+		assertThat(beanFactoryPostProcessor.resolvedBeanNames).isEmpty();
+
+		// refresh with a factory method returning a differently annotated type
+		DefaultListableBeanFactory beanFactory = newFactoryMethodTestBeanFactory(FactoryMethodConfigD.class);
+
+		beanFactoryPostProcessor.postProcessBeanFactory(beanFactory);
+
+		assertThat(beanFactoryPostProcessor.resolvedBeanNames).containsExactlyInAnyOrder("Config", "C");
+		assertThat(beanFactory.getBeanDefinition("EagerBean").getDependsOn()).isNull();
+		assertThat(beanFactory.getBeanDefinition("LazyBean").getDependsOn()).containsExactly("C");
+	}
+
+	@Test
+	public void postProcessBeanFactoryAlwaysResolvesBeanDefinitionsThatCannotBeFingerprinted() {
+
+		CountingDependencyOfBeanFactoryPostProcessor beanFactoryPostProcessor =
+			new CountingDependencyOfBeanFactoryPostProcessor();
+
+		beanFactoryPostProcessor.setIncrementalProcessingEnabled(true);
+
+		for (int refresh = 0; refresh < 2; refresh++) {
+
+			DefaultListableBeanFactory beanFactory =
+				newIncrementalTestBeanFactory("application", LazyInitTestBeanC.class);
+
+			// a factory method declared without metadata, as in XML
+			RootBeanDefinition beanDefinition = new RootBeanDefinition();
+
+			beanDefinition.setFactoryBeanName("Config");
+			beanDefinition.setFactoryMethodName("c");
+			beanFactory.registerBeanDefinition("Config", new RootBeanDefinition(FactoryMethodConfigD.class));
+			beanFactory.registerBeanDefinition("D", beanDefinition);
+			beanFactoryPostProcessor.resolvedBeanNames.clear();
+			beanFactoryPostProcessor.postProcessBeanFactory(beanFactory);
+
+			assertThat(beanFactoryPostProcessor.resolvedBeanNames).contains("D");
+			assertThat(beanFactory.getBeanDefinition("LazyBean").getDependsOn()).containsExactlyInAnyOrder("A", "D");
+		}
+
+		assertThat(beanFactoryPostProcessor.resolvedBeanNames).containsExactly("D");
+	}
+
+	@Test
+	public void postProcessBeanFactoryEvictsLeastRecentlyProcessedBeanFactories() {
+
+		CountingDependencyOfBeanFactoryPostProcessor beanFactoryPostProcessor =
+			new CountingDependencyOfBeanFactoryPostProcessor();
+
+		beanFactoryPostProcessor.setIncrementalProcessingEnabled(true);
+
+		int maxCachedBeanFactories = DependencyOfBeanFactoryPostProcessor.MAX_CACHED_BEAN_FACTORIES;
+
+		for (int id = 0; id <= maxCachedBeanFactories; id++) {
+			beanFactoryPostProcessor.postProcessBeanFactory(
+				newIncrementalTestBeanFactory("application" + id, LazyInitTestBeanC.class));
+		}
+
+		beanFactoryPostProcessor.resolvedBeanNames.clear();
+		beanFactoryPostProcessor.postProcessBeanFactory(
+			newIncrementalTestBeanFactory("application" + maxCachedBeanFactories, LazyInitTestBeanC.class));
+
+		assertThat(beanFactoryPostProcessor.resolvedBeanNames).isEmpty();
+
+		beanFactoryPostProcessor.postProcessBeanFactory(
+			newIncrementalTestBeanFactory("application0", LazyInitTestBeanC.class));
+
+		assertThat(beanFactoryPostProcessor.resolvedBeanNames)
+			.containsExactlyInAnyOrder("A", "C", "EagerBean", "LazyBean");
+	}
+
+	private DefaultListableBeanFactory newFactoryMethodTestBeanFactory(Class<?> configurationClass) {
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+		AnnotationMetadata configurationMetadata = AnnotationMetadata.introspect(configurationClass);
+
+		MethodMetadata factoryMethodMetadata =
+			configurationMetadata.getAnnotatedMethods(Bean.class.getName()).iterator().next();
+
+		AnnotatedGenericBeanDefinition beanDefinition =
+			new AnnotatedGenericBeanDefinition(configurationMetadata, factoryMethodMetadata);
+
+		beanDefinition.setFactoryBeanName("Config");
+		beanDefinition.setFactoryMethodName(factoryMethodMetadata.getMethodName());
+		beanFactory.setSerializationId("factory-methods");
+		beanFactory.registerBeanDefinition("Config", new RootBeanDefinition(configurationClass));
+		beanFactory.registerBeanDefinition("C", beanDefinition);
+		beanFactory.registerBeanDefinition("EagerBean", new RootBeanDefinition(Object.class));
+		beanFactory.registerBeanDefinition("LazyBean", new RootBeanDefinition(Object.class));
+
+		return beanFactory;
+	}
+
+	private DefaultListableBeanFactory newIncrementalTestBeanFactory(String id, Class<?> beanClassC) {
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+		beanFactory.setSerializationId(id);
+		beanFactory.registerBeanDefinition("A", new RootBeanDefinition(LazyInitTestBeanA.class));
+		beanFactory.registerBeanDefinition("C", new RootBeanDefinition(beanClassC));
+		beanFactory.registerBeanDefinition("EagerBean", new RootBeanDefinition(Object.class));
+		beanFactory.registerBeanDefinition("LazyBean", new RootBeanDefinition(Object.class));
+
+		return beanFactory;
+	}
+
 	@Test
 	@SuppressWarnings("all")
 	public void postProcessNullBeanFactoryThrowsIllegalArgumentException() {
@@ -131,4 +563,56 @@ public class DependencyOfBeanFactoryPostProcessorUnitTests {
 	//@DependencyOf(beanNames = { "BeanOne", "BeanTwo" })
 	static class TestBean { }
 
+	static class CountingDependencyOfBeanFactoryPostProcessor extends DependencyOfBeanFactoryPostProcessor {
+
+		private final Set<String> resolvedBeanNames = new HashSet<>();
+
+		@Override
+		protected AnnotationAttributes findAnnotationAttributes(ConfigurableListableBeanFactory beanFactory,
+				String beanName, Class<? extends Annotation> annotationType) {
+
+			this.resolvedBeanNames.add(beanName);
+
+			return super.findAnnotationAttributes(beanFactory, beanName, annotationType);
+		}
+	}
+
+	@DependencyOf("LazyBean")
+	static class LazyInitTestBeanA { }
+
+	@DependencyOf("A")
+	static class LazyInitTestBeanB { }
+
+	@DependencyOf("EagerBean")
+	static class LazyInitTestBeanC { }
+
+	@DependencyOf("LazyBean")
+	static class LazyInitTestBeanD { }
+
+	@DependencyOf("LazyBean")
+	static class LazyInitTestBeanF { }
+
+	static class FactoryMethodConfigC {
+
+		@Bean
+		LazyInitTestBeanC c() {
+			return new LazyInitTestBeanC();
+		}
+	}
+
+	static class FactoryMethodConfigD {
+
+		@Bean
+		LazyInitTestBeanD c() {
+			return new LazyInitTestBeanD();
+		}
+	}
+
+	@AsyncDependencyOf("BeanOne")
+	static class AsyncTestBean {
+
+		void load() { }
+
+	}
+
 }
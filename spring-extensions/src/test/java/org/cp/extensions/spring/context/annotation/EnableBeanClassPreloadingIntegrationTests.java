@@ -0,0 +1,69 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.spring.context.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.extensions.spring.beans.factory.config.BeanClassPreloadingBeanFactoryPostProcessor;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Integration Tests for {@link EnableBeanClassPreloading}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.extensions.spring.context.annotation.EnableBeanClassPreloading
+ * @see org.springframework.context.annotation.AnnotationConfigApplicationContext
+ * @since 0.1.0
+ */
+public class EnableBeanClassPreloadingIntegrationTests {
+
+	@Test
+	void preloadsBeanClassesAndFactoryMethodReturnTypes() throws Exception {
+
+		try (AnnotationConfigApplicationContext applicationContext =
+				new AnnotationConfigApplicationContext(TestConfiguration.class)) {
+
+			BeanClassPreloadingBeanFactoryPostProcessor beanFactoryPostProcessor =
+				applicationContext.getBean(BeanClassPreloadingBeanFactoryPostProcessor.class);
+
+			beanFactoryPostProcessor.getPreloading().get(5L, TimeUnit.SECONDS);
+
+			assertThat(beanFactoryPostProcessor.getPreloadedClassNames())
+				.contains(BeanClassPreloadingConfiguration.class.getName(), TestService.class.getName());
+		}
+	}
+
+	@Configuration
+	@EnableBeanClassPreloading
+	static class TestConfiguration {
+
+		@Bean
+		TestService testService() {
+			return new TestService();
+		}
+	}
+
+	static class TestService { }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.spring.context.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.extensions.spring.beans.factory.config.BeanInitializationCriticalPath;
+import org.cp.extensions.spring.beans.factory.config.BeanInitializationTimingBeanPostProcessor;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+/**
+ * Integration Tests for {@link EnableBeanInitializationCriticalPathAnalysis}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.extensions.spring.context.annotation.EnableBeanInitializationCriticalPathAnalysis
+ * @see org.springframework.test.context.junit.jupiter.SpringJUnitConfig
+ * @since 0.1.0
+ */
+@SpringJUnitConfig
+@SuppressWarnings("unused")
+public class EnableBeanInitializationCriticalPathAnalysisIntegrationTests {
+
+	@Autowired
+	private BeanInitializationTimingBeanPostProcessor beanPostProcessor;
+
+	@Test
+	void criticalPathIncludesDependencyOfBeans() {
+
+		BeanInitializationCriticalPath criticalPath = this.beanPostProcessor.getCriticalPath().orElse(null);
+
+		assertThat(criticalPath).isNotNull();
+		assertThat(criticalPath.getSlacks()).containsKeys("slowBean", "dependentBean");
+		assertThat(this.beanPostProcessor.getBeanTiming("slowBean")).isPresent();
+		assertThat(criticalPath.getBeanNames()).containsSubsequence("slowBean", "dependentBean");
+	}
+
+	@Configuration
+	@EnableBeanInitializationCriticalPathAnalysis
+	@EnableInverseDependencyDeclarations
+	static class TestConfiguration {
+
+		@Bean
+		@DependencyOf("dependentBean")
+		String slowBean() throws InterruptedException {
+			Thread.sleep(50L);
+			return "slow";
+		}
+
+		@Bean
+		String dependentBean() {
+			return "dependent";
+		}
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.spring.context.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.extensions.spring.context.support.ParallelBeanDestroyer;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Integration Tests for {@link EnableParallelBeanDestruction}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.extensions.spring.context.annotation.EnableParallelBeanDestruction
+ * @see org.springframework.context.annotation.AnnotationConfigApplicationContext
+ * @since 0.1.0
+ */
+public class EnableParallelBeanDestructionIntegrationTests {
+
+	private static final List<String> destroyedBeanNames = new CopyOnWriteArrayList<>();
+
+	@Test
+	void destroysDependentBeansBeforeTheirDependencies() {
+
+		destroyedBeanNames.clear();
+
+		try (AnnotationConfigApplicationContext applicationContext =
+				new AnnotationConfigApplicationContext(TestConfiguration.class)) {
+
+			ParallelBeanDestroyer beanDestroyer = applicationContext.getBean(ParallelBeanDestroyer.class);
+
+			assertThat(beanDestroyer.getParallelism()).isEqualTo(4);
+			assertThat(beanDestroyer.getTimeout()).isEqualTo(Duration.ofSeconds(2));
+		}
+
+		assertThat(destroyedBeanNames).containsExactlyInAnyOrder("client", "server", "repository", "dataSource");
+		assertThat(destroyedBeanNames.indexOf("client")).isLessThan(destroyedBeanNames.indexOf("server"));
+		assertThat(destroyedBeanNames.indexOf("repository")).isLessThan(destroyedBeanNames.indexOf("dataSource"));
+	}
+
+	@Configuration
+	@EnableInverseDependencyDeclarations
+	@EnableParallelBeanDestruction(parallelism = 4, timeoutMillis = 2000L)
+	static class TestConfiguration {
+
+		@Bean
+		NamedResource server() {
+			return new NamedResource("server");
+		}
+
+		@Bean
+		NamedResource client(@Qualifier("server") NamedResource server) {
+			return new NamedResource("client");
+		}
+
+		@Bean
+		@DependencyOf("repository")
+		NamedResource dataSource() {
+			return new NamedResource("dataSource");
+		}
+
+		@Bean
+		NamedResource repository() {
+			return new NamedResource("repository");
+		}
+	}
+
+	static class NamedResource implements AutoCloseable {
+
+		private final String name;
+
+		NamedResource(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public void close() throws InterruptedException {
+			Thread.sleep(50L);
+			destroyedBeanNames.add(this.name);
+		}
+	}
+}
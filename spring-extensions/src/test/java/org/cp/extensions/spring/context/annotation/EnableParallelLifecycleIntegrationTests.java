@@ -0,0 +1,59 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.spring.context.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.extensions.spring.context.support.ParallelLifecycleProcessor;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.support.AbstractApplicationContext;
+
+/**
+ * Integration Tests for {@link EnableParallelLifecycle}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.extensions.spring.context.annotation.EnableParallelLifecycle
+ * @see org.springframework.context.annotation.AnnotationConfigApplicationContext
+ * @since 0.1.0
+ */
+public class EnableParallelLifecycleIntegrationTests {
+
+	@Test
+	void registersParallelLifecycleProcessorAsTheLifecycleProcessor() {
+
+		try (AnnotationConfigApplicationContext applicationContext =
+				new AnnotationConfigApplicationContext(TestConfiguration.class)) {
+
+			Object lifecycleProcessor = applicationContext.getBean(AbstractApplicationContext.LIFECYCLE_PROCESSOR_BEAN_NAME);
+
+			assertThat(lifecycleProcessor).isInstanceOf(ParallelLifecycleProcessor.class);
+			assertThat(((ParallelLifecycleProcessor) lifecycleProcessor).getParallelism()).isEqualTo(8);
+			assertThat(((ParallelLifecycleProcessor) lifecycleProcessor).getTimeoutPerStartupPhase()).isEqualTo(5000L);
+			assertThat(((ParallelLifecycleProcessor) lifecycleProcessor).getTimeoutPerShutdownPhase()).isEqualTo(1000L);
+			assertThat(((ParallelLifecycleProcessor) lifecycleProcessor).isRunning()).isTrue();
+		}
+	}
+
+	@Configuration
+	@EnableParallelLifecycle(parallelism = 8, startupTimeoutMillis = 5000L, shutdownTimeoutMillis = 1000L)
+	static class TestConfiguration { }
+
+}
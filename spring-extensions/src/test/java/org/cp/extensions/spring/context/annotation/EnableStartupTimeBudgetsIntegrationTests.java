@@ -0,0 +1,135 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.spring.context.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.extensions.spring.beans.factory.config.BeanInitializationTimingBeanPostProcessor;
+import org.cp.extensions.spring.context.annotation.EnableStartupTimeBudgets.BeanBudget;
+import org.cp.extensions.spring.context.support.StartupTimeBudgetEnforcer;
+import org.cp.extensions.spring.context.support.StartupTimeBudgetEnforcer.Overrun;
+import org.cp.extensions.spring.context.support.StartupTimeBudgetExceededException;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Integration Tests for {@link EnableStartupTimeBudgets}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.extensions.spring.context.annotation.EnableStartupTimeBudgets
+ * @see org.springframework.context.annotation.AnnotationConfigApplicationContext
+ * @since 0.1.0
+ */
+public class EnableStartupTimeBudgetsIntegrationTests {
+
+	@Test
+	void configuresStartupTimeBudgetEnforcerFromAnnotation() {
+
+		try (AnnotationConfigApplicationContext applicationContext =
+				new AnnotationConfigApplicationContext(ReportingConfiguration.class)) {
+
+			StartupTimeBudgetEnforcer enforcer = applicationContext.getBean(StartupTimeBudgetEnforcer.class);
+
+			assertThat(enforcer.isFailOnOverrun()).isFalse();
+			assertThat(enforcer.getTotalBudget()).hasValue(Duration.ofMinutes(1));
+			assertThat(enforcer.getBeanBudgets()).hasSize(2);
+			assertThat(enforcer.getOverruns()).extracting(Overrun::getName).containsExactly("slowBean");
+			assertThat(applicationContext.getBeansOfType(BeanInitializationTimingBeanPostProcessor.class).values())
+				.singleElement()
+				.satisfies(beanTimings -> {
+					assertThat(beanTimings.isCriticalPathAnalysisEnabled()).isFalse();
+					assertThat(beanTimings.getCriticalPath()).isNotPresent();
+				});
+		}
+	}
+
+	@Test
+	void enforcesBudgetsAlongsideCriticalPathAnalysis() {
+
+		try (AnnotationConfigApplicationContext applicationContext =
+				new AnnotationConfigApplicationContext(CriticalPathAnalysisConfiguration.class)) {
+
+			StartupTimeBudgetEnforcer enforcer = applicationContext.getBean(StartupTimeBudgetEnforcer.class);
+
+			assertThat(enforcer.getOverruns()).extracting(Overrun::getName).containsExactly("slowBean");
+			assertThat(applicationContext.getBean(BeanInitializationTimingBeanPostProcessor.class).getCriticalPath())
+				.isPresent();
+		}
+	}
+
+	@Test
+	void failsRefreshOnOverrun() {
+
+		assertThatExceptionOfType(StartupTimeBudgetExceededException.class)
+			.isThrownBy(() -> new AnnotationConfigApplicationContext(FailingConfiguration.class))
+			.withMessageStartingWith("Startup time budgets exceeded [1]:")
+			.withMessageContaining("[slowBean] took [");
+	}
+
+	static String slow(String value) {
+
+		try {
+			Thread.sleep(50L);
+		}
+		catch (InterruptedException ignore) {
+			Thread.currentThread().interrupt();
+		}
+
+		return value;
+	}
+
+	@Configuration
+	@EnableStartupTimeBudgets(totalMillis = 60000L, beans = {
+		@BeanBudget(names = "slow*", millis = 10L),
+		@BeanBudget(types = Object.class, millis = 10000L)
+	})
+	static class ReportingConfiguration {
+
+		@Bean
+		String slowBean() {
+			return slow("slow");
+		}
+	}
+
+	@Configuration
+	@EnableBeanInitializationCriticalPathAnalysis
+	@EnableStartupTimeBudgets(beans = @BeanBudget(names = "slowBean", millis = 10L))
+	static class CriticalPathAnalysisConfiguration {
+
+		@Bean
+		String slowBean() {
+			return slow("slow");
+		}
+	}
+
+	@Configuration
+	@EnableStartupTimeBudgets(beans = @BeanBudget(names = "slowBean", millis = 10L), failOnOverrun = true)
+	static class FailingConfiguration {
+
+		@Bean
+		String slowBean() {
+			return slow("slow");
+		}
+	}
+}
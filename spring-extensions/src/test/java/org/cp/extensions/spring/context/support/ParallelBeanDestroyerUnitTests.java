@@ -0,0 +1,300 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.spring.context.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.extensions.spring.beans.factory.config.BeanDependencyGraph;
+import org.cp.extensions.spring.beans.factory.config.BeanDependencyGraph.Provenance;
+
+import org.springframework.beans.factory.BeanCreationNotAllowedException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * Unit Tests for {@link ParallelBeanDestroyer}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.extensions.spring.context.support.ParallelBeanDestroyer
+ * @since 0.1.0
+ */
+public class ParallelBeanDestroyerUnitTests {
+
+	private static void registerSingletons(DefaultListableBeanFactory beanFactory, String... beanNames) {
+
+		for (String beanName : beanNames) {
+			beanFactory.registerSingleton(beanName, new Object());
+		}
+	}
+
+	private static void registerDisposableSingleton(DefaultListableBeanFactory beanFactory, String beanName,
+			DisposableBean bean) {
+
+		beanFactory.registerSingleton(beanName, bean);
+		beanFactory.registerDisposableBean(beanName, bean);
+	}
+
+	// ignores interrupts, like a bean stuck in its destroy method
+	private static void awaitUninterruptibly(CountDownLatch latch) {
+
+		boolean released = false;
+
+		while (!released) {
+			try {
+				released = latch.await(10L, TimeUnit.MILLISECONDS);
+			}
+			catch (InterruptedException ignore) {
+			}
+		}
+	}
+
+	@Test
+	void constructWithDefaults() {
+
+		ParallelBeanDestroyer beanDestroyer = new ParallelBeanDestroyer();
+
+		assertThat(beanDestroyer.getParallelism()).isEqualTo(16);
+		assertThat(beanDestroyer.getTimeout()).isEqualTo(Duration.ofSeconds(10));
+		assertThat(beanDestroyer.getPhase()).isEqualTo(Integer.MIN_VALUE);
+		assertThat(beanDestroyer.isRunning()).isFalse();
+	}
+
+	@Test
+	void constructWithInvalidArguments() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new ParallelBeanDestroyer(0, Duration.ZERO))
+			.withMessage("Parallelism [0] must be greater than 0")
+			.withNoCause();
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new ParallelBeanDestroyer(1, null))
+			.withMessage("Timeout is required")
+			.withNoCause();
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new ParallelBeanDestroyer(1, Duration.ofMillis(-1)))
+			.withMessage("Timeout [PT-0.001S] must not be negative")
+			.withNoCause();
+	}
+
+	@Test
+	void computesReverseTopologicalWaves() {
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+		registerSingletons(beanFactory, "a", "b", "c", "d", "destroyer");
+
+		// c depends on b depends on a, d depends on a; the graph records that c depends on d
+		beanFactory.registerDependentBean("a", "b");
+		beanFactory.registerDependentBean("b", "c");
+		beanFactory.registerDependentBean("a", "d");
+		beanFactory.registerSingleton(BeanDependencyGraph.BEAN_NAME, BeanDependencyGraph.builder()
+			.addDependency("c", "d", Provenance.DEPENDENCY_OF)
+			.build());
+
+		ParallelBeanDestroyer beanDestroyer = new ParallelBeanDestroyer();
+
+		beanDestroyer.setBeanName("destroyer");
+
+		assertThat(beanDestroyer.computeDestructionWaves(beanFactory))
+			.containsExactly(Arrays.asList(BeanDependencyGraph.BEAN_NAME, "c"), Arrays.asList("d", "b"), Arrays.asList("a"));
+	}
+
+	@Test
+	void excludesCircularDependenciesFromWaves() {
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+		registerSingletons(beanFactory, "x", "y", "z", "independent");
+
+		beanFactory.registerDependentBean("x", "y");
+		beanFactory.registerDependentBean("y", "x");
+		beanFactory.registerDependentBean("z", "x");
+
+		assertThat(new ParallelBeanDestroyer().computeDestructionWaves(beanFactory))
+			.containsExactly(Arrays.asList("independent"));
+	}
+
+	@Test
+	void destroysIndependentBeansConcurrently() {
+
+		List<String> destroyedBeanNames = new CopyOnWriteArrayList<>();
+		List<String> threadNames = new CopyOnWriteArrayList<>();
+
+		// every bean must reach the barrier while the others are blocked, so the beans must be destroyed concurrently
+		CyclicBarrier barrier = new CyclicBarrier(4);
+
+		try (AnnotationConfigApplicationContext applicationContext = new AnnotationConfigApplicationContext()) {
+
+			applicationContext.registerBean("beanDestroyer", ParallelBeanDestroyer.class,
+				() -> new ParallelBeanDestroyer(4, Duration.ofSeconds(5)));
+
+			for (String beanName : new String[] { "one", "two", "three", "four" }) {
+				applicationContext.registerBean(beanName, DisposableBean.class, () -> () -> {
+					threadNames.add(Thread.currentThread().getName());
+					barrier.await(5L, TimeUnit.SECONDS);
+					destroyedBeanNames.add(beanName);
+				});
+			}
+
+			applicationContext.refresh();
+		}
+
+		assertThat(destroyedBeanNames).containsExactlyInAnyOrder("one", "two", "three", "four");
+		assertThat(threadNames).allMatch(threadName -> threadName.startsWith("bean-destruction-"));
+	}
+
+	@Test
+	void rejectsSingletonCreationWhileDestroyingBeans() {
+
+		List<Throwable> failures = new CopyOnWriteArrayList<>();
+
+		try (AnnotationConfigApplicationContext applicationContext = new AnnotationConfigApplicationContext()) {
+
+			applicationContext.registerBean("beanDestroyer", ParallelBeanDestroyer.class);
+			applicationContext.registerBean("lazy", Object.class, Object::new,
+				beanDefinition -> beanDefinition.setLazyInit(true));
+			applicationContext.registerBean("bean", DisposableBean.class, () -> () -> {
+				try {
+					applicationContext.getBean("lazy");
+				}
+				catch (Throwable cause) {
+					failures.add(cause);
+				}
+			});
+
+			applicationContext.refresh();
+		}
+
+		assertThat(failures).hasSize(1);
+		assertThat(failures.get(0)).hasRootCauseInstanceOf(BeanCreationNotAllowedException.class)
+			.hasMessageContaining("Singleton bean creation not allowed while singletons of this factory"
+				+ " are being destroyed in parallel");
+	}
+
+	@Test
+	void timesOutEachBeanFromWhenItsDestructionStarts() {
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+		for (String beanName : new String[] { "one", "two", "three" }) {
+			registerDisposableSingleton(beanFactory, beanName, () -> TimeUnit.MILLISECONDS.sleep(150L));
+		}
+
+		// the beans are destroyed one at a time, taking longer than the timeout in total
+		ParallelBeanDestroyer beanDestroyer = new ParallelBeanDestroyer(1, Duration.ofMillis(400));
+
+		assertThat(beanDestroyer.destroyBeans(beanFactory)).isEqualTo(3);
+		assertThat(beanFactory.getSingletonNames()).isEmpty();
+	}
+
+	@Test
+	void doesNotDestroyDependenciesOfBeansNotDestroyedInTime() throws Exception {
+
+		List<String> destroyedBeanNames = new CopyOnWriteArrayList<>();
+
+		CountDownLatch release = new CountDownLatch(1);
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+		registerDisposableSingleton(beanFactory, "dependency", () -> destroyedBeanNames.add("dependency"));
+		registerDisposableSingleton(beanFactory, "slow", () -> {
+			awaitUninterruptibly(release);
+			destroyedBeanNames.add("slow");
+		});
+		registerDisposableSingleton(beanFactory, "independent", () -> destroyedBeanNames.add("independent"));
+		beanFactory.registerDependentBean("dependency", "slow");
+
+		ParallelBeanDestroyer beanDestroyer = new ParallelBeanDestroyer(2, Duration.ofMillis(100));
+
+		assertThat(beanDestroyer.destroyBeans(beanFactory)).isEqualTo(1);
+		assertThat(destroyedBeanNames).containsExactly("independent");
+		assertThat(beanFactory.containsSingleton("dependency")).isTrue();
+
+		release.countDown();
+
+		for (int attempt = 0; attempt < 200 && !destroyedBeanNames.contains("slow"); attempt++) {
+			TimeUnit.MILLISECONDS.sleep(10L);
+		}
+
+		beanFactory.destroySingletons();
+
+		assertThat(destroyedBeanNames).containsExactly("independent", "slow", "dependency");
+	}
+
+	@Test
+	void stopsWhenAllThreadsAreBlockedByBeansNotDestroyedInTime() {
+
+		CountDownLatch release = new CountDownLatch(1);
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+		beanFactory.registerSingleton("queued", new Object());
+		registerDisposableSingleton(beanFactory, "stuck", () -> {
+			awaitUninterruptibly(release);
+		});
+
+		try {
+			long startTime = System.nanoTime();
+
+			assertThat(new ParallelBeanDestroyer(1, Duration.ofMillis(100)).destroyBeans(beanFactory)).isZero();
+			assertThat(Duration.ofNanos(System.nanoTime() - startTime)).isLessThan(Duration.ofSeconds(2));
+			assertThat(beanFactory.containsSingleton("queued")).isTrue();
+		}
+		finally {
+			release.countDown();
+		}
+	}
+
+	@Test
+	void stopWithoutCloseDoesNotDestroyBeans() {
+
+		List<String> destroyedBeanNames = new CopyOnWriteArrayList<>();
+
+		try (AnnotationConfigApplicationContext applicationContext = new AnnotationConfigApplicationContext()) {
+
+			applicationContext.registerBean("beanDestroyer", ParallelBeanDestroyer.class);
+			applicationContext.registerBean("bean", DisposableBean.class, () -> () -> destroyedBeanNames.add("bean"));
+			applicationContext.refresh();
+
+			ParallelBeanDestroyer beanDestroyer = applicationContext.getBean(ParallelBeanDestroyer.class);
+
+			assertThat(beanDestroyer.isRunning()).isTrue();
+
+			applicationContext.stop();
+
+			assertThat(beanDestroyer.isRunning()).isFalse();
+			assertThat(destroyedBeanNames).isEmpty();
+			assertThat(applicationContext.getBean("bean")).isNotNull();
+		}
+
+		assertThat(destroyedBeanNames).containsExactly("bean");
+	}
+}
@@ -0,0 +1,396 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.spring.context.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.ApplicationContextException;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.support.AbstractApplicationContext;
+
+/**
+ * Unit Tests for {@link ParallelLifecycleProcessor}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.extensions.spring.context.support.ParallelLifecycleProcessor
+ * @since 0.1.0
+ */
+public class ParallelLifecycleProcessorUnitTests {
+
+	private final List<String> events = new CopyOnWriteArrayList<>();
+
+	private static void sleep(long milliseconds) {
+
+		try {
+			Thread.sleep(milliseconds);
+		}
+		catch (InterruptedException ignore) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	// every party must reach the barrier while the others are blocked, so the parties must run concurrently
+	private static void await(CyclicBarrier barrier) {
+
+		try {
+			barrier.await(5L, TimeUnit.SECONDS);
+		}
+		catch (BrokenBarrierException | TimeoutException cause) {
+			throw new IllegalStateException("Beans in the same phase were not started or stopped concurrently", cause);
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for beans in the same phase", cause);
+		}
+	}
+
+	private AnnotationConfigApplicationContext newApplicationContext(ParallelLifecycleProcessor lifecycleProcessor,
+			Consumer<AnnotationConfigApplicationContext> beanRegistrar) {
+
+		AnnotationConfigApplicationContext applicationContext = new AnnotationConfigApplicationContext();
+
+		applicationContext.registerBean(AbstractApplicationContext.LIFECYCLE_PROCESSOR_BEAN_NAME,
+			ParallelLifecycleProcessor.class, () -> lifecycleProcessor);
+
+		beanRegistrar.accept(applicationContext);
+
+		return applicationContext;
+	}
+
+	private void registerLifecycle(AnnotationConfigApplicationContext applicationContext, String beanName,
+			int phase, long delay, String... dependsOn) {
+
+		registerLifecycle(applicationContext, new TestLifecycle(beanName, phase, delay), dependsOn);
+	}
+
+	private void registerLifecycle(AnnotationConfigApplicationContext applicationContext, TestLifecycle lifecycle,
+			String... dependsOn) {
+
+		applicationContext.registerBean(lifecycle.name, TestLifecycle.class, () -> lifecycle,
+			beanDefinition -> beanDefinition.setDependsOn(dependsOn));
+	}
+
+	@Test
+	void constructWithDefaults() {
+
+		ParallelLifecycleProcessor lifecycleProcessor = new ParallelLifecycleProcessor();
+
+		assertThat(lifecycleProcessor.getParallelism()).isEqualTo(16);
+		assertThat(lifecycleProcessor.getTimeoutPerStartupPhase()).isEqualTo(-1L);
+		assertThat(lifecycleProcessor.getTimeoutPerShutdownPhase()).isEqualTo(30000L);
+		assertThat(lifecycleProcessor.isRunning()).isFalse();
+	}
+
+	@Test
+	void constructWithInvalidParallelism() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new ParallelLifecycleProcessor(0))
+			.withMessage("Parallelism [0] must be greater than 0")
+			.withNoCause();
+	}
+
+	@Test
+	void startsAndStopsBeansWithinPhaseConcurrently() {
+
+		ParallelLifecycleProcessor lifecycleProcessor = new ParallelLifecycleProcessor(4);
+
+		CyclicBarrier barrier = new CyclicBarrier(4);
+
+		try (AnnotationConfigApplicationContext applicationContext = newApplicationContext(lifecycleProcessor, it -> {
+			for (String beanName : new String[] { "one", "two", "three", "four" }) {
+				TestLifecycle lifecycle = new TestLifecycle(beanName, 0, 0L);
+				lifecycle.barrier = barrier;
+				registerLifecycle(it, lifecycle);
+			}
+		})) {
+
+			applicationContext.refresh();
+
+			assertThat(lifecycleProcessor.isRunning()).isTrue();
+			assertThat(this.events).containsExactlyInAnyOrder("start:one", "start:two", "start:three", "start:four");
+			assertThat(applicationContext.getBean("one", TestLifecycle.class).threadName).startsWith("lifecycle-");
+
+			applicationContext.close();
+
+			assertThat(lifecycleProcessor.isRunning()).isFalse();
+			assertThat(this.events).hasSize(8);
+		}
+	}
+
+	@Test
+	void honorsDependenciesAndPhases() {
+
+		try (AnnotationConfigApplicationContext applicationContext =
+				newApplicationContext(new ParallelLifecycleProcessor(), it -> {
+					registerLifecycle(it, "consumer", 0, 20L, "broker");
+					registerLifecycle(it, "broker", 0, 50L);
+					registerLifecycle(it, "listener", 0, 10L);
+					registerLifecycle(it, "server", 1, 10L);
+				})) {
+
+			applicationContext.refresh();
+
+			assertThat(this.events).containsSubsequence("start:broker", "start:consumer", "start:server");
+			assertThat(this.events).containsSubsequence("start:listener", "start:server");
+
+			this.events.clear();
+			applicationContext.close();
+
+			assertThat(this.events).containsSubsequence("stop:server", "stop:consumer", "stop:broker");
+			assertThat(this.events).containsSubsequence("stop:server", "stop:listener");
+		}
+	}
+
+	@Test
+	void startsOnlyAutoStartupBeansOnRefresh() {
+
+		TestLifecycle manual = new TestLifecycle("manual", 0, 0L);
+
+		manual.autoStartup = false;
+
+		try (AnnotationConfigApplicationContext applicationContext =
+				newApplicationContext(new ParallelLifecycleProcessor(), it -> {
+					registerLifecycle(it, manual);
+					registerLifecycle(it, "automatic", 0, 0L);
+				})) {
+
+			applicationContext.refresh();
+
+			assertThat(this.events).containsExactly("start:automatic");
+
+			applicationContext.stop();
+			applicationContext.start();
+
+			assertThat(this.events).containsSubsequence("start:automatic", "stop:automatic", "start:automatic");
+			assertThat(this.events).contains("start:manual");
+		}
+	}
+
+	@Test
+	void failsRefreshWhenBeanFailsToStart() {
+
+		TestLifecycle failing = new TestLifecycle("failing", 0, 0L);
+
+		failing.failure = new IllegalStateException("TEST");
+
+		AnnotationConfigApplicationContext applicationContext =
+			newApplicationContext(new ParallelLifecycleProcessor(), it -> {
+				registerLifecycle(it, failing);
+				registerLifecycle(it, "dependent", 0, 0L, "failing");
+			});
+
+		assertThatExceptionOfType(ApplicationContextException.class)
+			.isThrownBy(applicationContext::refresh)
+			.withMessageStartingWith("Failed to start bean [failing]")
+			.withCauseInstanceOf(IllegalStateException.class);
+
+		assertThat(this.events).doesNotContain("start:dependent");
+	}
+
+	@Test
+	void failsRefreshWhenPhaseDoesNotStartInTime() {
+
+		ParallelLifecycleProcessor lifecycleProcessor = new ParallelLifecycleProcessor();
+
+		lifecycleProcessor.setTimeoutPerStartupPhase(50L);
+
+		AnnotationConfigApplicationContext applicationContext =
+			newApplicationContext(lifecycleProcessor, it -> registerLifecycle(it, "slow", 0, 500L));
+
+		assertThatExceptionOfType(ApplicationContextException.class)
+			.isThrownBy(applicationContext::refresh)
+			.withMessageStartingWith("Failed to start beans [slow] in phase [0] within [50ms]");
+	}
+
+	@Test
+	void waitsForBeansStillStartingBeforeFailingRefresh() {
+
+		ParallelLifecycleProcessor lifecycleProcessor = new ParallelLifecycleProcessor();
+
+		lifecycleProcessor.setTimeoutPerStartupPhase(200L);
+
+		AnnotationConfigApplicationContext applicationContext = newApplicationContext(lifecycleProcessor, it -> {
+			registerLifecycle(it, "slow", 0, 400L);
+			registerLifecycle(it, "dependent", 0, 0L, "slow");
+		});
+
+		assertThatExceptionOfType(ApplicationContextException.class)
+			.isThrownBy(applicationContext::refresh)
+			.withMessageStartingWith("Failed to start beans [slow, dependent] in phase [0] within [200ms]");
+
+		assertThat(this.events).containsExactly("start:slow");
+	}
+
+	@Test
+	void waitsForSynchronousStopsAfterShutdownTimeout() {
+
+		ParallelLifecycleProcessor lifecycleProcessor = new ParallelLifecycleProcessor();
+
+		lifecycleProcessor.setTimeoutPerShutdownPhase(50L);
+
+		TestLifecycle slow = new TestLifecycle("slow", 0, 0L);
+
+		try (AnnotationConfigApplicationContext applicationContext = newApplicationContext(lifecycleProcessor, it -> {
+			registerLifecycle(it, slow, "dependency");
+			registerLifecycle(it, "dependency", 0, 0L);
+		})) {
+
+			applicationContext.refresh();
+
+			this.events.clear();
+			slow.stopDelay = 300L;
+
+			applicationContext.stop();
+
+			// the dependency is not stopped while the plain stop of its dependent is still running
+			assertThat(this.events).containsExactly("stop:slow", "stop:dependency");
+		}
+	}
+
+	@Test
+	void stopsDependenciesAfterShutdownTimeout() {
+
+		ParallelLifecycleProcessor lifecycleProcessor = new ParallelLifecycleProcessor();
+
+		lifecycleProcessor.setTimeoutPerShutdownPhase(100L);
+
+		TestLifecycle stuck = new TestLifecycle("stuck", 0, 0L);
+
+		stuck.stuck = true;
+
+		try (AnnotationConfigApplicationContext applicationContext = newApplicationContext(lifecycleProcessor, it -> {
+			registerLifecycle(it, stuck, "dependency");
+			registerLifecycle(it, "dependency", 0, 0L);
+		})) {
+
+			applicationContext.refresh();
+
+			this.events.clear();
+
+			long startTime = System.nanoTime();
+
+			applicationContext.stop();
+
+			assertThat(Duration.ofNanos(System.nanoTime() - startTime)).isLessThan(Duration.ofSeconds(2));
+
+			// stopping the dependency is submitted after the timeout and completes asynchronously
+			for (int attempt = 0; attempt < 100 && !this.events.contains("stop:dependency"); attempt++) {
+				sleep(10L);
+			}
+
+			assertThat(this.events).containsExactly("stop:stuck", "stop:dependency");
+		}
+	}
+
+	class TestLifecycle implements SmartLifecycle {
+
+		private boolean autoStartup = true;
+		private volatile boolean running;
+		private boolean stuck;
+
+		private final int phase;
+
+		private final long delay;
+
+		private volatile long stopDelay;
+
+		private CyclicBarrier barrier;
+
+		private RuntimeException failure;
+
+		private final String name;
+
+		private volatile String threadName;
+
+		TestLifecycle(String name, int phase, long delay) {
+			this.name = name;
+			this.phase = phase;
+			this.delay = delay;
+		}
+
+		@Override
+		public int getPhase() {
+			return this.phase;
+		}
+
+		@Override
+		public boolean isAutoStartup() {
+			return this.autoStartup;
+		}
+
+		@Override
+		public boolean isRunning() {
+			return this.running;
+		}
+
+		@Override
+		public void start() {
+
+			this.threadName = Thread.currentThread().getName();
+
+			if (this.failure != null) {
+				throw this.failure;
+			}
+
+			awaitBarrier();
+			sleep(this.delay);
+			events.add("start:" + this.name);
+			this.running = true;
+		}
+
+		@Override
+		public void stop() {
+			awaitBarrier();
+			sleep(this.stopDelay > 0L ? this.stopDelay : this.delay);
+			events.add("stop:" + this.name);
+			this.running = false;
+		}
+
+		private void awaitBarrier() {
+
+			if (this.barrier != null) {
+				await(this.barrier);
+			}
+		}
+
+		@Override
+		public void stop(Runnable callback) {
+
+			stop();
+
+			// a stuck bean never signals that it stopped
+			if (!this.stuck) {
+				callback.run();
+			}
+		}
+	}
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.extensions.spring.context.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.cp.extensions.spring.beans.factory.config.BeanInitializationTimingBeanPostProcessor;
+import org.cp.extensions.spring.context.support.StartupTimeBudgetEnforcer.BeanBudget;
+import org.cp.extensions.spring.context.support.StartupTimeBudgetEnforcer.Overrun;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * Unit Tests for {@link StartupTimeBudgetEnforcer}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.extensions.spring.context.support.StartupTimeBudgetEnforcer
+ * @since 0.1.0
+ */
+public class StartupTimeBudgetEnforcerUnitTests {
+
+	private static String sleep(String value, long milliseconds) {
+
+		try {
+			TimeUnit.MILLISECONDS.sleep(milliseconds);
+		}
+		catch (InterruptedException ignore) {
+			Thread.currentThread().interrupt();
+		}
+
+		return value;
+	}
+
+	private static AnnotationConfigApplicationContext newApplicationContext(
+			Consumer<StartupTimeBudgetEnforcer> enforcerCustomizer) {
+
+		AnnotationConfigApplicationContext applicationContext = new AnnotationConfigApplicationContext();
+
+		BeanInitializationTimingBeanPostProcessor beanTimings = new BeanInitializationTimingBeanPostProcessor();
+
+		applicationContext.registerBean("beanTimings", BeanInitializationTimingBeanPostProcessor.class, () -> beanTimings);
+		applicationContext.registerBean("startupTimeBudgetEnforcer", StartupTimeBudgetEnforcer.class, () -> {
+			StartupTimeBudgetEnforcer enforcer = new StartupTimeBudgetEnforcer(beanTimings);
+			enforcerCustomizer.accept(enforcer);
+			return enforcer;
+		});
+		applicationContext.registerBean("slowRepository", String.class, () -> sleep("slow", 60L));
+		applicationContext.registerBean("slowerRepository", String.class, () -> sleep("slower", 120L));
+		applicationContext.registerBean("fastService", StringBuilder.class, () -> new StringBuilder());
+
+		return applicationContext;
+	}
+
+	@AfterEach
+	void clearFailOnOverrunProperty() {
+		System.clearProperty(StartupTimeBudgetEnforcer.FAIL_ON_OVERRUN_PROPERTY);
+	}
+
+	@Test
+	void constructWithNullBeanTimings() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new StartupTimeBudgetEnforcer(null))
+			.withMessage("BeanInitializationTimingBeanPostProcessor is required")
+			.withNoCause();
+	}
+
+	@Test
+	void reportsOverrunsRankedByExcess() {
+
+		try (AnnotationConfigApplicationContext applicationContext = newApplicationContext(enforcer ->
+				enforcer.withBeanBudgets(BeanBudget.forBeansNamed(Duration.ofMillis(10), "*Repository"),
+					BeanBudget.forBeansOfType(Duration.ofMillis(10), CharSequence.class)))) {
+
+			applicationContext.refresh();
+
+			StartupTimeBudgetEnforcer enforcer = applicationContext.getBean(StartupTimeBudgetEnforcer.class);
+
+			assertThat(enforcer.isFailOnOverrun()).isFalse();
+			assertThat(enforcer.getOverruns())
+				.extracting(Overrun::getName)
+				.containsExactly("slowerRepository", "slowRepository");
+			assertThat(enforcer.getOverruns().get(0).getExcess()).isGreaterThanOrEqualTo(Duration.ofMillis(110));
+			assertThat(enforcer.report(enforcer.getOverruns()))
+				.startsWith("Startup time budgets exceeded [2]:")
+				.contains("1. [slowerRepository] took [", "2. [slowRepository] took [", "budget [10ms]");
+		}
+	}
+
+	@Test
+	void firstMatchingBudgetApplies() {
+
+		try (AnnotationConfigApplicationContext applicationContext = newApplicationContext(enforcer ->
+				enforcer.withBeanBudgets(BeanBudget.forBeansNamed(Duration.ofSeconds(10), "slower*"),
+					BeanBudget.forBeansOfType(Duration.ofMillis(10), String.class), null))) {
+
+			applicationContext.refresh();
+
+			assertThat(applicationContext.getBean(StartupTimeBudgetEnforcer.class).getOverruns())
+				.extracting(Overrun::getName)
+				.containsExactly("slowRepository");
+		}
+	}
+
+	@Test
+	void failsRefreshOnOverrun() {
+
+		AnnotationConfigApplicationContext applicationContext = newApplicationContext(enforcer -> enforcer
+			.withBeanBudgets(BeanBudget.forBeansNamed(Duration.ofMillis(10), "slowRepository"))
+			.withTotalBudget(Duration.ZERO)
+			.failOnOverrun(true));
+
+		assertThatExceptionOfType(StartupTimeBudgetExceededException.class)
+			.isThrownBy(applicationContext::refresh)
+			.satisfies(cause -> assertThat(cause.getOverruns())
+				.extracting(Overrun::getName)
+				.containsExactlyInAnyOrder("slowRepository", StartupTimeBudgetEnforcer.TOTAL_REFRESH));
+
+		assertThat(applicationContext.isActive()).isFalse();
+	}
+
+	@Test
+	void failOnOverrunPropertyTakesPrecedence() {
+
+		System.setProperty(StartupTimeBudgetEnforcer.FAIL_ON_OVERRUN_PROPERTY, Boolean.FALSE.toString());
+
+		try (AnnotationConfigApplicationContext applicationContext = newApplicationContext(enforcer -> enforcer
+				.withTotalBudget(Duration.ZERO)
+				.failOnOverrun(true))) {
+
+			applicationContext.refresh();
+
+			StartupTimeBudgetEnforcer enforcer = applicationContext.getBean(StartupTimeBudgetEnforcer.class);
+
+			assertThat(enforcer.isFailOnOverrun()).isFalse();
+			assertThat(enforcer.getTotalBudget()).hasValue(Duration.ZERO);
+			assertThat(enforcer.getOverruns()).extracting(Overrun::getName)
+				.containsExactly(StartupTimeBudgetEnforcer.TOTAL_REFRESH);
+		}
+	}
+
+	@Test
+	void noOverrunsWithinBudget() {
+
+		try (AnnotationConfigApplicationContext applicationContext = newApplicationContext(enforcer -> enforcer
+				.withBeanBudgets(BeanBudget.forBeansNamed(Duration.ofSeconds(10), "*"))
+				.withTotalBudget(Duration.ofMinutes(1)))) {
+
+			applicationContext.refresh();
+
+			StartupTimeBudgetEnforcer enforcer = applicationContext.getBean(StartupTimeBudgetEnforcer.class);
+
+			assertThat(enforcer.getBeanBudgets()).hasSize(1);
+			assertThat(enforcer.getOverruns()).isEmpty();
+		}
+	}
+
+	@Test
+	void constructBeanBudgetWithNegativeDuration() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> BeanBudget.forBeansNamed(Duration.ofMillis(-1), "*"))
+			.withMessage("Duration of the budget [PT-0.001S] must not be negative")
+			.withNoCause();
+	}
+
+	@Test
+	void beanBudgetToString() {
+
+		assertThat(BeanBudget.forBeansOfType(Duration.ofMillis(250), String.class))
+			.hasToString("BeanBudget[names=[], types=[class java.lang.String], budget=250ms]");
+	}
+}